@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
@@ -161,6 +161,13 @@ public class MessageKeys {
   public static final String PVC_NOT_BOUND_ERROR = "WLSKO-0239";
   public static final String FLUENTBIT_CONFIGMAP_CREATED = "WLSKO-0240";
   public static final String FLUENTBIT_CONFIGMAP_REPLACED = "WLSKO-0241";
+  public static final String NAMESPACE_SHARDS_CHANGED = "WLSKO-0242";
+  public static final String OPERATOR_LEADERSHIP_ACQUIRED = "WLSKO-0243";
+  public static final String OPERATOR_LEADERSHIP_LOST = "WLSKO-0244";
+  public static final String OPERATOR_STARTUP_TIMES = "WLSKO-0245";
+  public static final String EVENTS_DROPPED = "WLSKO-0246";
+  public static final String NAMESPACE_SHARDING_WITH_STANDBY = "WLSKO-0247";
+  public static final String NAMESPACE_SHARD_LEASE_LOST = "WLSKO-0248";
 
   // domain status messages
   public static final String MAKE_RIGHT_WILL_RETRY = "WLSDO-0000";
@@ -224,6 +231,7 @@ public class MessageKeys {
   public static final String WALLET_KEY_NOT_FOUND = "WLSDO-0065";
   public static final String POD_UNSCHEDULABLE = "WLSDO-0066";
   public static final String POD_UNSCHEDULABLE_MESSAGE = "WLSDO-0067";
+  public static final String ROLLING_PROGRESS = "WLSDO-0068";
 
   // domain event messages
   public static final String DOMAIN_AVAILABLE_EVENT_PATTERN = "WLSEO-0001";
@@ -37,7 +37,7 @@ rules:
   resources: ["tokenreviews"]
   verbs: ["create"]
 - apiGroups: ["authorization.k8s.io"]
-  resources: ["selfsubjectrulesreviews"]
+  resources: ["selfsubjectrulesreviews", "subjectaccessreviews"]
   verbs: ["create"]
 - apiGroups: ["admissionregistration.k8s.io"]
   resources: ["validatingwebhookconfigurations"]
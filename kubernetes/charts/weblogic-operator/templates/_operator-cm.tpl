@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2023, Oracle and/or its affiliates.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 # Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 {{- define "operator.operatorConfigMap" }}
@@ -57,6 +57,18 @@ data:
   {{- if .kubernetesPlatform }}
   kubernetesPlatform: {{ .kubernetesPlatform | quote }}
   {{- end }}
+  {{- if .operatorStandbyEnabled }}
+  operatorStandbyEnabled: {{ .operatorStandbyEnabled | quote }}
+  {{- end }}
+  {{- if .operatorLeaderLeaseDurationSeconds }}
+  operatorLeaderLeaseDurationSeconds: {{ .operatorLeaderLeaseDurationSeconds | quote }}
+  {{- end }}
+  {{- if .namespaceShardingEnabled }}
+  namespaceShardingEnabled: {{ .namespaceShardingEnabled | quote }}
+  {{- end }}
+  {{- if .namespaceShardLeaseDurationSeconds }}
+  namespaceShardLeaseDurationSeconds: {{ .namespaceShardLeaseDurationSeconds | quote }}
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
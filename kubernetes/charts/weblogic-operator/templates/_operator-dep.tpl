@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 # Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 {{- define "operator.operatorDeployment" }}
@@ -13,11 +13,17 @@ metadata:
     weblogic.operatorName: {{ .Release.Namespace | quote }}
 spec:
   strategy:
+    {{- if .deploymentStrategy }}
+    type: {{ .deploymentStrategy }}
+    {{- else if .namespaceShardingEnabled }}
+    type: RollingUpdate
+    {{- else }}
     type: Recreate
+    {{- end }}
   selector:
     matchLabels:
       weblogic.operatorName: {{ .Release.Namespace | quote }}
-  replicas: 1
+  replicas: {{ default 1 .replicas }}
   template:
     metadata:
       annotations:
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 # Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 {{- define "operator.validateInputs" -}}
@@ -59,5 +59,14 @@
 {{- $ignore := include "utils.verifyIntrospectorJobNameSuffix" (list $scope "introspectorJobNameSuffix" 25) -}}
 {{- $ignore := include "utils.verifyExternalServiceNameSuffix" (list $scope "externalServiceNameSuffix" 10) -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "clusterSizePaddingValidationEnabled") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "replicas") -}}
+{{- $ignore := include "utils.verifyOptionalEnum" (list $scope "deploymentStrategy" (list "Recreate" "RollingUpdate")) -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "operatorStandbyEnabled") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "operatorLeaderLeaseDurationSeconds") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "namespaceShardingEnabled") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "namespaceShardLeaseDurationSeconds") -}}
+{{- if and (gt (int (default 1 $scope.replicas)) 1) (not (or $scope.operatorStandbyEnabled $scope.namespaceShardingEnabled)) -}}
+{{-   fail "operatorStandbyEnabled or namespaceShardingEnabled must be true when replicas is greater than 1." }}
+{{- end -}}
 {{- $ignore := include "utils.endValidation" $scope -}}
 {{- end -}}
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.create;
@@ -491,7 +491,8 @@ abstract class CreateOperatorGeneratedFilesTestBase {
         .addRulesItem(
             newPolicyRule()
                 .addApiGroupsItem("authorization.k8s.io")
-                .resources(singletonList("selfsubjectrulesreviews"))
+                .addResourcesItem("selfsubjectrulesreviews")
+                .addResourcesItem("subjectaccessreviews")
                 .verbs(singletonList("create")))
         .addRulesItem(newPolicyRuleForValidatingWebhookConfiguration());
   }
@@ -736,7 +737,12 @@ abstract class CreateOperatorGeneratedFilesTestBase {
                       "update",
                       "patch",
                       "delete",
-                      "deletecollection")));
+                      "deletecollection")))
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("coordination.k8s.io")
+                .resources(List.of("leases"))
+                .verbs(asList("get", "list", "create", "update", "delete")));
   }
 
   private V1PolicyRule newPolicyRuleForValidatingWebhookConfiguration() {
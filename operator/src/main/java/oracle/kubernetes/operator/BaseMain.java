@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -151,7 +151,7 @@ public abstract class BaseMain {
 
   void markReadyAndStartLivenessThread() {
     try {
-      new DeploymentReady(delegate).create();
+      new DeploymentReady(delegate).update(isServing());
 
       logStartingLivenessMessage();
       // every five seconds we need to update the last modified time on the liveness file
@@ -161,6 +161,20 @@ public abstract class BaseMain {
     }
   }
 
+  // Returns true if this process should receive requests. Kubernetes treats it as ready only while this is true.
+  boolean isServing() {
+    return true;
+  }
+
+  // Updates the readiness indicator to reflect whether this process should now receive requests.
+  void updateReadiness() {
+    try {
+      new DeploymentReady(delegate).update(isServing());
+    } catch (IOException io) {
+      LOGGER.severe(MessageKeys.EXCEPTION, io);
+    }
+  }
+
   void startRestServer()
       throws UnrecoverableKeyException, CertificateException, IOException, NoSuchAlgorithmException,
       KeyStoreException, InvalidKeySpecException, KeyManagementException {
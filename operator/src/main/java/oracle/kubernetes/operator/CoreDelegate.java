@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -44,6 +44,10 @@ public interface CoreDelegate {
     return file.createNewFile();
   }
 
+  default boolean deleteFile(File file) {
+    return file.delete();
+  }
+
   default int getMetricsPort() {
     return MetricsServer.DEFAULT_METRICS_PORT;
   }
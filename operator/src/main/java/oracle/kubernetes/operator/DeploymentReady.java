@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -9,7 +9,10 @@ import java.io.IOException;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 
-/** This task creates the "readiness" indicator so that Kubernetes knows the Operator is ready. */
+/**
+ * This task creates the "readiness" indicator so that Kubernetes knows the Operator is ready, and removes it when
+ * the Operator stops serving.
+ */
 public class DeploymentReady {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -30,4 +33,17 @@ public class DeploymentReady {
       LOGGER.fine("Readiness file created");
     }
   }
+
+  /**
+   * Create the Operator readiness indicator if the operator is ready, and remove it otherwise.
+   * @param ready true if the operator is ready
+   * @throws IOException if the readiness file cannot be created
+   */
+  public void update(boolean ready) throws IOException {
+    if (ready) {
+      create();
+    } else if (delegate.deleteFile(readinessFile)) {
+      LOGGER.fine("Readiness file removed");
+    }
+  }
 }
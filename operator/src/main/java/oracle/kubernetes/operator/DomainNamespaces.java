@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -27,6 +27,7 @@ import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.OperatorConfigMapCache;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.watcher.ClusterWatcher;
@@ -77,6 +78,7 @@ public class DomainNamespaces {
           = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
 
   private final SemanticVersion productVersion;
+  private final NamespaceShardCoordinator shardCoordinator;
 
   AtomicBoolean isStopping(String ns) {
     return namespaceStoppingMap.computeIfAbsent(ns, key -> new AtomicBoolean(false));
@@ -97,9 +99,29 @@ public class DomainNamespaces {
    * Constructs a DomainNamespace object.
    */
   DomainNamespaces(SemanticVersion productVersion) {
+    this(productVersion, NamespaceShardCoordinator.create());
+  }
+
+  /**
+   * Constructs a DomainNamespace object for an operator replica which shares the domain namespaces with others.
+   */
+  DomainNamespaces(SemanticVersion productVersion, NamespaceShardCoordinator shardCoordinator) {
     namespaceStatuses.clear();
     namespaceStoppingMap.clear();
     this.productVersion = productVersion;
+    this.shardCoordinator = shardCoordinator;
+  }
+
+  NamespaceShardCoordinator getShardCoordinator() {
+    return shardCoordinator;
+  }
+
+  /**
+   * Returns true if this operator replica is responsible for the specified namespace.
+   * @param ns a namespace name
+   */
+  boolean isShardOwner(String ns) {
+    return shardCoordinator.isOwner(ns);
   }
 
   /**
@@ -117,12 +139,20 @@ public class DomainNamespaces {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
   }
 
+  /**
+   * Stops the namespaces which this operator replica no longer owns, without waiting for the next recheck, so that
+   * it stops processing them before another replica takes them over.
+   */
+  void stopUnownedNamespaces() {
+    getNamespaces().stream().filter(ns -> !isShardOwner(ns)).forEach(this::stopNamespace);
+  }
+
   /**
    * Stop the specified namespace and discard its in-memory resources.
    * @param ns a namespace name
    */
   void stopNamespace(String ns) {
-    namespaceStoppingMap.remove(ns).set(true);
+    Optional.ofNullable(namespaceStoppingMap.remove(ns)).ifPresent(stopping -> stopping.set(true));
     namespaceStatuses.remove(ns);
     clusterWatchers.removeWatcher(ns);
     domainWatchers.removeWatcher(ns);
@@ -133,6 +163,9 @@ public class DomainNamespaces {
     podDisruptionBudgetWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
+    OperatorConfigMapCache.getInstance().removeNamespace(ns);
+    StartupPermits.getInstance().removeNamespace(ns);
+    StuckPodTracker.getInstance().removeNamespace(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
   }
@@ -201,7 +234,9 @@ public class DomainNamespaces {
     NamespacedResources resources = new NamespacedResources(ns, null, this);
     resources.addProcessing(new DomainResourcesValidation(ns, processor).getProcessors());
     resources.addProcessing(createWatcherStartupProcessing(ns, processor));
-    return Step.chain(ConfigMapHelper.createScriptConfigMapStep(ns, productVersion), resources.createListSteps());
+    return Step.chain(
+        OperatorLeadership.whenActive(() -> ConfigMapHelper.createScriptConfigMapStep(ns, productVersion)),
+        resources.createListSteps());
   }
 
   public boolean shouldStartNamespace(String ns) {
@@ -267,7 +302,10 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        OperatorConfigMapCache.getInstance().receivedListPage(ns, l);
+        configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
@@ -324,8 +362,11 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> Optional.ofNullable(configMapWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> {
+        OperatorConfigMapCache.getInstance().receivedListPage(ns, l);
+        Optional.ofNullable(configMapWatchers.getWatcher(ns))
+            .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      };
     }
 
     @Override
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -108,6 +108,23 @@ public interface DomainProcessor {
    */
   void dispatchEventWatch(Watch.Response<CoreV1Event> item);
 
+  /**
+   * Runs make-right for every domain already known to this processor, after ensuring that the scripts config map
+   * of its namespace is current. Used when a standby replica becomes the active replica, in place of relisting the
+   * resources in the managed namespaces.
+   */
+  default void takeOverDomains() {
+    // no-op
+  }
+
+  /**
+   * Abandons the make-right and status update processing in progress. Used when the active replica loses its
+   * leadership, so that it stops changing resources before a standby takes over.
+   */
+  default void standDown() {
+    // no-op
+  }
+
   /**
    * If the logging level is high enough, reports on any fibers which may currently be suspended.
    */
@@ -143,6 +160,13 @@ public interface DomainProcessor {
 
   Map<String, FiberGate> getMakeRightFiberGateMap();
 
+  /**
+   * Returns the fiber gates of this processor, by name. The names combine the purpose of each gate with the
+   * namespace whose domains it processes.
+   * @return a map of gate names to fiber gates
+   */
+  Map<String, FiberGate> getFiberGates();
+
   DomainPresenceInfo getExistingDomainPresenceInfo(String namespace, String domainUid);
 
   void updateDomainStatus(V1Pod pod, DomainPresenceInfo info);
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -23,6 +23,14 @@ public interface DomainProcessorDelegate extends CoreDelegate {
    */
   boolean isNamespaceRunning(String namespace);
 
+  /**
+   * Returns true if this operator replica is a warm standby, which keeps track of the domains
+   * but must not change any resources.
+   */
+  default boolean isStandby() {
+    return OperatorLeadership.getInstance().isStandby();
+  }
+
   /**
    * Creates a new FiberGate.
    *
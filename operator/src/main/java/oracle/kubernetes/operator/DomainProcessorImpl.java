@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -33,6 +34,9 @@ import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.common.logging.LoggingFilter;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.common.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.MakeRightDebouncer.Source;
+import oracle.kubernetes.operator.MakeRightScheduler.FiberState;
+import oracle.kubernetes.operator.MakeRightScheduler.Priority;
 import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -42,6 +46,7 @@ import oracle.kubernetes.operator.helpers.EventHelper.EventItem;
 import oracle.kubernetes.operator.helpers.KubernetesEventObjects;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.NamespaceHelper;
+import oracle.kubernetes.operator.helpers.OperatorConfigMapCache;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResourcePresenceInfo;
@@ -51,6 +56,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.watcher.JobWatcher;
 import oracle.kubernetes.operator.work.Cancellable;
@@ -178,6 +184,14 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     return makeRightFiberGates;
   }
 
+  @Override
+  public Map<String, FiberGate> getFiberGates() {
+    final Map<String, FiberGate> result = new TreeMap<>();
+    makeRightFiberGates.forEach((ns, gate) -> result.put("makeRight/" + ns, gate));
+    statusFiberGates.forEach((ns, gate) -> result.put("status/" + ns, gate));
+    return result;
+  }
+
   @Override
   public List<DomainPresenceInfo> getExistingDomainPresenceInfoForCluster(String ns, String cluster) {
     List<DomainPresenceInfo> referencingDomains = new ArrayList<>();
@@ -191,7 +205,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     domains.remove(namespace);
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
-    statusUpdaters.remove((namespace));
+    Optional.ofNullable(makeRightFiberGates.remove(namespace)).ifPresent(FiberGate::cancelAllFibers);
+    Optional.ofNullable(statusFiberGates.remove(namespace)).ifPresent(FiberGate::cancelAllFibers);
+    Optional.ofNullable(statusUpdaters.remove(namespace))
+        .ifPresent(updaters -> updaters.values().forEach(Cancellable::cancel));
   }
 
   private static void registerStatusUpdater(
@@ -357,10 +374,14 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings("try")
   public void runMakeRight(MakeRightDomainOperation operation) {
     final DomainPresenceInfo liveInfo = operation.getPresenceInfo();
-    if (delegate.isNamespaceRunning(liveInfo.getNamespace())) {
+    if (delegate.isStandby()) {
+      recordWhileStandingBy(operation, liveInfo);
+    } else if (delegate.isNamespaceRunning(liveInfo.getNamespace())) {
       try (ThreadLoggingContext ignored = setThreadContext().presenceInfo(liveInfo)) {
         if (shouldContinue(operation, liveInfo)) {
           logStartingDomain(liveInfo);
+          carryOverAppliedSpec(liveInfo);
+          StartupTimer.getInstance().makeRightStarted();
           new DomainPlan(operation, delegate).execute();
         } else {
           logNotStartingDomain(liveInfo);
@@ -373,7 +394,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings("try")
   public void runMakeRight(MakeRightClusterOperation operation) {
     final ClusterPresenceInfo liveInfo = operation.getPresenceInfo();
-    if (delegate.isNamespaceRunning(liveInfo.getNamespace())) {
+    if (delegate.isStandby()) {
+      recordWhileStandingBy(operation, liveInfo);
+    } else if (delegate.isNamespaceRunning(liveInfo.getNamespace())) {
       try (ThreadLoggingContext ignored = setThreadContext().presenceInfo(liveInfo)) {
         if (shouldContinue(operation, liveInfo)) {
           new ClusterPlan(operation, delegate).execute();
@@ -382,6 +405,53 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
   }
 
+  // A make-right for a newly read domain compares its specs with those applied for the cached info it replaces.
+  private void carryOverAppliedSpec(DomainPresenceInfo liveInfo) {
+    Optional.ofNullable(getExistingDomainPresenceInfo(liveInfo))
+        .filter(cachedInfo -> cachedInfo != liveInfo && liveInfo.getAppliedSpec() == null)
+        .map(DomainPresenceInfo::getAppliedSpec)
+        .ifPresent(liveInfo::setAppliedSpec);
+  }
+
+  // A standby replica keeps its view of the domains current, so that it can take over without relisting them.
+  private void recordWhileStandingBy(MakeRightDomainOperation operation, DomainPresenceInfo liveInfo) {
+    final DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(liveInfo);
+    if (isDeleting(operation)) {
+      unregisterDomainPresenceInfo(liveInfo);
+    } else if (cachedInfo == null) {
+      registerDomainPresenceInfo(liveInfo);
+    } else if (cachedInfo != liveInfo && !liveInfo.isFromOutOfDateEvent(operation, cachedInfo)) {
+      cachedInfo.setDomain(liveInfo.getDomain());
+    }
+  }
+
+  private void recordWhileStandingBy(MakeRightClusterOperation operation, ClusterPresenceInfo liveInfo) {
+    if (isDeleting(operation)) {
+      unregisterClusterPresenceInfo(liveInfo);
+    } else {
+      registerClusterPresenceInfo(liveInfo);
+    }
+  }
+
+  @Override
+  public void takeOverDomains() {
+    domains.keySet().forEach(ns -> delegate.runSteps(ConfigMapHelper.createScriptConfigMapStep(ns, productVersion)));
+    domains.values().stream()
+        .flatMap(m -> m.values().stream())
+        .filter(DomainProcessorImpl::isNotDeleting)
+        .forEach(info -> createMakeRightOperation(info).withExplicitRecheck().execute());
+  }
+
+  @Override
+  public void standDown() {
+    makeRightFiberGates.values().forEach(FiberGate::cancelAllFibers);
+    statusFiberGates.values().forEach(FiberGate::cancelAllFibers);
+    statusUpdaters.values().forEach(updaters -> {
+      updaters.values().forEach(Cancellable::cancel);
+      updaters.clear();
+    });
+  }
+
   private boolean shouldContinue(MakeRightDomainOperation operation, DomainPresenceInfo liveInfo) {
     final DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(liveInfo);
     if (isNewDomain(cachedInfo)) {
@@ -493,6 +563,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void unregisterDomainPresenceInfo(DomainPresenceInfo info) {
     unregisterPresenceInfo(info.getNamespace(), info.getDomainUid());
+    StartupPermits.getInstance().removeDomain(info.getNamespace(), info.getDomainUid());
   }
 
   @Override
@@ -535,7 +606,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     steps.add(ServiceHelper.createForExternalServiceStep(null));
     steps.add(ServiceHelper.createForServerStep(null));
     steps.add(PodHelper.createAdminReadyStep(null));
-    return Step.chain(steps.toArray(new Step[0]));
+    return Step.chain(steps);
   }
 
   /**
@@ -558,13 +629,23 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     switch (item.type) {
       case MODIFIED:
         if (JobWatcher.isComplete(job) || JobWatcher.isFailed(job)) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          requestMakeRightFromWatch(info, Source.JOB);
         }
         break;
       default:
     }
   }
 
+  // Watch events arrive in bursts when a node fails, so their make-rights are combined per domain; when the
+  // combined make-right starts, it uses the domain's presence info as it is then.
+  private void requestMakeRightFromWatch(DomainPresenceInfo info, Source source) {
+    final String namespace = info.getNamespace();
+    final String domainUid = info.getDomainUid();
+    MakeRightDebouncer.getInstance().trigger(delegate, namespace, domainUid, source,
+        () -> Optional.ofNullable(getExistingDomainPresenceInfo(namespace, domainUid))
+            .ifPresent(i -> createMakeRightOperation(i).interrupt().withExplicitRecheck().execute()));
+  }
+
   private static String getJobDomainUid(V1Job job) {
     return Optional.ofNullable(job)
             .map(V1Job::getMetadata)
@@ -602,8 +683,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     switch (watchType) {
       case ADDED:
         info.setServerPodFromEvent(serverName, pod);
+        StuckPodTracker.getInstance().podChanged(delegate, this::getExistingDomainPresenceInfo, serverName, pod);
         break;
       case MODIFIED:
+        StuckPodTracker.getInstance().podChanged(delegate, this::getExistingDomainPresenceInfo, serverName, pod);
         boolean podPreviouslyEvicted = info.setServerPodFromEvent(serverName, pod, PodHelper::isEvicted);
         boolean isEvicted = PodHelper.isEvicted(pod);
         if (isEvicted && !podPreviouslyEvicted) {
@@ -616,7 +699,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         boolean isReady = PodHelper.isReady(pod);
         boolean isLabeledForShutdown = PodHelper.isPodAlreadyAnnotatedForShutdown(pod);
         if ((isEvicted || isReady != isLabeledForShutdown || PodHelper.isFailed(pod)) && !PodHelper.isDeleting(pod)) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          requestMakeRightFromWatch(info, Source.POD);
         }
         boolean isUnschedulable = PodHelper.hasUnSchedulableCondition(pod);
         if (isUnschedulable) {
@@ -624,11 +707,12 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         }
         break;
       case DELETED:
+        StuckPodTracker.getInstance().podDeleted(pod);
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
         if (removed && isNotDeleting(info) && Boolean.FALSE.equals(info.isServerPodBeingDeleted(serverName))) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getPodNamespace(pod), serverName);
         }
-        createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+        requestMakeRightFromWatch(info, Source.POD);
         break;
 
       case ERROR:
@@ -683,6 +767,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   @Override
   public void updateDomainStatus(@Nonnull V1Pod pod, DomainPresenceInfo info) {
+    if (delegate.isStandby()) {
+      return;
+    }
     Packet packet = new Packet();
     packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
     Optional.ofNullable(IntrospectionStatus.createStatusUpdateSteps(pod))
@@ -691,6 +778,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   @Override
   public void updateDomainStatus(@Nonnull V1PersistentVolumeClaim pvc, DomainPresenceInfo info) {
+    if (delegate.isStandby()) {
+      return;
+    }
     Packet packet = new Packet();
     packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
     if (!ProcessingConstants.BOUND.equals(getPhase(pvc))) {
@@ -743,7 +833,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       case DELETED:
         boolean removed = ServiceHelper.deleteFromEvent(info, item.object);
         if (removed && isNotDeleting(info)) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          requestMakeRightFromWatch(info, Source.SERVICE);
         }
         break;
       default:
@@ -774,7 +864,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       case DELETED:
         boolean removed = PodDisruptionBudgetHelper.deleteFromEvent(info, item.object);
         if (removed && isNotDeleting(info)) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          requestMakeRightFromWatch(info, Source.POD_DISRUPTION_BUDGET);
         }
         break;
       default:
@@ -796,7 +886,8 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
    */
   public void dispatchConfigMapWatch(Watch.Response<V1ConfigMap> item) {
     V1ConfigMap c = item.object;
-    if (c.getMetadata() != null) {
+    OperatorConfigMapCache.getInstance().receivedResponse(item);
+    if (c.getMetadata() != null && !delegate.isStandby()) {
       switch (item.type) {
         case MODIFIED, DELETED:
           delegate.runSteps(
@@ -975,6 +1066,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   private void handleModifiedDomain(DomainResource domain) {
     if (!domain.isGenerationLaterThanObservedGeneration()) {
+      if (delegate.isStandby()) {
+        Optional.ofNullable(getExistingDomainPresenceInfo(domain.getNamespace(), domain.getDomainUid()))
+            .ifPresent(info -> info.setDomain(domain));
+      }
       return;
     }
     LOGGER.fine(MessageKeys.WATCH_DOMAIN, domain.getDomainUid());
@@ -1067,15 +1162,27 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return new DomainPlanCompletionCallback();
     }
 
+    @Override
+    String getTraceName() {
+      return "make-right domain";
+    }
+
+    @Override
+    String getDomainUid() {
+      return ((DomainPresenceInfo) presenceInfo).getDomainUid();
+    }
+
     class DomainPlanCompletionCallback implements CompletionCallback {
 
       @Override
       public void onCompletion(Packet packet) {
+        StartupTimer.getInstance().makeRightCompleted();
         retryIfNeeded(packet);
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
+        StartupTimer.getInstance().makeRightCompleted();
         reportFailure(throwable);
       }
 
@@ -1152,6 +1259,11 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return new ClusterPlanCompletionCallback(operation.getAndThen());
     }
 
+    @Override
+    String getTraceName() {
+      return "make-right cluster";
+    }
+
     static class ClusterPlanCompletionCallback implements CompletionCallback {
 
       private final MakeRightDomainOperation domainOperation;
@@ -1198,11 +1310,53 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
 
     void execute() {
-      gate.startFiber(presenceInfo.getResourceName(), operation::createSteps, operation::createPacket,
-          createCompletionCallback());
+      final String name = presenceInfo.getResourceName();
+      MakeRightScheduler.getInstance().submit(delegate, presenceInfo.getNamespace(), name, getPriority(),
+          new GateFiberState(name), this::startFiber);
+    }
+
+    private class GateFiberState implements FiberState {
+      private final String name;
+
+      GateFiberState(String name) {
+        this.name = name;
+      }
+
+      @Override
+      public boolean isRunning() {
+        return gate.isRunning(name);
+      }
+
+      @Override
+      public boolean isRequeued() {
+        return gate.isRequeued(name);
+      }
+    }
+
+    // Operations reporting a change to a domain or cluster resource respond to the user, and are started
+    // ahead of rechecks, retries and responses to changes in the domain's pods and services.
+    private Priority getPriority() {
+      return operation.hasEventData() ? Priority.USER_CHANGE : Priority.BACKGROUND;
+    }
+
+    private void startFiber(Runnable onCompletion) {
+      gate.startFiber(presenceInfo.getResourceName(), operation::createSteps, this::createPacket,
+          MakeRightScheduler.withCompletionAction(
+              Tracer.getInstance().endingTrace(createCompletionCallback()), onCompletion));
+    }
+
+    private Packet createPacket() {
+      return Tracer.getInstance().startTrace(
+          operation.createPacket(), getTraceName(), presenceInfo.getNamespace(), getDomainUid());
     }
 
     abstract CompletionCallback createCompletionCallback();
+
+    abstract String getTraceName();
+
+    String getDomainUid() {
+      return null;
+    }
   }
 
   private class ScheduledStatusUpdater {
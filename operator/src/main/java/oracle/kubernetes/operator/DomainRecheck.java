@@ -1,16 +1,20 @@
-// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -26,15 +30,22 @@ import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.WatchGaps;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 
+import static oracle.kubernetes.operator.ProcessingConstants.API_CALL_COUNT;
+import static oracle.kubernetes.operator.StartupTimer.Phase.NAMESPACE_DISCOVERY;
+import static oracle.kubernetes.operator.StartupTimer.Phase.NAMESPACE_LISTS;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE_WATCHING_STARTED;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
@@ -45,6 +56,7 @@ class DomainRecheck {
   private final DomainProcessor domainProcessor;
   private final DomainNamespaces domainNamespaces;
   private final boolean fullRecheck;
+  private OffsetDateTime recheckStart;
 
   DomainRecheck(MainDelegate delegate, boolean fullRecheck) {
     this(delegate.getDomainProcessor(), delegate.getDomainNamespaces(), fullRecheck);
@@ -100,18 +112,7 @@ class DomainRecheck {
         packet.put(LoggingContext.LOGGING_CONTEXT_KEY, new LoggingContext().namespace(ns));
       }
 
-      V1SubjectRulesReviewStatus status = nss.getRulesReviewStatus().updateAndGet(prev -> {
-        if (prev != null) {
-          return prev;
-        }
-
-        try {
-          return HealthCheckHelper.getSelfSubjectRulesReviewStatus(ns);
-        } catch (Throwable e) {
-          LOGGER.warning(MessageKeys.EXCEPTION, e);
-        }
-        return null;
-      });
+      V1SubjectRulesReviewStatus status = getRulesReviewStatus(nss, packet);
 
       AtomicBoolean guard = isDomainNamespace ? nss.verifiedAsDomainNamespace() : nss.verifiedAsOperatorNamespace();
       if (!guard.getAndSet(true)) {
@@ -121,6 +122,67 @@ class DomainRecheck {
       return doNext(packet);
     }
 
+    // The review is reused until it expires, or until a watcher in the namespace is refused access.
+    private V1SubjectRulesReviewStatus getRulesReviewStatus(NamespaceStatus nss, Packet packet) {
+      if (WatchGaps.getInstance().takeAccessDenied(ns)) {
+        nss.invalidateRulesReview();
+      }
+      if (nss.hasCurrentRulesReview()) {
+        return nss.getRulesReviewStatus().get();
+      }
+
+      try {
+        V1SubjectRulesReviewStatus status = HealthCheckHelper.getSelfSubjectRulesReviewStatus(ns);
+        countApiCall(packet);
+        nss.setRulesReview(status, TuningParameters.getInstance().getRulesReviewCacheSeconds());
+        return status;
+      } catch (Throwable e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+        return nss.getRulesReviewStatus().get();
+      }
+    }
+
+    private void countApiCall(Packet packet) {
+      Optional.ofNullable((AtomicInteger) packet.get(API_CALL_COUNT)).ifPresent(AtomicInteger::incrementAndGet);
+    }
+  }
+
+  /**
+   * Creates a step which starts measuring the time taken, and the API calls made, by this recheck.
+   */
+  Step createRecheckStartStep() {
+    return new RecheckStartStep();
+  }
+
+  /**
+   * Creates a step which reports the time taken, and the API calls made, by this recheck.
+   */
+  Step createRecheckEndStep() {
+    return new RecheckEndStep();
+  }
+
+  private String getRecheckLabel() {
+    return fullRecheck ? "full" : "namespaces";
+  }
+
+  private class RecheckStartStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      recheckStart = SystemClock.now();
+      packet.put(API_CALL_COUNT, new AtomicInteger());
+      return doNext(packet);
+    }
+  }
+
+  private class RecheckEndStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      Optional.ofNullable(recheckStart).ifPresent(start -> OperatorMetrics.DOMAIN_RECHECK_DURATION
+          .labels(getRecheckLabel()).observe(Duration.between(start, SystemClock.now()).toMillis() / 1000.0));
+      Optional.ofNullable((AtomicInteger) packet.remove(API_CALL_COUNT))
+          .ifPresent(count -> OperatorMetrics.DOMAIN_RECHECK_API_CALLS.labels(getRecheckLabel()).observe(count.get()));
+      return doNext(packet);
+    }
   }
 
   class ReadNamespacesStepsVisitor implements NamespaceStrategyVisitor<Step> {
@@ -168,10 +230,10 @@ class DomainRecheck {
 
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<V1NamespaceList> callResponse) {
-      final Set<String> namespacesToStart = getNamespacesToStart(callResponse.getObject());
-      Namespaces.getFoundDomainNamespaces(packet).addAll(namespacesToStart);
+      final Set<String> domainNamespacesFound = getNamespacesToStart(callResponse.getObject());
+      Namespaces.getFoundDomainNamespaces(packet).addAll(domainNamespacesFound);
 
-      return doContinueListOrNext(callResponse, packet, createNextSteps(namespacesToStart));
+      return doContinueListOrNext(callResponse, packet, createNextSteps(getOwnedNamespaces(domainNamespacesFound)));
     }
 
     private Step createNextSteps(Set<String> namespacesToStartNow) {
@@ -206,7 +268,18 @@ class DomainRecheck {
   }
 
   Step createStartNamespacesStep(Collection<String> domainNamespaces) {
-    return RunInParallel.perNamespace(domainNamespaces, this::startNamespaceSteps);
+    return Step.chain(
+        StartupTimer.changePhase(NAMESPACE_DISCOVERY, NAMESPACE_LISTS),
+        RunInParallel.perNamespace(Optional.ofNullable(domainNamespaces).map(this::getOwnedNamespaces).orElse(null),
+            this::startNamespaceSteps),
+        StartupTimer.endPhases(NAMESPACE_LISTS));
+  }
+
+  // With namespace sharding, each operator replica starts only the namespaces assigned to it.
+  private Set<String> getOwnedNamespaces(Collection<String> namespaces) {
+    return namespaces.stream()
+        .filter(domainNamespaces::isShardOwner)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
   }
 
   @SuppressWarnings("try")
@@ -236,43 +309,61 @@ class DomainRecheck {
     @Override
     public @Nonnull Result apply(Packet packet) {
       if (domainNamespaces.shouldStartNamespace(ns)) {
-        return doNext(addNSWatchingStartingEventsStep(), packet);
+        recordResourceList();
+        return doNext(
+            Step.chain(OperatorLeadership.whenActive(this::createNSWatchingStartingEventsStep), getNext()), packet);
       }
-      if (fullRecheck) {
+      if (fullRecheck && isResourceListNeeded()) {
+        recordResourceList();
         return doNext(packet);
       } else {
         return doEnd();
       }
     }
 
-    private Step addNSWatchingStartingEventsStep() {
+    // A namespace already started is listed again only if its watchers may have missed events,
+    // or if it has not been listed for a long time.
+    private boolean isResourceListNeeded() {
+      return WatchGaps.getInstance().takeGap(ns)
+          || domainNamespaces.getNamespaceStatus(ns)
+              .isResourceListDue(TuningParameters.getInstance().getNamespaceRelistIntervalSeconds());
+    }
+
+    private void recordResourceList() {
+      WatchGaps.getInstance().takeGap(ns);
+      domainNamespaces.getNamespaceStatus(ns).recordResourceList();
+    }
+
+    private Step createNSWatchingStartingEventsStep() {
       return Step.chain(
           EventHelper.createEventStep(
               domainNamespaces, new EventData(NAMESPACE_WATCHING_STARTED).namespace(ns).resourceName(ns), null),
           EventHelper.createEventStep(
               new EventData(EventHelper.EventItem.START_MANAGING_NAMESPACE)
-                  .namespace(getOperatorNamespace()).resourceName(ns)),
-          getNext());
+                  .namespace(getOperatorNamespace()).resourceName(ns)));
     }
   }
 
   /**
    * Given a list of namespace names and a method that creates steps for the namespace,
    * will create the appropriate steps and run them in parallel, waiting for all to complete
-   * before proceeding.
+   * before proceeding. No more than the configured number of namespaces are processed at once.
    */
   static class RunInParallel extends Step {
 
     final Function<String, Step> stepFactory;
     private final Collection<String> domainNamespaces;
+    private final int maxConcurrency;
 
-    RunInParallel(Collection<String> domainNamespaces, Function<String, Step> stepFactory) {
+    RunInParallel(Collection<String> domainNamespaces, Function<String, Step> stepFactory, int maxConcurrency) {
       this.domainNamespaces = domainNamespaces;
       this.stepFactory = stepFactory;
+      this.maxConcurrency = maxConcurrency;
     }
 
     static Step perNamespace(Collection<String> domainNamespaces, Function<String, Step> stepFactory) {
-      return new RunInParallel(domainNamespaces, stepFactory);
+      return new RunInParallel(domainNamespaces, stepFactory,
+          TuningParameters.getInstance().getNamespaceStartConcurrency());
     }
 
     @Override
@@ -293,7 +384,7 @@ class DomainRecheck {
             startDetails.add(new Fiber.StepAndPacket(stepFactory.apply(ns), packet.copy()));
           }
         }
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, startDetails, maxConcurrency);
       }
     }
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -75,6 +75,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.PODS_FAILED;
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_READY;
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_RUNNING;
 import static oracle.kubernetes.common.logging.MessageKeys.POD_UNSCHEDULABLE_MESSAGE;
+import static oracle.kubernetes.common.logging.MessageKeys.ROLLING_PROGRESS;
 import static oracle.kubernetes.operator.ClusterResourceStatusUpdater.createClusterResourceStatusUpdaterStep;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.KubernetesConstants.MINIMUM_CLUSTER_COUNT;
@@ -163,7 +164,10 @@ public class DomainStatusUpdater {
 
     @Override
     void modifyStatus(DomainStatus status) {
-      status.addCondition(new DomainCondition(ROLLING));
+      // keep any progress reported for a roll already under way
+      if (!status.isRolling()) {
+        status.addCondition(new DomainCondition(ROLLING));
+      }
       status.addCondition(new DomainCondition(COMPLETED).withStatus(false));
     }
 
@@ -197,6 +201,41 @@ public class DomainStatusUpdater {
 
   }
 
+  /**
+   * Creates an asynchronous step to report, in the Rolling condition of a domain which is rolling, the number of
+   * servers which remain to be restarted.
+   * @param numServersToRoll the number of servers which have yet to be restarted
+   * @param next the next step
+   */
+  public static Step createRollProgressStep(int numServersToRoll, Step next) {
+    return new RollProgressStep(numServersToRoll, next);
+  }
+
+  static class RollProgressStep extends DomainStatusUpdaterStep {
+    private final int numServersToRoll;
+
+    private RollProgressStep(int numServersToRoll, Step next) {
+      super(next);
+      this.numServersToRoll = numServersToRoll;
+    }
+
+    @Override
+    protected String getDetail() {
+      return Integer.toString(numServersToRoll);
+    }
+
+    @Override
+    void modifyStatus(DomainStatus status) {
+      if (status.isRolling()) {
+        status.addCondition(new DomainCondition(ROLLING).withMessage(getProgressMessage()));
+      }
+    }
+
+    private String getProgressMessage() {
+      return LOGGER.formatMessage(ROLLING_PROGRESS, numServersToRoll);
+    }
+  }
+
   /**
    * Creates an asynchronous step to initialize the domain status, if needed, to indicate that the operator has
    * seen the domain and is now working on it.
@@ -1392,7 +1431,7 @@ public class DomainStatusUpdater {
       }
 
       private String getRunningState(String serverName) {
-        if (!getInfo().getServerNames().contains(serverName)) {
+        if (getInfo().getServerPod(serverName) == null) {
           return SHUTDOWN_STATE;
         } else if (isDeleting(serverName)) {
           return SHUTTING_DOWN_STATE;
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -14,6 +14,7 @@ public interface LabelConstants {
   String CREATEDBYOPERATOR_LABEL = "weblogic.createdByOperator";
   String CREATEDBY_CONVERSION_WEBHOOK_LABEL = "weblogic.createdByConversionWebhook";
   String OPERATORNAME_LABEL = "weblogic.operatorName";
+  String OPERATOR_SHARD_LABEL = "weblogic.operatorShard";
   String JOBNAME_LABEL = "job-name";
   String APP_LABEL = "app";
   String DOMAINRESTARTVERSION_LABEL = "weblogic.domainRestartVersion";
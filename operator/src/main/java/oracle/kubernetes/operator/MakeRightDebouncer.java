@@ -0,0 +1,126 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Combines the make-right operations requested by watch events for the same domain. A failing node produces a
+ * burst of pod, service and PDB events, each of which would otherwise interrupt the domain's running make-right and
+ * start it again. Instead, each event restarts a short wait, and only the make-right requested by the latest event
+ * is started once the events stop, or once the maximum delay since the first of them has passed.
+ */
+public class MakeRightDebouncer {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static MakeRightDebouncer instance = new MakeRightDebouncer();
+
+  /** The kinds of watch events which request make-right operations. */
+  public enum Source {
+    POD,
+    SERVICE,
+    POD_DISRUPTION_BUDGET,
+    JOB;
+
+    String getLabel() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final Map<String, PendingMakeRight> pending = new HashMap<>();
+
+  public static MakeRightDebouncer getInstance() {
+    return instance;
+  }
+
+  /**
+   * Requests a make-right operation for a domain. Runs it at once if debouncing is disabled; otherwise replaces any
+   * operation still waiting for the same domain.
+   * @param delegate the delegate used to schedule the operation
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param source the kind of watch event which requested the operation
+   * @param makeRight starts the make-right operation
+   */
+  public void trigger(CoreDelegate delegate, String namespace, String domainUid, Source source, Runnable makeRight) {
+    final long window = TuningParameters.getInstance().getMakeRightDebounceMillis();
+    if (window <= 0) {
+      makeRight.run();
+      return;
+    }
+
+    synchronized (this) {
+      final String key = namespace + '/' + domainUid;
+      final PendingMakeRight existing = pending.get(key);
+      if (existing == null) {
+        final PendingMakeRight added = new PendingMakeRight(key, makeRight);
+        pending.put(key, added);
+        added.schedule(delegate, window);
+      } else {
+        existing.replace(makeRight);
+        existing.schedule(delegate, Math.min(window, existing.getRemainingMillis()));
+        OperatorMetrics.MAKE_RIGHT_TRIGGERS_COLLAPSED.labels(source.getLabel()).inc();
+      }
+    }
+  }
+
+  private void fire(PendingMakeRight candidate, int generation) {
+    synchronized (this) {
+      if (pending.get(candidate.key) != candidate || candidate.generation != generation) {
+        return;
+      }
+      pending.remove(candidate.key);
+    }
+    candidate.makeRight.run();
+  }
+
+  /**
+   * Returns the number of domains with make-right operations waiting to start.
+   */
+  synchronized int getNumPending() {
+    return pending.size();
+  }
+
+  private class PendingMakeRight {
+    private final String key;
+    private final OffsetDateTime deadline;
+    private Runnable makeRight;
+    private Cancellable scheduled;
+    private int generation;
+
+    PendingMakeRight(String key, Runnable makeRight) {
+      this.key = key;
+      this.makeRight = makeRight;
+      this.deadline = SystemClock.now()
+          .plus(Duration.ofMillis(TuningParameters.getInstance().getMakeRightDebounceMaxDelayMillis()));
+    }
+
+    void replace(Runnable later) {
+      makeRight = later;
+    }
+
+    long getRemainingMillis() {
+      return Math.max(0, Duration.between(SystemClock.now(), deadline).toMillis());
+    }
+
+    // Only the most recent schedule may start the operation; an earlier one which cannot be cancelled in time
+    // finds its generation superseded.
+    void schedule(CoreDelegate delegate, long delayMillis) {
+      Optional.ofNullable(scheduled).ifPresent(Cancellable::cancel);
+      final int thisGeneration = ++generation;
+      scheduled = delegate.schedule(() -> fire(this, thisGeneration), delayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+}
@@ -0,0 +1,362 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Admits make-right operations across all namespaces, so that no more than the configured number run at once.
+ * Operations which cannot start at once are queued by priority, and within a priority are taken from the waiting
+ * namespaces in turn, so that a namespace with many domains cannot hold up the others. Only the latest operation
+ * queued for a domain or cluster resource is run. An operation for a resource whose make-right is already running
+ * starts at once, as it replaces the running fiber rather than adding one.
+ *
+ * <p>An admitted operation counts against the limit only while it is working. It stops counting while its fiber
+ * waits to run again after a requeue, and counts again when the fiber resumes; it also stops counting once it has
+ * held its place for longer than the configured maximum, so that long rolls of many domains cannot keep other
+ * operations waiting until they complete. While operations are waiting, the scheduler checks for such places
+ * every second.
+ */
+public class MakeRightScheduler {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static MakeRightScheduler instance = new MakeRightScheduler();
+
+  /** The priorities of make-right operations, in the order in which they are started. */
+  public enum Priority {
+    USER_CHANGE,
+    BACKGROUND;
+
+    String getLabel() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  /**
+   * Starts the fiber for an admitted make-right operation.
+   */
+  @FunctionalInterface
+  public interface FiberStarter {
+
+    /**
+     * Starts the fiber.
+     * @param onCompletion to be run when the fiber completes, whether normally or with a throwable
+     */
+    void start(Runnable onCompletion);
+  }
+
+  /**
+   * Reports the state of the make-right fiber for a resource.
+   */
+  public interface FiberState {
+
+    /**
+     * Returns true if a fiber for the resource is still running. Used to reclaim the place of an operation whose
+     * fiber was cancelled without completing.
+     */
+    boolean isRunning();
+
+    /**
+     * Returns true if the fiber for the resource is waiting to run again after a requeue.
+     */
+    boolean isRequeued();
+  }
+
+  private static final long RECHECK_MILLIS = 1000;
+
+  private final Map<String, Slot> running = new HashMap<>();
+  private final Map<String, Request> queued = new HashMap<>();
+  private final Map<Priority, Map<String, Deque<Request>>> queues = createQueues();
+  private CoreDelegate delegate;
+  private Cancellable recheck;
+
+  private static Map<Priority, Map<String, Deque<Request>>> createQueues() {
+    final Map<Priority, Map<String, Deque<Request>>> result = new EnumMap<>(Priority.class);
+    for (Priority priority : Priority.values()) {
+      result.put(priority, new LinkedHashMap<>());
+    }
+    return result;
+  }
+
+  public static MakeRightScheduler getInstance() {
+    return instance;
+  }
+
+  /**
+   * Submits a make-right operation for a domain or cluster resource.
+   * @param delegate the delegate used to schedule checks for places while operations are waiting
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param priority the priority of the operation
+   * @param fiberState reports the state of the fiber for the resource
+   * @param starter starts the fiber for the operation
+   */
+  public void submit(CoreDelegate delegate, String namespace, String name, Priority priority, FiberState fiberState,
+                     FiberStarter starter) {
+    final List<Runnable> toStart = new ArrayList<>();
+    synchronized (this) {
+      this.delegate = delegate;
+      final String key = namespace + '/' + name;
+      final Slot slot = running.get(key);
+      if (slot != null) {
+        toStart.add(slot.restart(fiberState, starter));
+      } else {
+        enqueue(new Request(key, namespace, priority, fiberState, starter));
+        selectRequestsToStart(toStart);
+      }
+      updateGauges();
+    }
+    toStart.forEach(Runnable::run);
+  }
+
+  private void recheck() {
+    final List<Runnable> toStart = new ArrayList<>();
+    synchronized (this) {
+      recheck = null;
+      selectRequestsToStart(toStart);
+      updateGauges();
+    }
+    toStart.forEach(Runnable::run);
+  }
+
+  private void enqueue(Request request) {
+    final Request existing = queued.get(request.key);
+    if (existing == null) {
+      queued.put(request.key, request);
+      addToQueue(request);
+    } else {
+      existing.replaceWith(request);
+    }
+  }
+
+  private void addToQueue(Request request) {
+    queues.get(request.priority).computeIfAbsent(request.namespace, ns -> new ArrayDeque<>()).add(request);
+  }
+
+  private void removeFromQueue(Request request) {
+    final Map<String, Deque<Request>> queue = queues.get(request.priority);
+    final Deque<Request> namespaceQueue = queue.get(request.namespace);
+    namespaceQueue.remove(request);
+    if (namespaceQueue.isEmpty()) {
+      queue.remove(request.namespace);
+    }
+  }
+
+  private void selectRequestsToStart(List<Runnable> toStart) {
+    while (!queued.isEmpty() && hasCapacity()) {
+      final Request request = pollNextRequest();
+      queued.remove(request.key);
+      OperatorMetrics.MAKE_RIGHT_QUEUE_WAIT.labels(request.priority.getLabel()).observe(request.getWaitSeconds());
+      final Slot slot = new Slot(request.key);
+      running.put(request.key, slot);
+      toStart.add(slot.restart(request.fiberState, request.starter));
+    }
+    scheduleRecheckIfWaiting();
+  }
+
+  // Operations which are waiting may start when a running one is requeued or has held its place too long, neither
+  // of which is reported to the scheduler.
+  private void scheduleRecheckIfWaiting() {
+    if (!queued.isEmpty() && recheck == null && delegate != null) {
+      recheck = delegate.schedule(this::recheck, RECHECK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private boolean hasCapacity() {
+    final int limit = TuningParameters.getInstance().getMaxConcurrentMakeRights();
+    if (limit <= 0 || running.size() < limit) {
+      return true;
+    }
+    reclaimAbandonedSlots();
+    return getNumWorking() < limit;
+  }
+
+  private long getNumWorking() {
+    return running.values().stream().filter(Slot::isWorking).count();
+  }
+
+  private void reclaimAbandonedSlots() {
+    running.values().removeIf(Slot::isAbandoned);
+  }
+
+  // Takes the first request from the first namespace with requests at the highest priority, then moves that
+  // namespace to the end of the rotation.
+  private Request pollNextRequest() {
+    for (Map<String, Deque<Request>> queue : queues.values()) {
+      final Iterator<Map.Entry<String, Deque<Request>>> namespaces = queue.entrySet().iterator();
+      if (namespaces.hasNext()) {
+        final Map.Entry<String, Deque<Request>> first = namespaces.next();
+        namespaces.remove();
+        final Request request = first.getValue().poll();
+        if (!first.getValue().isEmpty()) {
+          queue.put(first.getKey(), first.getValue());
+        }
+        return request;
+      }
+    }
+    throw new IllegalStateException("No queued make-right requests");
+  }
+
+  private void release(String key, int generation) {
+    final List<Runnable> toStart = new ArrayList<>();
+    synchronized (this) {
+      final Slot slot = running.get(key);
+      if (slot != null && slot.generation == generation) {
+        running.remove(key);
+        selectRequestsToStart(toStart);
+      }
+      updateGauges();
+    }
+    toStart.forEach(Runnable::run);
+  }
+
+  private void updateGauges() {
+    for (Priority priority : Priority.values()) {
+      OperatorMetrics.MAKE_RIGHTS_QUEUED.labels(priority.getLabel()).set(getNumQueued(priority));
+    }
+    OperatorMetrics.MAKE_RIGHTS_RUNNING.set(running.size());
+  }
+
+  /**
+   * Returns the number of operations with the specified priority waiting to start.
+   * @param priority a priority
+   */
+  synchronized int getNumQueued(Priority priority) {
+    return queues.get(priority).values().stream().mapToInt(Deque::size).sum();
+  }
+
+  /**
+   * Returns the number of admitted operations which have not yet completed.
+   */
+  synchronized int getNumRunning() {
+    return running.size();
+  }
+
+  /**
+   * Wraps a fiber completion callback so that it runs the specified action after the callback.
+   * @param callback the callback for the make-right fiber
+   * @param onCompletion the action supplied to a {@link FiberStarter}
+   * @return the wrapped callback
+   */
+  public static CompletionCallback withCompletionAction(CompletionCallback callback, Runnable onCompletion) {
+    return new CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        try {
+          callback.onCompletion(packet);
+        } finally {
+          onCompletion.run();
+        }
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        try {
+          callback.onThrowable(packet, throwable);
+        } finally {
+          onCompletion.run();
+        }
+      }
+    };
+  }
+
+  private class Slot {
+    private final String key;
+    private final OffsetDateTime admittedAt = SystemClock.now();
+    private FiberState fiberState;
+    private int generation;
+    private boolean started;
+
+    Slot(String key) {
+      this.key = key;
+    }
+
+    // Only the completion of the most recently started fiber releases the slot; earlier fibers are cancelled
+    // when it replaces them, and do not complete.
+    Runnable restart(FiberState fiberState, FiberStarter starter) {
+      this.fiberState = fiberState;
+      this.started = false;
+      final int thisGeneration = ++generation;
+      return () -> {
+        try {
+          starter.start(() -> release(key, thisGeneration));
+        } finally {
+          markStarted(thisGeneration);
+        }
+      };
+    }
+
+    private void markStarted(int startedGeneration) {
+      synchronized (MakeRightScheduler.this) {
+        if (generation == startedGeneration) {
+          started = true;
+        }
+      }
+    }
+
+    boolean isAbandoned() {
+      return started && !fiberState.isRunning();
+    }
+
+    // A slot counts against the limit until its fiber is requeued or it has been held for the maximum time.
+    boolean isWorking() {
+      return !started || (!fiberState.isRequeued() && !isHeldTooLong());
+    }
+
+    private boolean isHeldTooLong() {
+      final int maxSeconds = TuningParameters.getInstance().getMaxMakeRightHoldSeconds();
+      return maxSeconds > 0 && SystemClock.now().isAfter(admittedAt.plusSeconds(maxSeconds));
+    }
+  }
+
+  private class Request {
+    private final String key;
+    private final String namespace;
+    private final long queuedNanos = System.nanoTime();
+    private Priority priority;
+    private FiberState fiberState;
+    private FiberStarter starter;
+
+    Request(String key, String namespace, Priority priority, FiberState fiberState, FiberStarter starter) {
+      this.key = key;
+      this.namespace = namespace;
+      this.priority = priority;
+      this.fiberState = fiberState;
+      this.starter = starter;
+    }
+
+    // A later request replaces the queued one, keeping its place in the queue unless its priority is higher.
+    void replaceWith(Request later) {
+      fiberState = later.fiberState;
+      starter = later.starter;
+      if (later.priority.compareTo(priority) < 0) {
+        removeFromQueue(this);
+        priority = later.priority;
+        addToQueue(this);
+      }
+    }
+
+    double getWaitSeconds() {
+      return (System.nanoTime() - queuedNanos) / 1_000_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,323 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.net.HttpURLConnection;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.LabelConstants.OPERATORNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.OPERATOR_SHARD_LABEL;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorPodName;
+
+/**
+ * Divides the domain namespaces among the running operator replicas. Each replica periodically renews a lease
+ * in the operator namespace; the replicas whose leases have not expired form the current membership, and each
+ * namespace is assigned to exactly one member by rendezvous hashing, so that a change in membership moves only
+ * the namespaces of the replicas that joined or left. When sharding is not enabled, this replica owns every namespace.
+ * A replica gives up its namespaces as soon as it fails to renew its lease, and some time before the others could
+ * regard the lease as expired, so that no namespace is managed by two replicas at once.
+ */
+public class NamespaceShardCoordinator {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String LEASE_NAME_PREFIX = "weblogic-operator-shard-";
+  private static final String DEFAULT_IDENTITY = "weblogic-operator";
+
+  // leases expired for longer than this multiple of the lease duration belong to replicas which are gone
+  private static final int STALE_LEASE_MULTIPLIER = 4;
+
+  // the number of attempts to renew the lease within each lease duration
+  private static final int RENEWALS_PER_LEASE = 3;
+
+  private final String identity;
+  private final String namespace;
+  private final AtomicReference<List<String>> members = new AtomicReference<>();
+  private volatile OffsetDateTime lastRenewal;
+  private boolean holdingLease;
+  private Runnable membershipListener = () -> { };
+  private Runnable leaseLossListener = () -> { };
+
+  /**
+   * Creates a coordinator for this operator replica, identified by its pod name.
+   */
+  public static NamespaceShardCoordinator create() {
+    return new NamespaceShardCoordinator(Optional.of(getOperatorPodName()).filter(n -> !n.isEmpty())
+        .orElse(DEFAULT_IDENTITY));
+  }
+
+  NamespaceShardCoordinator(String identity) {
+    this(identity, getOperatorNamespace());
+  }
+
+  NamespaceShardCoordinator(String identity, String namespace) {
+    this.identity = identity;
+    this.namespace = namespace;
+  }
+
+  // Standby replicas never make right, so any namespaces assigned to them would go unmanaged.
+  static boolean isShardingEnabled() {
+    return isShardingRequested() && !OperatorLeadership.isStandbyEnabled();
+  }
+
+  static boolean isShardingRequested() {
+    return TuningParameters.getInstance().isNamespaceShardingEnabled();
+  }
+
+  /**
+   * Returns the interval at which the replicas should renew their leases.
+   */
+  static int getRenewalIntervalSeconds() {
+    return Math.max(1, getLeaseDurationSeconds() / RENEWALS_PER_LEASE);
+  }
+
+  /**
+   * Returns the time by which the clocks of two replicas may differ without both managing the same namespace.
+   * A replica gives up its namespaces this long before its lease expires, and the others wait this long after it
+   * expires before taking them over.
+   */
+  static int getClockSkewMarginSeconds() {
+    return getRenewalIntervalSeconds();
+  }
+
+  String getIdentity() {
+    return identity;
+  }
+
+  /**
+   * Specifies an action to run whenever the set of active replicas changes.
+   * @param membershipListener the action to run
+   */
+  void setMembershipListener(@Nonnull Runnable membershipListener) {
+    this.membershipListener = membershipListener;
+  }
+
+  /**
+   * Specifies an action to run when this replica fails to renew its lease or lets it lapse, which must stop
+   * processing the namespaces it owned.
+   * @param leaseLossListener the action to run
+   */
+  void setLeaseLossListener(@Nonnull Runnable leaseLossListener) {
+    this.leaseLossListener = leaseLossListener;
+  }
+
+  /**
+   * Returns the identities of the active replicas, as of the last renewal, or an empty list if this replica
+   * has not yet renewed its lease.
+   */
+  List<String> getMembers() {
+    return Optional.ofNullable(members.get()).orElse(List.of());
+  }
+
+  /**
+   * Returns true if this replica should manage the specified namespace.
+   * @param ns the name of a domain namespace
+   */
+  boolean isOwner(String ns) {
+    if (!isShardingEnabled()) {
+      return true;
+    }
+    return hasCurrentLease() && identity.equals(selectOwner(ns, getMembers()));
+  }
+
+  /**
+   * Returns true if this replica may manage namespaces: that is, if sharding is not enabled or this replica holds
+   * a current lease.
+   */
+  boolean isServing() {
+    return !isShardingEnabled() || hasCurrentLease();
+  }
+
+  // A replica which cannot renew its lease must give up its namespaces before the others take them over.
+  private boolean hasCurrentLease() {
+    return Optional.ofNullable(lastRenewal)
+        .map(t -> t.plusSeconds(getLeaseDurationSeconds() - getClockSkewMarginSeconds()).isAfter(SystemClock.now()))
+        .orElse(false);
+  }
+
+  /**
+   * Returns the member to which the specified namespace is assigned, or null if there are no members.
+   * @param ns the name of a namespace
+   * @param members the identities of the active replicas
+   */
+  static String selectOwner(String ns, Collection<String> members) {
+    return members.stream()
+        .max(Comparator.<String>comparingLong(m -> score(m, ns)).thenComparing(Comparator.naturalOrder()))
+        .orElse(null);
+  }
+
+  // a 64-bit mix of the member and namespace names, so that assignments are spread evenly over the members
+  private static long score(String member, String ns) {
+    long h = ((long) member.hashCode() << 32) ^ (ns.hashCode() & 0xffffffffL);
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  /**
+   * Renews this replica's lease and recomputes the membership from the leases of all replicas. Invokes the
+   * membership listener if the set of active replicas has changed, and the lease loss listener if this replica
+   * no longer holds a current lease.
+   */
+  void renew() {
+    if (!isShardingEnabled()) {
+      return;
+    }
+
+    try {
+      renewLease();
+      updateMembers(readActiveMembers());
+    } catch (ApiException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      lastRenewal = null;
+      members.set(null);
+    }
+
+    // the lease may also have lapsed since the last renewal, without any failed call to report it
+    final boolean wasHoldingLease = holdingLease;
+    holdingLease = hasCurrentLease();
+    if (wasHoldingLease && !holdingLease) {
+      LOGGER.warning(MessageKeys.NAMESPACE_SHARD_LEASE_LOST, identity);
+      leaseLossListener.run();
+    }
+  }
+
+  /**
+   * Deletes this replica's lease so that the remaining replicas take over its namespaces without waiting
+   * for the lease to expire.
+   */
+  void release() {
+    if (lastRenewal == null) {
+      return;
+    }
+
+    try {
+      lastRenewal = null;
+      holdingLease = false;
+      members.set(null);
+      RequestBuilder.LEASE.delete(namespace, getLeaseName(identity));
+    } catch (ApiException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private void renewLease() throws ApiException {
+    final OffsetDateTime now = SystemClock.now();
+    V1Lease lease = readLease();
+    if (lease == null) {
+      RequestBuilder.LEASE.create(createLease(now));
+    } else {
+      lease.setSpec(createLeaseSpec(now));
+      RequestBuilder.LEASE.update(lease);
+    }
+    lastRenewal = now;
+  }
+
+  private V1Lease readLease() throws ApiException {
+    try {
+      return RequestBuilder.LEASE.get(namespace, getLeaseName(identity));
+    } catch (ApiException e) {
+      if (e.getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private V1Lease createLease(OffsetDateTime now) {
+    return new V1Lease()
+        .metadata(new V1ObjectMeta().namespace(namespace).name(getLeaseName(identity))
+            .labels(Map.of(OPERATORNAME_LABEL, namespace, OPERATOR_SHARD_LABEL, "true")))
+        .spec(createLeaseSpec(now));
+  }
+
+  private V1LeaseSpec createLeaseSpec(OffsetDateTime now) {
+    return new V1LeaseSpec().holderIdentity(identity).leaseDurationSeconds(getLeaseDurationSeconds()).renewTime(now);
+  }
+
+  static String getLeaseName(String identity) {
+    return LEASE_NAME_PREFIX + identity;
+  }
+
+  private List<String> readActiveMembers() throws ApiException {
+    final OffsetDateTime now = SystemClock.now();
+    List<V1Lease> leases = Optional.ofNullable(RequestBuilder.LEASE.list(namespace,
+            new ListOptions().labelSelector(OPERATOR_SHARD_LABEL + "=true")))
+        .map(V1LeaseList::getItems).orElse(List.of());
+
+    leases.stream().filter(l -> isStale(l, now)).forEach(this::deleteStaleLease);
+    return leases.stream()
+        .filter(l -> isActive(l, now))
+        .map(V1Lease::getSpec)
+        .map(V1LeaseSpec::getHolderIdentity)
+        .filter(Objects::nonNull)
+        .distinct()
+        .sorted()
+        .toList();
+  }
+
+  // A replica is regarded as active until its lease has been expired for longer than the clock skew margin.
+  private boolean isActive(V1Lease lease, OffsetDateTime now) {
+    return getExpirationTime(lease, 1).map(t -> now.isBefore(t.plusSeconds(getClockSkewMarginSeconds())))
+        .orElse(false);
+  }
+
+  private boolean isStale(V1Lease lease, OffsetDateTime now) {
+    return getExpirationTime(lease, STALE_LEASE_MULTIPLIER).map(now::isAfter).orElse(false);
+  }
+
+  private Optional<OffsetDateTime> getExpirationTime(V1Lease lease, int multiplier) {
+    return Optional.ofNullable(lease.getSpec())
+        .filter(s -> s.getRenewTime() != null)
+        .map(s -> s.getRenewTime().plusSeconds((long) multiplier * getLeaseDuration(s)));
+  }
+
+  private int getLeaseDuration(V1LeaseSpec spec) {
+    return Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(getLeaseDurationSeconds());
+  }
+
+  private void deleteStaleLease(V1Lease lease) {
+    try {
+      RequestBuilder.LEASE.delete(namespace, lease.getMetadata().getName());
+    } catch (ApiException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private void updateMembers(List<String> activeMembers) {
+    List<String> previous = members.getAndSet(activeMembers);
+    if (!activeMembers.equals(previous)) {
+      LOGGER.info(MessageKeys.NAMESPACE_SHARDS_CHANGED, identity, String.join(", ", activeMembers));
+      membershipListener.run();
+    }
+  }
+
+  private static int getLeaseDurationSeconds() {
+    return TuningParameters.getInstance().getNamespaceShardLeaseDurationSeconds();
+  }
+}
@@ -1,18 +1,23 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
+import java.time.OffsetDateTime;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import oracle.kubernetes.utils.SystemClock;
 
 public class NamespaceStatus {
   private final AtomicBoolean isNamespaceStarting = new AtomicBoolean(false);
   private final AtomicReference<V1SubjectRulesReviewStatus> rulesReviewStatus = new AtomicReference<>();
   private final AtomicBoolean verifiedAsOperatorNamespace = new AtomicBoolean(false);
   private final AtomicBoolean verifiedAsDomainNamespace = new AtomicBoolean(false);
+  private volatile OffsetDateTime rulesReviewExpiration;
+  private volatile OffsetDateTime lastResourceListTime;
 
   public AtomicBoolean isNamespaceStarting() {
     return isNamespaceStarting;
@@ -30,6 +35,48 @@ public class NamespaceStatus {
     return rulesReviewStatus;
   }
 
+  /**
+   * Returns true if a rules review has been recorded, and has neither expired nor been invalidated.
+   */
+  boolean hasCurrentRulesReview() {
+    final OffsetDateTime expiration = rulesReviewExpiration;
+    return rulesReviewStatus.get() != null && expiration != null && SystemClock.now().isBefore(expiration);
+  }
+
+  /**
+   * Records the result of a rules review. If it differs from the previous one, the operator's access to the namespace
+   * will be verified again.
+   * @param status the rules review status
+   * @param cacheSeconds the number of seconds for which the result may be reused
+   */
+  void setRulesReview(V1SubjectRulesReviewStatus status, long cacheSeconds) {
+    if (!Objects.equals(rulesReviewStatus.getAndSet(status), status)) {
+      verifiedAsOperatorNamespace.set(false);
+      verifiedAsDomainNamespace.set(false);
+    }
+    rulesReviewExpiration = SystemClock.now().plusSeconds(cacheSeconds);
+  }
+
+  /**
+   * Causes the next rules review of the namespace to be requested from Kubernetes, rather than reused.
+   */
+  void invalidateRulesReview() {
+    rulesReviewExpiration = null;
+  }
+
+  /**
+   * Returns true if the namespace's resources have not been listed within the specified interval.
+   * @param intervalSeconds the longest time permitted between lists
+   */
+  boolean isResourceListDue(long intervalSeconds) {
+    final OffsetDateTime lastList = lastResourceListTime;
+    return lastList == null || !SystemClock.now().isBefore(lastList.plusSeconds(intervalSeconds));
+  }
+
+  void recordResourceList() {
+    lastResourceListTime = SystemClock.now();
+  }
+
   boolean shouldStartNamespace() {
     return !isNamespaceStarting.getAndSet(true);
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.common.KubernetesListObject;
@@ -22,6 +23,7 @@ import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.watcher.ClusterWatcher;
 import oracle.kubernetes.operator.watcher.ConfigMapWatcher;
@@ -32,6 +34,7 @@ import oracle.kubernetes.operator.watcher.OperatorEventWatcher;
 import oracle.kubernetes.operator.watcher.PodWatcher;
 import oracle.kubernetes.operator.watcher.ServiceWatcher;
 import oracle.kubernetes.operator.watcher.Watcher;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
@@ -59,79 +62,67 @@ class NamespacedResources {
     processors.add(processor);
   }
 
+  /**
+   * Creates steps to list the resources in the namespace. The list requests are issued concurrently, and each page
+   * returned is passed to the processors as soon as it arrives, so that no list is held in memory until the others
+   * complete. The processors are called for one page at a time, but may see the pages of different lists in any
+   * order. Once all lists have completed, the processors complete their processing.
+   */
   Step createListSteps() {
-    return Step.chain(
-          getConfigMapListSteps(),
-          getPodEventListSteps(),
-          getOperatorEventListSteps(),
-          getJobListSteps(),
-          getPodListSteps(),
-          getServiceListSteps(),
-          getPodDisruptionBudgetListSteps(),
-          getDomainListSteps(),
-          getClusterListSteps(),
-          new CompletionStep()
-    );
-  }
-
-  private Step getPauseWatchersStep(Watcher<?> watcher) {
-    return new PauseWatchersStep<>(watcher);
-  }
-
-  private Step getConfigMapListSteps() {
-    return getListProcessing(Processors::getConfigMapListProcessing).map(this::createConfigMapListStep).orElse(null);
-  }
-
-  private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
-    return Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
-        RequestBuilder.CM.list(namespace, new ListResponseStep<>(processing)));
+    final List<ListCall<?>> listCalls = Stream.of(
+          getConfigMapListCall(),
+          getPodEventListCall(),
+          getOperatorEventListCall(),
+          getJobListCall(),
+          getPodListCall(),
+          getServiceListCall(),
+          getPodDisruptionBudgetListCall(),
+          getDomainListCall(),
+          getClusterListCall())
+        .filter(Objects::nonNull)
+        .toList();
+
+    return Step.chain(new ListInParallelStep(listCalls), new CompletionStep());
+  }
+
+  private ListCall<V1ConfigMapList> getConfigMapListCall() {
+    return getListProcessing(Processors::getConfigMapListProcessing)
+        .map(p -> new ListCall<>(p, getConfigMapWatcher(), r -> RequestBuilder.CM.list(namespace, r)))
+        .orElse(null);
   }
 
   private ConfigMapWatcher getConfigMapWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getConfigMapWatcher(namespace)).orElse(null);
   }
 
-  private Step getPodEventListSteps() {
-    return getListProcessing(Processors::getEventListProcessing).map(this::createPodEventListStep).orElse(null);
-  }
-
-  private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return Step.chain(getPauseWatchersStep(getEventWatcher()),
-        RequestBuilder.EVENT.list(namespace,
-            new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER),
-            new ListResponseStep<>(processing)));
+  private ListCall<CoreV1EventList> getPodEventListCall() {
+    return getListProcessing(Processors::getEventListProcessing)
+        .map(p -> new ListCall<>(p, getEventWatcher(), r -> RequestBuilder.EVENT.list(namespace,
+            new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER), r)))
+        .orElse(null);
   }
 
   private EventWatcher getEventWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getEventWatcher(namespace)).orElse(null);
   }
 
-  private Step getOperatorEventListSteps() {
+  private ListCall<CoreV1EventList> getOperatorEventListCall() {
     return getListProcessing(Processors::getOperatorEventListProcessing)
-        .map(this::createOperatorEventListStep).orElse(null);
-  }
-
-  private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return Step.chain(getPauseWatchersStep(getOperatorEventWatcher()),
-        RequestBuilder.EVENT.list(namespace,
-            new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER),
-            new ListResponseStep<>(processing)));
+        .map(p -> new ListCall<>(p, getOperatorEventWatcher(), r -> RequestBuilder.EVENT.list(namespace,
+            new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER), r)))
+        .orElse(null);
   }
 
   private OperatorEventWatcher getOperatorEventWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getDomainEventWatcher(namespace)).orElse(null);
   }
 
-  private Step getPodDisruptionBudgetListSteps() {
+  private ListCall<V1PodDisruptionBudgetList> getPodDisruptionBudgetListCall() {
     return getListProcessing(Processors::getPodDisruptionBudgetListProcessing)
-            .map(this::createPodDisruptionBudgetListStep).orElse(null);
-  }
-
-  private Step createPodDisruptionBudgetListStep(List<Consumer<V1PodDisruptionBudgetList>> processing) {
-    return Step.chain(getPauseWatchersStep(getPodDisruptionBudgetWatcher()),
-        RequestBuilder.PDB.list(namespace,
+        .map(p -> new ListCall<>(p, getPodDisruptionBudgetWatcher(), r -> RequestBuilder.PDB.list(namespace,
             new ListOptions().labelSelector(forDomainUidSelector(domainUid) + "," + getCreatedByOperatorSelector()),
-            new ListResponseStep<>(processing)));
+            r)))
+        .orElse(null);
   }
 
   private PodDisruptionBudgetWatcher getPodDisruptionBudgetWatcher() {
@@ -139,30 +130,23 @@ class NamespacedResources {
         .orElse(null);
   }
 
-  private Step getJobListSteps() {
-    return getListProcessing(Processors::getJobListProcessing).map(this::createJobListStep).orElse(null);
-  }
-
-  private Step createJobListStep(List<Consumer<V1JobList>> processing) {
-    return Step.chain(getPauseWatchersStep(getJobWatcher()),
-        RequestBuilder.JOB.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
+  // The job list is used only to start or resume the job watcher from the list's resource version.
+  private ListCall<V1JobList> getJobListCall() {
+    return getListProcessing(Processors::getJobListProcessing)
+        .map(p -> new ListCall<>(p, getJobWatcher(), r -> RequestBuilder.JOB.listMetadata(namespace,
+            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()), r)))
+        .orElse(null);
   }
 
   private JobWatcher getJobWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getJobWatcher(namespace)).orElse(null);
   }
 
-  private Step getPodListSteps() {
-    return getListProcessing(Processors::getPodListProcessing).map(this::createPodListStep).orElse(null);
-  }
-
-  private Step createPodListStep(List<Consumer<V1PodList>> processing) {
-    return Step.chain(getPauseWatchersStep(getPodWatcher()),
-        RequestBuilder.POD.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
+  private ListCall<V1PodList> getPodListCall() {
+    return getListProcessing(Processors::getPodListProcessing)
+        .map(p -> new ListCall<>(p, getPodWatcher(), r -> RequestBuilder.POD.list(namespace,
+            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()), r)))
+        .orElse(null);
   }
 
   private PodWatcher getPodWatcher() {
@@ -173,41 +157,31 @@ class NamespacedResources {
     return domainUid == null ? LabelConstants.DOMAINUID_LABEL : LabelConstants.forDomainUidSelector(domainUid);
   }
 
-  private Step getServiceListSteps() {
-    return getListProcessing(Processors::getServiceListProcessing).map(this::createServiceListStep).orElse(null);
-  }
-
-  private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
-    return Step.chain(getPauseWatchersStep(getServiceWatcher()),
-        RequestBuilder.SERVICE.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
+  private ListCall<V1ServiceList> getServiceListCall() {
+    return getListProcessing(Processors::getServiceListProcessing)
+        .map(p -> new ListCall<>(p, getServiceWatcher(), r -> RequestBuilder.SERVICE.list(namespace,
+            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()), r)))
+        .orElse(null);
   }
 
   private ServiceWatcher getServiceWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getServiceWatcher(namespace)).orElse(null);
   }
 
-  private Step getClusterListSteps() {
-    return getListProcessing(Processors::getClusterListProcessing).map(this::createClusterListSteps).orElse(null);
-  }
-
-  private Step createClusterListSteps(List<Consumer<ClusterList>> processing) {
-    return Step.chain(getPauseWatchersStep(getClusterWatcher()),
-        RequestBuilder.CLUSTER.list(namespace, new ListResponseStep<>(processing)));
+  private ListCall<ClusterList> getClusterListCall() {
+    return getListProcessing(Processors::getClusterListProcessing)
+        .map(p -> new ListCall<>(p, getClusterWatcher(), r -> RequestBuilder.CLUSTER.list(namespace, r)))
+        .orElse(null);
   }
 
   private ClusterWatcher getClusterWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getClusterWatcher(namespace)).orElse(null);
   }
 
-  private Step getDomainListSteps() {
-    return getListProcessing(Processors::getDomainListProcessing).map(this::createDomainListSteps).orElse(null);
-  }
-
-  private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
-    return Step.chain(getPauseWatchersStep(getDomainWatcher()),
-        RequestBuilder.DOMAIN.list(namespace, new ListResponseStep<>(processing)));
+  private ListCall<DomainList> getDomainListCall() {
+    return getListProcessing(Processors::getDomainListProcessing)
+        .map(p -> new ListCall<>(p, getDomainWatcher(), r -> RequestBuilder.DOMAIN.list(namespace, r)))
+        .orElse(null);
   }
 
   private DomainWatcher getDomainWatcher() {
@@ -246,16 +220,61 @@ class NamespacedResources {
     }
   }
 
+  /**
+   * A list request for one resource type, and the processing to apply to the listed resources.
+   * @param <L> the type of list returned
+   */
+  private class ListCall<L extends KubernetesListObject> {
+    private final List<Consumer<L>> processing;
+    private final Watcher<?> watcher;
+    private final Function<ResponseStep<L>, Step> requestFactory;
+
+    ListCall(List<Consumer<L>> processing, Watcher<?> watcher, Function<ResponseStep<L>, Step> requestFactory) {
+      this.processing = processing;
+      this.watcher = watcher;
+      this.requestFactory = requestFactory;
+    }
+
+    Step createSteps() {
+      return Step.chain(new PauseWatchersStep<>(watcher), requestFactory.apply(new ListResponseStep<>(this)));
+    }
+
+    // The lists arrive on concurrent branches, but the processors are not written to be called concurrently.
+    void processPage(L page) {
+      synchronized (processors) {
+        processing.forEach(p -> p.accept(page));
+      }
+    }
+  }
+
+  // Issues the list requests concurrently, each with its own packet, so that paging through one list does not
+  // affect the others.
+  private static class ListInParallelStep extends Step {
+    private final List<ListCall<?>> listCalls;
+
+    ListInParallelStep(List<ListCall<?>> listCalls) {
+      this.listCalls = listCalls;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final List<Fiber.StepAndPacket> startDetails = listCalls.stream()
+          .map(c -> new Fiber.StepAndPacket(c.createSteps(), packet.copy()))
+          .toList();
+      return doForkJoin(getNext(), packet, startDetails, startDetails.size());
+    }
+  }
+
   private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
-    private final List<Consumer<L>> processors;
+    private final ListCall<L> listCall;
 
-    ListResponseStep(List<Consumer<L>> processors) {
-      this.processors = processors;
+    ListResponseStep(ListCall<L> listCall) {
+      this.listCall = listCall;
     }
 
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<L> callResponse) {
-      processors.forEach(p -> p.accept(callResponse.getObject()));
+      Optional.ofNullable(callResponse.getObject()).ifPresent(listCall::processPage);
       return doContinueListOrNext(callResponse, packet);
     }
   }
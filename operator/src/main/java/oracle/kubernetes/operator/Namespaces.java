@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -298,7 +298,7 @@ public class Namespaces {
       }
       steps.add(createEventStep(
           new EventData(STOP_MANAGING_NAMESPACE).resourceName(ns).namespace(getOperatorNamespace())));
-      return Step.chain(steps.toArray(new Step[0]));
+      return OperatorLeadership.whenActive(() -> Step.chain(steps));
     }
 
     private Step createNamespaceWatchStopEventsStep(List<Fiber.StepAndPacket> nsStopEventDetails) {
@@ -352,12 +352,16 @@ public class Namespaces {
     }
 
     private boolean isNoLongerActiveDomainNamespace(String ns) {
+      return isMissing(ns) || !domainNamespaces.isShardOwner(ns);
+    }
+
+    private boolean isMissing(String ns) {
       return !allDomainNamespaces.contains(ns);
     }
 
     @SuppressWarnings("try")
     private void validateConfiguredNamespace(String namespace) {
-      if (isNoLongerActiveDomainNamespace(namespace)) {
+      if (isMissing(namespace)) {
         try (ThreadLoggingContext ignored = ThreadLoggingContext.setThreadContext().namespace(namespace)) {
           LOGGER.warning(MessageKeys.NAMESPACE_IS_MISSING, namespace);
         }
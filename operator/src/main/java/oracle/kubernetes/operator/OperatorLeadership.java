@@ -0,0 +1,263 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.net.HttpURLConnection;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.LabelConstants.OPERATORNAME_LABEL;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorPodName;
+
+/**
+ * Elects a single active operator replica when several replicas run in active/standby mode. The replicas compete
+ * for a lease in the operator namespace; the holder is active, and the others are warm standbys which keep their
+ * watches running and their domain presence information current, but do not act on it. When the holder releases the
+ * lease or fails to renew it, a standby acquires the lease and makes right the domains it already knows about,
+ * without relisting the resources in the managed namespaces. A replica which loses the lease stands down at once,
+ * abandoning any processing in progress.
+ */
+public class OperatorLeadership {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String LEASE_NAME = "weblogic-operator-leader";
+  private static final String DEFAULT_IDENTITY = "weblogic-operator";
+
+  // the number of attempts to acquire or renew the lease within each lease duration
+  private static final int RENEWALS_PER_LEASE = 5;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static OperatorLeadership instance = create();
+
+  private final String identity;
+  private final String namespace;
+  private volatile OffsetDateTime lastRenewal;
+  private boolean active;
+  private Runnable takeoverListener = () -> { };
+  private Runnable demotionListener = () -> { };
+
+  public static OperatorLeadership getInstance() {
+    return instance;
+  }
+
+  private static OperatorLeadership create() {
+    return new OperatorLeadership(Optional.of(getOperatorPodName()).filter(n -> !n.isEmpty())
+        .orElse(DEFAULT_IDENTITY));
+  }
+
+  OperatorLeadership(String identity) {
+    this(identity, getOperatorNamespace());
+  }
+
+  OperatorLeadership(String identity, String namespace) {
+    this.identity = identity;
+    this.namespace = namespace;
+  }
+
+  static boolean isStandbyEnabled() {
+    return TuningParameters.getInstance().isOperatorStandbyEnabled();
+  }
+
+  /**
+   * Returns the interval at which the replicas should attempt to acquire or renew the lease.
+   */
+  static int getRenewalIntervalSeconds() {
+    return Math.max(1, getLeaseDurationSeconds() / RENEWALS_PER_LEASE);
+  }
+
+  /**
+   * Returns the time by which the clocks of two replicas may differ without both acting as the active replica.
+   * The holder stops acting this long before its lease expires, and the others wait this long after it expires.
+   */
+  static int getClockSkewMarginSeconds() {
+    return getRenewalIntervalSeconds();
+  }
+
+  /**
+   * Specifies an action to run when this replica becomes the active replica.
+   * @param takeoverListener the action to run
+   */
+  void setTakeoverListener(@Nonnull Runnable takeoverListener) {
+    this.takeoverListener = takeoverListener;
+  }
+
+  /**
+   * Specifies an action to run when this replica stops being the active replica, which must stop any processing
+   * that changes the managed resources.
+   * @param demotionListener the action to run
+   */
+  void setDemotionListener(@Nonnull Runnable demotionListener) {
+    this.demotionListener = demotionListener;
+  }
+
+  /**
+   * Returns true if this replica is a standby, and must not change the managed resources.
+   */
+  public boolean isStandby() {
+    return isStandbyEnabled() && !isLeader();
+  }
+
+  // A replica which cannot renew the lease must stop acting before a standby may take it over.
+  boolean isLeader() {
+    return Optional.ofNullable(lastRenewal)
+        .map(t -> t.plusSeconds(getLeaseDurationSeconds() - getClockSkewMarginSeconds()).isAfter(SystemClock.now()))
+        .orElse(false);
+  }
+
+  /**
+   * Creates a step which runs the specified steps, which change the managed resources, only if this replica is not
+   * a standby when it is reached; in either case it then continues with its own next step.
+   * @param writeSteps supplies the steps to run
+   */
+  static Step whenActive(Supplier<Step> writeSteps) {
+    return new ActiveReplicaStep(writeSteps);
+  }
+
+  /**
+   * Acquires the lease if it is free or expired, or renews it if this replica already holds it. Invokes the
+   * takeover listener when this replica becomes the active replica, and the demotion listener when it stops being
+   * the active replica.
+   */
+  void renew() {
+    if (!isStandbyEnabled()) {
+      return;
+    }
+
+    try {
+      acquireOrRenewLease();
+    } catch (ApiException e) {
+      if (e.getCode() != HttpURLConnection.HTTP_CONFLICT) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      }
+    }
+
+    // leadership may also have lapsed since the last renewal, without any failed call to report it
+    final boolean wasActive = active;
+    active = isLeader();
+    if (!wasActive && active) {
+      LOGGER.info(MessageKeys.OPERATOR_LEADERSHIP_ACQUIRED, identity);
+      takeoverListener.run();
+    } else if (wasActive && !active) {
+      LOGGER.warning(MessageKeys.OPERATOR_LEADERSHIP_LOST, identity);
+      demotionListener.run();
+    }
+  }
+
+  /**
+   * Gives up the lease, if this replica holds it, so that a standby can take over without waiting for it to expire.
+   */
+  void release() {
+    if (!isLeader()) {
+      return;
+    }
+
+    try {
+      lastRenewal = null;
+      active = false;
+      V1Lease lease = readLease();
+      if (lease != null && isHeldByThisReplica(lease)) {
+        lease.getSpec().holderIdentity(null).renewTime(null);
+        RequestBuilder.LEASE.update(lease);
+      }
+    } catch (ApiException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private void acquireOrRenewLease() throws ApiException {
+    final OffsetDateTime now = SystemClock.now();
+    V1Lease lease = readLease();
+    if (lease == null) {
+      RequestBuilder.LEASE.create(createLease(now));
+      lastRenewal = now;
+    } else if (isHeldByThisReplica(lease)) {
+      lease.getSpec().renewTime(now).leaseDurationSeconds(getLeaseDurationSeconds());
+      RequestBuilder.LEASE.update(lease);
+      lastRenewal = now;
+    } else if (isExpired(lease, now)) {
+      // the update carries the resource version read above, so only one standby can win the lease
+      lease.getSpec().holderIdentity(identity).acquireTime(now).renewTime(now)
+          .leaseDurationSeconds(getLeaseDurationSeconds())
+          .leaseTransitions(Optional.ofNullable(lease.getSpec().getLeaseTransitions()).orElse(0) + 1);
+      RequestBuilder.LEASE.update(lease);
+      lastRenewal = now;
+    } else {
+      lastRenewal = null;
+    }
+  }
+
+  private V1Lease readLease() throws ApiException {
+    try {
+      return Optional.ofNullable(RequestBuilder.LEASE.get(namespace, LEASE_NAME))
+          .filter(l -> l.getSpec() != null)
+          .orElse(null);
+    } catch (ApiException e) {
+      if (e.getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private V1Lease createLease(OffsetDateTime now) {
+    return new V1Lease()
+        .metadata(new V1ObjectMeta().namespace(namespace).name(LEASE_NAME)
+            .labels(Map.of(OPERATORNAME_LABEL, namespace)))
+        .spec(new V1LeaseSpec().holderIdentity(identity).leaseDurationSeconds(getLeaseDurationSeconds())
+            .acquireTime(now).renewTime(now).leaseTransitions(0));
+  }
+
+  private boolean isHeldByThisReplica(V1Lease lease) {
+    return identity.equals(lease.getSpec().getHolderIdentity());
+  }
+
+  private boolean isExpired(V1Lease lease, OffsetDateTime now) {
+    final V1LeaseSpec spec = lease.getSpec();
+    return spec.getHolderIdentity() == null
+        || spec.getRenewTime() == null
+        || spec.getRenewTime().plusSeconds(getLeaseDuration(spec) + getClockSkewMarginSeconds()).isBefore(now);
+  }
+
+  private int getLeaseDuration(V1LeaseSpec spec) {
+    return Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(getLeaseDurationSeconds());
+  }
+
+  private static int getLeaseDurationSeconds() {
+    return TuningParameters.getInstance().getOperatorLeaderLeaseDurationSeconds();
+  }
+
+  private static class ActiveReplicaStep extends Step {
+    private final Supplier<Step> writeSteps;
+
+    ActiveReplicaStep(Supplier<Step> writeSteps) {
+      this.writeSteps = writeSteps;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (getInstance().isStandby()) {
+        return doNext(packet);
+      }
+      return doNext(Step.chain(writeSteps.get(), getNext()), packet);
+    }
+  }
+}
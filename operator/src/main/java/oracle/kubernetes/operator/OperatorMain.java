@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -35,7 +35,9 @@ import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.CrdVersionCache;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.EventSink;
 import oracle.kubernetes.operator.helpers.HelmAccess;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -56,6 +58,9 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_ENABLE_REST_ENDPOINT_ENV;
 import static oracle.kubernetes.operator.ProcessingConstants.WEBHOOK;
+import static oracle.kubernetes.operator.StartupTimer.Phase.CRD_CHECK;
+import static oracle.kubernetes.operator.StartupTimer.Phase.NAMESPACE_DISCOVERY;
+import static oracle.kubernetes.operator.StartupTimer.Phase.NAMESPACE_LISTS;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 
 /** A Kubernetes Operator for WebLogic. */
@@ -165,6 +170,8 @@ public class OperatorMain extends BaseMain {
 
   void doMain() {
     try {
+      CrdVersionCache.getInstance().start();
+      EventSink.getInstance().start(mainDelegate);
       startDeployment(this::completeBegin);
 
       // now we just wait until the pod is terminated
@@ -275,6 +282,8 @@ public class OperatorMain extends BaseMain {
       int stuckPodInterval = TuningParameters.getInstance().getStuckPodRecheckSeconds();
       mainDelegate.scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
       mainDelegate.scheduleWithFixedDelay(checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
+      startNamespaceSharding();
+      startLeaderElection();
 
       markReadyAndStartLivenessThread();
 
@@ -293,9 +302,55 @@ public class OperatorMain extends BaseMain {
     }
   }
 
+  // When several operator replicas share the domain namespaces, renew this replica's lease at a third
+  // of the lease duration. Whenever the set of active replicas changes, stop at once the namespaces this replica
+  // no longer owns, and recheck the namespaces; if the lease is lost, stop all of them.
+  private void startNamespaceSharding() {
+    if (NamespaceShardCoordinator.isShardingRequested() && OperatorLeadership.isStandbyEnabled()) {
+      LOGGER.warning(MessageKeys.NAMESPACE_SHARDING_WITH_STANDBY);
+    } else if (NamespaceShardCoordinator.isShardingEnabled()) {
+      final NamespaceShardCoordinator shardCoordinator = getDomainNamespaces().getShardCoordinator();
+      int renewInterval = NamespaceShardCoordinator.getRenewalIntervalSeconds();
+      shardCoordinator.setMembershipListener(() -> {
+        getDomainNamespaces().stopUnownedNamespaces();
+        recheckDomains().run();
+      });
+      shardCoordinator.setLeaseLossListener(getDomainNamespaces()::stopUnownedNamespaces);
+      mainDelegate.scheduleWithFixedDelay(() -> {
+        shardCoordinator.renew();
+        updateReadiness();
+      }, 0, renewInterval, TimeUnit.SECONDS);
+    }
+  }
+
+  // In active/standby mode, the replicas compete for a leadership lease. The replica which acquires it makes right
+  // the domains it has been tracking while it was a standby; one which loses it abandons its processing.
+  private void startLeaderElection() {
+    if (OperatorLeadership.isStandbyEnabled()) {
+      final OperatorLeadership leadership = OperatorLeadership.getInstance();
+      int renewInterval = OperatorLeadership.getRenewalIntervalSeconds();
+      leadership.setTakeoverListener(mainDelegate.getDomainProcessor()::takeOverDomains);
+      leadership.setDemotionListener(mainDelegate.getDomainProcessor()::standDown);
+      mainDelegate.scheduleWithFixedDelay(() -> {
+        leadership.renew();
+        updateReadiness();
+      }, 0, renewInterval, TimeUnit.SECONDS);
+    }
+  }
+
+  // A standby replica, or one which holds no namespace shard lease, must not receive REST requests.
+  @Override
+  boolean isServing() {
+    return !OperatorLeadership.getInstance().isStandby() && getDomainNamespaces().getShardCoordinator().isServing();
+  }
+
   void completeStop() {
+    OperatorLeadership.getInstance().release();
+    getDomainNamespaces().getShardCoordinator().release();
     stopRestServer();
     stopMetricsServer();
+    CrdVersionCache.getInstance().stop();
+    EventSink.getInstance().stop();
   }
 
   NamespaceWatcher getNamespaceWatcher() {
@@ -307,7 +362,11 @@ public class OperatorMain extends BaseMain {
   }
 
   Runnable checkStuckPods() {
-    return () -> getDomainNamespaces().getNamespaces().forEach(stuckPodProcessing::checkStuckPods);
+    return () -> {
+      if (!OperatorLeadership.getInstance().isStandby()) {
+        getDomainNamespaces().getNamespaces().forEach(stuckPodProcessing::checkStuckPods);
+      }
+    };
   }
 
   Step createDomainRecheckSteps() {
@@ -325,9 +384,14 @@ public class OperatorMain extends BaseMain {
 
     final DomainRecheck domainRecheck = new DomainRecheck(mainDelegate, isFullRecheck);
     return Step.chain(
+        domainRecheck.createRecheckStartStep(),
         domainRecheck.createOperatorNamespaceReview(),
+        StartupTimer.startPhase(CRD_CHECK),
         createCRDPresenceCheck(),
-        domainRecheck.createReadNamespacesStep());
+        StartupTimer.changePhase(CRD_CHECK, NAMESPACE_DISCOVERY),
+        domainRecheck.createReadNamespacesStep(),
+        StartupTimer.endPhases(NAMESPACE_DISCOVERY, NAMESPACE_LISTS),
+        domainRecheck.createRecheckEndStep());
   }
 
   // Returns a step that verifies the presence of an installed domain CRD. It does this by attempting to list the
@@ -341,6 +405,9 @@ public class OperatorMain extends BaseMain {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
+      if (CrdVersionCache.getInstance().isUnchanged(KubernetesConstants.DOMAIN_CRD_NAME)) {
+        return doNext(packet);
+      }
       return doNext(
           RequestBuilder.CRD.get(KubernetesConstants.DOMAIN_CRD_NAME, createReadResponseStep(getNext())), packet);
     }
@@ -367,6 +434,7 @@ public class OperatorMain extends BaseMain {
         LOGGER.info(MessageKeys.WAIT_FOR_CRD_INSTALLATION, CRD_DETECTION_DELAY);
         return doDelay(createCRDPresenceCheck(), packet, CRD_DETECTION_DELAY, TimeUnit.SECONDS);
       } else {
+        CrdVersionCache.getInstance().recordVerified(existingCrd);
         return doNext(packet);
       }
     }
@@ -414,7 +482,7 @@ public class OperatorMain extends BaseMain {
   protected BaseRestServer createRestServer() {
     return OperatorRestServer.create(
         new RestConfigImpl(mainDelegate.getPrincipal(), mainDelegate.getDomainNamespaces()::getNamespaces,
-                new Certificates(mainDelegate)));
+                mainDelegate.getDomainProcessor()::getFiberGates, new Certificates(mainDelegate)));
   }
 
   // -----------------------------------------------------------------------------
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -20,6 +20,9 @@ public interface ProcessingConstants {
 
   String SERVERS_TO_ROLL = "roll";
 
+  /** Key to a set of cluster names which, if present, limits the servers started, rolled or stopped to theirs. */
+  String AFFECTED_CLUSTERS = "affectedClusters";
+
   String SCRIPT_CONFIG_MAP = "scriptConfigMap";
   String SERVER_STATE_MAP = "serverStateMap";
   String SERVER_HEALTH_MAP = "serverHealthMap";
@@ -48,6 +51,9 @@ public interface ProcessingConstants {
   /** Key to an object of type MakeRightDomainOperation. */
   String MAKE_RIGHT_DOMAIN_OPERATION = "makeRightOp";
 
+  /** Key to an AtomicInteger which, if present, counts the Kubernetes API calls made by the fiber and its children. */
+  String API_CALL_COUNT = "apiCallCount";
+
   /** Field selectors to filter the events the operator will watch. */
   String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
@@ -0,0 +1,218 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.helpers.PodHelper;
+
+/**
+ * Limits the number of managed servers in each cluster which may be starting at once. A server takes one of its
+ * cluster's permits when it starts, and returns it once the pod watcher reports that the server's pod is ready,
+ * has failed, or is gone. A server which cannot take a permit is not yet started; the make-right which wanted it
+ * waits for a permit of its cluster to be returned, and then tries again. Permits count servers started by earlier
+ * make-rights, which a new make-right could not otherwise tell from servers still being started.
+ */
+public class StartupPermits {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static StartupPermits instance = new StartupPermits();
+
+  private final Map<String, Set<String>> clusters = new HashMap<>();
+  private final Map<String, List<Runnable>> permitWaiters = new HashMap<>();
+
+  public static StartupPermits getInstance() {
+    return instance;
+  }
+
+  /**
+   * Takes a permit for a server to start, unless it already holds one.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param clusterName the name of the server's cluster
+   * @param serverName the name of the server
+   * @param limit the number of servers in the cluster which may be starting at once
+   * @return true if the server holds a permit and may start
+   */
+  public synchronized boolean tryAcquire(String namespace, String domainUid, String clusterName, String serverName,
+                                         int limit) {
+    final String key = getKey(namespace, domainUid, clusterName);
+    final Set<String> holders = clusters.computeIfAbsent(key, k -> new HashSet<>());
+    if (holders.contains(serverName) || holders.size() < limit) {
+      holders.add(serverName);
+      return true;
+    }
+    removeIfEmpty(key);
+    return false;
+  }
+
+  /**
+   * Returns the permit held by a server, if any.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param clusterName the name of the server's cluster
+   * @param serverName the name of the server
+   */
+  public void release(String namespace, String domainUid, String clusterName, String serverName) {
+    final String key = getKey(namespace, domainUid, clusterName);
+    final List<Runnable> waiters;
+    synchronized (this) {
+      Optional.ofNullable(clusters.get(key)).ifPresent(holders -> holders.remove(serverName));
+      removeIfEmpty(key);
+      waiters = takeWaiters(key::equals);
+    }
+    waiters.forEach(Runnable::run);
+  }
+
+  /**
+   * Returns the permits held by any servers in a cluster other than those specified.
+   * Used when a make-right finds that the cluster no longer needs those servers.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param clusterName the name of the cluster
+   * @param serverNames the servers which the cluster still needs to start
+   */
+  public void retainServers(String namespace, String domainUid, String clusterName, Collection<String> serverNames) {
+    final String key = getKey(namespace, domainUid, clusterName);
+    final List<Runnable> waiters;
+    synchronized (this) {
+      Optional.ofNullable(clusters.get(key)).ifPresent(holders -> holders.retainAll(serverNames));
+      removeIfEmpty(key);
+      waiters = takeWaiters(key::equals);
+    }
+    waiters.forEach(Runnable::run);
+  }
+
+  /**
+   * Returns the permits held by the servers of any clusters in a domain other than those specified. Used when a
+   * make-right finds that the domain no longer starts servers in those clusters, as when they are scaled to zero.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param clusterNames the clusters which still have servers to start
+   */
+  public void retainClusters(String namespace, String domainUid, Collection<String> clusterNames) {
+    final String prefix = getDomainPrefix(namespace, domainUid);
+    final Set<String> retained = clusterNames.stream().map(c -> prefix + c).collect(Collectors.toSet());
+    removeClusters(key -> key.startsWith(prefix) && !retained.contains(key));
+  }
+
+  /**
+   * Returns the permits held by the servers of a domain which is no longer present.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public void removeDomain(String namespace, String domainUid) {
+    removeClusters(key -> key.startsWith(getDomainPrefix(namespace, domainUid)));
+  }
+
+  /**
+   * Returns the permits held by the servers of all domains in a namespace which is no longer managed.
+   * @param namespace the namespace
+   */
+  public void removeNamespace(String namespace) {
+    removeClusters(key -> key.startsWith(namespace + '/'));
+  }
+
+  private void removeClusters(Predicate<String> keys) {
+    final List<Runnable> waiters;
+    synchronized (this) {
+      clusters.keySet().removeIf(keys);
+      waiters = takeWaiters(keys);
+    }
+    waiters.forEach(Runnable::run);
+  }
+
+  /**
+   * Runs an action once a server of a cluster may be able to take a permit: at once if the cluster has fewer holders
+   * than its limit, and otherwise once, the next time one of its permits is returned. A make-right whose server
+   * could not take a permit waits in this way to be resumed.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param clusterName the name of the cluster
+   * @param limit the number of servers in the cluster which may be starting at once
+   * @param action the action to run
+   */
+  public void onPermitAvailable(String namespace, String domainUid, String clusterName, int limit, Runnable action) {
+    final String key = getKey(namespace, domainUid, clusterName);
+    synchronized (this) {
+      if (Optional.ofNullable(clusters.get(key)).map(Set::size).orElse(0) >= limit) {
+        permitWaiters.computeIfAbsent(key, k -> new ArrayList<>()).add(action);
+        return;
+      }
+    }
+    action.run();
+  }
+
+  // Takes the actions waiting for permits of the specified clusters, to be run once the lock is released.
+  private List<Runnable> takeWaiters(Predicate<String> keys) {
+    final List<Runnable> waiters = new ArrayList<>();
+    permitWaiters.entrySet().removeIf(entry -> keys.test(entry.getKey()) && waiters.addAll(entry.getValue()));
+    return waiters;
+  }
+
+  /**
+   * Returns the permit held by the server whose pod has changed, if the pod shows that the server has finished
+   * starting.
+   * @param pod a server pod reported by a watch event
+   */
+  public void podChanged(V1Pod pod) {
+    if (PodHelper.isReady(pod) || PodHelper.isFailed(pod) || PodHelper.isDeleting(pod)) {
+      podDeleted(pod);
+    }
+  }
+
+  /**
+   * Returns the permit held by the server whose pod has been deleted.
+   * @param pod a server pod reported by a watch event
+   */
+  public void podDeleted(V1Pod pod) {
+    final Map<String, String> labels = Optional.ofNullable(pod).map(V1Pod::getMetadata)
+          .map(V1ObjectMeta::getLabels).orElse(Map.of());
+    final String clusterName = labels.get(LabelConstants.CLUSTERNAME_LABEL);
+    final String serverName = labels.get(LabelConstants.SERVERNAME_LABEL);
+    if (clusterName != null && serverName != null) {
+      release(pod.getMetadata().getNamespace(), labels.get(LabelConstants.DOMAINUID_LABEL), clusterName, serverName);
+    }
+  }
+
+  /**
+   * Returns the number of servers in a cluster which hold permits.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param clusterName the name of the cluster
+   */
+  synchronized int getNumHeld(String namespace, String domainUid, String clusterName) {
+    return Optional.ofNullable(clusters.get(getKey(namespace, domainUid, clusterName))).map(Set::size).orElse(0);
+  }
+
+  /**
+   * Returns the number of clusters, across all domains, in which servers hold permits.
+   */
+  synchronized int getNumClusters() {
+    return clusters.size();
+  }
+
+  private void removeIfEmpty(String key) {
+    Optional.ofNullable(clusters.get(key)).filter(Set::isEmpty).ifPresent(holders -> clusters.remove(key));
+  }
+
+  private static String getKey(String namespace, String domainUid, String clusterName) {
+    return getDomainPrefix(namespace, domainUid) + clusterName;
+  }
+
+  private static String getDomainPrefix(String namespace, String domainUid) {
+    return namespace + '/' + domainUid + '/';
+  }
+}
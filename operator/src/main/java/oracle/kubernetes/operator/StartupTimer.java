@@ -0,0 +1,177 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Records how long each phase of the operator startup takes. Each phase is timed only the first time it runs;
+ * the periodic domain rechecks repeat the same steps without affecting the startup figures. Once the startup is
+ * complete, the phase durations are published as metrics and logged in a single summary line.
+ */
+public class StartupTimer {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  public enum Phase {
+    CRD_CHECK("crdCheck"),
+    NAMESPACE_DISCOVERY("namespaceDiscovery"),
+    NAMESPACE_LISTS("namespaceLists"),
+    FIRST_MAKE_RIGHT("firstMakeRight");
+
+    private final String label;
+
+    Phase(String label) {
+      this.label = label;
+    }
+
+    String getLabel() {
+      return label;
+    }
+  }
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static StartupTimer instance = new StartupTimer();
+
+  private final Map<Phase, OffsetDateTime> startTimes = new ConcurrentHashMap<>();
+  private final Map<Phase, Duration> durations = new ConcurrentHashMap<>();
+  private final AtomicBoolean makeRightStarted = new AtomicBoolean();
+  private final AtomicBoolean reported = new AtomicBoolean();
+
+  public static StartupTimer getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns a step which starts timing the specified phase.
+   * @param phase the phase which is starting
+   */
+  static Step startPhase(Phase phase) {
+    return new PhaseStep(phase);
+  }
+
+  /**
+   * Returns a step which completes the timing of the specified phases. A phase which did not start is recorded
+   * as having taken no time.
+   * @param phases the phases which are complete
+   */
+  static Step endPhases(Phase... phases) {
+    return new PhaseStep(null, phases);
+  }
+
+  /**
+   * Returns a step which completes the timing of one phase and starts timing the next.
+   * @param ending the phase which is complete
+   * @param starting the phase which is starting
+   */
+  static Step changePhase(Phase ending, Phase starting) {
+    return new PhaseStep(starting, ending);
+  }
+
+  void start(Phase phase) {
+    if (!durations.containsKey(phase)) {
+      startTimes.putIfAbsent(phase, SystemClock.now());
+    }
+  }
+
+  void end(Phase phase) {
+    final OffsetDateTime now = SystemClock.now();
+    final OffsetDateTime startTime = Optional.ofNullable(startTimes.putIfAbsent(phase, now)).orElse(now);
+    final Duration duration = Duration.between(startTime, now);
+    if (durations.putIfAbsent(phase, duration) == null) {
+      OperatorMetrics.STARTUP_PHASE_DURATION.labels(phase.getLabel()).set(duration.toMillis() / 1000.0);
+      reportIfComplete();
+    }
+  }
+
+  /**
+   * Records the start of a domain make-right.
+   */
+  public void makeRightStarted() {
+    if (!makeRightStarted.getAndSet(true)) {
+      start(Phase.FIRST_MAKE_RIGHT);
+    }
+  }
+
+  /**
+   * Records the completion of a domain make-right.
+   */
+  public void makeRightCompleted() {
+    if (makeRightStarted.get()) {
+      end(Phase.FIRST_MAKE_RIGHT);
+    }
+  }
+
+  /**
+   * Returns the recorded duration of the specified phase, or null if it has not completed.
+   * @param phase a startup phase
+   */
+  Duration getDuration(Phase phase) {
+    return durations.get(phase);
+  }
+
+  // The startup is complete when the domain namespaces have been listed, and the first make-right they started, if any,
+  // has finished. Any make-right is started while processing the lists, so it is known by the time they complete.
+  private void reportIfComplete() {
+    if (isComplete() && !reported.getAndSet(true)) {
+      LOGGER.info(MessageKeys.OPERATOR_STARTUP_TIMES, getTotalMillis(), getSummary());
+    }
+  }
+
+  private boolean isComplete() {
+    return durations.containsKey(Phase.NAMESPACE_LISTS)
+        && (durations.containsKey(Phase.FIRST_MAKE_RIGHT) || !makeRightStarted.get());
+  }
+
+  // the first make-right overlaps the namespace lists, so the total runs from the earliest start to the latest end
+  private long getTotalMillis() {
+    final OffsetDateTime first = durations.keySet().stream().map(startTimes::get).min(OffsetDateTime::compareTo)
+        .orElse(null);
+    return durations.keySet().stream()
+        .map(p -> startTimes.get(p).plus(durations.get(p)))
+        .max(OffsetDateTime::compareTo)
+        .map(last -> Duration.between(first, last).toMillis())
+        .orElse(0L);
+  }
+
+  private String getSummary() {
+    return Arrays.stream(Phase.values())
+        .filter(durations::containsKey)
+        .map(p -> p.getLabel() + "=" + durations.get(p).toMillis() + "ms")
+        .collect(Collectors.joining(", "));
+  }
+
+  private static class PhaseStep extends Step {
+    private final Phase starting;
+    private final Phase[] ending;
+
+    PhaseStep(Phase starting, Phase... ending) {
+      this.starting = starting;
+      this.ending = ending;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      Arrays.stream(ending).forEach(getInstance()::end);
+      Optional.ofNullable(starting).ifPresent(getInstance()::start);
+      return doNext(packet);
+    }
+  }
+}
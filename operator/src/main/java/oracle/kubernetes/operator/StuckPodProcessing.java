@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -34,6 +34,8 @@ import static oracle.kubernetes.common.logging.MessageKeys.POD_FORCE_DELETED;
 /**
  * Under certain circumstances, when a Kubernetes node goes down, it may mark its pods as terminating, but never
  * actually remove them. This code detects such cases, deletes the pods and triggers the necessary make-right flows.
+ * Server pods are normally handled as soon as they become stuck by the {@link StuckPodTracker}, driven by pod watch
+ * events; the periodic list of all operator-created pods made here is a safety net for any which it missed.
  */
 public class StuckPodProcessing {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -45,12 +47,46 @@ public class StuckPodProcessing {
   }
 
   void checkStuckPods(String namespace) {
-    Step step = RequestBuilder.POD.list(namespace,
+    Step step = RequestBuilder.POD.listMetadata(namespace,
         new ListOptions().labelSelector(LabelConstants.getCreatedByOperatorSelector()),
         new PodListProcessing(namespace, SystemClock.now()));
     mainDelegate.runSteps(BaseMain.createPacketWithLoggingContext(namespace), step, null);
   }
 
+  /**
+   * Returns the time by which Kubernetes should have removed a pod that is being deleted.
+   * @param pod a pod being deleted
+   */
+  static OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
+
+  private static long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private static OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+  }
+
+  /**
+   * Creates a step to delete a pod at once, without waiting for its containers to stop.
+   * @param pod the pod to delete
+   */
+  static Step createForcedDeletePodStep(V1Pod pod) {
+    return RequestBuilder.POD.delete(getNamespace(pod), getName(pod),
+        (DeleteOptions) new DeleteOptions().gracePeriodSeconds(0L),
+        new ForcedDeleteResponseStep(getName(pod), getNamespace(pod), PodHelper.getPodDomainUid(pod)));
+  }
+
+  private static String getName(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getName();
+  }
+
+  private static String getNamespace(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getNamespace();
+  }
+
   @SuppressWarnings("unchecked")
   private List<V1Pod> getStuckPodList(Packet packet) {
     return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
@@ -78,18 +114,6 @@ public class StuckPodProcessing {
       return getExpectedDeleteTime(pod).isBefore(now);
     }
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
-    }
-
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
-    }
-
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
-    }
-
     private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
       getStuckPodList(packet).add(stuckPod);
     }
@@ -123,24 +147,6 @@ public class StuckPodProcessing {
       return mainDelegate.getDomainNamespaces().readExistingResources(
           namespace, mainDelegate.getDomainProcessor());
     }
-
-    private Step createForcedDeletePodStep(V1Pod pod) {
-      return RequestBuilder.POD.delete(getNamespace(pod), getName(pod),
-          (DeleteOptions) new DeleteOptions().gracePeriodSeconds(0L),
-          new ForcedDeleteResponseStep(getName(pod), getNamespace(pod), getDomainUid(pod)));
-    }
-
-    private String getName(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getName();
-    }
-
-    private String getNamespace(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getNamespace();
-    }
-
-    private String getDomainUid(V1Pod pod) {
-      return PodHelper.getPodDomainUid(pod);
-    }
   }
 
   static class ForcedDeleteResponseStep extends DefaultResponseStep<V1Pod> {
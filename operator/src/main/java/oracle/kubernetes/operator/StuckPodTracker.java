@@ -0,0 +1,138 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Detects server pods which are stuck terminating, using the pod watch events rather than periodic lists of all pods.
+ * When an event shows that a pod is being deleted, a check is scheduled for the time by which Kubernetes should have
+ * removed it: its deletion timestamp plus its grace period. An event reporting that the pod is gone cancels the
+ * check; if the check runs and the current domain presence info still holds the same pod, the pod is deleted by
+ * force. The checks for a namespace are cancelled when the operator stops managing it, including when another
+ * replica takes over its shard. A standby replica tracks pods but does not delete them; after a takeover, the
+ * periodic stuck pod check handles any pods whose checks ran while this replica was a standby.
+ */
+public class StuckPodTracker {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static StuckPodTracker instance = new StuckPodTracker();
+
+  private final Map<String, TrackedPod> tracked = new HashMap<>();
+
+  public static StuckPodTracker getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records a change to a server pod. If the pod is being deleted, and is not already tracked, schedules a check
+   * for the time by which it should be gone.
+   * @param delegate the delegate used to schedule the check and to delete the pod, unless this replica is a standby
+   * @param infoLookup a function which returns the current presence info for a namespace and domain UID
+   * @param serverName the name of the server which runs in the pod
+   * @param pod the pod, as reported by a watch event
+   */
+  public void podChanged(DomainProcessorDelegate delegate, BiFunction<String, String, DomainPresenceInfo> infoLookup,
+                         String serverName, V1Pod pod) {
+    if (pod == null || !PodHelper.isDeleting(pod)) {
+      return;
+    }
+
+    synchronized (this) {
+      final String key = getKey(pod);
+      if (!tracked.containsKey(key)) {
+        final TrackedPod trackedPod = new TrackedPod(pod, serverName);
+        tracked.put(key, trackedPod);
+        trackedPod.scheduled = delegate.schedule(() -> check(delegate, infoLookup, key, trackedPod),
+            getMillisUntilExpectedDeletion(pod), TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Records that a server pod has been removed, cancelling any check scheduled for it.
+   * @param pod the pod, as reported by a watch event
+   */
+  public void podDeleted(V1Pod pod) {
+    final TrackedPod trackedPod;
+    synchronized (this) {
+      trackedPod = tracked.remove(getKey(pod));
+    }
+    Optional.ofNullable(trackedPod).map(t -> t.scheduled).ifPresent(Cancellable::cancel);
+  }
+
+  /**
+   * Cancels the checks scheduled for pods in a namespace which the operator no longer manages.
+   * @param namespace the namespace
+   */
+  public void removeNamespace(String namespace) {
+    final List<TrackedPod> removed = new ArrayList<>();
+    synchronized (this) {
+      tracked.values().stream().filter(t -> namespace.equals(t.namespace)).forEach(removed::add);
+      tracked.values().removeAll(removed);
+    }
+    removed.stream().map(t -> t.scheduled).filter(Objects::nonNull).forEach(Cancellable::cancel);
+  }
+
+  /**
+   * Returns the number of pods for which checks are scheduled.
+   */
+  synchronized int getNumTracked() {
+    return tracked.size();
+  }
+
+  private void check(DomainProcessorDelegate delegate, BiFunction<String, String, DomainPresenceInfo> infoLookup,
+                     String key, TrackedPod trackedPod) {
+    synchronized (this) {
+      if (!tracked.remove(key, trackedPod) || delegate.isStandby()) {
+        return;
+      }
+    }
+
+    Optional.ofNullable(infoLookup.apply(trackedPod.namespace, trackedPod.domainUid))
+        .map(info -> info.getServerPod(trackedPod.serverName))
+        .filter(pod -> key.equals(getKey(pod)))
+        .filter(PodHelper::isDeleting)
+        .ifPresent(pod -> delegate.runSteps(BaseMain.createPacketWithLoggingContext(trackedPod.namespace),
+            StuckPodProcessing.createForcedDeletePodStep(pod), null));
+  }
+
+  private static long getMillisUntilExpectedDeletion(V1Pod pod) {
+    return Math.max(0, Duration.between(SystemClock.now(), StuckPodProcessing.getExpectedDeleteTime(pod)).toMillis());
+  }
+
+  // A pod recreated with the same name is a different pod, so the key includes its UID.
+  private static String getKey(V1Pod pod) {
+    final V1ObjectMeta metadata = Objects.requireNonNull(pod.getMetadata());
+    return metadata.getNamespace() + '/' + metadata.getName() + '/' + metadata.getUid();
+  }
+
+  private static class TrackedPod {
+    private final String namespace;
+    private final String domainUid;
+    private final String serverName;
+    private Cancellable scheduled;
+
+    TrackedPod(V1Pod pod, String serverName) {
+      this.namespace = Objects.requireNonNull(pod.getMetadata()).getNamespace();
+      this.domainUid = PodHelper.getPodDomainUid(pod);
+      this.serverName = serverName;
+    }
+  }
+}
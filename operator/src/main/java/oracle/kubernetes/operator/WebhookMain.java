@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -20,6 +20,7 @@ import io.kubernetes.client.util.generic.options.GetOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.helpers.CrdVersionCache;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.WebhookHelper;
 import oracle.kubernetes.operator.http.rest.BaseRestServer;
@@ -30,6 +31,7 @@ import oracle.kubernetes.operator.steps.InitializeWebhookIdentityStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.webhooks.WebhookRestServer;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionResourceCache;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
@@ -87,6 +89,7 @@ public class WebhookMain extends BaseMain {
     WebhookMain main = createMain(getBuildProperties());
 
     try {
+      CrdVersionCache.getInstance().start();
       main.startDeployment(main::completeBegin);
 
       // now we just wait until the pod is terminated
@@ -134,6 +137,7 @@ public class WebhookMain extends BaseMain {
   void completeBegin() {
     try {
       startMetricsServer();
+      AdmissionResourceCache.getInstance().start();
       startRestServer();
 
       // start periodic recheck of CRD
@@ -153,6 +157,8 @@ public class WebhookMain extends BaseMain {
 
   void completeStop() {
     stopRestServer();
+    AdmissionResourceCache.getInstance().stop();
+    CrdVersionCache.getInstance().stop();
     stopMetricsServer();
   }
 
@@ -180,7 +186,12 @@ public class WebhookMain extends BaseMain {
     }
   }
 
+  // Uses the resource version reported by the CRD watch, if any, and otherwise reads the CRD metadata.
   private String getCrdResourceVersion(String crdName) throws ApiException {
+    final String watchedVersion = CrdVersionCache.getInstance().getResourceVersion(crdName);
+    if (watchedVersion != null) {
+      return watchedVersion;
+    }
     return Optional.ofNullable(RequestBuilder.CRD.get(crdName, new GetOptions().isPartialObjectMetadataRequest(true)))
         .map(V1CustomResourceDefinition::getMetadata).map(V1ObjectMeta::getResourceVersion).orElse(null);
   }
@@ -0,0 +1,238 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Records the calls which the operator makes to the Kubernetes API and the watch events which it receives, so that
+ * they may later be replayed in a test. Each is appended to a local file as one line of JSON, with its time relative
+ * to the first record. The data of secrets is never recorded, nor are the encrypted ".secure" entries of config maps,
+ * such as the domain archives in the introspector config map, nor the text of pod logs, which may include them.
+ *
+ * <p>Recording is disabled unless the callRecordingFile tuning parameter names the file.
+ */
+public class CallRecorder {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // replaces each redacted value; base64-encoded, so that a recorded secret may still be read as a V1Secret
+  static final String REDACTED = Base64.getEncoder().encodeToString("redacted".getBytes(StandardCharsets.UTF_8));
+  static final String SECRETS = "secrets";
+  static final String CONFIG_MAPS = "configmaps";
+
+  // the suffix of the config map entries which hold encrypted domain data; such an entry may be split into ranges
+  private static final String SECURE_SUFFIX = ".secure";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static CallRecorder instance = new CallRecorder();
+
+  private Path file;
+  private OffsetDateTime startTime;
+
+  public static CallRecorder getInstance() {
+    return instance;
+  }
+
+  @Nullable
+  private Path getFile() {
+    final String recordingFile = Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getCallRecordingFile).orElse(null);
+    if (recordingFile == null) {
+      file = null;
+    } else if (file == null || !file.equals(Path.of(recordingFile))) {
+      file = Path.of(recordingFile);
+      startTime = null;
+    }
+    return file;
+  }
+
+  /**
+   * Records a call made by a request step, and its response.
+   * @param step the step which made the call
+   * @param response the response to the call
+   */
+  void recordCall(RequestStep<?, ?, ?> step, KubernetesApiResponse<?> response) {
+    if (getFile() != null) {
+      final Record callRecord = new Record(Record.CALL);
+      callRecord.resource = step.getResourcePlural();
+      callRecord.operation = step.getOperationName();
+      callRecord.namespace = step.getNamespace();
+      callRecord.name = step.getName();
+      callRecord.setRequest(step.getRequestBody());
+      callRecord.statusCode = response.getHttpStatusCode();
+      callRecord.setObject(Optional.<Object>ofNullable(response.getObject()).orElse(response.getStatus()));
+      write(callRecord);
+    }
+  }
+
+  /**
+   * Records an event received by a watcher.
+   * @param namespace the namespace watched, or null for a watch of cluster resources
+   * @param event the watch event
+   */
+  public void recordWatchEvent(String namespace, Watch.Response<?> event) {
+    if (getFile() != null) {
+      final Record watchRecord = new Record(Record.WATCH);
+      watchRecord.operation = event.type;
+      watchRecord.namespace = namespace;
+      watchRecord.setObject(event.object);
+      write(watchRecord);
+    }
+  }
+
+  private synchronized void write(Record callRecord) {
+    final OffsetDateTime now = SystemClock.now();
+    if (startTime == null) {
+      startTime = now;
+    }
+    callRecord.offsetMillis = Duration.between(startTime, now).toMillis();
+    try {
+      Files.writeString(file, getGson().toJson(callRecord) + System.lineSeparator(), StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      LOGGER.fine("unable to record call to " + file, e);
+    }
+  }
+
+  static Gson getGson() {
+    return LoggingFactory.getJson().getGson();
+  }
+
+  /**
+   * A call or watch event, as recorded. The object of a call is its response, or the status of a failed call.
+   */
+  static class Record {
+    static final String CALL = "call";
+    static final String WATCH = "watch";
+
+    String kind;
+    long offsetMillis;
+    String resource;
+    String operation;
+    String namespace;
+    String name;
+    String requestType;
+    JsonElement request;
+    Integer statusCode;
+    String objectType;
+    JsonElement object;
+
+    Record(String kind) {
+      this.kind = kind;
+    }
+
+    boolean isCall() {
+      return CALL.equals(kind);
+    }
+
+    boolean isWatch() {
+      return WATCH.equals(kind);
+    }
+
+    private boolean isSecretCall() {
+      return isCall() && SECRETS.equals(resource);
+    }
+
+    private boolean isConfigMapCall() {
+      return isCall() && CONFIG_MAPS.equals(resource);
+    }
+
+    void setRequest(@Nullable Object body) {
+      if (body instanceof V1Patch patch) {
+        requestType = V1Patch.class.getName();
+        request = new JsonPrimitive(mustRedact(patch) ? REDACTED : patch.getValue());
+      } else if (body != null) {
+        requestType = body.getClass().getName();
+        request = redact(body, getGson().toJsonTree(body));
+      }
+    }
+
+    void setObject(@Nullable Object value) {
+      if (value != null) {
+        objectType = value.getClass().getName();
+        object = redact(value, getGson().toJsonTree(value));
+      }
+    }
+
+    private boolean mustRedact(V1Patch patch) {
+      return isSecretCall() || (isConfigMapCall() && patch.getValue().contains(SECURE_SUFFIX));
+    }
+
+    private JsonElement redact(Object value, JsonElement tree) {
+      if (value instanceof V1SecretList) {
+        getItems(tree).forEach(this::redactSecret);
+      } else if (value instanceof V1Secret || isSecretCall()) {
+        redactSecret(tree);
+      } else if (value instanceof V1ConfigMapList) {
+        getItems(tree).forEach(this::redactConfigMap);
+      } else if (value instanceof V1ConfigMap || isConfigMapCall()) {
+        redactConfigMap(tree);
+      } else if (value instanceof RequestBuilder.StringObject) {
+        tree.getAsJsonObject().addProperty("value", REDACTED);
+      }
+      return tree;
+    }
+
+    private JsonArray getItems(JsonElement list) {
+      return Optional.ofNullable(list.getAsJsonObject().getAsJsonArray("items")).orElseGet(JsonArray::new);
+    }
+
+    private void redactConfigMap(JsonElement configMap) {
+      if (configMap.isJsonObject()) {
+        redactSecureValues(configMap.getAsJsonObject(), "data");
+        redactSecureValues(configMap.getAsJsonObject(), "binaryData");
+      }
+    }
+
+    private void redactSecureValues(JsonObject configMap, String field) {
+      Optional.ofNullable(configMap.get(field)).filter(JsonElement::isJsonObject).map(JsonElement::getAsJsonObject)
+          .ifPresent(values -> List.copyOf(values.keySet()).stream().filter(this::isSecureKey)
+              .forEach(key -> values.addProperty(key, REDACTED)));
+    }
+
+    private boolean isSecureKey(String key) {
+      return key.endsWith(SECURE_SUFFIX) || key.contains(SECURE_SUFFIX + ".");
+    }
+
+    private void redactSecret(JsonElement secret) {
+      if (secret.isJsonObject()) {
+        redactValues(secret.getAsJsonObject(), "data");
+        redactValues(secret.getAsJsonObject(), "stringData");
+      }
+    }
+
+    private void redactValues(JsonObject secret, String field) {
+      Optional.ofNullable(secret.get(field)).filter(JsonElement::isJsonObject).map(JsonElement::getAsJsonObject)
+          .ifPresent(values -> List.copyOf(values.keySet()).forEach(key -> values.addProperty(key, REDACTED)));
+    }
+  }
+}
@@ -1,12 +1,16 @@
-// Copyright (c) 2024, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2024, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import com.google.gson.stream.JsonReader;
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.custom.V1Patch;
@@ -21,6 +25,9 @@ import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.DeleteOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 
 public interface KubernetesApiFactory {
   default <A extends KubernetesObject, L extends KubernetesListObject>
@@ -33,6 +40,8 @@ public interface KubernetesApiFactory {
 
   class KubernetesApiImpl<A extends KubernetesObject, L extends KubernetesListObject>
       extends GenericKubernetesApi<A, L> implements KubernetesApi<A, L> {
+    private final ApiClient apiClient;
+    private final ListCallBuilder listCallBuilder;
     private final Class<A> apiTypeClass;
     private final Class<L> apiListTypeClass;
     private final String apiGroup;
@@ -51,8 +60,15 @@ public interface KubernetesApiFactory {
     public KubernetesApiImpl(Class<A> apiTypeClass, Class<L> apiListTypeClass,
                              String apiGroup, String apiVersion, String resourcePlural,
                              UnaryOperator<ApiClient> clientSelector) {
-      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+      this(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
               clientSelector.apply(Client.getInstance()));
+    }
+
+    KubernetesApiImpl(Class<A> apiTypeClass, Class<L> apiListTypeClass,
+                      String apiGroup, String apiVersion, String resourcePlural, ApiClient apiClient) {
+      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, apiClient);
+      this.apiClient = apiClient;
+      this.listCallBuilder = new ListCallBuilder(apiClient, apiGroup, apiVersion, resourcePlural);
       this.apiTypeClass = apiTypeClass;
       this.apiListTypeClass = apiListTypeClass;
       this.apiGroup = apiGroup;
@@ -60,6 +76,46 @@ public interface KubernetesApiFactory {
       this.resourcePlural = resourcePlural;
     }
 
+    @Override
+    public KubernetesApiResponse<L> list(ListOptions listOptions) {
+      return isStreamingListDecodingEnabled() ? streamList(null, listOptions) : super.list(listOptions);
+    }
+
+    @Override
+    public KubernetesApiResponse<L> list(String namespace, ListOptions listOptions) {
+      return isStreamingListDecodingEnabled() ? streamList(namespace, listOptions) : super.list(namespace, listOptions);
+    }
+
+    private static boolean isStreamingListDecodingEnabled() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::isStreamingListDecodingEnabled)
+          .orElse(false);
+    }
+
+    // The generic API reads each list response into a string, parses that into a JSON tree, and only then
+    // converts the tree into the list type. Large lists (pods, events) thus exist three times over in the heap.
+    // This variant decodes the list directly from the response stream.
+    KubernetesApiResponse<L> streamList(String namespace, ListOptions listOptions) {
+      try (Response response = listCallBuilder.createListCall(namespace, listOptions).execute()) {
+        ResponseBody body = response.body();
+        if (!response.isSuccessful()) {
+          throw new ApiException(response.code(), response.headers().toMultimap(),
+              body == null ? null : body.string());
+        }
+        return new KubernetesApiResponse<>(decodeList(body));
+      } catch (ApiException e) {
+        return RequestStep.responseFromApiException(apiClient, e);
+      } catch (IOException e) {
+        return RequestStep.responseFromApiException(apiClient, new ApiException(e));
+      }
+    }
+
+    private L decodeList(ResponseBody body) throws IOException {
+      try (Reader reader = body.charStream()) {
+        return apiClient.getJSON().getGson().fromJson(new JsonReader(reader), apiListTypeClass);
+      }
+    }
+
     @Override
     public KubernetesApiResponse<A> updateStatus(
         A object, Function<A, Object> status, final UpdateOptions updateOptions) {
@@ -0,0 +1,107 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.Pair;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import okhttp3.Call;
+
+/**
+ * Builds the HTTP calls which list or watch one kind of resource, for the cases which the generic API does not
+ * support: lists decoded directly from the response stream, and watches which return only object metadata.
+ */
+class ListCallBuilder {
+  static final String JSON_ACCEPT = "application/json";
+  static final String PARTIAL_METADATA_LIST_ACCEPT
+      = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+  static final String PARTIAL_METADATA_ACCEPT
+      = "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json";
+
+  private final ApiClient apiClient;
+  private final String apiGroup;
+  private final String apiVersion;
+  private final String resourcePlural;
+
+  ListCallBuilder(ApiClient apiClient, String apiGroup, String apiVersion, String resourcePlural) {
+    this.apiClient = apiClient;
+    this.apiGroup = apiGroup;
+    this.apiVersion = apiVersion;
+    this.resourcePlural = resourcePlural;
+  }
+
+  /**
+   * Returns true if the specified options request only the metadata of the listed or watched resources.
+   * @param listOptions the options for a list or watch
+   */
+  static boolean isMetadataOnly(ListOptions listOptions) {
+    return listOptions != null && Boolean.TRUE.equals(listOptions.isPartialObjectMetadataListRequest());
+  }
+
+  /**
+   * Creates a call to list the resources.
+   * @param namespace the namespace to list, or null to list the resources in all namespaces
+   * @param listOptions the list options
+   * @return the call
+   * @throws ApiException if the call cannot be built
+   */
+  Call createListCall(String namespace, ListOptions listOptions) throws ApiException {
+    return createCall(namespace, listOptions, false,
+        isMetadataOnly(listOptions) ? PARTIAL_METADATA_LIST_ACCEPT : JSON_ACCEPT);
+  }
+
+  /**
+   * Creates a call to watch the resources. Each event of the watch holds a single resource, so metadata-only
+   * watches request partial object metadata, rather than a partial metadata list.
+   * @param namespace the namespace to watch, or null to watch the resources in all namespaces
+   * @param listOptions the list options
+   * @return the call
+   * @throws ApiException if the call cannot be built
+   */
+  Call createWatchCall(String namespace, ListOptions listOptions) throws ApiException {
+    return createCall(namespace, listOptions, true,
+        isMetadataOnly(listOptions) ? PARTIAL_METADATA_ACCEPT : JSON_ACCEPT);
+  }
+
+  private Call createCall(String namespace, ListOptions listOptions, boolean watch, String accept)
+      throws ApiException {
+    List<Pair> queryParams = new ArrayList<>();
+    addQueryParam(queryParams, "labelSelector", listOptions.getLabelSelector());
+    addQueryParam(queryParams, "fieldSelector", listOptions.getFieldSelector());
+    addQueryParam(queryParams, "resourceVersion", listOptions.getResourceVersion());
+    addQueryParam(queryParams, "limit", listOptions.getLimit());
+    addQueryParam(queryParams, "continue", listOptions.getContinue());
+    addQueryParam(queryParams, "timeoutSeconds", listOptions.getTimeoutSeconds());
+    if (watch) {
+      addQueryParam(queryParams, "watch", true);
+    }
+
+    Map<String, String> headerParams = new HashMap<>();
+    headerParams.put("Accept", accept);
+
+    return apiClient.buildCall(getPath(namespace), "GET", queryParams, new ArrayList<>(), null,
+        headerParams, new HashMap<>(), new HashMap<>(), new String[] {"BearerToken"}, null);
+  }
+
+  private void addQueryParam(List<Pair> queryParams, String name, Object value) {
+    if (value != null) {
+      queryParams.addAll(apiClient.parameterToPair(name, value));
+    }
+  }
+
+  private String getPath(String namespace) {
+    StringBuilder path = new StringBuilder(apiGroup.isEmpty() ? "/api/" + apiVersion
+        : "/apis/" + apiGroup + "/" + apiVersion);
+    if (namespace != null) {
+      path.append("/namespaces/").append(apiClient.escapeString(namespace));
+    }
+    return path.append("/").append(resourcePlural).toString();
+  }
+}
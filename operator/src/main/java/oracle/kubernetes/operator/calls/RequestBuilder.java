@@ -1,4 +1,4 @@
-// Copyright (c) 2024, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2024, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
@@ -23,6 +23,8 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -140,6 +142,8 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
   public static final RequestBuilder<V1PodDisruptionBudget, V1PodDisruptionBudgetList> PDB =
       new RequestBuilder<>(V1PodDisruptionBudget.class, V1PodDisruptionBudgetList.class,
           "policy", "v1", "poddisruptionbudgets", "poddisruptionbudget");
+  public static final RequestBuilder<V1Lease, V1LeaseList> LEASE =
+      new RequestBuilder<>(V1Lease.class, V1LeaseList.class, "coordination.k8s.io", "v1", "leases", "lease");
   public static final RequestBuilder<V1TokenReview, KubernetesListObject> TR =
       new RequestBuilder<>(V1TokenReview.class, KubernetesListObject.class,
           "authentication.k8s.io", "v1", "tokenreviews", "tokenreview");
@@ -722,6 +726,20 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
     return response.get();
   }
 
+  /**
+   * List the metadata of resources. Each item of the returned list holds only its metadata, including its labels,
+   * annotations and resource version, which avoids transferring and decoding complete objects when only
+   * the metadata is needed.
+   * @param namespace Namespace
+   * @param listOptions List options
+   * @param responseStep Response step
+   * @return Request step
+   */
+  public RequestStep<A, L, L> listMetadata(
+      String namespace, ListOptions listOptions, ResponseStep<L> responseStep) {
+    return list(namespace, listOptions.isPartialObjectMetadataListRequest(true), responseStep);
+  }
+
   /**
    * Update resource.
    * @param object Resource
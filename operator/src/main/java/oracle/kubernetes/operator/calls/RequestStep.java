@@ -1,10 +1,11 @@
-// Copyright (c) 2024, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2024, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -30,10 +31,14 @@ import io.kubernetes.client.util.generic.options.GetOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
+import oracle.kubernetes.operator.tracing.Span;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import org.jetbrains.annotations.NotNull;
 
+import static oracle.kubernetes.operator.ProcessingConstants.API_CALL_COUNT;
+
 /**
  * A Step driven by a call to the Kubernetes API.
  */
@@ -112,7 +117,19 @@ public abstract class RequestStep<
     KubernetesApi<A, L> client
             = RequestBuilder.createKubernetesApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
             resourcePlural, clientSelector);
-    KubernetesApiResponse<R> result = execute(client, packet);
+    final Span span = startSpan(packet);
+    KubernetesApiResponse<R> result;
+    try {
+      result = execute(client, packet);
+      recordResult(span, result);
+      Optional.ofNullable(result).ifPresent(r -> CallRecorder.getInstance().recordCall(this, r));
+    } catch (RuntimeException e) {
+      span.recordError(e.toString());
+      throw e;
+    } finally {
+      span.end();
+    }
+    Optional.ofNullable((AtomicInteger) packet.get(API_CALL_COUNT)).ifPresent(AtomicInteger::incrementAndGet);
 
     // update packet
     packet.put(RESPONSE_COMPONENT_NAME, result);
@@ -120,10 +137,32 @@ public abstract class RequestStep<
     return doNext(packet);
   }
 
+  private Span startSpan(Packet packet) {
+    return Tracer.getInstance().startClientSpan(packet, operationName + " " + resourcePlural)
+        .setAttribute("k8s.resource", resourcePlural)
+        .setAttribute("k8s.operation", operationName)
+        .setAttribute("k8s.namespace", getNamespace())
+        .setAttribute("k8s.name", getName());
+  }
+
+  private void recordResult(Span span, KubernetesApiResponse<R> result) {
+    if (result == null) {
+      return;
+    }
+    span.setAttribute("http.response.status_code", result.getHttpStatusCode());
+    if (!result.isSuccess()) {
+      span.recordError(Optional.ofNullable(result.getStatus()).map(V1Status::getMessage).orElse(null));
+    }
+  }
+
   String getResourceSingular() {
     return resourceSingular;
   }
 
+  String getResourcePlural() {
+    return resourcePlural;
+  }
+
   String getOperationName() {
     return operationName;
   }
@@ -136,6 +175,11 @@ public abstract class RequestStep<
     return null;
   }
 
+  // Returns the object or patch sent with the request, if any.
+  Object getRequestBody() {
+    return null;
+  }
+
   public static class ClusterGetRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
       extends RequestStep<A, L, A> {
     private final String name;
@@ -228,6 +272,11 @@ public abstract class RequestStep<
       return name;
     }
 
+    @Override
+    String getNamespace() {
+      return namespace;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.get(namespace, name, getOptions);
     }
@@ -281,6 +330,11 @@ public abstract class RequestStep<
               .map(KubernetesObject::getMetadata).map(V1ObjectMeta::getNamespace).orElse(super.getNamespace());
     }
 
+    @Override
+    Object getRequestBody() {
+      return object;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.update(object, updateOptions);
     }
@@ -336,6 +390,11 @@ public abstract class RequestStep<
       return name;
     }
 
+    @Override
+    Object getRequestBody() {
+      return patch;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.patch(name, patchType, patch, patchOptions);
     }
@@ -399,6 +458,11 @@ public abstract class RequestStep<
       return namespace;
     }
 
+    @Override
+    Object getRequestBody() {
+      return patch;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.patch(namespace, name, patchType, patch, patchOptions);
     }
@@ -648,6 +712,11 @@ public abstract class RequestStep<
               .map(KubernetesObject::getMetadata).map(V1ObjectMeta::getNamespace).orElse(super.getNamespace());
     }
 
+    @Override
+    Object getRequestBody() {
+      return object;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.create(object, createOptions);
     }
@@ -705,6 +774,11 @@ public abstract class RequestStep<
               .map(KubernetesObject::getMetadata).map(V1ObjectMeta::getNamespace).orElse(super.getNamespace());
     }
 
+    @Override
+    Object getRequestBody() {
+      return object;
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.updateStatus(object, status, updateOptions);
     }
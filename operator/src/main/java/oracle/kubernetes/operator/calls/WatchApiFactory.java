@@ -1,12 +1,17 @@
-// Copyright (c) 2024, Oracle and/or its affiliates.
+// Copyright (c) 2024, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
 
+import com.google.gson.reflect.TypeToken;
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.GenericKubernetesApi;
+import io.kubernetes.client.util.generic.options.ListOptions;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -19,14 +24,44 @@ public interface WatchApiFactory {
 
   class WatchApiImpl<A extends KubernetesObject, L extends KubernetesListObject>
       extends GenericKubernetesApi<A, L> implements WatchApi<A> {
+    private final Class<A> apiTypeClass;
+    private final ApiClient apiClient;
+    private final ListCallBuilder listCallBuilder;
+
     public WatchApiImpl(Class<A> apiTypeClass, Class<L> apiListTypeClass,
                              String apiGroup, String apiVersion, String resourcePlural) {
-      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, getWatchClient(Client.getInstance()));
+      this(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+          getWatchClient(Client.getInstance()));
+    }
+
+    WatchApiImpl(Class<A> apiTypeClass, Class<L> apiListTypeClass,
+                 String apiGroup, String apiVersion, String resourcePlural, ApiClient apiClient) {
+      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, apiClient);
+      this.apiTypeClass = apiTypeClass;
+      this.apiClient = apiClient;
+      this.listCallBuilder = new ListCallBuilder(apiClient, apiGroup, apiVersion, resourcePlural);
     }
 
     private static ApiClient getWatchClient(ApiClient client) {
       return client.setHttpClient(client.getHttpClient().newBuilder().readTimeout(0, SECONDS).build());
     }
+
+    @Override
+    public Watchable<A> watch(ListOptions listOptions) throws ApiException {
+      return ListCallBuilder.isMetadataOnly(listOptions) ? watchMetadata(null, listOptions) : super.watch(listOptions);
+    }
+
+    @Override
+    public Watchable<A> watch(String namespace, ListOptions listOptions) throws ApiException {
+      return ListCallBuilder.isMetadataOnly(listOptions)
+          ? watchMetadata(namespace, listOptions) : super.watch(namespace, listOptions);
+    }
+
+    // The generic API ignores the partial metadata option of a watch, and so always returns complete objects.
+    private Watchable<A> watchMetadata(String namespace, ListOptions listOptions) throws ApiException {
+      return Watch.createWatch(apiClient, listCallBuilder.createWatchCall(namespace, listOptions),
+          TypeToken.getParameterized(Watch.Response.class, apiTypeClass).getType());
+    }
   }
 
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -71,10 +71,19 @@ public class AnnotationHelper {
     return kubernetesObject;
   }
 
+  static <K extends KubernetesObject> K withSha256HashValue(K kubernetesObject, String hash) {
+    kubernetesObject.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, hash);
+    return kubernetesObject;
+  }
+
   static String createHash(Object objectToHash) {
     return hashFunction.apply(objectToHash);
   }
 
+  static Function<Object, String> getHashFunction() {
+    return hashFunction;
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
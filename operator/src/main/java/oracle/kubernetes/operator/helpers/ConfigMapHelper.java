@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -82,6 +82,10 @@ public class ConfigMapHelper {
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
 
+  // the scripts cannot change while the operator runs, so they are read from the classpath only once
+  private static volatile Map<String, String> scripts;
+  private static volatile ScriptsHash scriptsHash;
+
   private ConfigMapHelper() {
   }
 
@@ -183,13 +187,23 @@ public class ConfigMapHelper {
 
   static class ScriptConfigMapStep extends Step {
     final ConfigMapContext context;
+    private final String domainNamespace;
 
     ScriptConfigMapStep(String domainNamespace, SemanticVersion productVersion) {
       context = new ScriptConfigMapContext(this, domainNamespace, productVersion);
+      this.domainNamespace = domainNamespace;
     }
 
     @Override
     public @Nonnull Result apply(Packet packet) {
+      OperatorConfigMapCache.CachedMap cachedMap
+          = OperatorConfigMapCache.getInstance().get(domainNamespace, SCRIPT_CONFIG_MAP_NAME);
+      if (cachedMap != null && context.isCurrent(cachedMap)) {
+        OperatorConfigMapCache.recordSkippedRead(OperatorConfigMapCache.SCRIPTS);
+        LOGGER.fine(MessageKeys.CM_EXISTS, SCRIPT_CONFIG_MAP_NAME, domainNamespace);
+        context.recordCurrentMap(packet, context.getModel());
+        return doNext(packet);
+      }
       return doNext(context.verifyConfigMap(getNext()), packet);
     }
   }
@@ -206,14 +220,44 @@ public class ConfigMapHelper {
     void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
       packet.put(ProcessingConstants.SCRIPT_CONFIG_MAP, configMap);
     }
+
+    @Override
+    String createContentHash(Map<String, String> data) {
+      return getScriptsHash();
+    }
   }
 
-  static synchronized Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
-    Map<String, String> scripts = scriptReader.loadFilesFromClasspath();
+  static Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
+    Map<String, String> result = new HashMap<>(getScripts());
     LOGGER.finer(MessageKeys.SCRIPT_LOADED, domainNamespace);
+    return result;
+  }
+
+  private static Map<String, String> getScripts() {
+    if (scripts == null) {
+      synchronized (ConfigMapHelper.class) {
+        if (scripts == null) {
+          scripts = Collections.unmodifiableMap(scriptReader.loadFilesFromClasspath());
+        }
+      }
+    }
     return scripts;
   }
 
+  // The hash is computed over a copy of the scripts, exactly as each script config map context holds them.
+  // It is recomputed only if the hash function changes, which happens only in unit tests.
+  private static String getScriptsHash() {
+    final Function<Object, String> hashFunction = AnnotationHelper.getHashFunction();
+    ScriptsHash current = scriptsHash;
+    if (current == null || current.hashFunction() != hashFunction) {
+      scriptsHash = current = new ScriptsHash(hashFunction, hashFunction.apply(new HashMap<>(getScripts())));
+    }
+    return current.hash();
+  }
+
+  private record ScriptsHash(Function<Object, String> hashFunction, String hash) {
+  }
+
   abstract static class ConfigMapContext extends StepContextBase {
     private final Map<String, String> contents;
     private final Step conflictStep;
@@ -267,8 +311,13 @@ public class ConfigMapHelper {
     }
 
     protected final V1ConfigMap createModel(Map<String, String> data) {
-      return AnnotationHelper.withSha256Hash(
-          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data), data);
+      return AnnotationHelper.withSha256HashValue(
+          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data),
+          createContentHash(data));
+    }
+
+    String createContentHash(Map<String, String> data) {
+      return AnnotationHelper.createHash(data);
     }
 
     private V1ObjectMeta createMetadata() {
@@ -317,6 +366,35 @@ public class ConfigMapHelper {
       return COMPARATOR.isOutdated(productVersion, existingMap, getModel());
     }
 
+    /**
+     * Returns true if the specified map has the desired contents and labels, so that it need not be updated.
+     * @param existingMap a config map
+     */
+    boolean isCurrent(V1ConfigMap existingMap) {
+      return !isOutdated(existingMap) && !mustPatchCurrentMap(existingMap);
+    }
+
+    /**
+     * Returns true if the recorded state of a map shows that it has the desired contents and labels.
+     * @param cachedMap the cached state of a config map
+     */
+    boolean isCurrent(OperatorConfigMapCache.CachedMap cachedMap) {
+      return isCurrent(new V1ConfigMap().metadata(new V1ObjectMeta().labels(cachedMap.labels())
+          .putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, cachedMap.contentHash())));
+    }
+
+    private Map<String,String> getLabels() {
+      return Optional.ofNullable(labels).map(Collections::unmodifiableMap).orElse(Collections.emptyMap());
+    }
+
+    private boolean mustPatchCurrentMap(V1ConfigMap currentMap) {
+      return KubernetesUtils.isMissingValues(getMapLabels(currentMap), getLabels());
+    }
+
+    private Map<String, String> getMapLabels(@NotNull V1ConfigMap map) {
+      return Optional.ofNullable(map.getMetadata()).map(V1ObjectMeta::getLabels).orElseGet(Collections::emptyMap);
+    }
+
     V1ConfigMap withoutTransientData(V1ConfigMap originalMap) {
       if (originalMap != null && originalMap.getData() != null) {
         originalMap.setData(withoutTransientEntries(originalMap.getData()));
@@ -387,23 +465,11 @@ public class ConfigMapHelper {
         return Optional.ofNullable(annotations).map(Collections::unmodifiableMap).orElse(Collections.emptyMap());
       }
 
-      private Map<String,String> getLabels() {
-        return Optional.ofNullable(labels).map(Collections::unmodifiableMap).orElse(Collections.emptyMap());
-      }
-
-      private boolean mustPatchCurrentMap(V1ConfigMap currentMap) {
-        return KubernetesUtils.isMissingValues(getMapLabels(currentMap), getLabels());
-      }
-
       private boolean mustPatchImageHashInMap(V1ConfigMap currentMap, Packet packet) {
         return (currentMap.getData() != null) && Optional.ofNullable((String)packet.get(DOMAIN_INPUTS_HASH))
                 .map(hash -> !hash.equals(currentMap.getData().get(DOMAIN_INPUTS_HASH))).orElse(false);
       }
 
-      private Map<String, String> getMapLabels(@NotNull V1ConfigMap map) {
-        return Optional.ofNullable(map.getMetadata()).map(V1ObjectMeta::getLabels).orElseGet(Collections::emptyMap);
-      }
-
       private ResponseStep<V1ConfigMap> createPatchResponseStep(Step next) {
         return new PatchResponseStep(next);
       }
@@ -763,7 +829,7 @@ public class ConfigMapHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      Step step = RequestBuilder.CM.list(
+      Step step = RequestBuilder.CM.listMetadata(
           namespace, new ListOptions().labelSelector(LabelConstants.getCreatedByOperatorSelector()),
           new SelectConfigMapsToDeleteStep(domainUid, namespace, getNext()));
 
@@ -1011,12 +1077,23 @@ public class ConfigMapHelper {
     }
 
     private Step createNextStep(DomainPresenceInfo info) {
-      return RequestBuilder.CM.get(
-          info.getNamespace(), info.getDomainUid() + FLUENTD_CONFIGMAP_NAME_SUFFIX,
-          new ReadFluentdConfigMapResponseStep(getNext()));
+      final String name = info.getDomainUid() + FLUENTD_CONFIGMAP_NAME_SUFFIX;
+      if (isCachedDataCurrent(info.getNamespace(), name, FLUENTD_CONFIG_DATA_NAME,
+            info.getDomain().getFluentdSpecification().getFluentdConfiguration())) {
+        OperatorConfigMapCache.recordSkippedRead(OperatorConfigMapCache.FLUENTD);
+        return getNext();
+      }
+      return RequestBuilder.CM.get(info.getNamespace(), name, new ReadFluentdConfigMapResponseStep(getNext()));
     }
   }
 
+  // Returns true if the watched state of the specified config map shows the expected configuration data.
+  private static boolean isCachedDataCurrent(String namespace, String name, String dataName, String expected) {
+    return Optional.ofNullable(OperatorConfigMapCache.getInstance().get(namespace, name))
+          .map(cachedMap -> cachedMap.hasData(dataName, expected))
+          .orElse(false);
+  }
+
   private static class ReadIntrospectionVersionResponseStep extends DefaultResponseStep<V1ConfigMap> {
 
     private ReadIntrospectionVersionResponseStep(Step nextStep) {
@@ -1128,9 +1205,13 @@ public class ConfigMapHelper {
     }
 
     private Step createNextStep(DomainPresenceInfo info) {
-      return RequestBuilder.CM.get(info.getNamespace(),
-          info.getDomainUid() + FLUENTBIT_CONFIGMAP_NAME_SUFFIX,
-          new ReadFluentbitConfigMapResponseStep(getNext()));
+      final String name = info.getDomainUid() + FLUENTBIT_CONFIGMAP_NAME_SUFFIX;
+      if (isCachedDataCurrent(info.getNamespace(), name, FLUENTBIT_CONFIG_DATA_NAME,
+            info.getDomain().getFluentbitSpecification().getFluentbitConfiguration())) {
+        OperatorConfigMapCache.recordSkippedRead(OperatorConfigMapCache.FLUENTBIT);
+        return getNext();
+      }
+      return RequestBuilder.CM.get(info.getNamespace(), name, new ReadFluentbitConfigMapResponseStep(getNext()));
     }
   }
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -83,6 +85,18 @@ public class CrdHelper {
   private static final CrdComparator COMPARATOR = new CrdComparatorImpl();
 
   private static final FileGroupReader schemaReader = new FileGroupReader(SCHEMA_LOCATION);
+
+  // The schema files are shipped with the operator, so they are read once per process; not final so that unit tests
+  // can reset it after defining their own files.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static volatile Map<String, String> schemaFiles;
+
+  // The generated schemas depend only on the resource classes, and the schema file validations only on the file
+  // contents, so each is built once per process. They are cached in serialized form, so that every model
+  // built from them receives its own copy.
+  private static final Map<String, JsonElement> schemaFileValidations = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, String> generatedSchemas = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, SchemaHash> schemaHashes = new ConcurrentHashMap<>();
   public static final String VERSION_V1 = "v1";
   public static final String WEBHOOK_PATH = "/webhook";
 
@@ -298,9 +312,16 @@ public class CrdHelper {
           .kind("CustomResourceDefinition")
           .metadata(createMetadata(productVersion))
           .spec(createSpec(certificates));
-      return AnnotationHelper.withSha256Hash(result,
+      return AnnotationHelper.withSha256HashValue(result, getSchemaHash(
           Objects.requireNonNull(
-              result.getSpec().getVersions().stream().findFirst().orElseThrow().getSchema()).getOpenAPIV3Schema());
+              result.getSpec().getVersions().stream().findFirst().orElseThrow().getSchema()).getOpenAPIV3Schema()));
+    }
+
+    // The hash is recomputed only if the hash function changes, which happens only in unit tests.
+    private String getSchemaHash(V1JSONSchemaProps schema) {
+      final Function<Object, String> hashFunction = AnnotationHelper.getHashFunction();
+      return schemaHashes.compute(getClass(), (c, h) -> h != null && h.hashFunction() == hashFunction
+          ? h : new SchemaHash(hashFunction, hashFunction.apply(schema))).hash();
     }
 
     V1ObjectMeta createMetadata(SemanticVersion productVersion) {
@@ -349,10 +370,24 @@ public class CrdHelper {
       return Optional.ofNullable(certificateData).map(Base64::decodeBase64).orElse(null);
     }
 
+    private static Map<String, String> getSchemaFiles() {
+      Map<String, String> files = schemaFiles;
+      if (files == null) {
+        files = schemaReader.loadFilesFromClasspath();
+        schemaFiles = files;
+      }
+      return files;
+    }
+
     static V1CustomResourceValidation getValidationFromCrdSchemaFile(String fileContents) {
+      return new Gson().fromJson(
+          schemaFileValidations.computeIfAbsent(fileContents, CrdContext::parseCrdSchemaFile),
+          V1CustomResourceValidation.class);
+    }
+
+    private static JsonElement parseCrdSchemaFile(String fileContents) {
       Map<String, Object> data = getSnakeYaml().load(new StringReader(fileContents));
-      final Gson gson = new Gson();
-      return gson.fromJson(gson.toJsonTree(data), V1CustomResourceValidation.class);
+      return new Gson().toJsonTree(data);
     }
 
     private static org.yaml.snakeyaml.Yaml getSnakeYaml() {
@@ -381,8 +416,7 @@ public class CrdHelper {
 
     @Nonnull
     private Stream<V1CustomResourceDefinitionVersion> getExistingVersions() {
-      final Map<String, String> schemas = schemaReader.loadFilesFromClasspath();
-      return schemas.entrySet().stream()
+      return getSchemaFiles().entrySet().stream()
           .sorted(Map.Entry.comparingByKey())
           .filter(entry -> getVersionFromCrdSchemaFileName(entry.getKey()) != null)
           .map(entry -> new V1CustomResourceDefinitionVersion()
@@ -426,9 +460,19 @@ public class CrdHelper {
     }
 
     private V1JSONSchemaProps createOpenApiV3Schema() {
+      final Gson gson = createSchemaGson();
+      return gson.fromJson(
+          generatedSchemas.computeIfAbsent(getClass(), c -> gson.toJson(generateOpenApiV3Schema(gson))),
+          V1JSONSchemaProps.class);
+    }
+
+    private static Gson createSchemaGson() {
       GsonBuilder gsonBuilder = new GsonBuilder();
       gsonBuilder.setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE);
-      Gson gson = gsonBuilder.create();
+      return gsonBuilder.create();
+    }
+
+    private V1JSONSchemaProps generateOpenApiV3Schema(Gson gson) {
 
       JsonElement jsonElementSpec = gson.toJsonTree(createCrdSchemaGenerator().generate(getSpecClass()));
       V1JSONSchemaProps spec = gson.fromJson(jsonElementSpec, V1JSONSchemaProps.class);
@@ -566,6 +610,7 @@ public class CrdHelper {
         } else if (!existingCrdContainsCompatibleConversionWebhook(existingCrd)) {
           return doNext(updateExistingCrdWithConversion(getNext(), existingCrd), packet);
         } else {
+          CrdVersionCache.getInstance().recordVerified(existingCrd);
           return doNext(packet);
         }
       }
@@ -593,6 +638,7 @@ public class CrdHelper {
       public Result onSuccess(
           Packet packet, KubernetesApiResponse<V1CustomResourceDefinition> callResponse) {
         LOGGER.info(MessageKeys.CREATING_CRD, callResponse.getObject().getMetadata().getName());
+        CrdVersionCache.getInstance().recordVerified(callResponse.getObject());
         return doNext(packet);
       }
 
@@ -620,6 +666,7 @@ public class CrdHelper {
       public Result onSuccess(
           Packet packet, KubernetesApiResponse<V1CustomResourceDefinition> callResponse) {
         LOGGER.info(MessageKeys.CREATING_CRD, callResponse.getObject().getMetadata().getName());
+        CrdVersionCache.getInstance().recordVerified(callResponse.getObject());
         return doNext(packet);
       }
 
@@ -754,6 +801,9 @@ public class CrdHelper {
     }
   }
 
+  private record SchemaHash(Function<Object, String> hashFunction, String hash) {
+  }
+
   static class CrdComparatorImpl implements CrdComparator {
     @Override
     public boolean isOutdatedCrd(SemanticVersion productVersion, String resourceVersionString,
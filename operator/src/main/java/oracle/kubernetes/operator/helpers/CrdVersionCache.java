@@ -0,0 +1,123 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.CrdWatcher;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+
+/**
+ * Tracks the resource versions of the CRDs used by the operator. Once a CRD has been read and verified, a watch
+ * on that CRD, started from the verified resource version, reports any later change. The periodic CRD checks
+ * then read the CRD again only when its resource version has changed. Until the cache is started, no watches
+ * are created and every check reads the CRD.
+ */
+public class CrdVersionCache implements WatchListener<V1CustomResourceDefinition> {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static CrdVersionCache instance = new CrdVersionCache();
+
+  private final Map<String, String> liveVersions = new ConcurrentHashMap<>();
+  private final Map<String, String> verifiedVersions = new ConcurrentHashMap<>();
+  private final Set<String> watchedCrds = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean stopping = new AtomicBoolean(true);
+
+  public static CrdVersionCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables watching of verified CRDs.
+   */
+  public void start() {
+    stopping.set(false);
+  }
+
+  /**
+   * Stops the CRD watches and discards all recorded versions.
+   */
+  public void stop() {
+    stopping.set(true);
+    watchedCrds.clear();
+    liveVersions.clear();
+    verifiedVersions.clear();
+  }
+
+  /**
+   * Records that the specified CRD has been verified, and starts watching it if it is not already watched.
+   * @param crd the CRD as read from, or written to, the API server
+   */
+  public void recordVerified(V1CustomResourceDefinition crd) {
+    final String name = getName(crd);
+    final String resourceVersion = getVersion(crd);
+    if (name == null || resourceVersion == null) {
+      return;
+    }
+
+    verifiedVersions.put(name, resourceVersion);
+    if (!stopping.get() && watchedCrds.add(name)) {
+      liveVersions.put(name, resourceVersion);
+      CrdWatcher.create(ThreadFactorySingleton.getInstance(), name, resourceVersion,
+          TuningParameters.getInstance().getWatchTuning(), this, stopping);
+    }
+  }
+
+  /**
+   * Returns true if the specified CRD is watched and has not changed since it was last verified.
+   * @param crdName the name of a CRD
+   */
+  public boolean isUnchanged(String crdName) {
+    return Optional.ofNullable(liveVersions.get(crdName)).map(v -> v.equals(verifiedVersions.get(crdName)))
+        .orElse(false);
+  }
+
+  /**
+   * Returns the current resource version of the specified CRD as reported by its watch, or null if the CRD is not
+   * watched or has been deleted.
+   * @param crdName the name of a CRD
+   */
+  public String getResourceVersion(String crdName) {
+    return liveVersions.get(crdName);
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<V1CustomResourceDefinition> response) {
+    final String name = getName(response.object);
+    if (name == null) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED", "MODIFIED" -> Optional.ofNullable(getVersion(response.object))
+          .ifPresent(v -> liveVersions.put(name, v));
+      case "DELETED" -> {
+        liveVersions.remove(name);
+        verifiedVersions.remove(name);
+      }
+      default -> {
+        // no change
+      }
+    }
+  }
+
+  private static String getName(V1CustomResourceDefinition crd) {
+    return Optional.ofNullable(crd).map(V1CustomResourceDefinition::getMetadata).map(V1ObjectMeta::getName)
+        .orElse(null);
+  }
+
+  private static String getVersion(V1CustomResourceDefinition crd) {
+    return Optional.ofNullable(crd).map(V1CustomResourceDefinition::getMetadata)
+        .map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+}
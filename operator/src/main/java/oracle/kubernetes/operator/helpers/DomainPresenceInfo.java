@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -13,14 +13,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -37,6 +41,7 @@ import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.helpers.ServerPodCounts.PodState;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
@@ -58,14 +63,15 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.jetbrains.annotations.NotNull;
 
-import static oracle.kubernetes.operator.helpers.PodHelper.hasClusterNameOrNull;
-import static oracle.kubernetes.operator.helpers.PodHelper.isNotAdminServer;
 
 /**
  * Operator's mapping between custom resource Domain and runtime details about that domain,
  * including the scan and the Pods and Services for servers.
  */
 public class DomainPresenceInfo extends ResourcePresenceInfo {
+  private static final Packet.Key<DomainPresenceInfo> PACKET_KEY
+      = Packet.Key.of(ProcessingConstants.DOMAIN_PRESENCE_INFO, DomainPresenceInfo.class);
+
   private final String domainUid;
   private final AtomicReference<DomainResource> domain;
   private final AtomicBoolean isDeleting = new AtomicBoolean(false);
@@ -74,10 +80,15 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   private final AtomicReference<Collection<ServerShutdownInfo>> serverShutdownInfo;
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
+  private final ServerPodCounts serverPodCounts = new ServerPodCounts();
+  private final Set<String> uncountedServers = ConcurrentHashMap.newKeySet();
+  private final AtomicLong serverPodChangeCount = new AtomicLong();
+  private final Queue<Runnable> serverPodChangeActions = new ConcurrentLinkedQueue<>();
   private final ConcurrentMap<String, ClusterResource> clusters = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusterServices = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1PodDisruptionBudget> podDisruptionBudgets = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1PersistentVolumeClaim> persistentVolumeClaims = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Integer> rollingSurges = new ConcurrentHashMap<>();
   private final ReadWriteLock webLogicCredentialsSecretLock = new ReentrantReadWriteLock();
   private V1Secret webLogicCredentialsSecret;
   private OffsetDateTime webLogicCredentialsSecretLastSet;
@@ -86,6 +97,8 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
   private final List<String> serverNamesFromPodList = Collections.synchronizedList(new ArrayList<>());
   private Map<String, Fiber.StepAndPacket> serversToRoll = Collections.emptyMap();
+  private volatile DomainSpecSnapshot appliedSpec;
+  private final AtomicReference<EffectiveSpecCache> effectiveSpecs = new AtomicReference<>();
 
   /**
    * Create presence for a domain.
@@ -247,9 +260,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return Number of scheduled servers
    */
   long getNumScheduledServers(String clusterName) {
-    return getServersInNoOtherCluster(clusterName)
-            .filter(PodHelper::isScheduled)
-            .count();
+    return getServerPodCounts().getNumScheduled(clusterName);
   }
 
   /**
@@ -259,9 +270,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return Number of scheduled managed servers
    */
   public long getNumScheduledManagedServers(String clusterName, String adminServerName) {
-    return getManagedServersInNoOtherCluster(clusterName, adminServerName)
-          .filter(PodHelper::isScheduled)
-          .count();
+    return getNumScheduledServers(clusterName) - countAdminServer(clusterName, adminServerName, PodState::scheduled);
   }
 
   /**
@@ -270,9 +279,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return Number of ready servers
    */
   long getNumReadyServers(String clusterName) {
-    return getServersInNoOtherCluster(clusterName)
-            .filter(PodHelper::hasReadyServer)
-            .count();
+    return getServerPodCounts().getNumReady(clusterName);
   }
 
   /**
@@ -281,32 +288,97 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return Number of ready servers
    */
   public long getNumReadyManagedServers(String clusterName, String adminServerName) {
-    return getManagedServersInNoOtherCluster(clusterName, adminServerName)
-          .filter(PodHelper::hasReadyServer)
-          .count();
+    return getNumReadyServers(clusterName) - countAdminServer(clusterName, adminServerName, PodState::ready);
   }
 
-  @Nonnull
-  private Stream<V1Pod> getServersInNoOtherCluster(String clusterName) {
-    return getActiveServers().values().stream()
-            .map(ServerKubernetesObjects::getPod)
-            .map(AtomicReference::get)
-            .filter(this::isNotDeletingPod)
-            .filter(p -> hasClusterNameOrNull(p, clusterName));
+  /**
+   * Counts the pods of non-clustered servers (including admin) and of servers in the specified cluster.
+   * @param clusterName cluster name of the pod server
+   * @return Number of servers with pods
+   */
+  public long getNumActiveServers(String clusterName) {
+    return getServerPodCounts().getNumActive(clusterName);
   }
 
-  @Nonnull
-  private Stream<V1Pod> getManagedServersInNoOtherCluster(String clusterName, String adminServerName) {
-    return getActiveServers().values().stream()
-          .map(ServerKubernetesObjects::getPod)
-          .map(AtomicReference::get)
-          .filter(this::isNotDeletingPod)
-          .filter(p -> isNotAdminServer(p, adminServerName))
-          .filter(p -> hasClusterNameOrNull(p, clusterName));
+  /**
+   * Counts the servers with pods.
+   * @return Number of servers with pods
+   */
+  public long getNumActiveServers() {
+    return getServerPodCounts().getNumActive();
+  }
+
+  // Returns 1 if the admin server's pod is among those counted with the specified criteria, else 0.
+  private long countAdminServer(String clusterName, String adminServerName, Predicate<PodState> criteria) {
+    return Optional.ofNullable(adminServerName).map(servers::get).map(this::getPodState)
+          .filter(s -> adminServerName.equals(s.serverName()))
+          .filter(s -> s.isInClusterOrNone(clusterName))
+          .filter(criteria)
+          .map(s -> 1L).orElse(0L);
+  }
+
+  private PodState getPodState(ServerKubernetesObjects sko) {
+    synchronized (sko) {
+      return sko.getPodState();
+    }
+  }
+
+  // Counts the pods set since the counts were last read, and returns the counts.
+  private ServerPodCounts getServerPodCounts() {
+    for (String serverName : uncountedServers) {
+      uncountedServers.remove(serverName);
+      countServerPod(servers.get(serverName));
+    }
+    return serverPodCounts;
   }
 
-  private boolean isNotDeletingPod(@Nullable V1Pod pod) {
-    return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).isEmpty();
+  private void countServerPod(ServerKubernetesObjects sko) {
+    synchronized (sko) {
+      final PodState podState = PodState.of(sko.getPod().get());
+      serverPodCounts.replace(sko.getPodState(), podState);
+      sko.setPodState(podState);
+    }
+  }
+
+  // Replaces the pod of the specified server, marking it to be counted, and returns the previous pod.
+  private V1Pod updateServerPod(String serverName, UnaryOperator<V1Pod> update) {
+    final ServerKubernetesObjects sko = getSko(serverName);
+    final V1Pod previous;
+    synchronized (sko) {
+      previous = sko.getPod().getAndUpdate(update);
+    }
+    uncountedServers.add(serverName);
+    recordServerPodChange();
+    return previous;
+  }
+
+  private void recordServerPodChange() {
+    serverPodChangeCount.incrementAndGet();
+    Runnable action;
+    while ((action = serverPodChangeActions.poll()) != null) {
+      action.run();
+    }
+  }
+
+  /**
+   * Returns the number of times a server pod has been set, for use with {@link #onServerPodChange}.
+   */
+  public long getServerPodChangeCount() {
+    return serverPodChangeCount.get();
+  }
+
+  /**
+   * Runs an action once a server pod is set, as a step suspended until a server pod changes does to be resumed.
+   * The action runs at once if a server pod has been set since the specified count was read, and otherwise runs
+   * once, the next time one is set.
+   * @param changeCount a value previously returned by {@link #getServerPodChangeCount()}
+   * @param action the action to run
+   */
+  public void onServerPodChange(long changeCount, Runnable action) {
+    serverPodChangeActions.add(action);
+    if (serverPodChangeCount.get() != changeCount && serverPodChangeActions.remove(action)) {
+      action.run();
+    }
   }
 
   public void setServerService(String serverName, V1Service service) {
@@ -326,7 +398,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   public static Optional<DomainPresenceInfo> fromPacket(Packet packet) {
-    return Optional.ofNullable((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+    return Optional.ofNullable(packet.getValue(PACKET_KEY));
   }
 
   public String getAdminServerName() {
@@ -338,13 +410,14 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   /**
-   * Specifies the pod associated with an operator-managed server.
+   * Specifies the pod associated with an operator-managed server. The server pod counts take the state of the pod
+   * when they are next read; a pod changed in place after that is counted again only when it is set again.
    *
    * @param serverName the name of the server
    * @param pod the pod
    */
   public void setServerPod(String serverName, V1Pod pod) {
-    getSko(serverName).getPod().set(pod);
+    updateServerPod(serverName, p -> pod);
   }
 
   /**
@@ -363,7 +436,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return a pod stream
    */
   public Stream<V1Pod> getServerPods() {
-    return getActiveServers().values().stream().map(this::getPod).filter(Objects::nonNull);
+    return getActiveServers().map(this::getPod).filter(Objects::nonNull);
   }
 
   /**
@@ -372,7 +445,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return a pod stream
    */
   public Stream<V1Pod> getServerPodsNotBeingDeleted() {
-    return getActiveServers().values().stream().filter(
+    return getActiveServers().filter(
         sko -> !PodHelper.isPodAlreadyAnnotatedForShutdown(sko.getPod().get())).map(this::getPod)
         .filter(Objects::nonNull);
   }
@@ -427,7 +500,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * Returns a collection of the names of the active servers.
    */
   public Collection<String> getServerNames() {
-    return getActiveServers().keySet();
+    return servers.entrySet().stream().filter(this::hasDefinedServer).map(Map.Entry::getKey).toList();
   }
 
   private boolean hasDefinedServer(Map.Entry<String, ServerKubernetesObjects> e) {
@@ -443,7 +516,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
-    getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    updateServerPod(serverName, p -> getNewerPod(p, event));
   }
 
   /**
@@ -457,7 +530,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public boolean setServerPodFromEvent(String serverName, V1Pod event, @Nonnull Predicate<V1Pod> podPredicate) {
     updateStatus(serverName, event);
-    return podPredicate.test(getSko(serverName).getPod().getAndAccumulate(event, this::getNewerPod));
+    return podPredicate.test(updateServerPod(serverName, p -> getNewerPod(p, event)));
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -509,10 +582,9 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     if (serverName == null) {
       return false;
     }
-    ServerKubernetesObjects sko = getSko(serverName);
-    V1Pod deletedPod = sko.getPod().getAndAccumulate(event, this::getNewerCurrentOrNull);
+    V1Pod deletedPod = updateServerPod(serverName, p -> getNewerCurrentOrNull(p, event));
     if (deletedPod != null) {
-      sko.getLastKnownStatus().set(new LastKnownStatus(WebLogicConstants.SHUTDOWN_STATE));
+      getSko(serverName).getLastKnownStatus().set(new LastKnownStatus(WebLogicConstants.SHUTDOWN_STATE));
     }
     return deletedPod != null;
   }
@@ -758,12 +830,13 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   /**
-   * Sets the domain.
+   * Sets the domain, discarding any effective server and cluster specs computed from the previous one.
    *
    * @param domain Domain
    */
   public void setDomain(DomainResource domain) {
     this.domain.set(domain);
+    effectiveSpecs.set(null);
   }
 
   /**
@@ -789,12 +862,9 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     return getDomainUid();
   }
 
-  // Returns a map of the active servers (those with a known running pod).
-  private Map<String, ServerKubernetesObjects> getActiveServers() {
-    return servers.entrySet().stream()
-          .filter(this::hasDefinedServer)
-          .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
-
+  // Returns the active servers (those with a known running pod).
+  private Stream<ServerKubernetesObjects> getActiveServers() {
+    return servers.values().stream().filter(sko -> getPod(sko) != null);
   }
 
   /**
@@ -950,6 +1020,36 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     this.serversToRoll = serversToRoll;
   }
 
+  /**
+   * Returns the number of servers to be started in the specified cluster beyond its replica count while it rolls.
+   * @param clusterName the name of a cluster, or null for servers which are not clustered
+   */
+  public int getRollingSurge(@Nullable String clusterName) {
+    return Optional.ofNullable(clusterName).map(rollingSurges::get).orElse(0);
+  }
+
+  /**
+   * Records the number of servers to be started in the specified cluster beyond its replica count while it rolls.
+   * @param clusterName the name of a cluster
+   * @param surge the number of additional servers; zero if none
+   */
+  public void setRollingSurge(@Nonnull String clusterName, int surge) {
+    if (surge > 0) {
+      rollingSurges.put(clusterName, surge);
+    } else {
+      rollingSurges.remove(clusterName);
+    }
+  }
+
+  /**
+   * Removes the rolling surges for all clusters other than those specified.
+   * @param clusterNames the names of the clusters which are still rolling
+   * @return true if any surge was removed
+   */
+  public boolean retainRollingSurges(Collection<String> clusterNames) {
+    return rollingSurges.keySet().retainAll(clusterNames);
+  }
+
   /**
    * Looks up cluster resource for the given cluster name.
    * @param clusterName Cluster name
@@ -1049,8 +1149,21 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return the effective server spec.
    */
   public EffectiveServerSpec getServer(@Nonnull String serverName, @Nullable String clusterName) {
-    final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getServer(serverName, clusterName, clusterSpec);
+    final ClusterResource cluster = getClusterResource(clusterName);
+    return getEffectiveSpecs().getServerSpec(serverName, clusterName, cluster,
+        () -> getDomainApi().getServer(serverName, clusterName, getSpec(cluster)));
+  }
+
+  // The effective specs are shared by all callers until the domain or the cluster resource from which they were
+  // computed changes.
+  private EffectiveSpecCache getEffectiveSpecs() {
+    final DomainResource current = getDomain();
+    return effectiveSpecs.updateAndGet(c -> c != null && c.isFor(current) ? c : new EffectiveSpecCache(current));
+  }
+
+  @Nullable
+  private ClusterSpec getSpec(@Nullable ClusterResource cluster) {
+    return Optional.ofNullable(cluster).map(ClusterResource::getSpec).orElse(null);
   }
 
   private PrivateDomainApi getDomainApi() {
@@ -1063,15 +1176,13 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @return the effective cluster spec.
    */
   public EffectiveClusterSpec getCluster(@Nonnull String clusterName) {
-    final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getCluster(clusterSpec);
+    final ClusterResource cluster = getClusterResource(clusterName);
+    return getEffectiveSpecs().getClusterSpec(clusterName, cluster, () -> getDomainApi().getCluster(getSpec(cluster)));
   }
 
   @Nullable
   private ClusterSpec getClusterSpecFromClusterResource(@Nullable String clusterName) {
-    return Optional.ofNullable(getClusterResource(clusterName))
-        .map(ClusterResource::getSpec)
-        .orElse(null);
+    return getSpec(getClusterResource(clusterName));
   }
 
   /**
@@ -1121,6 +1232,18 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     return clusters.values();
   }
 
+  /**
+   * Returns the specs applied by the last make-right to complete for this domain, or null if the last make-right
+   * did not complete.
+   */
+  public DomainSpecSnapshot getAppliedSpec() {
+    return appliedSpec;
+  }
+
+  public void setAppliedSpec(DomainSpecSnapshot appliedSpec) {
+    this.appliedSpec = appliedSpec;
+  }
+
   public boolean hasRetryableFailure() {
     return Optional.ofNullable(getDomain()).map(DomainResource::hasRetryableFailure).orElse(false);
   }
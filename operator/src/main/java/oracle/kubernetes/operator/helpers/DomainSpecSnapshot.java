@@ -0,0 +1,105 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * A copy of the domain spec and of the specs of its referenced cluster resources, as applied by a make-right. The
+ * replica counts are held apart from the rest of each spec, so that a later make-right can tell whether they are the
+ * only change, and which clusters they affect. The cluster specs are keyed by the WebLogic names of their clusters.
+ */
+public class DomainSpecSnapshot {
+
+  private static final String REPLICAS = "replicas";
+  private static final String DOMAIN_KEY = "";
+
+  /** The kinds of difference between two snapshots. */
+  public enum Change {
+    NONE,
+    REPLICAS_ONLY,
+    OTHER
+  }
+
+  private final Map<String, JsonElement> specs = new HashMap<>();
+  private final Map<String, JsonElement> replicas = new HashMap<>();
+
+  private DomainSpecSnapshot() {
+  }
+
+  /**
+   * Creates a snapshot of the specs in the specified presence info.
+   * @param info the presence info for a domain
+   * @return the snapshot, or null if the info has no domain
+   */
+  public static DomainSpecSnapshot create(DomainPresenceInfo info) {
+    final DomainResource domain = info.getDomain();
+    if (domain == null || domain.getSpec() == null) {
+      return null;
+    }
+
+    final DomainSpecSnapshot snapshot = new DomainSpecSnapshot();
+    snapshot.add(DOMAIN_KEY, domain.getSpec());
+    for (ClusterResource cluster : info.getReferencedClusters()) {
+      snapshot.add(cluster.getClusterName(), cluster.getSpec());
+    }
+    return snapshot;
+  }
+
+  private void add(String key, Object spec) {
+    final JsonElement tree = getGson().toJsonTree(spec);
+    if (tree.isJsonObject()) {
+      final JsonObject object = tree.getAsJsonObject();
+      Optional.ofNullable(object.remove(REPLICAS)).ifPresent(r -> replicas.put(key, r));
+    }
+    specs.put(key, tree);
+  }
+
+  private static Gson getGson() {
+    return LoggingFactory.getJson().getGson();
+  }
+
+  /**
+   * Returns the kind of difference between this snapshot and an earlier one.
+   * @param previous a snapshot of the specs applied by an earlier make-right
+   */
+  public Change getChangeFrom(DomainSpecSnapshot previous) {
+    if (!specs.equals(previous.specs)) {
+      return Change.OTHER;
+    } else if (!replicas.equals(previous.replicas)) {
+      return Change.REPLICAS_ONLY;
+    } else {
+      return Change.NONE;
+    }
+  }
+
+  /**
+   * Returns the names of the clusters whose replica counts differ between this snapshot and an earlier one. A cluster
+   * whose resource does not set its replica count takes that of the domain.
+   * @param previous a snapshot of the specs applied by an earlier make-right
+   * @param clusterNames the WebLogic names of the clusters in the domain topology
+   */
+  public Set<String> getClustersWithChangedReplicas(DomainSpecSnapshot previous, Collection<String> clusterNames) {
+    return clusterNames.stream()
+        .filter(name -> !Objects.equals(getReplicas(name), previous.getReplicas(name)))
+        .collect(Collectors.toSet());
+  }
+
+  private JsonElement getReplicas(String clusterName) {
+    return Optional.ofNullable(replicas.get(clusterName)).orElse(replicas.get(DOMAIN_KEY));
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -19,6 +19,7 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -92,8 +93,9 @@ public class DomainValidationSteps {
     }
   }
 
+  // Domain validation checks only that the config maps it references exist.
   private static Step createListConfigMapsStep(String domainNamespace) {
-    return RequestBuilder.CM.list(domainNamespace, new ListConfigMapsResponseStep());
+    return RequestBuilder.CM.listMetadata(domainNamespace, new ListOptions(), new ListConfigMapsResponseStep());
   }
 
   static class ListConfigMapsResponseStep extends DefaultResponseStep<V1ConfigMapList> {
@@ -0,0 +1,84 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
+import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * The effective server and cluster specs computed for one version of a domain resource. Computing an effective spec
+ * merges the server pod settings of the server, its cluster and the domain; the make-right steps ask for the same
+ * specs many times, so they share the read-only specs held here, which they must not modify. A version is identified
+ * by the generation and resource version of the resource; a spec is computed again when the domain or the cluster
+ * resource from which it was computed is replaced or has a new version.
+ */
+class EffectiveSpecCache {
+
+  private final DomainResource domain;
+  private final ResourceVersion domainVersion;
+  private final Map<ServerKey, CachedSpec<EffectiveServerSpec>> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<String, CachedSpec<EffectiveClusterSpec>> clusterSpecs = new ConcurrentHashMap<>();
+
+  EffectiveSpecCache(DomainResource domain) {
+    this.domain = domain;
+    this.domainVersion = ResourceVersion.of(domain);
+  }
+
+  /**
+   * Returns true if this cache holds specs computed from the specified version of the domain resource.
+   * @param domain the current domain resource of a presence info
+   */
+  boolean isFor(DomainResource domain) {
+    return this.domain == domain && domainVersion.equals(ResourceVersion.of(domain));
+  }
+
+  EffectiveServerSpec getServerSpec(@Nonnull String serverName, @Nullable String clusterName,
+                                    @Nullable ClusterResource cluster, Supplier<EffectiveServerSpec> computeSpec) {
+    return getSpec(serverSpecs, new ServerKey(serverName, clusterName), cluster, computeSpec);
+  }
+
+  EffectiveClusterSpec getClusterSpec(@Nonnull String clusterName, @Nullable ClusterResource cluster,
+                                      Supplier<EffectiveClusterSpec> computeSpec) {
+    return getSpec(clusterSpecs, clusterName, cluster, computeSpec);
+  }
+
+  private <K, S> S getSpec(Map<K, CachedSpec<S>> specs, K key, ClusterResource cluster, Supplier<S> computeSpec) {
+    final ResourceVersion clusterVersion = ResourceVersion.of(cluster);
+
+    return specs.compute(key, (k, cached) -> cached != null && cached.isFor(cluster, clusterVersion)
+          ? cached
+          : new CachedSpec<>(cluster, clusterVersion, computeSpec.get())).spec();
+  }
+
+  private record ServerKey(String serverName, String clusterName) {
+  }
+
+  private record ResourceVersion(Long generation, String resourceVersion) {
+
+    static ResourceVersion of(@Nullable KubernetesObject resource) {
+      final V1ObjectMeta metadata = Optional.ofNullable(resource).map(KubernetesObject::getMetadata).orElse(null);
+      return Optional.ofNullable(metadata)
+          .map(m -> new ResourceVersion(m.getGeneration(), m.getResourceVersion()))
+          .orElse(new ResourceVersion(null, null));
+    }
+  }
+
+  private record CachedSpec<S>(ClusterResource cluster, ResourceVersion clusterVersion, S spec) {
+
+    boolean isFor(ClusterResource cluster, ResourceVersion clusterVersion) {
+      return this.cluster == cluster && this.clusterVersion.equals(clusterVersion);
+    }
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -130,6 +130,8 @@ public class EventHelper {
   public static class CreateEventStep extends Step {
     private final EventData eventData;
     private final DomainNamespaces domainNamespaces;
+    private CoreV1Event aggregatedEvent;
+    private int occurrences = 1;
 
     CreateEventStep(EventData eventData) {
       this(null, eventData, null);
@@ -141,6 +143,14 @@ public class EventHelper {
       this.domainNamespaces = domainNamespaces;
     }
 
+    // Creates a step which writes an event collected by the event sink, in a fiber of its own.
+    private CreateEventStep(DomainNamespaces domainNamespaces, EventData eventData,
+                            CoreV1Event aggregatedEvent, int occurrences) {
+      this(domainNamespaces, eventData, null);
+      this.aggregatedEvent = aggregatedEvent;
+      this.occurrences = occurrences;
+    }
+
     @Override
     protected String getDetail() {
       return eventData.eventItem.toString();
@@ -199,7 +209,26 @@ public class EventHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(packet, eventData)), packet);
+      if (aggregatedEvent != null) {
+        return doNext(createEventAPICall(aggregatedEvent), packet);
+      }
+
+      final CoreV1Event event = createEventModel(packet, eventData);
+      if (mayAggregate()
+          && EventSink.getInstance().offer(event, getExistingEvent(event) != null, this::createWriteStep)) {
+        return doNext(packet);
+      }
+      return doNext(createEventAPICall(event), packet);
+    }
+
+    // The outcome of creating the namespace watching started event determines whether the namespace is started,
+    // so that event is always written by the reporting fiber.
+    private boolean mayAggregate() {
+      return NAMESPACE_WATCHING_STARTED != eventData.eventItem;
+    }
+
+    private Step createWriteStep(CoreV1Event event, int occurrences) {
+      return new CreateEventStep(domainNamespaces, eventData, event, occurrences);
     }
 
     private Step createEventAPICall(CoreV1Event event) {
@@ -209,13 +238,16 @@ public class EventHelper {
 
     private Step createCreateEventCall(CoreV1Event event) {
       LOGGER.fine(MessageKeys.CREATING_EVENT, eventData.eventItem);
-      event.firstTimestamp(event.getLastTimestamp());
+      if (event.getFirstTimestamp() == null) {
+        event.firstTimestamp(event.getLastTimestamp());
+      }
+      event.count(occurrences);
       return RequestBuilder.EVENT.create(event, new CreateEventResponseStep(getNext()));
     }
 
     private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + occurrences).orElse(occurrences));
       existingEvent.lastTimestamp(event.getLastTimestamp());
       return RequestBuilder.EVENT.update(existingEvent,
           new ReplaceEventResponseStep(this, existingEvent, getNext()));
@@ -233,6 +265,10 @@ public class EventHelper {
 
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<CoreV1Event> callResponse) {
+        if (aggregatedEvent != null) {
+          // record the new event now, so that a repeat reported before its watch event arrives replaces it
+          Optional.ofNullable(callResponse.getObject()).ifPresent(DomainProcessorImpl::updateEventK8SObjects);
+        }
         if (NAMESPACE_WATCHING_STARTED == eventData.eventItem) {
           LOGGER.info(BEGIN_MANAGING_NAMESPACE, eventData.getNamespace());
           domainNamespaces.shouldStartNamespace(eventData.getNamespace());
@@ -293,7 +329,7 @@ public class EventHelper {
           return doNext(packet);
         }
         if (isNotFound(callResponse) || hasConflict(callResponse)) {
-          return doNext(Step.chain(createCreateEventCall(createEventModel(packet, eventData)), getNext()), packet);
+          return doNext(Step.chain(createCreateEventCall(getEventModel(packet)), getNext()), packet);
         } else if (isUnrecoverable(callResponse)) {
           return onFailureNoRetry(packet, callResponse);
         } else {
@@ -301,11 +337,15 @@ public class EventHelper {
         }
       }
 
+      private CoreV1Event getEventModel(Packet packet) {
+        return Optional.ofNullable(aggregatedEvent).orElseGet(() -> createEventModel(packet, eventData));
+      }
+
       private void restoreExistingEvent() {
         if (existingEvent == null || existingEvent.getCount() == null) {
           return;
         }
-        existingEvent.count(existingEvent.getCount() - 1);
+        existingEvent.count(existingEvent.getCount() - occurrences);
       }
 
       Step createRetry(CoreV1Event event) {
@@ -1146,6 +1186,8 @@ public class EventHelper {
 
   public static class CreateClusterResourceEventStep extends Step {
     private final EventData eventData;
+    private CoreV1Event aggregatedEvent;
+    private int occurrences = 1;
 
     CreateClusterResourceEventStep(EventData eventData) {
       this(eventData, null);
@@ -1156,6 +1198,13 @@ public class EventHelper {
       this.eventData = eventData;
     }
 
+    // Creates a step which writes an event collected by the event sink, in a fiber of its own.
+    private CreateClusterResourceEventStep(EventData eventData, CoreV1Event aggregatedEvent, int occurrences) {
+      this(eventData, null);
+      this.aggregatedEvent = aggregatedEvent;
+      this.occurrences = occurrences;
+    }
+
     @Override
     protected String getDetail() {
       return eventData.eventItem.toString();
@@ -1178,7 +1227,19 @@ public class EventHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(eventData)), packet);
+      if (aggregatedEvent != null) {
+        return doNext(createEventAPICall(aggregatedEvent), packet);
+      }
+
+      final CoreV1Event event = createEventModel(eventData);
+      if (EventSink.getInstance().offer(event, getExistingClusterEvent(event) != null, this::createWriteStep)) {
+        return doNext(packet);
+      }
+      return doNext(createEventAPICall(event), packet);
+    }
+
+    private Step createWriteStep(CoreV1Event event, int occurrences) {
+      return new CreateClusterResourceEventStep(eventData, event, occurrences);
     }
 
     private Step createEventAPICall(CoreV1Event event) {
@@ -1188,13 +1249,16 @@ public class EventHelper {
 
     private Step createCreateEventCall(CoreV1Event event) {
       LOGGER.fine(MessageKeys.CREATING_EVENT, eventData.eventItem);
-      event.firstTimestamp(event.getLastTimestamp());
+      if (event.getFirstTimestamp() == null) {
+        event.firstTimestamp(event.getLastTimestamp());
+      }
+      event.count(occurrences);
       return RequestBuilder.EVENT.create(event, new CreateClusterResourceEventResponseStep(getNext()));
     }
 
     private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + occurrences).orElse(occurrences));
       existingEvent.lastTimestamp(event.getLastTimestamp());
       return RequestBuilder.EVENT.update(
           existingEvent, new ReplaceClusterResourceEventResponseStep(this, existingEvent, getNext()));
@@ -1205,13 +1269,17 @@ public class EventHelper {
           .map(o -> o.getExistingEvent(event)).orElse(null);
     }
 
-    private static class CreateClusterResourceEventResponseStep extends ResponseStep<CoreV1Event> {
+    private class CreateClusterResourceEventResponseStep extends ResponseStep<CoreV1Event> {
       CreateClusterResourceEventResponseStep(Step next) {
         super(next);
       }
 
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<CoreV1Event> callResponse) {
+        if (aggregatedEvent != null) {
+          // record the new event now, so that a repeat reported before its watch event arrives replaces it
+          Optional.ofNullable(callResponse.getObject()).ifPresent(e -> getClusterEventK8SObjects(e).update(e));
+        }
         return doNext(packet);
       }
     }
@@ -1236,7 +1304,7 @@ public class EventHelper {
       public Result onFailure(Packet packet, KubernetesApiResponse<CoreV1Event> callResponse) {
         restoreExistingClusterEvent();
         if (isNotFound(callResponse) || hasConflict(callResponse)) {
-          return doNext(Step.chain(createCreateEventCall(createEventModel(eventData)), getNext()), packet);
+          return doNext(Step.chain(createCreateEventCall(getEventModel()), getNext()), packet);
         } else if (isUnrecoverable(callResponse)) {
           return onFailureNoRetry(packet, callResponse);
         } else {
@@ -1244,11 +1312,15 @@ public class EventHelper {
         }
       }
 
+      private CoreV1Event getEventModel() {
+        return Optional.ofNullable(aggregatedEvent).orElseGet(() -> createEventModel(eventData));
+      }
+
       private void restoreExistingClusterEvent() {
         if (existingClusterEvent == null || existingClusterEvent.getCount() == null) {
           return;
         }
-        existingClusterEvent.count(existingClusterEvent.getCount() - 1);
+        existingClusterEvent.count(existingClusterEvent.getCount() - occurrences);
       }
 
       Step createClusterEventRetryStep(CoreV1Event event) {
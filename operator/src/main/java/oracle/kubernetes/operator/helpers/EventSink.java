@@ -0,0 +1,196 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.CoreDelegate;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Collects the events reported by the operator's fibers and writes them in the background. Repeats of an event
+ * reported within one aggregation interval are combined into a single create or series update, and new events are
+ * rate-limited by reason, so that a mass failure neither floods the API server with event calls nor holds up the
+ * fibers which report the events. Until the sink is started, events are written by the reporting fiber.
+ */
+public class EventSink {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static EventSink instance = new EventSink();
+
+  private final Map<EventKey, PendingEvent> pendingEvents = new LinkedHashMap<>();
+  private final Map<String, ReasonLimit> reasonLimits = new HashMap<>();
+  private final Map<String, Integer> droppedEvents = new HashMap<>();
+  private CoreDelegate delegate;
+  private Cancellable flusher;
+
+  /**
+   * Creates the steps which write an event, with the specified number of occurrences, to the API server.
+   */
+  @FunctionalInterface
+  interface EventWriter {
+    Step createWriteStep(CoreV1Event event, int occurrences);
+  }
+
+  public static EventSink getInstance() {
+    return instance;
+  }
+
+  /**
+   * Starts writing the reported events in the background, at the configured aggregation interval. Does nothing if
+   * the interval is zero.
+   * @param delegate the delegate used to schedule the writes and run their fibers
+   */
+  public synchronized void start(CoreDelegate delegate) {
+    final int interval = TuningParameters.getInstance().getEventAggregationIntervalSeconds();
+    if (interval > 0 && this.delegate == null) {
+      this.delegate = delegate;
+      flusher = delegate.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Writes any pending events and stops the background writes. Events reported afterward are written by the
+   * reporting fiber.
+   */
+  public void stop() {
+    synchronized (this) {
+      Optional.ofNullable(flusher).ifPresent(Cancellable::cancel);
+      flusher = null;
+    }
+    flush();
+    synchronized (this) {
+      delegate = null;
+      reasonLimits.clear();
+    }
+  }
+
+  /**
+   * Offers an event to be written in the background.
+   * @param event the event model, with a count of one
+   * @param isRepeat true if the event already exists in Kubernetes
+   * @param writer creates the steps to write the event
+   * @return false if the sink is not started, and the caller must write the event itself
+   */
+  synchronized boolean offer(CoreV1Event event, boolean isRepeat, EventWriter writer) {
+    if (delegate == null) {
+      return false;
+    }
+
+    final EventKey key = new EventKey(event);
+    final PendingEvent pending = pendingEvents.get(key);
+    if (pending != null) {
+      pending.addOccurrence(event);
+      OperatorMetrics.EVENTS_AGGREGATED.labels(event.getReason()).inc();
+    } else if (isRepeat || getReasonLimit(event.getReason()).tryAcquire()) {
+      pendingEvents.put(key, new PendingEvent(event, writer));
+    } else {
+      droppedEvents.merge(event.getReason(), 1, Integer::sum);
+      OperatorMetrics.EVENTS_DROPPED.labels(event.getReason()).inc();
+    }
+    return true;
+  }
+
+  private ReasonLimit getReasonLimit(String reason) {
+    return reasonLimits.computeIfAbsent(reason,
+        r -> new ReasonLimit(TuningParameters.getInstance().getEventsPerReasonPerMinute()));
+  }
+
+  /**
+   * Writes the events reported since the last flush, each in its own fiber.
+   */
+  void flush() {
+    final List<PendingEvent> events;
+    final Map<String, Integer> dropped;
+    final CoreDelegate runner;
+    synchronized (this) {
+      events = new ArrayList<>(pendingEvents.values());
+      dropped = new HashMap<>(droppedEvents);
+      runner = delegate;
+      pendingEvents.clear();
+      droppedEvents.clear();
+    }
+
+    dropped.forEach((reason, count) -> LOGGER.warning(MessageKeys.EVENTS_DROPPED, count, reason));
+    if (runner != null) {
+      events.forEach(e -> runner.runSteps(e.createWriteStep()));
+    }
+  }
+
+  // Events which match in namespace, involved object, reason and message are repeats of the same event.
+  private record EventKey(String namespace, KubernetesEventObjects.EventIdentifier identifier) {
+    EventKey(CoreV1Event event) {
+      this(Optional.ofNullable(event.getMetadata()).map(V1ObjectMeta::getNamespace).orElse(null),
+          new KubernetesEventObjects.EventIdentifier(event));
+    }
+  }
+
+  private static class PendingEvent {
+    private final CoreV1Event event;
+    private final EventWriter writer;
+    private int occurrences = 1;
+
+    PendingEvent(CoreV1Event event, EventWriter writer) {
+      this.event = event.firstTimestamp(event.getLastTimestamp());
+      this.writer = writer;
+    }
+
+    void addOccurrence(CoreV1Event repeat) {
+      occurrences++;
+      event.lastTimestamp(repeat.getLastTimestamp());
+    }
+
+    Step createWriteStep() {
+      return writer.createWriteStep(event, occurrences);
+    }
+  }
+
+  // A token bucket which allows up to a minute's worth of new events at once, and refills at the per-minute rate.
+  private static class ReasonLimit {
+    private final int eventsPerMinute;
+    private double tokens;
+    private OffsetDateTime lastRefill = SystemClock.now();
+
+    ReasonLimit(int eventsPerMinute) {
+      this.eventsPerMinute = eventsPerMinute;
+      this.tokens = eventsPerMinute;
+    }
+
+    boolean tryAcquire() {
+      refill();
+      if (tokens < 1) {
+        return false;
+      }
+      tokens--;
+      return true;
+    }
+
+    private void refill() {
+      final OffsetDateTime now = SystemClock.now();
+      final double elapsedMinutes = Duration.between(lastRefill, now).toMillis() / 60_000.0;
+      if (elapsedMinutes > 0) {
+        tokens = Math.min(eventsPerMinute, tokens + elapsedMinutes * eventsPerMinute);
+        lastRefill = now;
+      }
+    }
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -368,8 +368,8 @@ public class JobHelper {
       return getNumRunningServers() == 0 && creatingServers(info) && (isDomainGenerationChanged(packet));
     }
 
-    private int getNumRunningServers() {
-      return info.getServerNames().size();
+    private long getNumRunningServers() {
+      return info.getNumActiveServers();
     }
 
     private boolean isDomainGenerationChanged(Packet packet) {
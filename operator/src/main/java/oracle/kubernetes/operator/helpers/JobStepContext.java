@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -502,11 +502,11 @@ public class JobStepContext extends BasePodStepContext {
     V1Container container = new V1Container()
             .name(INIT_DOMAIN_ON_PV_CONTAINER)
             .image(getDomain().getSpec().getImage())
-            .volumeMounts(getDomain().getAdminServerSpec().getAdditionalVolumeMounts())
+            .volumeMounts(new ArrayList<>(getDomain().getAdminServerSpec().getAdditionalVolumeMounts()))
             .addVolumeMountsItem(new V1VolumeMount().name(SCRIPTS_VOLUME).mountPath(SCRIPTS_MOUNTS_PATH))
             .addVolumeMountsItem(new V1VolumeMount().name(AUXILIARY_IMAGE_INTERNAL_VOLUME_NAME)
                     .mountPath(AUXILIARY_IMAGE_TARGET_PATH))
-            .env(getDomain().getAdminServerSpec().getEnvironmentVariables())
+            .env(PodHelper.createCopy(getDomain().getAdminServerSpec().getEnvironmentVariables()))
             .addEnvItem(new V1EnvVar().name(DOMAIN_HOME).value(getDomainHome()))
             .addEnvItem(new V1EnvVar().name(ServerEnvVars.LOG_HOME).value(getEffectiveLogHome()))
             .addEnvItem(new V1EnvVar().name(ServerEnvVars.DOMAIN_HOME_ON_PV_DEFAULT_UGID)
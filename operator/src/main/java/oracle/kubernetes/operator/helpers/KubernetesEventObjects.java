@@ -1,4 +1,4 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -32,7 +32,7 @@ public class KubernetesEventObjects {
     return events.get(new EventIdentifier(event));
   }
 
-  private static class EventIdentifier {
+  static class EventIdentifier {
     V1ObjectReference involvedObject;
     String reason;
     String message;
@@ -0,0 +1,218 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.watcher.WatchGaps;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
+import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIGMAP_NAME_SUFFIX;
+import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIGMAP_NAME_SUFFIX;
+
+/**
+ * A cache of the content hashes of the live script, Fluentd and Fluent Bit config maps created by the operator,
+ * fed by the config map lists and watches in each domain namespace. Only the labels, the content hash annotation
+ * and a hash of each data entry are kept, not the maps themselves. When the cached state already matches the desired
+ * content, the steps which maintain these maps skip reading them from the API server, and therefore also skip the
+ * replace. A cached state is not used if the watchers of its namespace may have missed events since it was recorded;
+ * the steps then read the map, until a later list or watch event records it again.
+ */
+public class OperatorConfigMapCache {
+
+  static final String SCRIPTS = "scripts";
+  static final String FLUENTD = "fluentd";
+  static final String FLUENTBIT = "fluentbit";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static OperatorConfigMapCache instance = new OperatorConfigMapCache();
+
+  private final Map<String, Map<String, CachedMap>> configMaps = new ConcurrentHashMap<>();
+  private final Map<String, PendingList> pendingLists = new ConcurrentHashMap<>();
+
+  public static OperatorConfigMapCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records a page of a config map list. When the last page of the list is received, the cached maps for the
+   * namespace are replaced with those in the list, so that maps deleted while no watch was running are dropped.
+   * Watch events received while the list is incomplete take precedence over the listed maps.
+   * @param namespace the namespace which was listed
+   * @param page a page of the listed config maps
+   */
+  public synchronized void receivedListPage(String namespace, V1ConfigMapList page) {
+    final PendingList pending = pendingLists.computeIfAbsent(namespace, ns -> new PendingList());
+    Optional.ofNullable(page).map(V1ConfigMapList::getItems).orElse(Collections.emptyList()).stream()
+        .filter(OperatorConfigMapCache::isCached)
+        .forEach(pending::addListed);
+
+    if (isLastPage(page)) {
+      configMaps.put(namespace, pending.maps);
+      pendingLists.remove(namespace);
+    }
+  }
+
+  private static boolean isLastPage(V1ConfigMapList page) {
+    return Optional.ofNullable(page).map(V1ConfigMapList::getMetadata).map(V1ListMeta::getContinue).isEmpty();
+  }
+
+  /**
+   * Discards the cached maps for a namespace which the operator no longer manages.
+   * @param namespace the namespace
+   */
+  public synchronized void removeNamespace(String namespace) {
+    configMaps.remove(namespace);
+    pendingLists.remove(namespace);
+  }
+
+  /**
+   * Updates the cache from a config map watch event.
+   * @param item the watch event
+   */
+  public synchronized void receivedResponse(Watch.Response<V1ConfigMap> item) {
+    final V1ObjectMeta metadata = Optional.ofNullable(item.object).map(V1ConfigMap::getMetadata).orElse(null);
+    if (metadata == null) {
+      return;
+    }
+
+    switch (item.type) {
+      case "ADDED", "MODIFIED":
+        if (isCached(item.object)) {
+          record(metadata, CachedMap.of(item.object, SystemClock.now()));
+        } else {
+          record(metadata, null);
+        }
+        break;
+      case "DELETED":
+        record(metadata, null);
+        break;
+      default:
+    }
+  }
+
+  // Records the state of a map reported by a watch event, where a null entry shows that the map is not cached.
+  private void record(V1ObjectMeta metadata, CachedMap entry) {
+    if (entry != null) {
+      configMaps.computeIfAbsent(metadata.getNamespace(), ns -> new ConcurrentHashMap<>())
+          .put(metadata.getName(), entry);
+    } else {
+      Optional.ofNullable(configMaps.get(metadata.getNamespace())).ifPresent(m -> m.remove(metadata.getName()));
+    }
+    Optional.ofNullable(pendingLists.get(metadata.getNamespace())).ifPresent(p -> p.addWatched(metadata, entry));
+  }
+
+  /**
+   * Returns the last known state of the specified config map, or null if it is not known, or if the watchers
+   * of its namespace may have missed events since it was recorded.
+   * @param namespace the namespace of the map
+   * @param name the name of the map
+   */
+  CachedMap get(String namespace, String name) {
+    return Optional.ofNullable(configMaps.get(namespace)).map(m -> m.get(name))
+        .filter(entry -> !WatchGaps.getInstance().hasGapSince(namespace, entry.recordedAt()))
+        .orElse(null);
+  }
+
+  /**
+   * Records that a config map did not need to be read because its cached state was current.
+   * @param configMap the kind of map: one of "scripts", "fluentd" or "fluentbit"
+   */
+  static void recordSkippedRead(String configMap) {
+    OperatorMetrics.CONFIG_MAP_READS_SKIPPED.labels(configMap).inc();
+  }
+
+  private static boolean isCached(V1ConfigMap configMap) {
+    return Optional.ofNullable(configMap).map(V1ConfigMap::getMetadata)
+        .filter(OperatorConfigMapCache::isCreatedByOperator)
+        .map(V1ObjectMeta::getName)
+        .filter(OperatorConfigMapCache::isCachedName)
+        .isPresent();
+  }
+
+  private static boolean isCreatedByOperator(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata.getLabels())
+        .map(l -> "true".equals(l.get(LabelConstants.CREATEDBYOPERATOR_LABEL)))
+        .orElse(false);
+  }
+
+  private static boolean isCachedName(String name) {
+    return name.equals(SCRIPT_CONFIG_MAP_NAME)
+        || name.endsWith(FLUENTD_CONFIGMAP_NAME_SUFFIX)
+        || name.endsWith(FLUENTBIT_CONFIGMAP_NAME_SUFFIX);
+  }
+
+  /**
+   * The recorded state of a config map.
+   * @param labels the labels of the map
+   * @param contentHash the value of the map's content hash annotation, if any
+   * @param dataHashes the hash of each data entry of the map
+   * @param recordedAt the time at which the state was recorded
+   */
+  record CachedMap(Map<String, String> labels, String contentHash, Map<String, String> dataHashes,
+                   OffsetDateTime recordedAt) {
+
+    static CachedMap of(V1ConfigMap configMap, OffsetDateTime recordedAt) {
+      return new CachedMap(
+          Map.copyOf(Optional.ofNullable(configMap.getMetadata().getLabels()).orElse(Collections.emptyMap())),
+          AnnotationHelper.getHash(configMap),
+          hashData(Optional.ofNullable(configMap.getData()).orElse(Collections.emptyMap())),
+          recordedAt);
+    }
+
+    private static Map<String, String> hashData(Map<String, String> data) {
+      return data.entrySet().stream()
+          .filter(e -> e.getValue() != null)
+          .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> AnnotationHelper.createHash(e.getValue())));
+    }
+
+    /**
+     * Returns true if the recorded map has the specified value for a data entry.
+     * @param dataName the name of the data entry
+     * @param value the expected value
+     */
+    boolean hasData(String dataName, String value) {
+      return value != null && Objects.equals(dataHashes.get(dataName), AnnotationHelper.createHash(value));
+    }
+  }
+
+  // The maps of a list whose pages are still being received. The pages of a list describe the namespace as it was
+  // when the list started, so a map changed by a watch event since then keeps the state reported by the event.
+  private static class PendingList {
+    private final OffsetDateTime startTime = SystemClock.now();
+    private final Map<String, CachedMap> maps = new ConcurrentHashMap<>();
+    private final Set<String> watched = ConcurrentHashMap.newKeySet();
+
+    void addListed(V1ConfigMap configMap) {
+      final String name = configMap.getMetadata().getName();
+      if (!watched.contains(name)) {
+        maps.put(name, CachedMap.of(configMap, startTime));
+      }
+    }
+
+    void addWatched(V1ObjectMeta metadata, CachedMap entry) {
+      watched.add(metadata.getName());
+      if (entry != null) {
+        maps.put(metadata.getName(), entry);
+      } else {
+        maps.remove(metadata.getName());
+      }
+    }
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -137,27 +137,6 @@ public class PodHelper {
     return Optional.ofNullable(pod).map(V1Pod::getSpec).map(V1PodSpec::getNodeName).isPresent();
   }
 
-  static boolean hasClusterNameOrNull(@Nullable V1Pod pod, String clusterName) {
-    String actualName = getClusterName(pod);
-    return actualName == null || actualName.equals(clusterName);
-  }
-
-  private static String getClusterName(@Nullable V1Pod pod) {
-    return Optional.ofNullable(pod)
-          .map(V1Pod::getMetadata)
-          .map(V1ObjectMeta::getLabels)
-          .map(PodHelper::getClusterName)
-          .orElse(null);
-  }
-
-  private static String getClusterName(@Nonnull Map<String,String> labels) {
-    return labels.get(CLUSTERNAME_LABEL);
-  }
-
-  static boolean isNotAdminServer(@Nullable V1Pod pod, String adminServerName) {
-    return Optional.ofNullable(getServerName(pod)).map(s -> !s.equals(adminServerName)).orElse(true);
-  }
-
   static String getServerName(@Nullable V1Pod pod) {
     return Optional.ofNullable(pod)
             .map(V1Pod::getMetadata)
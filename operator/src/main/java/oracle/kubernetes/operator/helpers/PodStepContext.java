@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -37,6 +37,7 @@ import io.kubernetes.client.openapi.models.V1Lifecycle;
 import io.kubernetes.client.openapi.models.V1LifecycleHandler;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodBuilder;
 import io.kubernetes.client.openapi.models.V1PodReadinessGate;
 import io.kubernetes.client.openapi.models.V1PodSecurityContext;
 import io.kubernetes.client.openapi.models.V1PodSpec;
@@ -707,7 +708,7 @@ public abstract class PodStepContext extends BasePodStepContext {
     Optional.ofNullable(getAuxiliaryImages()).ifPresent(auxiliaryImages ->
             getAuxiliaryImageInitContainers(auxiliaryImages, initContainers));
     initContainers.addAll(getServerSpec().getInitContainers().stream()
-            .map(c -> c.env(createEnv(c)).envFrom(c.getEnvFrom()).resources(createResources()))
+            .map(c -> new V1ContainerBuilder(c).build().env(createEnv(c)).resources(createResources()))
         .toList());
     return initContainers;
   }
@@ -1154,7 +1155,8 @@ public abstract class PodStepContext extends BasePodStepContext {
 
     @SuppressWarnings("SameParameterValue")
     private String adjustedHash(V1Pod currentPod, List<Pair<String, BiConsumer<V1Pod, V1Pod>>> adjustments) {
-      V1Pod recipe = createPodRecipe();
+      // the recipe shares objects with the effective server spec, so adjust a copy
+      V1Pod recipe = new V1PodBuilder(createPodRecipe()).build();
       adjustments.forEach(adjustment -> adjustment.right().accept(recipe, currentPod));
 
       return AnnotationHelper.createHash(recipe);
@@ -1,8 +1,10 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -13,15 +15,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
@@ -29,6 +34,7 @@ import oracle.kubernetes.operator.work.Fiber.StepAndPacket;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.OperatorUtils;
+import oracle.kubernetes.utils.SystemClock;
 
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 
@@ -36,11 +42,20 @@ import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an
  * out-of-date specification, it defers the processing of these servers to the RollingHelper. This
  * class will ensure that a minimum number of cluster members remain up, if possible, throughout the
- * rolling process.
+ * rolling process. Clusters roll independently of one another; a cluster which must wait for a restarted
+ * server to become ready suspends its branch of the fiber, which a change to a server pod resumes to check again.
+ * A cluster which is still waiting after the watch backstop delay requeues the make-right.
+ * If surge servers are configured, a rolling cluster may also start that many of its idle servers, so that
+ * more of its servers may restart at once.
+ *
+ * <p>The clusters, and the restarts within each, run in a concurrent fork-join. The branches share no
+ * unsynchronized state: each runs with its own packet, each restart with the packet copied when its server
+ * was marked to roll; a cluster's {@link RollSpecificClusterStep} is used only by that cluster's branch;
+ * the servers to roll, and the pods and surges of the {@link DomainPresenceInfo}, are held in concurrent
+ * maps; and the domain status is replaced from a copy, with a conflicting update refreshed and retried.
  */
 public class RollingHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final long DELAY_IN_SECONDS = 1;
 
   private RollingHelper() {
   }
@@ -58,7 +73,10 @@ public class RollingHelper {
    * @return Asynchronous step to complete rolling
    */
   public static Step rollServers(Map<String, StepAndPacket> rolling, Step next) {
-    return new RollingStep(rolling, next);
+    if (rolling.isEmpty()) {
+      return new RollingStep(rolling, next);
+    }
+    return DomainStatusUpdater.createRollProgressStep(rolling.size(), new RollingStep(rolling, next));
   }
 
   private static boolean hasReadyServer(V1Pod pod) {
@@ -77,8 +95,8 @@ public class RollingHelper {
       return DomainPresenceInfo.fromPacket(packet).orElseThrow();
     }
 
-    protected List<String> getReadyServers() {
-      return getInfo().getSelectedActiveServerNames(RollingHelper::hasReadyServer);
+    protected boolean isReadyServer(String serverName) {
+      return Optional.ofNullable(getInfo().getServerPod(serverName)).map(RollingHelper::hasReadyServer).orElse(false);
     }
   }
 
@@ -100,12 +118,16 @@ public class RollingHelper {
     public @Nonnull Result apply(Packet packet) {
       final StepContext context = new StepContext(packet);
       context.classifyRollingEntries(rolling);
+      if (context.recordRollingSurges(rolling)) {
+        // run the make-right again, so that it starts the added surge servers before the roll
+        return doRequeue();
+      }
 
       context.createWork(packet);
       if (context.hasNoWork()) {
         return doNext(packet);
       } else {
-        return doForkJoin(getNext(), packet, context.getWork());
+        return doForkJoin(getNext(), packet, context.getWork(), context.getWork().size());
       }
     }
 
@@ -133,11 +155,15 @@ public class RollingHelper {
       }
 
       private String getClusterName(Map.Entry<String, StepAndPacket> rollingEntry) {
-        return rollingEntry.getValue().packet().getValue(ProcessingConstants.CLUSTER_NAME);
+        return getClusterName(rollingEntry.getValue());
+      }
+
+      private String getClusterName(StepAndPacket stepAndPacket) {
+        return stepAndPacket.packet().getValue(ProcessingConstants.CLUSTER_NAME);
       }
 
       private boolean isServerNotReady(Map.Entry<String, StepAndPacket> rollingEntry) {
-        return !getReadyServers().contains(rollingEntry.getKey());
+        return !isReadyServer(rollingEntry.getKey());
       }
 
       private void recordForImmediateStart(Map.Entry<String, StepAndPacket> rollingEntry) {
@@ -152,6 +178,25 @@ public class RollingHelper {
         return new ConcurrentLinkedQueue<>();
       }
 
+      // Each cluster with servers left to roll may start surge servers, up to the number left to roll. Clusters
+      // which have finished rolling give up their surge servers. Returns true if any cluster is to start more.
+      private boolean recordRollingSurges(Map<String, StepAndPacket> rolling) {
+        final int maxSurge = TuningParameters.getInstance().getRollingSurgeServers();
+        final Map<String, Long> numServersToRoll = rolling.values().stream()
+              .map(this::getClusterName)
+              .filter(Objects::nonNull)
+              .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        boolean surgeAdded = false;
+        for (Map.Entry<String, Long> entry : numServersToRoll.entrySet()) {
+          final int surge = (int) Math.min(maxSurge, entry.getValue());
+          surgeAdded |= surge > getInfo().getRollingSurge(entry.getKey());
+          getInfo().setRollingSurge(entry.getKey(), surge);
+        }
+        getInfo().retainRollingSurges(numServersToRoll.keySet());
+        return surgeAdded;
+      }
+
       private void createWork(Packet packet) {
         Optional.of(serverRestarts)
               .filter(this::hasRestarts)
@@ -179,8 +224,9 @@ public class RollingHelper {
         return new RollSpecificClusterStep(entry.getKey(), entry.getValue());
       }
 
+      // the work runs concurrently, so each step needs its own packet
       private void addWork(Packet packet, Step step) {
-        work.add(new StepAndPacket(step, packet));
+        work.add(new StepAndPacket(step, packet.copy()));
       }
 
       private boolean hasNoWork() {
@@ -199,7 +245,7 @@ public class RollingHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doForkJoin(getNext(), packet, serversThatCanRestartNow);
+      return doForkJoin(getNext(), packet, serversThatCanRestartNow, serversThatCanRestartNow.size());
     }
   }
 
@@ -208,6 +254,7 @@ public class RollingHelper {
     private final Queue<StepAndPacket> servers;
     private int loggedServersSize = -1;
     private String loggedReadyServers;
+    private OffsetDateTime waitDeadline;
 
     public RollSpecificClusterStep(String clusterName, Queue<StepAndPacket> clusteredServerRestarts) {
       this.clusterName = clusterName;
@@ -232,6 +279,33 @@ public class RollingHelper {
     @Override
     public @Nonnull Result apply(Packet packet) {
       StepContext context = new StepContext(packet, clusterName);
+      Collection<StepAndPacket> restarts = selectRestarts(context, packet);
+      if (!restarts.isEmpty()) {
+        waitDeadline = null;
+        return doForkJoin(this, packet, restarts, restarts.size());
+      } else if (servers.isEmpty()) {
+        return doNext(packet);
+      } else {
+        return waitForServerPodChange(context, packet);
+      }
+    }
+
+    // The restarted servers are not yet ready; the step runs again once a server pod changes. Waits longer than the
+    // watch backstop delay are left to a later run of the make-right.
+    private Result waitForServerPodChange(StepContext context, Packet packet) {
+      final OffsetDateTime now = SystemClock.now();
+      if (waitDeadline == null) {
+        waitDeadline = now.plusSeconds(TuningParameters.getInstance().getWatchTuning().getWatchBackstopRecheckDelay());
+      }
+      if (!now.isBefore(waitDeadline)) {
+        return doRequeue();
+      }
+      return doSuspend(this, new RequeueStep(), packet, Duration.between(now, waitDeadline),
+          context::onServerPodChange);
+    }
+
+    private Collection<StepAndPacket> selectRestarts(StepContext context, Packet packet) {
+      context.recordServerPodChangeCount();
       List<String> readyServers = context.getReadyServers(packet.getValue(DOMAIN_TOPOLOGY));
       if (loggedServersSize != servers.size() || !Objects.equals(loggedReadyServers, readyServers.toString())) {
         LOGGER.info(MessageKeys.ROLLING_SERVERS,
@@ -245,24 +319,34 @@ public class RollingHelper {
       for (int i = 0; i < countToRestartNow; i++) {
         Optional.ofNullable(servers.poll()).ifPresent(restarts::add);
       }
+      return restarts;
+    }
 
-      if (!restarts.isEmpty()) {
-        return doForkJoin(this, packet, restarts);
-      } else if (!servers.isEmpty()) {
-        return doDelay(this, packet, DELAY_IN_SECONDS, TimeUnit.SECONDS);
-      } else {
-        return doNext(packet);
+    private static class RequeueStep extends Step {
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        return doRequeue();
       }
     }
 
     private static class StepContext extends BaseStepContext {
       private final String clusterName;
+      private long serverPodChangeCount;
 
       StepContext(Packet packet, String clusterName) {
         super(packet);
         this.clusterName = clusterName;
       }
 
+      private void recordServerPodChangeCount() {
+        serverPodChangeCount = getInfo().getServerPodChangeCount();
+      }
+
+      // resumes the step at once if a server pod has changed since the restarts were selected
+      private void onServerPodChange(Runnable resume) {
+        getInfo().onServerPodChange(serverPodChangeCount, resume);
+      }
+
       String getDomainUid() {
         return getInfo().getDomainUid();
       }
@@ -277,17 +361,13 @@ public class RollingHelper {
               .map(this::getClusterConfig)
               .map(WlsClusterConfig::getServerConfigs).orElse(Collections.emptyList()).stream()
               .map(WlsServerConfig::getName)
-              .filter(this::isServerReady)
+              .filter(this::isReadyServer)
               .toList();
       }
 
       private WlsClusterConfig getClusterConfig(WlsDomainConfig config) {
         return config.getClusterConfig(clusterName);
       }
-
-      private boolean isServerReady(String serverName) {
-        return getReadyServers().contains(serverName);
-      }
     }
   }
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -16,6 +16,7 @@ class ServerKubernetesObjects {
   private final AtomicReference<LastKnownStatus> lastKnownStatus = new AtomicReference<>(null);
   private final AtomicReference<V1Service> service = new AtomicReference<>(null);
   private final AtomicReference<V1Service> externalService = new AtomicReference<>();
+  private ServerPodCounts.PodState podState;
 
   ServerKubernetesObjects() {
   }
@@ -54,4 +55,17 @@ class ServerKubernetesObjects {
   AtomicReference<V1Service> getExternalService() {
     return externalService;
   }
+
+  /**
+   * The state of the pod as last counted. Accessed only while holding this object's lock.
+   *
+   * @return Pod state, or null if there is no pod
+   */
+  ServerPodCounts.PodState getPodState() {
+    return podState;
+  }
+
+  void setPodState(ServerPodCounts.PodState podState) {
+    this.podState = podState;
+  }
 }
@@ -0,0 +1,127 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+
+/**
+ * Counts of the server pods of a domain by cluster. The counts are adjusted for each server whose pod has been set
+ * since they were last read, so that they may be read without examining every server.
+ */
+class ServerPodCounts {
+
+  // the key for servers which are not in any cluster
+  private static final String NON_CLUSTERED = "";
+
+  private final ConcurrentMap<String, Counts> counts = new ConcurrentHashMap<>();
+
+  /**
+   * The properties of a server pod which contribute to the counts. Scheduled and ready pods are counted only if they
+   * are not being deleted.
+   * @param clusterName the name of the cluster to which the pod's server belongs, or null
+   * @param serverName the name of the pod's server
+   * @param scheduled true if the pod has been scheduled to a node
+   * @param ready true if the pod's server is ready
+   */
+  record PodState(String clusterName, String serverName, boolean scheduled, boolean ready) {
+
+    static PodState of(@Nullable V1Pod pod) {
+      return Optional.ofNullable(pod).map(PodState::create).orElse(null);
+    }
+
+    private static PodState create(V1Pod pod) {
+      final boolean deleting = PodHelper.isDeleting(pod);
+      return new PodState(PodHelper.getPodClusterName(pod), PodHelper.getPodServerName(pod),
+          !deleting && PodHelper.isScheduled(pod), !deleting && PodHelper.hasReadyServer(pod));
+    }
+
+    boolean isInClusterOrNone(String clusterName) {
+      return this.clusterName == null || this.clusterName.equals(clusterName);
+    }
+  }
+
+  /**
+   * Replaces the contribution of a server's pod to the counts.
+   * @param previous the state of the pod previously recorded for the server, or null if there was none
+   * @param current the state of the pod now recorded for the server, or null if there is none
+   */
+  void replace(@Nullable PodState previous, @Nullable PodState current) {
+    if (!Objects.equals(previous, current)) {
+      adjust(previous, -1);
+      adjust(current, 1);
+    }
+  }
+
+  private void adjust(@Nullable PodState state, int delta) {
+    Optional.ofNullable(state).ifPresent(s -> getCounts(s.clusterName()).adjust(s, delta));
+  }
+
+  private Counts getCounts(@Nullable String clusterName) {
+    return counts.computeIfAbsent(Optional.ofNullable(clusterName).orElse(NON_CLUSTERED), c -> new Counts());
+  }
+
+  /**
+   * Returns the number of pods of non-clustered servers and of servers in the specified cluster.
+   * @param clusterName the name of a cluster, or null to count only the non-clustered servers
+   */
+  long getNumActive(@Nullable String clusterName) {
+    return sum(clusterName, c -> c.active);
+  }
+
+  /**
+   * Returns the number of pods of all servers.
+   */
+  long getNumActive() {
+    return counts.values().stream().mapToLong(c -> c.active.get()).sum();
+  }
+
+  /**
+   * Returns the number of scheduled pods of non-clustered servers and of servers in the specified cluster.
+   * @param clusterName the name of a cluster, or null to count only the non-clustered servers
+   */
+  long getNumScheduled(@Nullable String clusterName) {
+    return sum(clusterName, c -> c.scheduled);
+  }
+
+  /**
+   * Returns the number of ready pods of non-clustered servers and of servers in the specified cluster.
+   * @param clusterName the name of a cluster, or null to count only the non-clustered servers
+   */
+  long getNumReady(@Nullable String clusterName) {
+    return sum(clusterName, c -> c.ready);
+  }
+
+  private long sum(@Nullable String clusterName, Function<Counts, AtomicInteger> count) {
+    final long numNonClustered = getCount(NON_CLUSTERED, count);
+    return clusterName == null ? numNonClustered : numNonClustered + getCount(clusterName, count);
+  }
+
+  private int getCount(String key, Function<Counts, AtomicInteger> count) {
+    return Optional.ofNullable(counts.get(key)).map(count).map(AtomicInteger::get).orElse(0);
+  }
+
+  private static class Counts {
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final AtomicInteger ready = new AtomicInteger();
+
+    void adjust(PodState state, int delta) {
+      active.addAndGet(delta);
+      if (state.scheduled()) {
+        scheduled.addAndGet(delta);
+      }
+      if (state.ready()) {
+        ready.addAndGet(delta);
+      }
+    }
+  }
+}
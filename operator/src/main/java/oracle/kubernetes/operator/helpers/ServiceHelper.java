@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -282,7 +283,7 @@ public class ServiceHelper {
 
     @Override
     protected Map<String, String> getServiceLabels() {
-      Map<String, String> serviceLabels = getServerSpec().getServiceLabels();
+      Map<String, String> serviceLabels = new HashMap<>(getServerSpec().getServiceLabels());
       if (isForAdminServer()) {
         serviceLabels.putAll(getDomain().getAdminServerSpec().getServiceLabels());
       }
@@ -291,7 +292,7 @@ public class ServiceHelper {
 
     @Override
     protected Map<String, String> getServiceAnnotations() {
-      Map<String, String> serviceAnnotations = getServerSpec().getServiceAnnotations();
+      Map<String, String> serviceAnnotations = new HashMap<>(getServerSpec().getServiceAnnotations());
       if (isForAdminServer()) {
         serviceAnnotations.putAll(getDomain().getAdminServerSpec().getServiceAnnotations());
       }
@@ -954,7 +955,7 @@ public class ServiceHelper {
     }
 
     private Step getStep() {
-      return RequestBuilder.SERVICE.list(info.getNamespace(),
+      return RequestBuilder.SERVICE.listMetadata(info.getNamespace(),
           new ListOptions().labelSelector(forDomainUidSelector(info.getDomainUid()) + ","
               + getCreatedByOperatorSelector() + "," + getServiceTypeSelector("EXTERNAL")),
           new ActionResponseStep<>() {
@@ -1,4 +1,4 @@
-// Copyright (c) 2024, Oracle and/or its affiliates.
+// Copyright (c) 2024, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.client;
@@ -19,6 +19,8 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.tracing.Span;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -94,16 +96,28 @@ public class HttpRequestStep extends Step {
   public @Nonnull Result apply(Packet packet) {
     HttpResponseStep.removeResponse(packet);
     DomainPresenceInfo info = getDomainPresenceInfo(packet);
+    final Span span = startSpan(packet);
     try (ThreadLoggingContext ignored =
              setThreadContext().namespace(getNamespaceFromInfo(info)).domainUid(getDomainUIDFromInfo(info))) {
       HttpResponse<String> response = sender.send(request);
+      span.setAttribute("http.response.status_code", response.statusCode());
       recordResponse(response, packet);
     } catch (IOException | InterruptedException e) {
+      span.recordError(e.toString());
       recordThrowableResponse(e, packet);
+    } finally {
+      span.end();
     }
     return doNext(packet);
   }
 
+  private Span startSpan(Packet packet) {
+    return Tracer.getInstance().startClientSpan(packet, "HTTP " + request.method())
+        .setAttribute("http.request.method", request.method())
+        .setAttribute("url.full", request.uri())
+        .setAttribute("weblogic.serverName", getServerName(packet));
+  }
+
   public static HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
     return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
   }
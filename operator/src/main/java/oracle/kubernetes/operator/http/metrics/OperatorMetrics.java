@@ -0,0 +1,93 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * Prometheus metrics published by the operator and the webhook. The collectors are registered with the
+ * default registry, which is exposed by {@link MetricsServer}.
+ */
+public class OperatorMetrics {
+
+  private static final String PREFIX = "weblogic_operator_";
+
+  public static final Histogram CONVERSION_WEBHOOK_LATENCY = Histogram.build()
+      .name(PREFIX + "conversion_webhook_duration_seconds")
+      .help("Time taken to process a domain conversion review.")
+      .labelNames("result")
+      .register();
+
+  public static final Gauge STARTUP_PHASE_DURATION = Gauge.build()
+      .name(PREFIX + "startup_phase_duration_seconds")
+      .help("Time taken by each phase of the operator startup.")
+      .labelNames("phase")
+      .register();
+
+  public static final Counter CONFIG_MAP_READS_SKIPPED = Counter.build()
+      .name(PREFIX + "config_map_reads_skipped_total")
+      .help("Operator-managed config map reads skipped because the watched copy was current.")
+      .labelNames("config_map")
+      .register();
+
+  public static final Counter EVENTS_AGGREGATED = Counter.build()
+      .name(PREFIX + "events_aggregated_total")
+      .help("Repeated events counted in memory and written as part of a single series update.")
+      .labelNames("reason")
+      .register();
+
+  public static final Counter EVENTS_DROPPED = Counter.build()
+      .name(PREFIX + "events_dropped_total")
+      .help("New events not created because their reason exceeded its rate limit.")
+      .labelNames("reason")
+      .register();
+
+  public static final Histogram MAKE_RIGHT_QUEUE_WAIT = Histogram.build()
+      .name(PREFIX + "make_right_queue_wait_seconds")
+      .help("Time a make-right operation waited for the scheduler to start it.")
+      .labelNames("priority")
+      .register();
+
+  public static final Gauge MAKE_RIGHTS_QUEUED = Gauge.build()
+      .name(PREFIX + "make_rights_queued")
+      .help("Make-right operations waiting for the scheduler to start them.")
+      .labelNames("priority")
+      .register();
+
+  public static final Gauge MAKE_RIGHTS_RUNNING = Gauge.build()
+      .name(PREFIX + "make_rights_running")
+      .help("Make-right operations started by the scheduler which have not yet completed.")
+      .register();
+
+  public static final Counter MAKE_RIGHT_TRIGGERS_COLLAPSED = Counter.build()
+      .name(PREFIX + "make_right_triggers_collapsed_total")
+      .help("Watch events whose make-right was combined with that of an earlier event for the same domain.")
+      .labelNames("source")
+      .register();
+
+  public static final Counter MAKE_RIGHT_PLANS = Counter.build()
+      .name(PREFIX + "make_right_plans_total")
+      .help("Domain make-right plans run, by whether the full plan or an incremental one was chosen.")
+      .labelNames("plan")
+      .register();
+
+  public static final Histogram DOMAIN_RECHECK_DURATION = Histogram.build()
+      .name(PREFIX + "domain_recheck_duration_seconds")
+      .help("Time taken by each periodic recheck of the domain namespaces.")
+      .labelNames("recheck")
+      .register();
+
+  public static final Histogram DOMAIN_RECHECK_API_CALLS = Histogram.build()
+      .name(PREFIX + "domain_recheck_api_calls")
+      .help("Kubernetes API calls made by each periodic recheck of the domain namespaces.")
+      .labelNames("recheck")
+      .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000)
+      .register();
+
+  private OperatorMetrics() {
+    // no-op
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -59,6 +60,8 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -90,7 +93,9 @@ public class RestBackendImpl implements RestBackend {
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
+  private final String accessToken;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final Supplier<Map<String, FiberGate>> fiberGates;
   private V1UserInfo userInfo;
   private Gson gson;
   private UnaryOperator<ApiClient> clientSupplier;
@@ -104,8 +109,24 @@ public class RestBackendImpl implements RestBackend {
    * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
    */
   RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces) {
+    this(principal, accessToken, domainNamespaces, Collections::emptyMap);
+  }
+
+  /**
+   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
+   *  @param principal is the name of the Kubernetes user to use when calling the Kubernetes REST
+   *     api.
+   * @param accessToken is the access token of the Kubernetes service account of the client calling
+   *     the WebLogic operator REST api.
+   * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
+   * @param fiberGates a function that returns the operator's fiber gates by name.
+   */
+  RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces,
+                  Supplier<Map<String, FiberGate>> fiberGates) {
     this.domainNamespaces = domainNamespaces;
+    this.fiberGates = fiberGates;
     this.principal = principal;
+    this.accessToken = accessToken;
     userInfo = authenticate(accessToken);
     try {
       ClientBuilder builder = ClientBuilder.standard();
@@ -121,9 +142,21 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void authorize(String domainUid, Operation operation) {
-    if (!useAuthenticateWithTokenReview()) {
-      return;
+    if (useAuthenticateWithTokenReview()) {
+      checkAccess(domainUid, operation);
     }
+  }
+
+  // The fibers are the operator's own state, which no Kubernetes call made with the caller's token would protect,
+  // so access to them is always checked with a token review and a subject access review, whatever the REST mode.
+  private void authorizeFiberAccess(Operation operation) {
+    if (userInfo == null) {
+      userInfo = reviewToken(accessToken);
+    }
+    checkAccess(null, operation);
+  }
+
+  private void checkAccess(String domainUid, Operation operation) {
     boolean authorized;
     if (domainUid == null) {
       authorized =
@@ -162,6 +195,10 @@ public class RestBackendImpl implements RestBackend {
     if (!useAuthenticateWithTokenReview()) {
       return null;
     }
+    return reviewToken(accessToken);
+  }
+
+  private V1UserInfo reviewToken(String accessToken) {
     V1TokenReviewStatus status = atn.check(principal, accessToken,
         OperatorMain.isDedicated() ? getOperatorNamespace() : null);
     if (status == null) {
@@ -493,6 +530,21 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  @Override
+  public Map<String, List<Fiber.Snapshot>> getFibers() {
+    authorizeFiberAccess(Operation.LIST);
+
+    final Map<String, List<Fiber.Snapshot>> result = new TreeMap<>();
+    fiberGates.get().forEach((name, gate) -> result.put(name, gate.getFiberSnapshots()));
+    return result;
+  }
+
+  @Override
+  public boolean cancelFiber(String fiberName) {
+    authorizeFiberAccess(Operation.UPDATE);
+
+    return fiberGates.get().values().stream().anyMatch(gate -> gate.cancelFiber(fiberName));
+  }
 
   private void patchDomain(DomainResource domain, JsonPatchBuilder patchBuilder) {
     try {
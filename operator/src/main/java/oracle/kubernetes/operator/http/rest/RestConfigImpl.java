@@ -1,13 +1,15 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
 import oracle.kubernetes.operator.utils.Certificates;
+import oracle.kubernetes.operator.work.FiberGate;
 
 /** RestConfigImpl provides the WebLogic Operator REST api configuration. */
 public class RestConfigImpl implements RestConfig {
@@ -16,6 +18,7 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final Supplier<Map<String, FiberGate>> fiberGates;
   private final Certificates certificates;
 
   /**
@@ -23,7 +26,7 @@ public class RestConfigImpl implements RestConfig {
    * @param certificates Certificates.
    */
   public RestConfigImpl(Certificates certificates) {
-    this(null, null, certificates);
+    this(null, null, null, certificates);
   }
 
   /**
@@ -31,10 +34,13 @@ public class RestConfigImpl implements RestConfig {
    *  @param principal is the name of the Kubernetes User or Service Account to use when calling the
    *     Kubernetes REST API.
    * @param domainNamespaces returns a list of the Kubernetes Namespaces covered by this Operator.
+   * @param fiberGates returns the Operator's fiber gates by name.
    * @param certificates Certificates
    */
-  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces, Certificates certificates) {
+  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces,
+                        Supplier<Map<String, FiberGate>> fiberGates, Certificates certificates) {
     this.domainNamespaces = domainNamespaces;
+    this.fiberGates = fiberGates;
     this.principal = principal;
     this.certificates = certificates;
   }
@@ -101,7 +107,7 @@ public class RestConfigImpl implements RestConfig {
 
   @Override
   public RestBackend getBackend(String accessToken) {
-    return new RestBackendImpl(principal, accessToken, domainNamespaces);
+    return new RestBackendImpl(principal, accessToken, domainNamespaces, fiberGates);
   }
 
   @Override
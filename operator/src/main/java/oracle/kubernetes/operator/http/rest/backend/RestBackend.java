@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest.backend;
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Set;
 
 import oracle.kubernetes.operator.http.rest.model.DomainAction;
+import oracle.kubernetes.operator.work.Fiber;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -78,4 +79,19 @@ public interface RestBackend {
   Object createOrReplaceCluster(Map<String, Object> body);
 
   List<Map<String, Object>> listClusters(String namespace);
+
+  /**
+   * Describes the fibers of the WebLogic operator's fiber gates which have not yet completed.
+   *
+   * @return a map of fiber gate names to snapshots of the fibers of each gate.
+   */
+  Map<String, List<Fiber.Snapshot>> getFibers();
+
+  /**
+   * Cancels a fiber of one of the WebLogic operator's fiber gates, so that it runs no more steps.
+   *
+   * @param fiberName - the name of the fiber.
+   * @return whether or not a fiber with this name was found and cancelled.
+   */
+  boolean cancelFiber(String fiberName);
 }
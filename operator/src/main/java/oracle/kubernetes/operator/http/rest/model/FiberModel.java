@@ -0,0 +1,237 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import oracle.kubernetes.operator.work.Fiber;
+
+/** FiberModel describes a fiber which the WebLogic operator is running to process a domain. */
+public class FiberModel extends ItemModel {
+
+  private String fiber;
+  private String gate;
+  private String key;
+  private String state;
+  private String currentStep;
+  private String timeInStep;
+  private int requeueCount;
+  private List<String> packetKeys = new ArrayList<>();
+  private String parentFiber;
+  private String forkingStep;
+
+  /** Construct an empty FiberModel. */
+  public FiberModel() {
+  }
+
+  /**
+   * Construct a populated FiberModel.
+   *
+   * @param gate - the name of the fiber gate which runs the fiber.
+   * @param snapshot - a snapshot of the fiber's progress.
+   */
+  public FiberModel(String gate, Fiber.Snapshot snapshot) {
+    this.gate = gate;
+    this.fiber = snapshot.name();
+    this.key = snapshot.key();
+    this.state = snapshot.state();
+    this.currentStep = snapshot.currentStep();
+    this.timeInStep = Optional.ofNullable(snapshot.timeInStep()).map(Object::toString).orElse(null);
+    this.requeueCount = snapshot.requeueCount();
+    this.packetKeys = new ArrayList<>(snapshot.packetKeys());
+    this.parentFiber = snapshot.parentFiber();
+    this.forkingStep = snapshot.forkingStep();
+  }
+
+  /**
+   * Get the fiber's name.
+   *
+   * @return the fiber's name.
+   */
+  public String getFiber() {
+    return fiber;
+  }
+
+  /**
+   * Set the fiber's name.
+   *
+   * @param fiber - the fiber's name.
+   */
+  public void setFiber(String fiber) {
+    this.fiber = fiber;
+  }
+
+  /**
+   * Get the name of the fiber gate which runs the fiber.
+   *
+   * @return the gate's name.
+   */
+  public String getGate() {
+    return gate;
+  }
+
+  /**
+   * Set the name of the fiber gate which runs the fiber.
+   *
+   * @param gate - the gate's name.
+   */
+  public void setGate(String gate) {
+    this.gate = gate;
+  }
+
+  /**
+   * Get the key under which the gate runs the fiber, typically a domain UID.
+   *
+   * @return the fiber's key.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Set the key under which the gate runs the fiber.
+   *
+   * @param key - the fiber's key.
+   */
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  /**
+   * Get the fiber's state: <code>active</code> or <code>scheduled</code>.
+   *
+   * @return the fiber's state.
+   */
+  public String getState() {
+    return state;
+  }
+
+  /**
+   * Set the fiber's state.
+   *
+   * @param state - the fiber's state.
+   */
+  public void setState(String state) {
+    this.state = state;
+  }
+
+  /**
+   * Get the name of the step which the fiber is running, or last ran.
+   *
+   * @return the step's name.
+   */
+  public String getCurrentStep() {
+    return currentStep;
+  }
+
+  /**
+   * Set the name of the step which the fiber is running.
+   *
+   * @param currentStep - the step's name.
+   */
+  public void setCurrentStep(String currentStep) {
+    this.currentStep = currentStep;
+  }
+
+  /**
+   * Get the time since the current step started, as an ISO-8601 duration.
+   *
+   * @return the time in the current step.
+   */
+  public String getTimeInStep() {
+    return timeInStep;
+  }
+
+  /**
+   * Set the time since the current step started.
+   *
+   * @param timeInStep - the time in the current step.
+   */
+  public void setTimeInStep(String timeInStep) {
+    this.timeInStep = timeInStep;
+  }
+
+  /**
+   * Get the number of times the processing run by the fiber has been requeued.
+   *
+   * @return the requeue count.
+   */
+  public int getRequeueCount() {
+    return requeueCount;
+  }
+
+  /**
+   * Set the number of times the processing run by the fiber has been requeued.
+   *
+   * @param requeueCount - the requeue count.
+   */
+  public void setRequeueCount(int requeueCount) {
+    this.requeueCount = requeueCount;
+  }
+
+  /**
+   * Get the names of the entries in the fiber's packet.
+   *
+   * @return a List of packet keys.
+   */
+  public List<String> getPacketKeys() {
+    return packetKeys;
+  }
+
+  /**
+   * Set the names of the entries in the fiber's packet.
+   *
+   * @param packetKeys - the packet keys.
+   */
+  public void setPacketKeys(List<String> packetKeys) {
+    this.packetKeys = packetKeys;
+  }
+
+  /**
+   * Get the name of the fiber which started this one, if any.
+   *
+   * @return the parent fiber's name.
+   */
+  public String getParentFiber() {
+    return parentFiber;
+  }
+
+  /**
+   * Set the name of the fiber which started this one.
+   *
+   * @param parentFiber - the parent fiber's name.
+   */
+  public void setParentFiber(String parentFiber) {
+    this.parentFiber = parentFiber;
+  }
+
+  /**
+   * Get the name of the step whose fork-join the fiber is running, if any.
+   *
+   * @return the forking step's name.
+   */
+  public String getForkingStep() {
+    return forkingStep;
+  }
+
+  /**
+   * Set the name of the step whose fork-join the fiber is running.
+   *
+   * @param forkingStep - the forking step's name.
+   */
+  public void setForkingStep(String forkingStep) {
+    this.forkingStep = forkingStep;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "fiber=" + getFiber() + ", gate=" + getGate() + ", key=" + getKey() + ", state=" + getState()
+        + ", currentStep=" + getCurrentStep() + ", timeInStep=" + getTimeInStep()
+        + ", requeueCount=" + getRequeueCount() + ", packetKeys=" + getPacketKeys()
+        + ", parentFiber=" + getParentFiber() + ", forkingStep=" + getForkingStep()
+        + ", " + super.propertiesToString();
+  }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest.resource;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import oracle.kubernetes.operator.http.rest.model.FiberModel;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+/**
+ * FiberResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/fibers/{fiber} path. It can be used to describe a fiber which the WebLogic
+ * operator is running, and to cancel it.
+ */
+public class FiberResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final FiberModel item;
+
+  /**
+   * Construct a FiberResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   * @param item - a description of the fiber.
+   */
+  public FiberResource(BaseResource parent, String pathSegment, FiberModel item) {
+    super(parent, pathSegment);
+    this.item = item;
+  }
+
+  /**
+   * Get a description of this fiber.
+   *
+   * @return a FiberModel describing this fiber.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public FiberModel get() {
+    LOGGER.entering(href());
+    addSelfAndParentLinks(item);
+    LOGGER.exiting(item);
+    return item;
+  }
+
+  /**
+   * Cancel this fiber, so that it runs no more steps. A later change to its domain starts a new fiber.
+   */
+  @DELETE
+  public void delete() {
+    LOGGER.entering(href());
+    if (!getBackend().cancelFiber(getPathSegment())) {
+      WebApplicationException e = notFound(getPathSegment());
+      LOGGER.throwing(e);
+      throw e;
+    }
+    LOGGER.exiting();
+  }
+}
@@ -0,0 +1,85 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest.resource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import oracle.kubernetes.operator.http.rest.model.CollectionModel;
+import oracle.kubernetes.operator.http.rest.model.FiberModel;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.Fiber;
+
+/**
+ * FibersResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/fibers path. It can be used to list the fibers which the WebLogic operator is
+ * running or has scheduled to process its domains, in order to diagnose stalled processing.
+ */
+public class FibersResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a FibersResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public FibersResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * List the fibers of the WebLogic operator's fiber gates which have not yet completed.
+   *
+   * @return a collection of FiberModels describing the fibers.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public CollectionModel<FiberModel> get() {
+    LOGGER.entering(href());
+    CollectionModel<FiberModel> collection = new CollectionModel<>();
+    for (Map.Entry<String, List<Fiber.Snapshot>> gate : getBackend().getFibers().entrySet()) {
+      for (Fiber.Snapshot snapshot : gate.getValue()) {
+        FiberModel item = new FiberModel(gate.getKey(), snapshot);
+        item.addSelfLinks(href(item.getFiber()));
+        collection.addItem(item);
+      }
+    }
+    addSelfAndParentLinks(collection);
+    LOGGER.exiting(collection);
+    return collection;
+  }
+
+  /**
+   * Construct and return a 'fiber' jaxrs child resource.
+   *
+   * @param fiberName - the name of a fiber.
+   * @return the fiber sub resource, throws a WebApplicationException if no such fiber is running or scheduled.
+   */
+  @Path("{fiber}")
+  public FiberResource getFiberResource(@PathParam("fiber") String fiberName) {
+    FiberModel item = findFiber(fiberName).orElseThrow(() -> {
+      WebApplicationException e = notFound(fiberName);
+      LOGGER.throwing(e);
+      return e;
+    });
+    return new FiberResource(this, fiberName, item);
+  }
+
+  private Optional<FiberModel> findFiber(String fiberName) {
+    return getBackend().getFibers().entrySet().stream()
+        .flatMap(gate -> gate.getValue().stream().map(snapshot -> new FiberModel(gate.getKey(), snapshot)))
+        .filter(item -> fiberName.equals(item.getFiber()))
+        .findFirst();
+  }
+}
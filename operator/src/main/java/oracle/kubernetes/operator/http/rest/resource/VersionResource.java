@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest.resource;
@@ -48,6 +48,7 @@ public class VersionResource extends BaseResource {
             VersionUtils.getLifecycle(version));
     addSelfAndParentLinks(item);
     addLink(item, "domains");
+    addLink(item, "fibers");
     addLink(item, "swagger");
     LOGGER.exiting(item);
     return item;
@@ -66,6 +67,19 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'fibers' jaxrs child resource.
+   *
+   * @return the fibers sub resource.
+   */
+  @Path("fibers")
+  public FibersResource getFibersResource() {
+    LOGGER.entering(href());
+    FibersResource result = new FibersResource(this, "fibers");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /**
    * Construct and return the 'swagger' jaxrs child resource.
    *
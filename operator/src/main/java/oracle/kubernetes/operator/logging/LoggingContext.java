@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.logging;
@@ -10,12 +10,13 @@ import oracle.kubernetes.operator.work.Packet;
 /** Necessary additional context information for Operator log messages. */
 public class LoggingContext {
   public static final String LOGGING_CONTEXT_KEY = "LoggingContextComponent";
+  private static final Packet.Key<LoggingContext> PACKET_KEY = Packet.Key.of(LOGGING_CONTEXT_KEY, LoggingContext.class);
 
   protected String namespace;
   protected String domainUid;
 
   public static Optional<LoggingContext> fromPacket(Packet packet) {
-    return Optional.ofNullable((LoggingContext) packet.get(LOGGING_CONTEXT_KEY));
+    return Optional.ofNullable(packet.getValue(PACKET_KEY));
   }
   
   public LoggingContext namespace(String namespace) {
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.logging;
@@ -12,10 +12,8 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
 import oracle.kubernetes.common.logging.BaseLoggingFormatter;
-import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.Fiber;
-import oracle.kubernetes.operator.work.Packet;
 
 /** Custom log formatter to format log messages in JSON format. */
 public class OperatorLoggingFormatter extends BaseLoggingFormatter<Fiber> {
@@ -36,7 +34,7 @@ public class OperatorLoggingFormatter extends BaseLoggingFormatter<Fiber> {
   protected String getDomainUid(Fiber fiber) {
     return Optional.ofNullable(fiber)
             .map(Fiber::getPacket)
-            .map(this::getDomainPresenceInfo)
+            .flatMap(DomainPresenceInfo::fromPacket)
             .map(DomainPresenceInfo::getDomainUid)
             .orElse(getDomainUidFromLoggingContext(fiber));
   }
@@ -44,7 +42,7 @@ public class OperatorLoggingFormatter extends BaseLoggingFormatter<Fiber> {
   private String getDomainUidFromLoggingContext(Fiber fiber) {
     return Optional.ofNullable(fiber)
             .map(Fiber::getPacket)
-            .map(p -> (LoggingContext) p.get(LoggingContext.LOGGING_CONTEXT_KEY))
+            .flatMap(LoggingContext::fromPacket)
             .map(LoggingContext::domainUid)
             .orElse(getDomainUidFromThreadContext());
   }
@@ -53,10 +51,6 @@ public class OperatorLoggingFormatter extends BaseLoggingFormatter<Fiber> {
     return ThreadLoggingContext.optionalContext().map(LoggingContext::domainUid).orElse("");
   }
 
-  private DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
-    return (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-  }
-
   /**
    * Get the namespace associated with the current log message.
    * Check the fiber that is currently being used to execute the step that initiate the log.
@@ -68,7 +62,7 @@ public class OperatorLoggingFormatter extends BaseLoggingFormatter<Fiber> {
   protected String getNamespace(Fiber fiber) {
     return Optional.ofNullable(fiber)
             .map(Fiber::getPacket)
-            .map(this::getDomainPresenceInfo)
+            .flatMap(DomainPresenceInfo::fromPacket)
             .map(DomainPresenceInfo::getNamespace)
             .orElse(getNamespaceFromLoggingContext(fiber));
   }
@@ -76,7 +70,7 @@ public class OperatorLoggingFormatter extends BaseLoggingFormatter<Fiber> {
   private String getNamespaceFromLoggingContext(Fiber fiber) {
     return Optional.ofNullable(fiber)
             .map(Fiber::getPacket)
-            .map(p -> (LoggingContext) p.get(LoggingContext.LOGGING_CONTEXT_KEY))
+            .flatMap(LoggingContext::fromPacket)
             .or(ThreadLoggingContext::optionalContext)
             .map(LoggingContext::namespace)
             .orElse("");
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.makeright;
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -30,6 +31,7 @@ import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainSpecSnapshot;
 import oracle.kubernetes.operator.helpers.DomainValidationSteps;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
@@ -39,23 +41,28 @@ import oracle.kubernetes.operator.helpers.PersistentVolumeHelper;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.steps.MonitoringExporterSteps;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainConditionType;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 import static oracle.kubernetes.operator.DomainStatusUpdater.createLastStatusUpdateStep;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createStatusInitializationStep;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.AFFECTED_CLUSTERS;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_DELETED;
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 
@@ -67,6 +74,8 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
   public static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  private static final String APPLYING_SPEC = "applyingSpec";
+
   private boolean inspectionRun;
   private boolean retryOnFailure;
 
@@ -285,10 +294,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
   }
 
   private Step createDomainUpPlan(DomainPresenceInfo info) {
-    Step managedServerStrategy = Step.chain(
-        new ManagedServersUpStep(null),
-        MonitoringExporterSteps.updateExporterSidecars(),
-        createLastStatusUpdateStep(new TailStep()));
+    Step managedServerStrategy = createManagedServerStrategy();
 
     Step domainUpStrategy =
         Step.chain(
@@ -303,12 +309,29 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
       domainUpStrategy = Step.chain(initializePvPvcStep(), domainUpStrategy);
     }
 
+    // the incremental plan has its own steps, as chaining steps links them to those which follow
+    Step incrementalManagedServerStrategy = createManagedServerStrategy();
+    Step incrementalUpStrategy =
+        Step.chain(
+            new DomainStatusStep(),
+            DomainProcessorImpl.bringAdminServerUp(info),
+            incrementalManagedServerStrategy);
+
     Step introspectionAndDomainPresenceSteps = Step.chain(ConfigMapHelper.readExistingIntrospectorConfigMap(),
-        DomainPresenceStep.createDomainPresenceStep(domainUpStrategy, managedServerStrategy));
+        new SelectPlanStep(
+            DomainPresenceStep.createDomainPresenceStep(domainUpStrategy, managedServerStrategy),
+            DomainPresenceStep.createDomainPresenceStep(incrementalUpStrategy, incrementalManagedServerStrategy)));
 
     return new UpHeadStep(introspectionAndDomainPresenceSteps);
   }
 
+  private Step createManagedServerStrategy() {
+    return Step.chain(
+        new ManagedServersUpStep(null),
+        MonitoringExporterSteps.updateExporterSidecars(),
+        createLastStatusUpdateStep(new RecordAppliedSpecStep()));
+  }
+
   private Step getCreateEventStep() {
     return Optional.ofNullable(eventData).map(EventHelper::createEventStep).orElse(null);
   }
@@ -508,10 +531,71 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
   }
 
-  private static class TailStep extends Step {
+  /**
+   * Chooses between the full up plan and an incremental one. When the only change since the last completed
+   * make-right is to replica counts, and the domain has an introspected topology, a known set of servers to run, and
+   * no failures, the incremental plan skips the config map, persistent volume and introspection checks, and goes
+   * directly to the server steps. Those steps start, roll and stop only the servers of the clusters whose replica
+   * counts changed; the servers of other clusters, and those in no cluster, keep their recorded startup and shutdown
+   * infos. Any other case runs the full plan.
+   */
+  private static class SelectPlanStep extends Step {
+
+    private final Step fullPlan;
+    private final Step incrementalPlan;
+
+    SelectPlanStep(Step fullPlan, Step incrementalPlan) {
+      this.fullPlan = fullPlan;
+      this.incrementalPlan = incrementalPlan;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final DomainPresenceInfo info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
+      final DomainSpecSnapshot previous = info.getAppliedSpec();
+      final DomainSpecSnapshot current = DomainSpecSnapshot.create(info);
+      info.setAppliedSpec(null);
+      Optional.ofNullable(current).ifPresent(s -> packet.put(APPLYING_SPEC, s));
+
+      final boolean incremental = canRunIncrementally(packet, info, previous, current);
+      if (incremental) {
+        packet.put(AFFECTED_CLUSTERS, current.getClustersWithChangedReplicas(previous, getClusterNames(packet)));
+      }
+      OperatorMetrics.MAKE_RIGHT_PLANS.labels(incremental ? "incremental" : "full").inc();
+      return doNext(Step.chain(incremental ? incrementalPlan : fullPlan, getNext()), packet);
+    }
+
+    private boolean canRunIncrementally(
+        Packet packet, DomainPresenceInfo info, DomainSpecSnapshot previous, DomainSpecSnapshot current) {
+      return previous != null && current != null
+          && current.getChangeFrom(previous) == DomainSpecSnapshot.Change.REPLICAS_ONLY
+          && packet.get(DOMAIN_TOPOLOGY) != null
+          && !packet.containsKey(DOMAIN_INTROSPECT_REQUESTED)
+          && info.getServerStartupInfo() != null
+          && info.isNotDeleting()
+          && !hasFailures(info);
+    }
+
+    private Set<String> getClusterNames(Packet packet) {
+      return ((WlsDomainConfig) packet.get(DOMAIN_TOPOLOGY)).getClusterConfigs().keySet();
+    }
+
+    private boolean hasFailures(DomainPresenceInfo info) {
+      return Optional.ofNullable(info.getDomain()).map(DomainResource::getStatus)
+          .map(status -> status.hasConditionWithType(DomainConditionType.FAILED)).orElse(false);
+    }
+  }
+
+  /**
+   * Records the specs applied by a make-right which has reached its end, so that the next make-right may compare
+   * against them.
+   */
+  private static class RecordAppliedSpecStep extends Step {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
+      Optional.ofNullable((DomainSpecSnapshot) packet.get(APPLYING_SPEC))
+          .ifPresent(s -> DomainPresenceInfo.fromPacket(packet).ifPresent(info -> info.setAppliedSpec(s)));
       return doNext(packet);
     }
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -59,7 +59,7 @@ public class DeleteDomainStep extends Step {
   }
 
   private Step deleteServices(DomainPresenceInfo info) {
-    return RequestBuilder.SERVICE.list(
+    return RequestBuilder.SERVICE.listMetadata(
         info.getNamespace(),
         new ListOptions().labelSelector(
             forDomainUidSelector(info.getDomainUid()) + "," + getCreatedByOperatorSelector()),
@@ -71,7 +71,7 @@ public class DeleteDomainStep extends Step {
   }
 
   private Step deletePodDisruptionBudgets(DomainPresenceInfo info) {
-    return RequestBuilder.PDB.list(info.getNamespace(),
+    return RequestBuilder.PDB.listMetadata(info.getNamespace(),
         new ListOptions().labelSelector(
             forDomainUidSelector(
                 info.getDomainUid()) + "," + getCreatedByOperatorSelector()), new ActionResponseStep<>() {
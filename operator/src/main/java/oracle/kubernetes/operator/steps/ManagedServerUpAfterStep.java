@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -31,12 +31,31 @@ public class ManagedServerUpAfterStep extends Step {
   @Override
   public @Nonnull Result apply(Packet packet) {
     if (getServersToRoll(packet).isEmpty()) {
-      return doNext(packet);
+      return doNext(new EndRollingSurgesStep(getNext()), packet);
     } else if (MakeRightDomainOperation.isInspectionRequired(packet)) {
       return doNext(MakeRightDomainOperation.createStepsToRerunWithIntrospection(packet), packet);
     } else {
       logServersToRoll(packet);
-      return doNext(RollingHelper.rollServers(getServersToRoll(packet), getNext()), packet);
+      return doNext(RollingHelper.rollServers(getServersToRoll(packet), new EndRollingSurgesStep(getNext())), packet);
+    }
+  }
+
+  // Once the roll is done, any servers started as a surge are no longer wanted; run again to stop them.
+  private static class EndRollingSurgesStep extends Step {
+
+    EndRollingSurgesStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return endRollingSurges(packet) ? doRequeue() : doNext(packet);
+    }
+
+    private boolean endRollingSurges(Packet packet) {
+      return DomainPresenceInfo.fromPacket(packet)
+            .map(info -> info.retainRollingSurges(Collections.emptySet()))
+            .orElse(false);
     }
   }
 
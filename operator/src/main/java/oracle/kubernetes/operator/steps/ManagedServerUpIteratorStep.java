@@ -1,36 +1,44 @@
-// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.StartupPermits;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 
@@ -47,9 +55,6 @@ import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 public class ManagedServerUpIteratorStep extends Step {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  /** The interval in msec that the operator will wait to ensure that started pods have been scheduled on a node. */
-  static final int SCHEDULING_DETECTION_DELAY = 100;
-
   private final Collection<ServerStartupInfo> startupInfos;
 
   ManagedServerUpIteratorStep(Collection<ServerStartupInfo> startupInfos, Step next) {
@@ -64,6 +69,7 @@ public class ManagedServerUpIteratorStep extends Step {
 
   @Override
   public @Nonnull Result apply(Packet packet) {
+    releasePermitsOfIdleClusters(packet);
     if (startupInfos.isEmpty()) {
       return doNext(packet);
     }
@@ -79,11 +85,13 @@ public class ManagedServerUpIteratorStep extends Step {
             .filter(ssi -> !isServerInCluster(ssi))
             .map(ssi -> createManagedServerUpDetails(packet, ssi)).toList();
 
+    // the clusters start their servers independently, so that one which waits for a startup permit, or for its
+    // started pods to be scheduled, does not hold up the others
     Collection<Fiber.StepAndPacket> work = new ArrayList<>();
     if (!startDetails.isEmpty()) {
       work.add(
               new Fiber.StepAndPacket(
-                      new StartManagedServersStep(null, 0, startDetails, null), packet));
+                      new StartManagedServersStep(null, 0, startDetails, null), packet.copy()));
     }
 
     for (Map.Entry<String, StartClusteredServersStepFactory> entry
@@ -97,14 +105,37 @@ public class ManagedServerUpIteratorStep extends Step {
     Collection<Fiber.StepAndPacket> startupWaiters =
             startupInfos.stream()
                     .map(ssi -> createManagedServerUpWaiters(packet, ssi)).toList();
-    work.addAll(startupWaiters);
 
-    if (!work.isEmpty()) {
-      return doForkJoin(DomainStatusUpdater.createStatusUpdateStep(
-              new ManagedServerUpAfterStep(getNext())), packet, work);
+    return doForkJoin(new WaitForServersStep(startupWaiters,
+            DomainStatusUpdater.createStatusUpdateStep(new ManagedServerUpAfterStep(getNext()))),
+        packet, work, work.size());
+  }
+
+  private static class WaitForServersStep extends Step {
+    private final Collection<Fiber.StepAndPacket> startupWaiters;
+
+    WaitForServersStep(Collection<Fiber.StepAndPacket> startupWaiters, Step next) {
+      super(next);
+      this.startupWaiters = startupWaiters;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(getNext(), packet, startupWaiters);
     }
+  }
+
+  // Servers of clusters which no longer start any servers, such as those scaled to zero, give up their permits.
+  // A make-right which affects only some clusters keeps the recorded startup infos of the others.
+  private void releasePermitsOfIdleClusters(Packet packet) {
+    DomainPresenceInfo.fromPacket(packet).ifPresent(info -> StartupPermits.getInstance().retainClusters(
+        info.getNamespace(), info.getDomainUid(), getActiveClusterNames(info)));
+  }
 
-    return doNext(DomainStatusUpdater.createStatusUpdateStep(new ManagedServerUpAfterStep(getNext())), packet);
+  private List<String> getActiveClusterNames(DomainPresenceInfo info) {
+    return Stream.concat(startupInfos.stream(),
+            Optional.ofNullable(info.getServerStartupInfo()).stream().flatMap(Collection::stream))
+        .map(ServerStartupInfo::getClusterName).filter(Objects::nonNull).distinct().toList();
   }
 
   // Adds an empty map to both the packet and the domain presence info to track servers that need to be rolled
@@ -153,6 +184,9 @@ public class ManagedServerUpIteratorStep extends Step {
         return doRequeue();
       }
 
+      // in case the watch event which reported the pod ready was missed
+      StartupPermits.getInstance().podChanged(managedPod);
+
       return doNext(packet);
     }
 
@@ -189,11 +223,20 @@ public class ManagedServerUpIteratorStep extends Step {
     return ssi.getClusterName() != null;
   }
 
+  /**
+   * Starts the specified servers one at a time, each only once the pods of those started before it have been scheduled
+   * on a node. If their cluster limits the number of servers which may be starting at once, each server whose pod is
+   * not yet ready must also hold one of the cluster's {@link StartupPermits}. The step starts the servers which it may,
+   * and is then suspended until a change to a server pod, or the return of a permit, may let it start more. A wait
+   * longer than the watch backstop delay leaves the remaining servers to a later run of the make-right.
+   */
   static class StartManagedServersStep extends Step {
     final Queue<Fiber.StepAndPacket> startDetailsQueue = new ConcurrentLinkedQueue<>();
+    final Queue<Fiber.StepAndPacket> awaitingPermits = new ConcurrentLinkedQueue<>();
     final String clusterName;
     final int maxConcurrency;
     final AtomicInteger numStarted = new AtomicInteger(0);
+    private volatile OffsetDateTime waitDeadline;
 
     StartManagedServersStep(String clusterName, int maxConcurrency,
                             Collection<Fiber.StepAndPacket> startDetails, Step next) {
@@ -201,38 +244,94 @@ public class ManagedServerUpIteratorStep extends Step {
       this.clusterName = clusterName;
       this.maxConcurrency = maxConcurrency;
       startDetails.forEach(this::add);
+      if (!ignoreConcurrencyLimits()) {
+        retainPermits(startDetails);
+      }
     }
 
     void add(Fiber.StepAndPacket serverToStart) {
       startDetailsQueue.add(new Fiber.StepAndPacket(serverToStart.step(), serverToStart.packet()));
     }
 
+    // Servers which hold permits, but which this make-right no longer starts, give them up.
+    private void retainPermits(Collection<Fiber.StepAndPacket> startDetails) {
+      startDetails.stream().findFirst().map(Fiber.StepAndPacket::packet).flatMap(DomainPresenceInfo::fromPacket)
+          .ifPresent(info -> StartupPermits.getInstance().retainServers(info.getNamespace(), info.getDomainUid(),
+              clusterName, startDetails.stream().map(this::getServerName).toList()));
+    }
+
     @Override
     public @Nonnull Result apply(Packet packet) {
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      retryServersAwaitingPermits();
+      while (!startDetailsQueue.isEmpty()) {
+        final long serverPodChangeCount = info.getServerPodChangeCount();
+        if (!areStartedServersScheduled(info, packet)) {
+          return waitFor(packet, resume -> info.onServerPodChange(serverPodChangeCount, resume));
+        }
+
+        Fiber.StepAndPacket serverToStart = startDetailsQueue.poll();
+        if (serverToStart == null) {
+          break;
+        } else if (mayStartNow(info, serverToStart)) {
+          numStarted.getAndIncrement();
+          waitDeadline = null;
+          return doForkJoin(this, packet, Collections.singletonList(serverToStart));
+        } else {
+          awaitingPermits.add(serverToStart);
+        }
+      }
 
-      if (startDetailsQueue.isEmpty()) {
-        return doNext(packet);
-      } else if (hasServerAvailableToStart(packet)) {
-        numStarted.getAndIncrement();
-        return doForkJoin(this, packet, Collections.singletonList(startDetailsQueue.poll()));
-      } else {
-        return doDelay(this, packet, SCHEDULING_DETECTION_DELAY, TimeUnit.MILLISECONDS);
+      if (!awaitingPermits.isEmpty()) {
+        return waitFor(packet, resume -> StartupPermits.getInstance().onPermitAvailable(
+            info.getNamespace(), info.getDomainUid(), clusterName, maxConcurrency, resume));
       }
+      return doNext(packet);
     }
 
-    private boolean hasServerAvailableToStart(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    // the servers which could not take permits try again, in their original order
+    private void retryServersAwaitingPermits() {
+      Fiber.StepAndPacket serverToStart;
+      while ((serverToStart = awaitingPermits.poll()) != null) {
+        startDetailsQueue.add(serverToStart);
+      }
+    }
+
+    // Suspends this step until the registered action resumes it, or until the watch backstop delay has passed since
+    // the last server was started, after which the make-right is requeued.
+    private Result waitFor(Packet packet, Consumer<Runnable> onSuspend) {
+      final OffsetDateTime now = SystemClock.now();
+      if (waitDeadline == null) {
+        waitDeadline = now.plusSeconds(TuningParameters.getInstance().getWatchTuning().getWatchBackstopRecheckDelay());
+      }
+      if (!now.isBefore(waitDeadline)) {
+        return doRequeue();
+      }
+      return doSuspend(this, new RequeueStep(), packet, Duration.between(now, waitDeadline), onSuspend);
+    }
+
+    private boolean areStartedServersScheduled(DomainPresenceInfo info, Packet packet) {
       String adminServerName = ((WlsDomainConfig) packet.get(DOMAIN_TOPOLOGY)).getAdminServerName();
-      return (getNumServersStarted() <= info.getNumScheduledManagedServers(clusterName, adminServerName)
-              && (canStartConcurrently(info.getNumReadyManagedServers(clusterName, adminServerName))));
+      return getNumServersStarted() <= info.getNumScheduledManagedServers(clusterName, adminServerName);
     }
 
-    private boolean canStartConcurrently(long numReady) {
-      return (ignoreConcurrencyLimits() || numNotReady(numReady) < this.maxConcurrency);
+    // A server whose pod is already ready is only being verified, and needs no permit.
+    private boolean mayStartNow(DomainPresenceInfo info, Fiber.StepAndPacket serverToStart) {
+      if (ignoreConcurrencyLimits()) {
+        return true;
+      }
+
+      String serverName = getServerName(serverToStart);
+      if (PodHelper.isReady(info.getServerPod(serverName))) {
+        StartupPermits.getInstance().release(info.getNamespace(), info.getDomainUid(), clusterName, serverName);
+        return true;
+      }
+      return StartupPermits.getInstance().tryAcquire(info.getNamespace(), info.getDomainUid(), clusterName,
+          serverName, maxConcurrency);
     }
 
-    private long numNotReady(long numReady) {
-      return getNumServersStarted() - numReady;
+    private String getServerName(Fiber.StepAndPacket serverToStart) {
+      return (String) serverToStart.packet().get(ProcessingConstants.SERVER_NAME);
     }
 
     private int getNumServersStarted() {
@@ -244,6 +343,13 @@ public class ManagedServerUpIteratorStep extends Step {
     }
   }
 
+  private static class RequeueStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doRequeue();
+    }
+  }
+
   private int getMaxConcurrentStartup(DomainPresenceInfo info, ServerStartupInfo ssi) {
     return info.getMaxConcurrentStartup(ssi.getClusterName());
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -20,6 +20,7 @@ import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.DomainStatusUpdater.ClearCompletedConditionSteps;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerShutdownInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -77,7 +78,7 @@ public class ManagedServersUpStep extends Step {
     if (hasWorkToDo(steps, next)) {
       insert(steps, new ClearCompletedConditionSteps());
     }
-    return Step.chain(steps.toArray(new Step[0]));
+    return Step.chain(steps);
   }
 
   private static boolean hasWorkToDo(List<Step> steps, Step next) {
@@ -119,7 +120,7 @@ public class ManagedServersUpStep extends Step {
     DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
     WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
 
-    ServersUpStepFactory factory = new ServersUpStepFactory(config, info);
+    ServersUpStepFactory factory = new ServersUpStepFactory(config, info, getAffectedClusters(packet));
 
     if (LOGGER.isFineEnabled()) {
       LOGGER.fine(SERVERS_UP_MSG, factory.domain.getDomainUid(), getRunningServers(info));
@@ -127,8 +128,8 @@ public class ManagedServersUpStep extends Step {
 
     Optional.ofNullable(config).ifPresent(wlsDomainConfig -> addServersToFactory(factory, wlsDomainConfig, info));
 
-    info.setServerStartupInfo(factory.getStartupInfos());
-    info.setServerShutdownInfo(factory.getShutdownInfos());
+    info.setServerStartupInfo(factory.withUnaffectedServers(info.getServerStartupInfo(), factory.getStartupInfos()));
+    info.setServerShutdownInfo(factory.withUnaffectedServers(info.getServerShutdownInfo(), factory.getShutdownInfos()));
 
     LOGGER.exiting();
 
@@ -138,6 +139,11 @@ public class ManagedServersUpStep extends Step {
         packet);
   }
 
+  @SuppressWarnings("unchecked")
+  private Set<String> getAffectedClusters(Packet packet) {
+    return (Set<String>) packet.get(ProcessingConstants.AFFECTED_CLUSTERS);
+  }
+
   private void addServersToFactory(@Nonnull ServersUpStepFactory factory, @Nonnull WlsDomainConfig wlsDomainConfig,
                                    DomainPresenceInfo info) {
     Set<String> clusteredServers = new HashSet<>();
@@ -149,13 +155,15 @@ public class ManagedServersUpStep extends Step {
 
     wlsDomainConfig.getServerConfigs().values().stream()
         .filter(wlsServerConfig -> !clusteredServers.contains(wlsServerConfig.getName()))
+        .filter(wlsServerConfig -> factory.isAffected(null))
         .forEach(wlsServerConfig -> factory.addServerIfAlways(wlsServerConfig, null, pendingServers));
 
     for (ServerConfig serverConfig : pendingServers) {
       factory.addServerIfNeeded(serverConfig.wlsServerConfig, serverConfig.wlsClusterConfig);
     }
 
-    info.getServerPods().filter(pod -> podShouldNotBeRunning(pod, factory))
+    info.getServerPods().filter(pod -> factory.isAffected(PodHelper.getPodClusterName(pod)))
+            .filter(pod -> podShouldNotBeRunning(pod, factory))
             .filter(pod -> podNotAlreadyMarkedForShutdown(pod, factory))
             .filter(pod -> !getPodServerName(pod).equals(wlsDomainConfig.getAdminServerName()))
             .forEach(pod -> shutdownServersNotPresentInDomainConfig(factory, pod));
@@ -177,13 +185,18 @@ public class ManagedServersUpStep extends Step {
   private void addClusteredServersToFactory(
       @Nonnull ServersUpStepFactory factory, Set<String> clusteredServers,
       @Nonnull WlsClusterConfig wlsClusterConfig, List<ServerConfig> pendingServers) {
-    factory.logIfInvalidReplicaCount(wlsClusterConfig);
+    final boolean affected = factory.isAffected(wlsClusterConfig.getClusterName());
+    if (affected) {
+      factory.logIfInvalidReplicaCount(wlsClusterConfig);
+    }
     // We depend on 'getServerConfigs()' returning an ascending 'numero-lexi'
     // sorted list so that a cluster's "lowest named" servers have precedence
     // when the  cluster's replica  count is lower than  the WL cluster size.
     wlsClusterConfig.getServerConfigs()
         .forEach(wlsServerConfig -> {
-          factory.addServerIfAlways(wlsServerConfig, wlsClusterConfig, pendingServers);
+          if (affected) {
+            factory.addServerIfAlways(wlsServerConfig, wlsClusterConfig, pendingServers);
+          }
           clusteredServers.add(wlsServerConfig.getName());
         });
   }
@@ -203,11 +216,42 @@ public class ManagedServersUpStep extends Step {
     final Collection<String> servers = new ArrayList<>();
     final Collection<String> preCreateServers = new ArrayList<>();
     final Map<String, Integer> replicas = new HashMap<>();
+    final Set<String> affectedClusters;
 
     ServersUpStepFactory(WlsDomainConfig domainTopology, DomainPresenceInfo info) {
+      this(domainTopology, info, null);
+    }
+
+    ServersUpStepFactory(WlsDomainConfig domainTopology, DomainPresenceInfo info, Set<String> affectedClusters) {
       this.domainTopology = domainTopology;
       this.domain = info.getDomain();
       this.info = info;
+      this.affectedClusters = affectedClusters;
+    }
+
+    /**
+     * Returns true if the servers of the specified cluster are to be started, rolled or stopped. When the make-right
+     * affects only some clusters, the servers of other clusters, and those in no cluster, are left as they are.
+     * @param clusterName the name of a cluster, or null for servers in no cluster
+     */
+    boolean isAffected(String clusterName) {
+      return affectedClusters == null || (clusterName != null && affectedClusters.contains(clusterName));
+    }
+
+    /**
+     * Returns the specified server infos, together with those recorded earlier for servers which this make-right does
+     * not affect.
+     * @param recorded the infos recorded by an earlier make-right, or null if there are none
+     * @param affected the infos computed for the affected servers
+     */
+    <T extends ServerInfo> Collection<T> withUnaffectedServers(Collection<T> recorded, Collection<T> affected) {
+      if (affectedClusters == null || recorded == null) {
+        return affected;
+      }
+
+      final List<T> result = new ArrayList<>(recorded.stream().filter(i -> !isAffected(i.getClusterName())).toList());
+      result.addAll(affected);
+      return result;
     }
 
     /**
@@ -234,7 +278,8 @@ public class ManagedServersUpStep extends Step {
       String clusterName = getClusterName(clusterConfig);
       EffectiveServerSpec server = info.getServer(serverName, clusterName);
 
-      if (server.shouldStart(getReplicaCount(clusterName))) {
+      // while a cluster rolls, its surge servers are started in addition to its replicas
+      if (server.shouldStart(getReplicaCount(clusterName) - info.getRollingSurge(clusterName))) {
         addServerToStart(serverConfig, clusterName, server);
       } else if (shouldPrecreateServerService(server)) {
         preCreateServers.add(serverName);
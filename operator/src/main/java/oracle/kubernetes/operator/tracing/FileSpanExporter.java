@@ -0,0 +1,85 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+/**
+ * Appends spans to a local file, one OTLP JSON export request per line. The spans of a trace are written together
+ * when its root span ends, or sooner if many spans are waiting. When the file grows past a maximum size, it is
+ * renamed with a ".1" suffix, replacing any earlier such file, and a new file is started; the spans kept on disk
+ * therefore never take more than twice the maximum size.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // the most ended spans held before they are written, even if their traces have not ended
+  static final int MAX_PENDING_SPANS = 500;
+
+  // the size beyond which the file is rotated
+  static final long DEFAULT_MAX_FILE_BYTES = 10L * 1024 * 1024;
+
+  private final Path file;
+  private final long maxFileBytes;
+  private final List<Span> pending = new ArrayList<>();
+
+  public FileSpanExporter(Path file) {
+    this(file, DEFAULT_MAX_FILE_BYTES);
+  }
+
+  FileSpanExporter(Path file, long maxFileBytes) {
+    this.file = file;
+    this.maxFileBytes = maxFileBytes;
+  }
+
+  Path getFile() {
+    return file;
+  }
+
+  @Override
+  public synchronized void export(Span span) {
+    pending.add(span);
+    if (span.getParent() == null || pending.size() >= MAX_PENDING_SPANS) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes any spans not yet written.
+   */
+  public synchronized void flush() {
+    if (!pending.isEmpty()) {
+      try {
+        rotateIfFull();
+        Files.writeString(file, OtlpJson.toJson(pending) + System.lineSeparator(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+      } catch (IOException e) {
+        LOGGER.fine("unable to write trace spans to " + file, e);
+      } finally {
+        pending.clear();
+      }
+    }
+  }
+
+  private void rotateIfFull() throws IOException {
+    if (Files.exists(file) && Files.size(file) >= maxFileBytes) {
+      Files.move(file, getRotatedFile(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  Path getRotatedFile() {
+    return file.resolveSibling(file.getFileName() + ".1");
+  }
+}
@@ -0,0 +1,41 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the spans which have ended, so that they may be examined or written out later.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+  private final List<Span> spans = new ArrayList<>();
+
+  @Override
+  public synchronized void export(Span span) {
+    spans.add(span);
+  }
+
+  /**
+   * Returns the spans which have ended, in the order in which they ended.
+   */
+  public synchronized List<Span> getSpans() {
+    return new ArrayList<>(spans);
+  }
+
+  /**
+   * Returns the spans which have ended, as an OTLP JSON trace export request.
+   */
+  public String toOtlpJson() {
+    return OtlpJson.toJson(getSpans());
+  }
+
+  /**
+   * Discards the spans which have ended.
+   */
+  public synchronized void clear() {
+    spans.clear();
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Writes spans as an OTLP trace export request in its JSON encoding, as read by OpenTelemetry collectors and
+ * tools which accept OTLP files. Identifiers are written as lowercase hex strings, and times as strings of
+ * nanoseconds since the epoch.
+ */
+class OtlpJson {
+
+  static final String SERVICE_NAME = "weblogic-kubernetes-operator";
+  static final String SCOPE_NAME = "oracle.kubernetes.operator";
+
+  // OTLP status codes
+  private static final int STATUS_OK = 1;
+  private static final int STATUS_ERROR = 2;
+
+  private static final Gson GSON = new Gson();
+
+  private OtlpJson() {
+    // no-op
+  }
+
+  /**
+   * Returns the specified spans as a single-line OTLP JSON export request.
+   * @param spans the spans to write, which must have ended
+   */
+  static String toJson(Collection<Span> spans) {
+    final JsonArray spanArray = new JsonArray();
+    spans.stream().map(OtlpJson::toSpanObject).forEach(spanArray::add);
+
+    final JsonObject scopeSpans = new JsonObject();
+    scopeSpans.add("scope", createScope());
+    scopeSpans.add("spans", spanArray);
+
+    final JsonObject resourceSpans = new JsonObject();
+    resourceSpans.add("resource", createResource());
+    resourceSpans.add("scopeSpans", toArray(scopeSpans));
+
+    final JsonObject request = new JsonObject();
+    request.add("resourceSpans", toArray(resourceSpans));
+    return GSON.toJson(request);
+  }
+
+  private static JsonObject createScope() {
+    final JsonObject scope = new JsonObject();
+    scope.addProperty("name", SCOPE_NAME);
+    return scope;
+  }
+
+  private static JsonObject createResource() {
+    final JsonObject resource = new JsonObject();
+    resource.add("attributes", toAttributes(Map.of("service.name", SERVICE_NAME)));
+    return resource;
+  }
+
+  private static JsonArray toArray(JsonObject element) {
+    final JsonArray array = new JsonArray();
+    array.add(element);
+    return array;
+  }
+
+  private static JsonObject toSpanObject(Span span) {
+    final JsonObject result = new JsonObject();
+    result.addProperty("traceId", span.getTraceId());
+    result.addProperty("spanId", span.getSpanId());
+    Optional.ofNullable(span.getParent()).ifPresent(p -> result.addProperty("parentSpanId", p.getSpanId()));
+    result.addProperty("name", span.getName());
+    result.addProperty("kind", span.getKind().getOtlpValue());
+    result.addProperty("startTimeUnixNano", Long.toString(span.getStartTimeNanos()));
+    result.addProperty("endTimeUnixNano", Long.toString(span.getEndTimeNanos()));
+    result.add("attributes", toAttributes(span.getAttributes()));
+    result.add("status", createStatus(span.getErrorMessage()));
+    return result;
+  }
+
+  private static JsonArray toAttributes(Map<String, String> attributes) {
+    final JsonArray result = new JsonArray();
+    attributes.forEach((key, value) -> result.add(toAttribute(key, value)));
+    return result;
+  }
+
+  private static JsonObject toAttribute(String key, String value) {
+    final JsonObject attributeValue = new JsonObject();
+    attributeValue.addProperty("stringValue", value);
+
+    final JsonObject attribute = new JsonObject();
+    attribute.addProperty("key", key);
+    attribute.add("value", attributeValue);
+    return attribute;
+  }
+
+  private static JsonObject createStatus(String errorMessage) {
+    final JsonObject status = new JsonObject();
+    if (errorMessage == null) {
+      status.addProperty("code", STATUS_OK);
+    } else {
+      status.addProperty("code", STATUS_ERROR);
+      status.addProperty("message", errorMessage);
+    }
+    return status;
+  }
+}
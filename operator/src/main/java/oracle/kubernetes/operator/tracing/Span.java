@@ -0,0 +1,194 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A timed operation within a trace: a make-right, one of its steps, or a call made by a step. A span takes the
+ * domainUid and namespace attributes of its parent, and is passed to its exporter when it ends.
+ */
+public class Span {
+
+  public static final String DOMAIN_UID = "domainUid";
+  public static final String NAMESPACE = "namespace";
+  public static final String OUTCOME = "outcome";
+
+  /** A span which records nothing, returned when tracing is disabled. */
+  static final Span DISABLED = new Span();
+
+  /** The kinds of span, with their values in the OTLP format. */
+  public enum Kind {
+    INTERNAL(1),
+    CLIENT(3);
+
+    private final int otlpValue;
+
+    Kind(int otlpValue) {
+      this.otlpValue = otlpValue;
+    }
+
+    int getOtlpValue() {
+      return otlpValue;
+    }
+  }
+
+  private final SpanExporter exporter;
+  private final String traceId;
+  private final String spanId;
+  private final Span parent;
+  private final String name;
+  private final Kind kind;
+  private final long startTimeNanos;
+  private final Map<String, String> attributes = Collections.synchronizedMap(new LinkedHashMap<>());
+  private final AtomicBoolean ended = new AtomicBoolean();
+  private volatile long endTimeNanos;
+  private volatile String errorMessage;
+  private volatile Object owner;
+
+  private Span() {
+    this(null, null, null, "disabled", Kind.INTERNAL);
+    ended.set(true);
+  }
+
+  Span(SpanExporter exporter, @Nullable Span parent, @Nullable Object owner, @Nonnull String name, Kind kind) {
+    this.exporter = exporter;
+    this.traceId = Optional.ofNullable(parent).map(Span::getTraceId).orElseGet(() -> createId(2));
+    this.spanId = createId(1);
+    this.parent = parent;
+    this.owner = owner;
+    this.name = name;
+    this.kind = kind;
+    this.startTimeNanos = nowNanos();
+    Optional.ofNullable(parent).ifPresent(this::copyContextAttributes);
+  }
+
+  private static String createId(int numLongs) {
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < numLongs; i++) {
+      sb.append(String.format("%016x", ThreadLocalRandom.current().nextLong()));
+    }
+    return sb.toString();
+  }
+
+  private static long nowNanos() {
+    final Instant now = SystemClock.now().toInstant();
+    return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+  }
+
+  private void copyContextAttributes(Span parent) {
+    Optional.ofNullable(parent.getAttribute(DOMAIN_UID)).ifPresent(v -> setAttribute(DOMAIN_UID, v));
+    Optional.ofNullable(parent.getAttribute(NAMESPACE)).ifPresent(v -> setAttribute(NAMESPACE, v));
+  }
+
+  /**
+   * Sets an attribute of this span. Null values are ignored.
+   * @param key the name of the attribute
+   * @param value its value
+   * @return this span
+   */
+  public Span setAttribute(@Nonnull String key, @Nullable Object value) {
+    if (this != DISABLED && value != null) {
+      attributes.put(key, value.toString());
+    }
+    return this;
+  }
+
+  /**
+   * Marks this span as having failed.
+   * @param message a description of the failure
+   */
+  public void recordError(String message) {
+    if (this != DISABLED) {
+      errorMessage = Optional.ofNullable(message).orElse("");
+    }
+  }
+
+  /**
+   * Ends this span and passes it to the exporter. Only the first call has any effect.
+   */
+  public void end() {
+    if (ended.compareAndSet(false, true)) {
+      endTimeNanos = nowNanos();
+      owner = null;
+      exporter.export(this);
+    }
+  }
+
+  SpanExporter getExporter() {
+    return exporter;
+  }
+
+  boolean isEnded() {
+    return ended.get();
+  }
+
+  // Returns true if this span was started for a step which ran with the specified packet.
+  boolean isOwnedBy(Object candidate) {
+    return owner != null && owner == candidate;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getTraceId() {
+    return traceId;
+  }
+
+  public String getSpanId() {
+    return spanId;
+  }
+
+  @Nullable
+  public Span getParent() {
+    return parent;
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  public long getStartTimeNanos() {
+    return startTimeNanos;
+  }
+
+  public long getEndTimeNanos() {
+    return endTimeNanos;
+  }
+
+  @Nullable
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  @Nullable
+  public String getAttribute(String key) {
+    return attributes.get(key);
+  }
+
+  /**
+   * Returns a copy of the attributes of this span.
+   */
+  public Map<String, String> getAttributes() {
+    synchronized (attributes) {
+      return new LinkedHashMap<>(attributes);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return name + "[" + spanId + "]";
+  }
+}
@@ -0,0 +1,17 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+/**
+ * Receives spans as they end.
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+  /**
+   * Accepts an ended span. May be called from any thread.
+   * @param span the span
+   */
+  void export(Span span);
+}
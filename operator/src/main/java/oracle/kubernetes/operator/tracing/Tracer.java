@@ -0,0 +1,178 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Records span traces of make-right operations. A make-right's packet holds its trace: a root span for the
+ * operation, a span for each step it runs, and a client span for each call that a step makes. The spans of the
+ * steps run in a fork-join are children of the span of the step which forked them. The root span ends when the
+ * make-right completes, and also when its fiber is requeued or cancelled, with an outcome attribute to show why.
+ *
+ * <p>Tracing is disabled unless an exporter is set, or the tracingExportFile tuning parameter names a file to
+ * which the spans are to be written.
+ */
+public class Tracer {
+
+  // the root span of the trace recorded in a packet
+  private static final Packet.Key<Span> ROOT_SPAN = Packet.Key.of("tracingRootSpan", Span.class);
+
+  // the span of the step most recently run with a packet, or of the step which forked it
+  private static final Packet.Key<Span> CURRENT_SPAN = Packet.Key.of("tracingCurrentSpan", Span.class);
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static Tracer instance = new Tracer(null);
+
+  private final SpanExporter exporter;
+  private FileSpanExporter fileExporter;
+
+  /**
+   * Creates a tracer.
+   * @param exporter the exporter to which spans are passed, or null to write them to the file named by the
+   *                 tracingExportFile tuning parameter
+   */
+  public Tracer(@Nullable SpanExporter exporter) {
+    this.exporter = exporter;
+  }
+
+  public static Tracer getInstance() {
+    return instance;
+  }
+
+  @Nullable
+  private synchronized SpanExporter getExporter() {
+    if (exporter != null) {
+      return exporter;
+    }
+
+    final String exportFile = TuningParameters.getInstance().getTracingExportFile();
+    if (exportFile == null) {
+      fileExporter = null;
+    } else if (fileExporter == null || !fileExporter.getFile().equals(Path.of(exportFile))) {
+      fileExporter = new FileSpanExporter(Path.of(exportFile));
+    }
+    return fileExporter;
+  }
+
+  /**
+   * Starts the trace of a make-right in its packet, if tracing is enabled.
+   * @param packet the packet with which the make-right will run
+   * @param name the name of the root span
+   * @param namespace the namespace of the resource
+   * @param domainUid the UID of the domain
+   * @return the packet
+   */
+  public Packet startTrace(Packet packet, String name, String namespace, String domainUid) {
+    final SpanExporter spanExporter = getExporter();
+    if (spanExporter != null) {
+      final Span root = new Span(spanExporter, null, null, name, Span.Kind.INTERNAL)
+          .setAttribute(Span.NAMESPACE, namespace)
+          .setAttribute(Span.DOMAIN_UID, domainUid);
+      packet.putValue(ROOT_SPAN, root);
+      packet.putValue(CURRENT_SPAN, root);
+    }
+    return packet;
+  }
+
+  /**
+   * Returns a completion callback which ends the trace in the final packet before calling the specified callback.
+   * @param callback the callback to wrap
+   */
+  public CompletionCallback endingTrace(CompletionCallback callback) {
+    return new CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        completeTrace(packet, null);
+        callback.onCompletion(packet);
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        completeTrace(packet, throwable);
+        callback.onThrowable(packet, throwable);
+      }
+    };
+  }
+
+  private void completeTrace(Packet packet, @Nullable Throwable throwable) {
+    Optional.ofNullable(packet.getValue(ROOT_SPAN)).ifPresent(root -> {
+      Optional.ofNullable(throwable).ifPresent(t -> root.recordError(t.toString()));
+      endRootSpan(packet, root);
+    });
+  }
+
+  /**
+   * Ends the trace in the packet of a fiber which will run no more steps with it, because the fiber has been
+   * requeued or cancelled. A requeued fiber runs again with a new packet, and therefore a new trace.
+   * @param packet the packet of the fiber
+   * @param outcome the reason that the fiber stopped
+   */
+  public void endTrace(@Nullable Packet packet, String outcome) {
+    Optional.ofNullable(packet).map(p -> p.getValue(ROOT_SPAN)).ifPresent(root -> {
+      root.setAttribute(Span.OUTCOME, outcome);
+      endRootSpan(packet, root);
+    });
+  }
+
+  private void endRootSpan(Packet packet, Span root) {
+    endStepSpan(packet);
+    root.end();
+  }
+
+  /**
+   * Starts a span for a step about to run with a traced packet, ending that of the step which ran before it.
+   * @param packet the packet with which the step will run
+   * @param step the step
+   */
+  public void startStepSpan(@Nullable Packet packet, @Nonnull Step step) {
+    final Span current = Optional.ofNullable(packet).map(p -> p.getValue(CURRENT_SPAN)).orElse(null);
+    if (current == null || current.isEnded()) {
+      return;
+    }
+
+    final Span parent;
+    if (current.isOwnedBy(packet)) {
+      current.end();
+      parent = current.getParent();
+    } else {
+      parent = current;
+    }
+    packet.putValue(CURRENT_SPAN, new Span(current.getExporter(), parent, packet, step.getResourceName(),
+        Span.Kind.INTERNAL));
+  }
+
+  /**
+   * Ends the span of the last step run with a packet, as when a branch of a fork-join completes.
+   * @param packet the packet with which the steps ran
+   */
+  public void endStepSpan(@Nullable Packet packet) {
+    Optional.ofNullable(packet)
+        .map(p -> p.getValue(CURRENT_SPAN))
+        .filter(span -> span.isOwnedBy(packet))
+        .ifPresent(Span::end);
+  }
+
+  /**
+   * Starts a span for a call made by the step running with a traced packet. The caller must end it.
+   * @param packet the packet with which the step is running
+   * @param name the name of the call
+   * @return the new span, or one which records nothing if the packet is not traced
+   */
+  @Nonnull
+  public Span startClientSpan(Packet packet, String name) {
+    return Optional.ofNullable(packet.getValue(CURRENT_SPAN))
+        .filter(current -> !current.isEnded())
+        .map(current -> new Span(current.getExporter(), current, null, name, Span.Kind.CLIENT))
+        .orElse(Span.DISABLED);
+  }
+}
@@ -0,0 +1,5 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+/** Span tracing of make-right operations, their steps and the calls they make, exported in the OTLP JSON format. */
+package oracle.kubernetes.operator.tracing;
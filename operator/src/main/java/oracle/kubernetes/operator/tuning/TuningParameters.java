@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.tuning;
@@ -62,6 +62,8 @@ public class TuningParameters {
   public static final String DOMAIN_PRESENCE_RECHECK_INTERVAL_SECONDS = "domainPresenceRecheckIntervalSeconds";
   public static final String DOMAIN_NAMESPACE_RECHECK_INTERVAL_SECONDS = "domainNamespaceRecheckIntervalSeconds";
   public static final String STUCK_POD_RECHECK_SECONDS = "stuckPodRecheckSeconds";
+  public static final String NAMESPACE_RELIST_INTERVAL_SECONDS = "namespaceRelistIntervalSeconds";
+  public static final String RULES_REVIEW_CACHE_SECONDS = "rulesReviewCacheSeconds";
   public static final String STATUS_UPDATE_TIMEOUT_SECONDS = "statusUpdateTimeoutSeconds";
   public static final String STATUS_UPDATE_INITIAL_SHORT_DELAY = "statusUpdateInitialShortDelay";
   public static final String STATUS_UPDATE_EVENTUAL_LONG_DELAY = "statusUpdateEventualLongDelay";
@@ -78,8 +80,38 @@ public class TuningParameters {
   public static final String CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT = "crdPresenceFailureRetryMaxCount";
   public static final String HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = "httpRequestFailureCountThreshold";
   public static final String SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = "shutdownWithHttpPollingInterval";
+  public static final String ADMISSION_CACHE_MAX_AGE_SECONDS = "admissionWebhookCacheMaxAgeSeconds";
+  public static final String NAMESPACE_SHARDING_ENABLED = "namespaceShardingEnabled";
+  public static final String NAMESPACE_SHARD_LEASE_DURATION_SECONDS = "namespaceShardLeaseDurationSeconds";
+  public static final String OPERATOR_STANDBY_ENABLED = "operatorStandbyEnabled";
+  public static final String OPERATOR_LEADER_LEASE_DURATION_SECONDS = "operatorLeaderLeaseDurationSeconds";
+  public static final String NAMESPACE_START_CONCURRENCY = "namespaceStartConcurrency";
+  public static final String EVENT_AGGREGATION_INTERVAL_SECONDS = "eventAggregationIntervalSeconds";
+  public static final String EVENTS_PER_REASON_PER_MINUTE = "eventsPerReasonPerMinute";
+  public static final String MAX_CONCURRENT_MAKE_RIGHTS = "maxConcurrentMakeRights";
+  public static final String MAX_MAKE_RIGHT_HOLD_SECONDS = "maxMakeRightHoldSeconds";
+  public static final String MAKE_RIGHT_DEBOUNCE_MILLIS = "makeRightDebounceMillis";
+  public static final String MAKE_RIGHT_DEBOUNCE_MAX_DELAY_MILLIS = "makeRightDebounceMaxDelayMillis";
+  public static final String ROLLING_SURGE_SERVERS = "rollingSurgeServers";
+  public static final String TRACING_EXPORT_FILE = "tracingExportFile";
+  public static final String CALL_RECORDING_FILE = "callRecordingFile";
+  public static final String STREAMING_LIST_DECODING_ENABLED = "streamingListDecodingEnabled";
   public static final int DEFAULT_HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = 10;
   public static final int DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = 3;
+  public static final int DEFAULT_ADMISSION_CACHE_MAX_AGE_SECONDS = 30;
+  public static final int DEFAULT_NAMESPACE_SHARD_LEASE_DURATION_SECONDS = 15;
+  public static final int DEFAULT_OPERATOR_LEADER_LEASE_DURATION_SECONDS = 10;
+  public static final int DEFAULT_NAMESPACE_START_CONCURRENCY = 10;
+  public static final int DEFAULT_EVENT_AGGREGATION_INTERVAL_SECONDS = 2;
+  public static final int DEFAULT_EVENTS_PER_REASON_PER_MINUTE = 120;
+  public static final int DEFAULT_MAX_CONCURRENT_MAKE_RIGHTS = 50;
+  public static final int DEFAULT_MAX_MAKE_RIGHT_HOLD_SECONDS = 300;
+  public static final int DEFAULT_MAKE_RIGHT_DEBOUNCE_MILLIS = 500;
+  public static final int DEFAULT_MAKE_RIGHT_DEBOUNCE_MAX_DELAY_MILLIS = 5000;
+  public static final int DEFAULT_ROLLING_SURGE_SERVERS = 0;
+  public static final int DEFAULT_STUCK_POD_RECHECK_SECONDS = 30;
+  public static final int DEFAULT_NAMESPACE_RELIST_INTERVAL_SECONDS = 1800;
+  public static final int DEFAULT_RULES_REVIEW_CACHE_SECONDS = 600;
 
   public static final long DEFAULT_ACTIVE_DEADLINE_INCREMENT_SECONDS = 60L;
 
@@ -173,8 +205,27 @@ public class TuningParameters {
     return getParameter(DOMAIN_NAMESPACE_RECHECK_INTERVAL_SECONDS, 3);
   }
 
+  /**
+   * Returns the longest time that a full domain recheck will go without listing the resources of a namespace whose
+   * watchers have reported no errors.
+   */
+  public int getNamespaceRelistIntervalSeconds() {
+    return getParameter(NAMESPACE_RELIST_INTERVAL_SECONDS, DEFAULT_NAMESPACE_RELIST_INTERVAL_SECONDS);
+  }
+
+  /**
+   * Returns the number of seconds for which the result of a namespace's self-subject rules review may be reused.
+   */
+  public int getRulesReviewCacheSeconds() {
+    return getParameter(RULES_REVIEW_CACHE_SECONDS, DEFAULT_RULES_REVIEW_CACHE_SECONDS);
+  }
+
+  /**
+   * Returns the interval between the lists of all operator-created pods, made to find any pods stuck terminating
+   * which the pod watchers did not report.
+   */
   public int getStuckPodRecheckSeconds() {
-    return getParameter(STUCK_POD_RECHECK_SECONDS, 30);
+    return getParameter(STUCK_POD_RECHECK_SECONDS, DEFAULT_STUCK_POD_RECHECK_SECONDS);
   }
 
   public int getStatusUpdateTimeoutSeconds() {
@@ -246,6 +297,140 @@ public class TuningParameters {
     return getParameter(SHUTDOWN_WITH_HTTP_POLLING_INTERVAL, DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL);
   }
 
+  /**
+   * Returns the maximum time that the validating webhook may answer admission checks from its watch-fed cache
+   * of domains and clusters without re-listing them. A value of zero disables the cache.
+   */
+  public int getAdmissionCacheMaxAgeSeconds() {
+    return getParameter(ADMISSION_CACHE_MAX_AGE_SECONDS, DEFAULT_ADMISSION_CACHE_MAX_AGE_SECONDS);
+  }
+
+  /**
+   * Returns true if operator replicas should divide the domain namespaces among themselves, coordinating
+   * their membership through leases in the operator namespace. Sharding is not used in active/standby mode,
+   * since only the active replica manages domains.
+   */
+  public boolean isNamespaceShardingEnabled() {
+    return getParameter(NAMESPACE_SHARDING_ENABLED, false);
+  }
+
+  /**
+   * Returns the time after its last renewal at which an operator replica's shard lease is considered expired,
+   * and its namespaces are redistributed among the remaining replicas.
+   */
+  public int getNamespaceShardLeaseDurationSeconds() {
+    return getParameter(NAMESPACE_SHARD_LEASE_DURATION_SECONDS, DEFAULT_NAMESPACE_SHARD_LEASE_DURATION_SECONDS);
+  }
+
+  /**
+   * Returns true if operator replicas should run in active/standby mode, with a single elected replica managing
+   * the domains while the others keep their watches and caches current.
+   */
+  public boolean isOperatorStandbyEnabled() {
+    return getParameter(OPERATOR_STANDBY_ENABLED, false);
+  }
+
+  /**
+   * Returns the time after its last renewal at which the active replica's leadership lease is considered expired,
+   * allowing a standby replica to take over.
+   */
+  public int getOperatorLeaderLeaseDurationSeconds() {
+    return getParameter(OPERATOR_LEADER_LEASE_DURATION_SECONDS, DEFAULT_OPERATOR_LEADER_LEASE_DURATION_SECONDS);
+  }
+
+  /**
+   * Returns the maximum number of domain namespaces whose existing resources the operator lists at the same time.
+   * A value of one lists the namespaces one at a time.
+   */
+  public int getNamespaceStartConcurrency() {
+    return getParameter(NAMESPACE_START_CONCURRENCY, DEFAULT_NAMESPACE_START_CONCURRENCY);
+  }
+
+  /**
+   * Returns the interval at which the operator writes the events reported since the previous interval, combining
+   * repeats of the same event into a single update. A value of zero writes each event as it is reported.
+   */
+  public int getEventAggregationIntervalSeconds() {
+    return getParameter(EVENT_AGGREGATION_INTERVAL_SECONDS, DEFAULT_EVENT_AGGREGATION_INTERVAL_SECONDS);
+  }
+
+  /**
+   * Returns the maximum rate at which the operator creates new events with the same reason. Repeats of events
+   * which already exist are always counted.
+   */
+  public int getEventsPerReasonPerMinute() {
+    return getParameter(EVENTS_PER_REASON_PER_MINUTE, DEFAULT_EVENTS_PER_REASON_PER_MINUTE);
+  }
+
+  /**
+   * Returns the maximum number of domain and cluster make-right operations which may run at the same time, across
+   * all namespaces. Further operations wait in a queue. A value of zero removes the limit.
+   */
+  public int getMaxConcurrentMakeRights() {
+    return getParameter(MAX_CONCURRENT_MAKE_RIGHTS, DEFAULT_MAX_CONCURRENT_MAKE_RIGHTS);
+  }
+
+  /**
+   * Returns the longest time that a make-right operation counts against the limit on concurrent operations. A longer
+   * operation, such as the roll of a large domain, continues to run, but no longer keeps a queued operation from
+   * starting. A value of zero lets operations count until they complete.
+   */
+  public int getMaxMakeRightHoldSeconds() {
+    return getParameter(MAX_MAKE_RIGHT_HOLD_SECONDS, DEFAULT_MAX_MAKE_RIGHT_HOLD_SECONDS);
+  }
+
+  /**
+   * Returns the time to wait after a watch event which requires a domain make-right before starting it. Each later
+   * such event for the same domain restarts the wait, so that a burst of events starts a single make-right.
+   * A value of zero starts the make-right at once.
+   */
+  public int getMakeRightDebounceMillis() {
+    return getParameter(MAKE_RIGHT_DEBOUNCE_MILLIS, DEFAULT_MAKE_RIGHT_DEBOUNCE_MILLIS);
+  }
+
+  /**
+   * Returns the longest time that a continuing burst of watch events may delay a domain make-right.
+   */
+  public int getMakeRightDebounceMaxDelayMillis() {
+    return getParameter(MAKE_RIGHT_DEBOUNCE_MAX_DELAY_MILLIS, DEFAULT_MAKE_RIGHT_DEBOUNCE_MAX_DELAY_MILLIS);
+  }
+
+  /**
+   * Returns the number of additional servers which may be started in a cluster while it is rolling, beyond its
+   * replica count, so that more of its servers may restart at once without reducing its availability. Servers
+   * are only added if the cluster has configured servers which are not running. Zero (the default) disables this.
+   */
+  public int getRollingSurgeServers() {
+    return getParameter(ROLLING_SURGE_SERVERS, DEFAULT_ROLLING_SURGE_SERVERS);
+  }
+
+  /**
+   * Returns the path of a file to which the operator appends span traces of its make-right operations, in the OTLP
+   * JSON format. May be null (the default), which disables tracing.
+   */
+  @Nullable
+  public String getTracingExportFile() {
+    return getParameter(TRACING_EXPORT_FILE, null);
+  }
+
+  /**
+   * Returns the path of a file to which the operator appends a record of each call it makes to the Kubernetes API,
+   * and of each watch event it receives, with the data of secrets redacted. May be null (the default), which
+   * disables recording.
+   */
+  @Nullable
+  public String getCallRecordingFile() {
+    return getParameter(CALL_RECORDING_FILE, null);
+  }
+
+  /**
+   * Returns true if list responses from the Kubernetes API should be decoded directly from the response stream,
+   * rather than first being read into a string and an intermediate JSON tree. Defaults to false.
+   */
+  public boolean isStreamingListDecodingEnabled() {
+    return getParameter(STREAMING_LIST_DECODING_ENABLED, false);
+  }
+
   /**
    * Returns the name of the kubernetes platform on which the operator is running. May be null (the default).
    */
@@ -0,0 +1,76 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+
+/**
+ * This class watches a single custom resource definition, selected by name, and reports its changes.
+ */
+public class CrdWatcher extends Watcher<V1CustomResourceDefinition> {
+  private final String crdName;
+
+  private CrdWatcher(
+      String crdName,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1CustomResourceDefinition> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, tuning, isStopping, listener);
+    this.crdName = crdName;
+  }
+
+  /**
+   * Create a CRD watcher.
+   * @param factory the ThreadFactory to run the watcher
+   * @param crdName the name of the CRD to watch
+   * @param initialResourceVersion at which to start returning watch events
+   * @param tuning any WatchTuning parameters
+   * @param listener the WatchListener
+   * @param isStopping whether the watcher is stopping
+   * @return the watcher
+   */
+  public static CrdWatcher create(
+      ThreadFactory factory,
+      String crdName,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1CustomResourceDefinition> listener,
+      AtomicBoolean isStopping) {
+
+    CrdWatcher watcher = new CrdWatcher(crdName, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  @Override
+  public Watchable<V1CustomResourceDefinition> initiateWatch(ListOptions options) throws ApiException {
+    return RequestBuilder.CRD.watch(options.fieldSelector("metadata.name=" + crdName));
+  }
+
+  // The CRD version cache needs only the resource versions of the CRDs, not their large schemas.
+  @Override
+  protected boolean isMetadataOnly() {
+    return true;
+  }
+
+  @Override
+  public String getNamespace() {
+    return null;
+  }
+
+  @Override
+  public String getDomainUid(Watch.Response<V1CustomResourceDefinition> item) {
+    return null;
+  }
+}
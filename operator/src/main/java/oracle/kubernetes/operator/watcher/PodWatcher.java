@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.watcher;
@@ -20,6 +20,7 @@ import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.StartupPermits;
 import oracle.kubernetes.operator.WatchTuning;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
@@ -111,9 +112,11 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
     V1Pod pod = item.object;
     switch (item.type) {
       case "ADDED", "MODIFIED":
+        StartupPermits.getInstance().podChanged(pod);
         copyOf(getOnModifiedCallbacks(PodHelper.getPodName(pod))).forEach(c -> c.accept(pod));
         break;
       case "DELETED":
+        StartupPermits.getInstance().podDeleted(pod);
         getOnDeleteCallbacks(PodHelper.getPodName(pod)).forEach(c -> c.accept(pod));
         break;
       case "ERROR":
@@ -0,0 +1,77 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Records the namespaces whose watchers may have missed events, because a watch failed or returned an error, since
+ * the domain recheck last looked at them. The recheck lists the resources only of those namespaces, rather than of
+ * every namespace. A watch refused access also suggests that the operator's permissions in the namespace have changed.
+ */
+public class WatchGaps {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static WatchGaps instance = new WatchGaps();
+
+  private final Set<String> namespacesWithGaps = ConcurrentHashMap.newKeySet();
+  private final Set<String> namespacesWithAccessDenied = ConcurrentHashMap.newKeySet();
+  private final Map<String, OffsetDateTime> lastGapTimes = new ConcurrentHashMap<>();
+
+  public static WatchGaps getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records that a watcher in the specified namespace may have missed events.
+   * @param namespace the namespace of the watcher, or null for a watcher of cluster-scoped resources
+   */
+  public void reportGap(String namespace) {
+    Optional.ofNullable(namespace).ifPresent(ns -> {
+      namespacesWithGaps.add(ns);
+      lastGapTimes.put(ns, SystemClock.now());
+    });
+  }
+
+  /**
+   * Records that a watcher in the specified namespace was refused access.
+   * @param namespace the namespace of the watcher, or null for a watcher of cluster-scoped resources
+   */
+  public void reportAccessDenied(String namespace) {
+    reportGap(namespace);
+    Optional.ofNullable(namespace).ifPresent(namespacesWithAccessDenied::add);
+  }
+
+  /**
+   * Returns true, and forgets the report, if a watcher in the specified namespace may have missed events.
+   * @param namespace a domain namespace
+   */
+  public boolean takeGap(String namespace) {
+    return namespacesWithGaps.remove(namespace);
+  }
+
+  /**
+   * Returns true if a watcher in the specified namespace may have missed events at or after the specified time.
+   * Unlike {@link #takeGap(String)}, this does not forget the report.
+   * @param namespace a domain namespace
+   * @param time the time at which the caller last knew the state of the namespace's resources
+   */
+  public boolean hasGapSince(String namespace, OffsetDateTime time) {
+    return Optional.ofNullable(lastGapTimes.get(namespace)).map(gap -> !gap.isBefore(time)).orElse(false);
+  }
+
+  /**
+   * Returns true, and forgets the report, if a watcher in the specified namespace was refused access.
+   * @param namespace a domain namespace
+   */
+  public boolean takeAccessDenied(String namespace) {
+    return namespacesWithAccessDenied.remove(namespace);
+  }
+}
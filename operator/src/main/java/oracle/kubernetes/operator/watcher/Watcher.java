@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.watcher;
@@ -18,10 +18,12 @@ import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.CallRecorder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_FORBIDDEN;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
 
 /**
@@ -182,7 +184,8 @@ public abstract class Watcher<T> {
         initiateWatch(
             new ListOptions()
                 .resourceVersion(resourceVersion)
-                .timeoutSeconds(getWatchLifetime()))) {
+                .timeoutSeconds(getWatchLifetime())
+                .isPartialObjectMetadataListRequest(isMetadataOnly()))) {
       while (hasNext(watch)) {
         Watch.Response<T> item = watch.next();
         setIsDraining(isStopping());
@@ -201,6 +204,7 @@ public abstract class Watcher<T> {
       }
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      WatchGaps.getInstance().reportGap(getNamespace());
     }
   }
 
@@ -229,6 +233,15 @@ public abstract class Watcher<T> {
    */
   public abstract Watchable<T> initiateWatch(ListOptions options) throws ApiException;
 
+  /**
+   * Returns true if the watch should return only the metadata of the watched objects, in which case the objects
+   * passed to the listener hold nothing else. Watchers whose listeners need only names, labels, annotations
+   * or resource versions should override this to save the cost of transferring and decoding complete objects.
+   */
+  protected boolean isMetadataOnly() {
+    return false;
+  }
+
   /**
    * Gets the Kubernetes namespace associated with the watcher.
    *
@@ -251,13 +264,21 @@ public abstract class Watcher<T> {
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.object);
+    CallRecorder.getInstance().recordWatchEvent(getNamespace(), item);
     if (listener != null) {
       listener.receivedResponse(item);
     }
   }
 
   private void handleErrorResponse(Watch.Response<T> item) {
-    if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
+    final int code = Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0);
+    if (code == HTTP_FORBIDDEN) {
+      WatchGaps.getInstance().reportAccessDenied(getNamespace());
+    } else {
+      WatchGaps.getInstance().reportGap(getNamespace());
+    }
+
+    if (code != HTTP_GONE) {
       resourceVersion = IGNORED;
     } else {
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.model;
@@ -24,6 +24,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.SCALE;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readCluster;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readDomain;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readScale;
+import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeClusterToMap;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeMap;
 
 /**
@@ -244,10 +245,11 @@ public class AdmissionRequest {
         }
       }
 
+      // returns a copy of the cluster, as the cached instance is shared and must not be modified
       private ClusterResource getCluster(String clusterName, String namespace) throws ApiException {
         List<ClusterResource> clusters = AdmissionChecker.getClusters(namespace);
         return clusters.stream().filter(cluster -> clusterName.equals(cluster.getMetadata().getName()))
-            .findFirst().orElse(null);
+            .findFirst().map(cluster -> readCluster(writeMap(writeClusterToMap(cluster)))).orElse(null);
       }
     },
     NOT_SUPPORTED {
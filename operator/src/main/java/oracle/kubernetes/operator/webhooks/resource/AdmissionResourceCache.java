@@ -0,0 +1,272 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.resource;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.ClusterWatcher;
+import oracle.kubernetes.operator.watcher.DomainWatcher;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.ClusterList;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * A watch-fed cache of the domain and cluster resources in each namespace for which the validating webhook
+ * has received an admission request. The first request in a namespace lists the resources from the API server
+ * and starts watches from the returned resource version; later requests are answered from memory as long as
+ * the namespace has been synchronized within the configured maximum age. Until the cache is started, or
+ * when the maximum age is set to zero, every lookup is a live list.
+ */
+public class AdmissionResourceCache {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can replace it
+  private static AdmissionResourceCache instance = new AdmissionResourceCache();
+
+  private final Map<String, ResourceCache<DomainResource>> domains = new ConcurrentHashMap<>();
+  private final Map<String, ResourceCache<ClusterResource>> clusters = new ConcurrentHashMap<>();
+  private final AtomicBoolean stopping = new AtomicBoolean(true);
+
+  public static AdmissionResourceCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables the cache. Until this is called, all lookups are passed through to the API server.
+   * Any watches left from an earlier start are stopped first.
+   */
+  public void start() {
+    discardCaches();
+    stopping.set(false);
+  }
+
+  /**
+   * Stops the cache watches and discards all cached resources.
+   */
+  public void stop() {
+    stopping.set(true);
+    discardCaches();
+  }
+
+  private void discardCaches() {
+    domains.values().forEach(ResourceCache::stopWatch);
+    clusters.values().forEach(ResourceCache::stopWatch);
+    domains.clear();
+    clusters.clear();
+  }
+
+  boolean isStarted() {
+    return !stopping.get();
+  }
+
+  /**
+   * Returns the cluster resources in the specified namespace.
+   * @param namespace a namespace
+   * @return a list of clusters; callers must not modify the returned resources
+   * @throws ApiException if a live list is needed and fails
+   */
+  public List<ClusterResource> getClusters(String namespace) throws ApiException {
+    if (!isCacheEnabled()) {
+      return listClusters(namespace);
+    }
+    return clusters.computeIfAbsent(namespace, ns -> new ResourceCache<>(ns, ResourceType.CLUSTER)).getItems();
+  }
+
+  /**
+   * Returns the domain resources in the specified namespace.
+   * @param namespace a namespace
+   * @return a list of domains; callers must not modify the returned resources
+   * @throws ApiException if a live list is needed and fails
+   */
+  public List<DomainResource> getDomains(String namespace) throws ApiException {
+    if (!isCacheEnabled()) {
+      return listDomains(namespace);
+    }
+    return domains.computeIfAbsent(namespace, ns -> new ResourceCache<>(ns, ResourceType.DOMAIN)).getItems();
+  }
+
+  // for test
+  void receivedClusterEvent(String namespace, Watch.Response<ClusterResource> response) {
+    Optional.ofNullable(clusters.get(namespace)).ifPresent(c -> c.receivedResponse(response));
+  }
+
+  private boolean isCacheEnabled() {
+    return isStarted() && getMaxAgeSeconds() > 0;
+  }
+
+  private static int getMaxAgeSeconds() {
+    return TuningParameters.getInstance().getAdmissionCacheMaxAgeSeconds();
+  }
+
+  private static List<ClusterResource> listClusters(String namespace) throws ApiException {
+    return Optional.ofNullable(RequestBuilder.CLUSTER.list(namespace))
+        .map(ClusterList::getItems).orElse(Collections.emptyList());
+  }
+
+  private static List<DomainResource> listDomains(String namespace) throws ApiException {
+    return Optional.ofNullable(RequestBuilder.DOMAIN.list(namespace))
+        .map(DomainList::getItems).orElse(Collections.emptyList());
+  }
+
+  private enum ResourceType {
+    DOMAIN {
+      @Override
+      KubernetesListObject list(String namespace) throws ApiException {
+        return RequestBuilder.DOMAIN.list(namespace);
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      <T extends KubernetesObject> void startWatch(ResourceCache<T> cache, String resourceVersion) {
+        DomainWatcher.create(ThreadFactorySingleton.getInstance(), cache.namespace, resourceVersion,
+            TuningParameters.getInstance().getWatchTuning(),
+            (WatchListener<DomainResource>) cache, cache.watchStopping);
+      }
+    },
+    CLUSTER {
+      @Override
+      KubernetesListObject list(String namespace) throws ApiException {
+        return RequestBuilder.CLUSTER.list(namespace);
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      <T extends KubernetesObject> void startWatch(ResourceCache<T> cache, String resourceVersion) {
+        ClusterWatcher.create(ThreadFactorySingleton.getInstance(), cache.namespace, resourceVersion,
+            TuningParameters.getInstance().getWatchTuning(),
+            (WatchListener<ClusterResource>) cache, cache.watchStopping);
+      }
+    };
+
+    abstract KubernetesListObject list(String namespace) throws ApiException;
+
+    abstract <T extends KubernetesObject> void startWatch(ResourceCache<T> cache, String resourceVersion);
+  }
+
+  // The cached resources of one kind in one namespace. A synchronization lists the resources into a new map and
+  // then swaps it in; watch events received during the list are buffered and applied to the new map after the swap,
+  // so that lookups never see a partly filled map and no event is lost.
+  private static class ResourceCache<T extends KubernetesObject> implements WatchListener<T> {
+    private final String namespace;
+    private final ResourceType type;
+    private final AtomicBoolean watchStopping = new AtomicBoolean(false);
+    private final Object eventLock = new Object();
+    private volatile Map<String, T> items = new ConcurrentHashMap<>();
+    private volatile OffsetDateTime lastSynchronized;
+    private List<Watch.Response<T>> bufferedEvents;
+    private boolean watchStarted;
+
+    ResourceCache(String namespace, ResourceType type) {
+      this.namespace = namespace;
+      this.type = type;
+    }
+
+    void stopWatch() {
+      watchStopping.set(true);
+    }
+
+    List<T> getItems() throws ApiException {
+      if (!isFresh()) {
+        synchronize();
+      }
+      return new ArrayList<>(items.values());
+    }
+
+    private boolean isFresh() {
+      return Optional.ofNullable(lastSynchronized)
+          .map(t -> t.plusSeconds(getMaxAgeSeconds()).isAfter(SystemClock.now()))
+          .orElse(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void synchronize() throws ApiException {
+      if (isFresh()) {
+        return;
+      }
+
+      setBufferedEvents(new ArrayList<>());
+      final KubernetesListObject list;
+      final Map<String, T> newItems = new ConcurrentHashMap<>();
+      try {
+        list = type.list(namespace);
+      } catch (ApiException | RuntimeException e) {
+        swapIn(items);
+        throw e;
+      }
+      Optional.ofNullable(list).map(KubernetesListObject::getItems)
+          .ifPresent(l -> l.forEach(item -> newItems.put(getName(item), (T) item)));
+      swapIn(newItems);
+      lastSynchronized = SystemClock.now();
+
+      if (!watchStarted && !watchStopping.get()) {
+        watchStarted = true;
+        type.startWatch(this, getResourceVersion(list));
+      }
+    }
+
+    private void setBufferedEvents(List<Watch.Response<T>> events) {
+      synchronized (eventLock) {
+        bufferedEvents = events;
+      }
+    }
+
+    // Makes the specified map current, and applies to it the events received since buffering started.
+    private void swapIn(Map<String, T> newItems) {
+      synchronized (eventLock) {
+        items = newItems;
+        bufferedEvents.forEach(this::apply);
+        bufferedEvents = null;
+      }
+    }
+
+    private String getResourceVersion(KubernetesListObject list) {
+      return Optional.ofNullable(list).map(KubernetesListObject::getMetadata)
+          .map(V1ListMeta::getResourceVersion).orElse(null);
+    }
+
+    @Override
+    public void receivedResponse(Watch.Response<T> response) {
+      synchronized (eventLock) {
+        if (bufferedEvents != null) {
+          bufferedEvents.add(response);
+        } else if (apply(response)) {
+          lastSynchronized = SystemClock.now();
+        }
+      }
+    }
+
+    private boolean apply(Watch.Response<T> response) {
+      switch (response.type) {
+        case "ADDED", "MODIFIED" -> items.put(getName(response.object), response.object);
+        case "DELETED" -> items.remove(getName(response.object));
+        default -> {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private String getName(KubernetesObject object) {
+      return Optional.ofNullable(object.getMetadata()).map(V1ObjectMeta::getName).orElse("");
+    }
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
@@ -6,9 +6,11 @@ package oracle.kubernetes.operator.webhooks.resource;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
@@ -18,6 +20,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import oracle.kubernetes.common.utils.SchemaConversionUtils;
 import oracle.kubernetes.operator.helpers.EventHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.RestConfig;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
 import oracle.kubernetes.operator.http.rest.resource.BaseResource;
@@ -46,6 +49,11 @@ public class ConversionWebhookResource extends BaseResource {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
   public static final String FAILED_STATUS = "Failed";
+  private static final String SUCCESS_STATUS = "Success";
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  // conversion utilities are stateless, so a single instance per target API version is shared by all requests
+  private static final Map<String, SchemaConversionUtils> CONVERTERS = new ConcurrentHashMap<>();
 
   @Context
   private Application application;
@@ -66,6 +74,8 @@ public class ConversionWebhookResource extends BaseResource {
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   public String post(String body) {
+    final long startNanos = System.nanoTime();
+    String status = SUCCESS_STATUS;
     ConversionReviewModel conversionReview = null;
     ConversionResponse conversionResponse;
     if (LOGGER.isFineEnabled()) {
@@ -93,6 +103,7 @@ public class ConversionWebhookResource extends BaseResource {
       conversionResponse = new ConversionResponse()
           .uid(getUid(conversionReview)).result(new Result().status(FAILED_STATUS).message("Exception: " + e));
       generateFailedEvent(e, getConversionRequest(conversionReview));
+      status = FAILED_STATUS;
     }
     ConversionReviewModel conversionReviewModel = new ConversionReviewModel()
         .apiVersion(Optional.ofNullable(conversionReview).map(ConversionReviewModel::getApiVersion).orElse(null))
@@ -103,9 +114,15 @@ public class ConversionWebhookResource extends BaseResource {
     if (LOGGER.isFineEnabled()) {
       LOGGER.fine("Conversion webhook response: " + response);
     }
+    recordLatency(status, startNanos);
     return response;
   }
 
+  private void recordLatency(String status, long startNanos) {
+    OperatorMetrics.CONVERSION_WEBHOOK_LATENCY.labels(status)
+        .observe((System.nanoTime() - startNanos) / NANOS_PER_SECOND);
+  }
+
   private String getConversionRequest(ConversionReviewModel conversionReview) {
     return Optional.ofNullable(conversionReview).map(ConversionReviewModel::getRequest)
         .map(ConversionRequest::toString).orElse(null);
@@ -131,14 +148,12 @@ public class ConversionWebhookResource extends BaseResource {
   @SuppressWarnings("unchecked")
   private ConversionResponse createConversionResponse(ConversionRequest conversionRequest,
                                                       RestBackend be) {
-    SchemaConversionUtils schemaConversionUtils = new SchemaConversionUtils(conversionRequest.getDesiredAPIVersion());
+    SchemaConversionUtils schemaConversionUtils = getConverter(conversionRequest.getDesiredAPIVersion());
+    Map<String, List<Map<String, Object>>> clustersByNamespace = new HashMap<>();
 
     List<SchemaConversionUtils.Resources> convertedResources = conversionRequest.getDomains().stream()
-          .map(d -> schemaConversionUtils.convertDomainSchema(d, () -> {
-            String namespace = Optional.ofNullable((Map<String, Object>) d.get("metadata"))
-                .map(m -> (String) m.get("namespace")).orElse("default");
-            return be.listClusters(namespace);
-          }))
+          .map(d -> schemaConversionUtils.convertDomainSchema(d,
+              () -> clustersByNamespace.computeIfAbsent(getNamespace(d), be::listClusters)))
           .toList();
 
     List<Object> convertedDomains = new ArrayList<>();
@@ -149,7 +164,19 @@ public class ConversionWebhookResource extends BaseResource {
 
     return new ConversionResponse()
             .uid(conversionRequest.getUid())
-            .result(new Result().status("Success"))
+            .result(new Result().status(SUCCESS_STATUS))
             .convertedObjects(convertedDomains);
   }
+
+  private static SchemaConversionUtils getConverter(String desiredApiVersion) {
+    return Optional.ofNullable(desiredApiVersion)
+        .map(v -> CONVERTERS.computeIfAbsent(v, SchemaConversionUtils::create))
+        .orElseGet(() -> SchemaConversionUtils.create(null));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String getNamespace(Map<String, Object> domain) {
+    return Optional.ofNullable((Map<String, Object>) domain.get("metadata"))
+        .map(m -> (String) m.get("namespace")).orElse("default");
+  }
 }
\ No newline at end of file
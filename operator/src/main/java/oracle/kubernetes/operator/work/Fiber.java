@@ -1,11 +1,13 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
 import java.io.Serial;
 import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -13,10 +15,13 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tracing.Tracer;
+import oracle.kubernetes.utils.SystemClock;
 import org.jetbrains.annotations.NotNull;
 
 import static oracle.kubernetes.operator.work.Step.THROWABLE;
@@ -38,6 +43,17 @@ public final class Fiber implements Runnable {
   private final Packet packet;
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
   private final Queue<String> breadcrumbs = new ConcurrentLinkedQueue<>();
+  private final Fiber parent;
+  private final int requeueCount;
+
+  // the progress of this fiber, reported by its snapshots
+  // the steps of a concurrent fork-join record their progress from several threads, so the step and its start
+  // time are replaced together
+  private volatile StepEntry currentStep;
+  private volatile Step forkingStep;
+  private volatile OffsetDateTime requeueTime;
+  private volatile boolean suspended;
+  private volatile boolean completed;
 
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet) {
     this(fiberExecutor, stepline, packet, null);
@@ -58,14 +74,17 @@ public final class Fiber implements Runnable {
    *     final packet is available.
    */
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet, CompletionCallback completionCallback) {
+    this(fiberExecutor, stepline, packet, completionCallback, null, 0);
+  }
+
+  private Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet, CompletionCallback completionCallback,
+                Fiber parent, int requeueCount) {
     this.fiberExecutor = fiberExecutor;
     this.stepline = stepline;
     this.packet = packet;
     this.completionCallback = completionCallback;
-  }
-
-  private Fiber(Fiber fiber, Step stepline, Packet packet) {
-    this(fiber.fiberExecutor, stepline, packet, fiber.completionCallback);
+    this.parent = parent;
+    this.requeueCount = requeueCount;
   }
 
   /**
@@ -77,8 +96,32 @@ public final class Fiber implements Runnable {
     return CURRENT_FIBER.get();
   }
 
+  // Records that this fiber is about to run the specified step.
+  void enterStep(Step step) {
+    currentStep = new StepEntry(step, SystemClock.now());
+  }
+
+  // Records that the specified step is running a fork-join in this fiber, returning the step previously recorded.
+  // The branches of a concurrent fork-join may run fork-joins of their own at the same time, so only the outermost
+  // is recorded; the branches then leave the record unchanged.
+  Step enterFork(Step step) {
+    final Step previous = forkingStep;
+    if (previous == null) {
+      forkingStep = step;
+    }
+    return previous;
+  }
+
+  void exitFork(Step previous) {
+    if (previous == null) {
+      forkingStep = null;
+    }
+  }
+
   void addBreadcrumb(Step step) {
-    addBreadcrumb(step.getResourceName());
+    if (LOGGER.isFinerEnabled()) {
+      breadcrumbs.add(step.getResourceName());
+    }
   }
 
   void addBreadcrumb(String crumb) {
@@ -94,19 +137,19 @@ public final class Fiber implements Runnable {
     fiberExecutor.execute(this);
   }
 
-  private boolean invokeAndPotentiallyRequeue(Step stepline, Packet packet) {
-    Result result = stepline.apply(packet);
-
-    if (result.isRequeue()) {
-      addBreadcrumb("[" + result.getRequeueAfter() + "]");
-      fiberExecutor.schedule(this, result.getRequeueAfter());
-      return false;
-    }
-    return true;
+  static Fiber copyWithNewStepsAndPacket(Fiber fiber, Step stepline, Packet packet) {
+    return new Fiber(fiber.fiberExecutor, stepline, packet, fiber.completionCallback, null, fiber.requeueCount + 1);
   }
 
-  static Fiber copyWithNewStepsAndPacket(Fiber fiber, Step stepline, Packet packet) {
-    return new Fiber(fiber, stepline, packet);
+  /**
+   * Starts a new fiber which runs the specified steps with this fiber's executor. The new fiber runs independently
+   * of this one; its completion is not reported to this fiber's callback.
+   *
+   * @param stepline the steps to run
+   * @param packet the packet for the new fiber
+   */
+  public void startIndependentFiber(Step stepline, Packet packet) {
+    new Fiber(fiberExecutor, stepline, packet, null, this, 0).start();
   }
 
   @Override
@@ -114,26 +157,19 @@ public final class Fiber implements Runnable {
     if (!isCancelled()) {
       LOGGER.finer("{0} running", getName());
       clearThreadInterruptedStatus();
+      requeueTime = null;
 
       final Fiber oldFiber = CURRENT_FIBER.get();
       CURRENT_FIBER.set(this);
       try {
         try {
-          if ((stepline == null || invokeAndPotentiallyRequeue(adapt(this, stepline, packet), packet))
-                  && !isCancelled()
-                  && completionCallback != null) {
-            Throwable t = (Throwable) packet.remove(THROWABLE);
-            if (t != null) {
-              completionCallback.onThrowable(packet, t);
-            } else {
-              completionCallback.onCompletion(packet);
-            }
+          if (stepline == null) {
+            complete();
+          } else {
+            handleResult(adapt(this, stepline, packet).apply(packet));
           }
         } catch (Throwable t) {
-          addBreadcrumb("[throw= " + t.getMessage() + "]");
-          if (completionCallback != null) {
-            completionCallback.onThrowable(packet, t);
-          }
+          fail(t);
         }
       } finally {
 
@@ -150,16 +186,119 @@ public final class Fiber implements Runnable {
     }
   }
 
+  // A suspended fiber holds no thread; its result is handled by the thread which resumes it, on its behalf.
+  private void handleResult(Result result) {
+    if (result instanceof Step.SuspendResult suspendResult) {
+      suspended = true;
+      suspendResult.whenResumed(this::handleResumedResult);
+    } else if (result.isRequeue()) {
+      addBreadcrumb("[" + result.getRequeueAfter() + "]");
+      requeueTime = SystemClock.now().plus(result.getRequeueAfter());
+      Tracer.getInstance().endTrace(packet, "requeued");
+      fiberExecutor.schedule(this, result.getRequeueAfter());
+    } else {
+      complete();
+    }
+  }
+
+  private void handleResumedResult(Result result, Throwable throwable) {
+    suspended = false;
+    try {
+      if (throwable != null) {
+        fail(throwable);
+      } else {
+        handleResult(result);
+      }
+    } catch (Throwable t) {
+      fail(t);
+    }
+  }
+
+  private void complete() {
+    completed = true;
+    if (!isCancelled() && completionCallback != null) {
+      Throwable t = (Throwable) packet.remove(THROWABLE);
+      if (t != null) {
+        completionCallback.onThrowable(packet, t);
+      } else {
+        completionCallback.onCompletion(packet);
+      }
+    }
+  }
+
+  private void fail(Throwable t) {
+    completed = true;
+    addBreadcrumb("[throw= " + t.getMessage() + "]");
+    if (completionCallback != null) {
+      completionCallback.onThrowable(packet, t);
+    }
+  }
+
+  /**
+   * Schedules an action with this fiber's executor, as a suspended step does to end its wait.
+   * @param action the action to run
+   * @param delay the time after which to run it
+   * @return a handle with which to cancel the action
+   */
+  Cancellable schedule(Runnable action, Duration delay) {
+    return fiberExecutor.schedule(action, delay);
+  }
+
+  /**
+   * Runs an action in the current thread on behalf of the specified fiber, as the steps of a concurrent fork-join do,
+   * so that they can report their progress to it.
+   * @param fiber the fiber on whose behalf to run, or null
+   * @param action the action to run
+   * @return the result of the action
+   */
+  static <T> T callOnBehalfOf(Fiber fiber, Supplier<T> action) {
+    final Fiber oldFiber = CURRENT_FIBER.get();
+    CURRENT_FIBER.set(fiber);
+    try {
+      return action.get();
+    } finally {
+      if (oldFiber == null) {
+        CURRENT_FIBER.remove();
+      } else {
+        CURRENT_FIBER.set(oldFiber);
+      }
+    }
+  }
+
   public boolean isCancelled() {
     return isCancelled.get();
   }
 
+  /**
+   * Returns true if this fiber has run all of its steps, or has been requeued to run again later.
+   */
+  boolean isDone() {
+    return completed || isRequeued();
+  }
+
+  /**
+   * Returns true if this fiber is waiting to run its steps again after a requeue.
+   */
+  boolean isRequeued() {
+    return requeueTime != null;
+  }
+
+  /**
+   * Returns the fiber which started this one as an independent fiber, or null if there is none.
+   */
+  Fiber getParent() {
+    return parent;
+  }
+
   @SuppressWarnings("ResultOfMethodCallIgnored")
   void clearThreadInterruptedStatus() {
     Thread.interrupted();
   }
 
-  private String getName() {
+  /**
+   * Returns the name of this fiber, which is unique within the operator.
+   */
+  public String getName() {
     StringBuilder sb = new StringBuilder();
     sb.append("fiber-");
     sb.append(getId());
@@ -196,6 +335,9 @@ public final class Fiber implements Runnable {
   public void cancel() {
     if (!isCancelled.getAndSet(true)) {
       addBreadcrumb("[cancelled]");
+      if (parent == null) {
+        Tracer.getInstance().endTrace(packet, "cancelled");
+      }
     }
   }
 
@@ -223,9 +365,57 @@ public final class Fiber implements Runnable {
     void onThrowable(Packet packet, Throwable throwable);
   }
 
+  /**
+   * Returns a description of the current progress of this fiber.
+   * @param key the key under which a fiber gate runs this fiber
+   */
+  public Snapshot snapshot(String key) {
+    final StepEntry entry = currentStep;
+    final Step step = entry == null ? null : entry.step();
+    final OffsetDateTime stepStart = entry == null ? null : entry.startTime();
+    return new Snapshot(getName(), key, getState(),
+        step == null ? null : step.getResourceName(),
+        stepStart == null ? null : Duration.between(stepStart, SystemClock.now()),
+        requeueCount,
+        packet == null ? List.of() : packet.keySet().stream().sorted().toList(),
+        parent == null ? null : parent.getName(),
+        Optional.ofNullable(forkingStep).map(Step::getResourceName).orElse(null));
+  }
+
+  private String getState() {
+    if (requeueTime != null) {
+      return Snapshot.SCHEDULED;
+    }
+    return suspended ? Snapshot.SUSPENDED : Snapshot.ACTIVE;
+  }
+
   public record StepAndPacket(Step step, Packet packet) {
   }
 
+  private record StepEntry(Step step, OffsetDateTime startTime) {
+  }
+
+  /**
+   * A description of the progress of a fiber.
+   * @param name the name of the fiber
+   * @param key the key under which a fiber gate runs the fiber, typically a domain UID
+   * @param state {@link #ACTIVE} if the fiber is running or about to run, {@link #SUSPENDED} if it is waiting to be
+   *     resumed, {@link #SCHEDULED} if it has been requeued
+   * @param currentStep the name of the step the fiber is running, or last ran
+   * @param timeInStep the time since the current step started
+   * @param requeueCount the number of times the processing run by this fiber has been requeued
+   * @param packetKeys the names of the entries in the fiber's packet
+   * @param parentFiber the name of the fiber which started this one as an independent fiber, if any
+   * @param forkingStep the name of the step whose fork-join the fiber is running, if any
+   */
+  public record Snapshot(String name, String key, String state, String currentStep, Duration timeInStep,
+                         int requeueCount, List<String> packetKeys, String parentFiber, String forkingStep) {
+
+    public static final String ACTIVE = "active";
+    public static final String SUSPENDED = "suspended";
+    public static final String SCHEDULED = "scheduled";
+  }
+
   /** Multi-exception. */
   public static class MultiThrowable extends RuntimeException {
     @Serial
@@ -251,6 +441,8 @@ public final class Fiber implements Runnable {
     void execute(Fiber fiber);
 
     Cancellable schedule(Fiber fiber, Duration duration);
+
+    Cancellable schedule(Runnable action, Duration duration);
   }
 
   private static FiberExecutor fromScheduled(ScheduledExecutorService scheduledExecutorService) {
@@ -262,6 +454,13 @@ public final class Fiber implements Runnable {
         return () -> future.cancel(true);
       }
 
+      @Override
+      public Cancellable schedule(Runnable action, Duration duration) {
+        ScheduledFuture<?> future = scheduledExecutorService.schedule(action,
+                TimeUnit.MILLISECONDS.convert(duration), TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+      }
+
       @Override
       public void execute(@NotNull Fiber fiber) {
         scheduledExecutorService.execute(fiber);
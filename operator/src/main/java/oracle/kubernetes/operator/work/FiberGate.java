@@ -1,11 +1,16 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -26,6 +31,9 @@ public class FiberGate {
   /** A map of domain UIDs to the fiber charged with running processing on that domain. **/
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<>();
 
+  /** The independent fibers started by the fibers of this gate, with the keys of the fibers which started them. */
+  private final ConcurrentMap<Fiber, String> independentFibers = new ConcurrentHashMap<>();
+
   /**
    * Constructor taking Engine for running Fibers.
    *
@@ -43,6 +51,78 @@ public class FiberGate {
     return new HashMap<>(gateMap);
   }
 
+  /**
+   * Describes the fibers of this gate which have not yet completed: those running or scheduled to run for each key,
+   * and the independent fibers which they have started.
+   * @return a list of fiber snapshots, ordered by key, with the fiber of each key before those it has started
+   */
+  public List<Fiber.Snapshot> getFiberSnapshots() {
+    removeDoneIndependentFibers();
+    final List<Fiber.Snapshot> result = new ArrayList<>();
+    gateMap.forEach((key, fiber) -> result.add(fiber.snapshot(key)));
+    independentFibers.forEach((fiber, key) -> result.add(fiber.snapshot(key)));
+    result.sort(Comparator.comparing(Fiber.Snapshot::key));
+    return result;
+  }
+
+  private void removeDoneIndependentFibers() {
+    independentFibers.keySet().removeIf(fiber -> fiber.isDone() || fiber.isCancelled());
+  }
+
+  /**
+   * Cancels the fiber of this gate with the specified name. A cancelled fiber runs no more steps, and is not
+   * requeued; a later start for its key runs a new fiber.
+   * @param fiberName the name of a fiber
+   * @return true if this gate had a fiber with that name
+   */
+  public boolean cancelFiber(String fiberName) {
+    for (Map.Entry<String, Fiber> entry : gateMap.entrySet()) {
+      if (entry.getValue().getName().equals(fiberName)) {
+        entry.getValue().cancel();
+        gateMap.remove(entry.getKey(), entry.getValue());
+        return true;
+      }
+    }
+    for (Fiber fiber : Set.copyOf(independentFibers.keySet())) {
+      if (fiber.getName().equals(fiberName)) {
+        fiber.cancel();
+        independentFibers.remove(fiber);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Cancels every fiber of this gate, and the independent fibers which they have started.
+   */
+  public void cancelAllFibers() {
+    gateMap.forEach((key, fiber) -> {
+      fiber.cancel();
+      gateMap.remove(key, fiber);
+    });
+    for (Fiber fiber : Set.copyOf(independentFibers.keySet())) {
+      fiber.cancel();
+      independentFibers.remove(fiber);
+    }
+  }
+
+  /**
+   * Returns true if a fiber which has not been cancelled is running for the specified key.
+   * @param key the key, typically a domain UID
+   */
+  public boolean isRunning(String key) {
+    return Optional.ofNullable(gateMap.get(key)).map(f -> !f.isCancelled()).orElse(false);
+  }
+
+  /**
+   * Returns true if the fiber for the specified key is waiting to run again after a requeue.
+   * @param key the key, typically a domain UID
+   */
+  public boolean isRequeued(String key) {
+    return Optional.ofNullable(gateMap.get(key)).map(Fiber::isRequeued).orElse(false);
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same domain UID. Fiber map is not
    * updated if no Fiber is started.
@@ -99,7 +179,17 @@ public class FiberGate {
         return () -> future.cancel(true);
       }
 
+      @Override
+      public Cancellable schedule(Runnable action, Duration duration) {
+        ScheduledFuture<?> future = scheduledExecutorService.schedule(
+                action, TimeUnit.MILLISECONDS.convert(duration), TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+      }
+
       private void scheduledExecution(Fiber fiber) {
+        if (fiber.isCancelled()) {
+          return;
+        }
         Fiber scheduledReplacement = Fiber.copyWithNewStepsAndPacket(fiber, stepSupplier.get(), packetSupplier.get());
         if (gateMap.compute(domainUid,
             (k, v) -> (v == null || v == fiber) ? scheduledReplacement : v) == scheduledReplacement) {
@@ -109,12 +199,23 @@ public class FiberGate {
 
       @Override
       public void execute(@NotNull Fiber fiber) {
+        if (fiber.getParent() != null) {
+          startIndependentFiber(fiber);
+          return;
+        }
         Fiber existing = gateMap.put(domainUid, fiber);
         if (existing != null) {
           existing.cancel();
         }
         scheduledExecutorService.execute(fiber);
       }
+
+      // An independent fiber runs alongside the fiber which started it, and does not replace it in the gate.
+      private void startIndependentFiber(Fiber fiber) {
+        removeDoneIndependentFibers();
+        independentFibers.put(fiber, domainUid);
+        scheduledExecutorService.execute(fiber);
+      }
     }
   }
 
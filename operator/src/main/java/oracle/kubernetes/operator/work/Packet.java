@@ -1,41 +1,124 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
+import java.io.Serial;
 import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nonnull;
 
-/** Context of a single processing flow. */
+/**
+ * Context of a single processing flow. A copy of a packet shares the entries of the original; each packet records only
+ * the entries written to it since it was created or last copied, on top of the unchanging layers it inherits.
+ * Removing an inherited entry merges the inherited layers into the packet, so that the packet no longer refers to
+ * the removed value.
+ */
 public class Packet extends AbstractMap<String, Object> {
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<>();
+
+  // the most layers through which a lookup may pass before a copy merges them
+  static final int MAX_DEPTH = 4;
+
+  // the inherited layers and the written entries are replaced together, so a lookup never sees one without the other
+  private volatile Contents contents = new Contents(null, new ConcurrentHashMap<>());
+  private volatile int size;
 
   public Packet() {
   }
 
-  private Packet(Packet that) {
-    delegate.putAll(that.delegate);
+  private Packet(Layer inherited, int size) {
+    this.contents = new Contents(inherited, new ConcurrentHashMap<>());
+    this.size = size;
   }
 
   /**
-   * Copies a packet so that the new packet starts with identical values and components.
+   * Copies a packet so that the new packet starts with identical values and components. The copy shares the entries
+   * of this packet, and later writes to either packet are not seen by the other.
    *
    * @return Cloned packet
    */
-  public Packet copy() {
-    return new Packet(this);
+  public synchronized Packet copy() {
+    return new Packet(freeze(), size);
+  }
+
+  private Layer freeze() {
+    if (!contents.written().isEmpty()) {
+      contents = new Contents(Layer.create(contents.written(), contents.inherited()), new ConcurrentHashMap<>());
+    }
+    return contents.inherited();
+  }
+
+  // Returns the number of layers through which a lookup may pass.
+  int getDepth() {
+    final Layer inherited = contents.inherited();
+    return inherited == null ? 1 : inherited.depth + 2;
   }
 
   @Override
-  public Set<Entry<String, Object>> entrySet() {
-    return delegate.entrySet();
+  public Object get(Object key) {
+    return contents.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public synchronized Object put(String key, Object value) {
+    if (value == null) {
+      return remove(key);
+    }
+    final Object previous = contents.written().put(key, value);
+    if (previous == null && !contents.isInherited(key)) {
+      size++;
+    }
+    return previous != null ? previous : contents.getInherited(key);
+  }
+
+  @Override
+  public synchronized Object remove(Object key) {
+    final Object previous = get(key);
+    if (previous == null) {
+      return null;
+    } else if (contents.isInherited(key)) {
+      final Map<String, Object> merged = contents.toMap();
+      merged.remove(key);
+      contents = new Contents(null, new ConcurrentHashMap<>(merged));
+    } else {
+      contents.written().remove(key);
+    }
+    size--;
+    return previous;
   }
 
   @Override
-  public Object put(String key, Object value) {
-    return value != null ? delegate.put(key, value) : delegate.remove(key);
+  public synchronized void clear() {
+    contents = new Contents(null, new ConcurrentHashMap<>());
+    size = 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  @Nonnull
+  public Set<Entry<String, Object>> entrySet() {
+    return new EntrySet();
   }
 
   @SuppressWarnings("unchecked")
@@ -43,7 +126,156 @@ public class Packet extends AbstractMap<String, Object> {
     return (T) get(key);
   }
 
+  /**
+   * Returns the value of a typed packet key.
+   * @param key the key of the value
+   * @param <T> the type of the value
+   * @return the value, or null if the packet has none
+   * @throws ClassCastException if the packet has a value of another type under the key's name
+   */
+  public <T> T getValue(Key<T> key) {
+    return key.type().cast(get(key.name()));
+  }
+
+  /**
+   * Sets the value of a typed packet key; a null value removes it.
+   * @param key the key of the value
+   * @param value the new value
+   * @param <T> the type of the value
+   */
+  public <T> void putValue(Key<T> key, T value) {
+    put(key.name(), value);
+  }
+
   public Fiber getFiber() {
     return Fiber.getCurrentIfSet();
   }
+
+  /**
+   * A packet key whose values have a known type. A typed key and a string key with the same name refer to the
+   * same value.
+   * @param name the name under which the value is stored
+   * @param type the type of the value
+   * @param <T> the type of the value
+   */
+  public record Key<T>(@Nonnull String name, @Nonnull Class<T> type) {
+
+    public static <T> Key<T> of(@Nonnull String name, @Nonnull Class<T> type) {
+      return new Key<>(name, type);
+    }
+  }
+
+  private record Contents(Layer inherited, ConcurrentMap<String, Object> written) {
+
+    Object get(Object key) {
+      final Object value = written.get(key);
+      return value != null ? value : getInherited(key);
+    }
+
+    Object getInherited(Object key) {
+      return inherited == null ? null : inherited.get(key);
+    }
+
+    boolean isInherited(Object key) {
+      return getInherited(key) != null;
+    }
+
+    Map<String, Object> toMap() {
+      final Map<String, Object> result = inherited == null ? new HashMap<>() : inherited.toMap();
+      result.putAll(written);
+      return result;
+    }
+  }
+
+  // Entries which no longer change, on top of the layers of the packet from which they were copied.
+  private static class Layer {
+    private final Map<String, Object> entries;
+    private final Layer parent;
+    private final int depth;
+
+    private Layer(Map<String, Object> entries, Layer parent) {
+      this.entries = entries;
+      this.parent = parent;
+      this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    static Layer create(Map<String, Object> entries, Layer parent) {
+      if (parent == null || parent.depth + 1 < MAX_DEPTH - 1) {
+        return new Layer(entries, parent);
+      } else {
+        final Map<String, Object> merged = parent.toMap();
+        merged.putAll(entries);
+        return new Layer(merged, null);
+      }
+    }
+
+    Object get(Object key) {
+      for (Layer layer = this; layer != null; layer = layer.parent) {
+        final Object value = layer.entries.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+      return null;
+    }
+
+    Map<String, Object> toMap() {
+      final Map<String, Object> result = parent == null ? new HashMap<>() : parent.toMap();
+      result.putAll(entries);
+      return result;
+    }
+  }
+
+  // Iterates over a snapshot of the entries; changes made through the entries and the iterator update the packet.
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    @Nonnull
+    public Iterator<Entry<String, Object>> iterator() {
+      final Iterator<Entry<String, Object>> entries = contents.toMap().entrySet().iterator();
+      return new Iterator<>() {
+        private Entry<String, Object> last;
+
+        @Override
+        public boolean hasNext() {
+          return entries.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          last = new PacketEntry(entries.next());
+          return last;
+        }
+
+        @Override
+        public void remove() {
+          if (last == null) {
+            throw new IllegalStateException();
+          }
+          Packet.this.remove(last.getKey());
+          last = null;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return Packet.this.size();
+    }
+  }
+
+  private class PacketEntry extends SimpleEntry<String, Object> {
+    @Serial
+    private static final long serialVersionUID  = 1L;
+
+    PacketEntry(Entry<String, Object> entry) {
+      super(entry);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Packet.this.put(getKey(), Objects.requireNonNull(value));
+      return super.setValue(value);
+    }
+  }
 }
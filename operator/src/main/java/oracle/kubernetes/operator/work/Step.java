@@ -1,19 +1,35 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 
 /** Individual step in a processing flow. */
@@ -34,8 +50,21 @@ public abstract class Step {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static StepAdapter adapter = DEFAULT_ADAPTER;
 
+  // runs the steps of a concurrent fork-join, and those of a resumed fiber; not final so unit tests can run them in
+  // the calling thread
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Executor forkJoinExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
   public static final String THROWABLE = "throwable";
 
+  // the base names of the step classes, derived once for each class
+  private static final ClassValue<String> BASE_NAMES = new ClassValue<>() {
+    @Override
+    protected String computeValue(Class<?> type) {
+      return computeBaseName(type);
+    }
+  };
+
   private Step next;
 
   /** Create a step with no next step. */
@@ -59,15 +88,7 @@ public abstract class Step {
    * @return the first step of the resultant chain
    */
   public static Step chain(Step... stepGroups) {
-    int start = getFirstNonNullIndex(stepGroups);
-    if (start >= stepGroups.length) {
-      throw new IllegalArgumentException("No non-Null steps specified");
-    }
-
-    for (int i = start + 1; i < stepGroups.length; i++) {
-      addLink(stepGroups[start], stepGroups[i]);
-    }
-    return stepGroups[start];
+    return chain(Arrays.asList(stepGroups));
   }
 
   /**
@@ -77,56 +98,59 @@ public abstract class Step {
    * @return the first step of the resultant chain
    */
   public static Step chain(List<Step> stepGroups) {
-    return chain(stepGroups.toArray(new Step[0]));
+    final ChainBuilder builder = new ChainBuilder();
+    stepGroups.forEach(builder::add);
+    return builder.build();
   }
 
-  private static int getFirstNonNullIndex(Step[] stepGroups) {
-    for (int i = 0; i < stepGroups.length; i++) {
-      if (stepGroups[i] != null) {
-        return i;
+  /**
+   * Links groups of steps into a single chain, in time proportional to the total number of steps. A group which
+   * shares a step with those already in the chain is left out, to avoid introducing a loop.
+   */
+  public static class ChainBuilder {
+    private final Set<Step> steps = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Step first;
+    private Step last;
+
+    /**
+     * Adds a group of steps to the end of the chain.
+     * @param stepGroup the first step of the group; if null, the chain is unchanged
+     * @return this builder
+     */
+    public ChainBuilder add(Step stepGroup) {
+      final List<Step> groupSteps = stepToList(stepGroup);
+      if (groupSteps.isEmpty() || groupSteps.stream().anyMatch(steps::contains)) {
+        return this;
       }
-    }
-
-    return stepGroups.length;
-  }
 
-  private static void addLink(Step stepGroup1, Step stepGroup2) {
-    Step lastStep = lastStepIfNoDuplicate(stepGroup1, stepGroup2);
-    if (lastStep != null) {
-      // add steps in stepGroup2 to the end of stepGroup1 only if no steps
-      // appears in both groups to avoid introducing a loop
-      lastStep.next = stepGroup2;
+      if (first == null) {
+        first = stepGroup;
+      } else {
+        last.next = stepGroup;
+      }
+      steps.addAll(groupSteps);
+      last = groupSteps.get(groupSteps.size() - 1);
+      return this;
     }
-  }
 
-  /**
-   * Return last step in stepGroup1, or null if any step appears in both step groups.
-   *
-   * @param stepGroup1 Step that we want to find the last step for
-   * @param stepGroup2 Step to check for duplicates
-   *
-   * @return last step in stepGroup1, or null if any step appears in both step groups.
-   */
-  private static Step lastStepIfNoDuplicate(Step stepGroup1, Step stepGroup2) {
-    Step s = stepGroup1;
-    List<Step> stepGroup2Array = stepToArray(stepGroup2);
-    while (s.next != null) {
-      if (stepGroup2Array.contains(s.next)) {
-        return null;
+    /**
+     * Returns the first step of the chain.
+     * @throws IllegalArgumentException if no steps were added
+     */
+    public Step build() {
+      if (first == null) {
+        throw new IllegalArgumentException("No non-Null steps specified");
       }
-      s = s.next;
+      return first;
     }
-    return s;
   }
 
-  private static List<Step> stepToArray(Step stepGroup) {
-    ArrayList<Step> stepsArray = new ArrayList<>();
-    Step s = stepGroup;
-    while (s != null) {
-      stepsArray.add(s);
-      s = s.next;
+  private static List<Step> stepToList(Step stepGroup) {
+    final List<Step> stepsList = new ArrayList<>();
+    for (Step s = stepGroup; s != null; s = s.next) {
+      stepsList.add(s);
     }
-    return stepsArray;
+    return stepsList;
   }
 
   /**
@@ -139,7 +163,12 @@ public abstract class Step {
 
   @Nonnull
   private String getBaseName() {
-    String name = getClass().getName();
+    return BASE_NAMES.get(getClass());
+  }
+
+  @Nonnull
+  private static String computeBaseName(Class<?> stepClass) {
+    String name = stepClass.getName();
     int idx = name.lastIndexOf('.');
     if (idx >= 0) {
       name = name.substring(idx + 1);
@@ -178,9 +207,13 @@ public abstract class Step {
   }
 
   static final Step adapt(Fiber fiber, Step step, Packet packet) {
-    if (fiber != null && fiber.isCancelled()) {
-      return null;
+    if (fiber != null) {
+      if (fiber.isCancelled()) {
+        return null;
+      }
+      fiber.enterStep(step);
     }
+    Tracer.getInstance().startStepSpan(packet, step);
     return adapter.adapt(fiber, step, packet);
   }
 
@@ -286,11 +319,122 @@ public abstract class Step {
     return next;
   }
 
+  /**
+   * Suspends the current fiber until it is resumed, and then invokes the indicated step. The suspended fiber holds
+   * no thread: its steps end, and the fiber continues in another thread once resumed. The fiber's executor resumes
+   * it with the timeout step if nothing else has resumed it within the timeout. Only the first resumption has any
+   * effect, so a registration may resume the fiber at any time, even before this method returns. A step which waits
+   * for a condition should register the resumption and then check the condition again, resuming at once if it has
+   * already been met.
+   *
+   * @param step Step from which to resume
+   * @param timeoutStep Step from which to resume if nothing else resumes the fiber within the timeout
+   * @param packet Packet to provide when resuming
+   * @param timeout the longest time to wait
+   * @param onSuspend registers the action which resumes the fiber, typically with the source of an awaited event
+   */
+  protected static Result doSuspend(
+      Step step, Step timeoutStep, Packet packet, Duration timeout, Consumer<Runnable> onSuspend) {
+    final Fiber fiber = Fiber.getCurrentIfSet();
+    if (fiber == null) {
+      // only a fiber can be suspended and resumed
+      return doNext(timeoutStep, packet);
+    }
+
+    fiber.addBreadcrumb("[suspend: " + timeout.toMillis() + "ms]");
+    final Suspension suspension = new Suspension(fiber, packet);
+    suspension.setTimeout(fiber.schedule(() -> suspension.resume(timeoutStep), timeout));
+    onSuspend.accept(() -> suspension.resume(step));
+    return suspension.result;
+  }
+
+  // The state of a suspended fiber, which the first resumption ends.
+  private static class Suspension {
+    private final Fiber fiber;
+    private final Packet packet;
+    private final SuspendResult result = new SuspendResult(new CompletableFuture<>());
+    private final AtomicBoolean resumed = new AtomicBoolean();
+    private volatile Cancellable timeout;
+
+    Suspension(Fiber fiber, Packet packet) {
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    void setTimeout(Cancellable timeout) {
+      this.timeout = timeout;
+      if (resumed.get()) {
+        timeout.cancel();
+      }
+    }
+
+    // The resumed steps run in their own thread, rather than in that of the source of the awaited event.
+    void resume(Step step) {
+      if (resumed.compareAndSet(false, true)) {
+        Optional.ofNullable(timeout).ifPresent(Cancellable::cancel);
+        forkJoinExecutor.execute(() -> Fiber.callOnBehalfOf(fiber, () -> runResumed(step)));
+      }
+    }
+
+    // Completes the suspension's result within the resumed fiber, so that it handles the outcome on its own behalf.
+    private Void runResumed(Step step) {
+      try {
+        fiber.addBreadcrumb("[resume]");
+        result.completeWith(doNext(step, packet));
+      } catch (Throwable t) {
+        result.outcome.completeExceptionally(t);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * The result of steps which have suspended their fiber. Its outcome is the result of the steps which run once the
+   * fiber is resumed, and which may themselves suspend it again.
+   */
+  static final class SuspendResult extends Result {
+    private final CompletableFuture<Result> outcome;
+
+    private SuspendResult(CompletableFuture<Result> outcome) {
+      super(false);
+      this.outcome = outcome;
+    }
+
+    // Returns a future which completes with the final result of the specified result.
+    private static CompletableFuture<Result> outcomeOf(Result result) {
+      return result instanceof SuspendResult suspendResult
+          ? suspendResult.outcome : CompletableFuture.completedFuture(result);
+    }
+
+    // Returns a suspend result whose outcome is that of the specified continuation, run after the trigger completes.
+    private static SuspendResult after(CompletableFuture<?> trigger, Supplier<Result> continuation) {
+      return new SuspendResult(trigger.handle((v, t) -> v).thenCompose(v -> outcomeOf(continuation.get())));
+    }
+
+    private SuspendResult andThen(Function<Result, Result> continuation) {
+      return new SuspendResult(outcome.thenCompose(r -> outcomeOf(continuation.apply(r))));
+    }
+
+    private void completeWith(Result result) {
+      outcomeOf(result).whenComplete((r, t) -> {
+        if (t != null) {
+          outcome.completeExceptionally(t);
+        } else {
+          outcome.complete(r);
+        }
+      });
+    }
+
+    void whenResumed(BiConsumer<Result, Throwable> action) {
+      outcome.whenComplete((r, t) -> action.accept(r, t instanceof CompletionException ? t.getCause() : t));
+    }
+  }
+
   /**
    * Invokes a set of steps and then conditionally continues to invoke a given step. If any of the steps
    * return requesting a requeue then the conditional step is not invoked and a requeue result with the
    * shortest duration. Otherwise, if none of the steps request a requeue then the result of invoking the
-   * conditional step is returned.
+   * conditional step is returned. A step which suspends the fiber delays the rest until it is resumed.
    *
    * @param step Step to invoke conditionally after the set of steps are invoked
    * @param packet Resume packet
@@ -298,21 +442,149 @@ public abstract class Step {
    */
   protected final Result doForkJoin(
       Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails) {
-    boolean requeue = false;
-    Duration duration = null;
-
     Fiber fiber = Fiber.getCurrentIfSet();
-    int count = 0;
     if (LOGGER.isFinerEnabled() && fiber != null) {
       fiber.addBreadcrumb("[forkJoin]");
     }
+    return new SequentialForkJoin(step, packet, fiber, startDetails).run();
+  }
+
+  /**
+   * Invokes a set of steps concurrently, with no more than the specified number running at once, and then
+   * conditionally continues to invoke a given step, as {@link #doForkJoin(Step, Packet, Collection)} does.
+   * Each of the steps runs in its own thread, so each must be given its own packet. The steps report their progress
+   * to the current fiber, and stop at their next step once it is cancelled. A step which suspends the fiber gives up
+   * its thread and its place among those running; if any have, the fiber is suspended until all are resumed and done.
+   *
+   * @param step Step to invoke conditionally after the set of steps are invoked
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting
+   * @param maxConcurrency the maximum number of steps to run at once. If less than two, the steps run one at a time.
+   */
+  protected final Result doForkJoin(
+      Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails, int maxConcurrency) {
+    if (maxConcurrency < 2 || startDetails.size() < 2) {
+      return doForkJoin(step, packet, startDetails);
+    }
+
+    Fiber fiber = Fiber.getCurrentIfSet();
+    if (LOGGER.isFinerEnabled() && fiber != null) {
+      fiber.addBreadcrumb("[forkJoin: " + startDetails.size() + " max " + maxConcurrency + "]");
+    }
+    final Semaphore permits = new Semaphore(maxConcurrency);
+    final List<CompletableFuture<Result>> results = new ArrayList<>();
+    final Step previousFork = enterFork(fiber);
+    try {
+      for (Fiber.StepAndPacket sap : startDetails) {
+        permits.acquire();
+        if (isCancelled(fiber)) {
+          permits.release();
+          break;
+        }
+        results.add(CompletableFuture.supplyAsync(() -> runForked(fiber, sap, permits), forkJoinExecutor));
+      }
+      CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return doTerminate(e, packet);
+    } catch (CompletionException e) {
+      return doTerminate(e.getCause(), packet);
+    } finally {
+      exitFork(fiber, previousFork);
+    }
+
+    // a cancelled fiber starts no more steps; any running steps stopped at their next step
+    if (isCancelled(fiber)) {
+      return doEnd();
+    }
+
+    final List<CompletableFuture<Result>> outcomes = results.stream().map(CompletableFuture::join)
+          .map(SuspendResult::outcomeOf).toList();
+    final CompletableFuture<Void> allDone = CompletableFuture.allOf(outcomes.toArray(new CompletableFuture<?>[0]));
+    if (allDone.isDone()) {
+      return joinForked(step, packet, fiber, startDetails, outcomes);
+    } else {
+      return SuspendResult.after(allDone, () -> joinForked(step, packet, fiber, startDetails, outcomes));
+    }
+  }
+
+  private Result joinForked(Step step, Packet packet, Fiber fiber,
+                            Collection<Fiber.StepAndPacket> startDetails, List<CompletableFuture<Result>> outcomes) {
+    if (isCancelled(fiber)) {
+      return doEnd();
+    }
+
+    boolean requeue = false;
+    Duration duration = null;
+    int i = 0;
     for (Fiber.StepAndPacket sap : startDetails) {
-      if (LOGGER.isFinerEnabled() && fiber != null) {
-        fiber.addBreadcrumb("[" + ++count + "of" + startDetails.size() + "]");
+      Result r;
+      try {
+        r = outcomes.get(i++).join();
+      } catch (CompletionException e) {
+        return doTerminate(e.getCause(), packet);
+      }
+      Tracer.getInstance().endStepSpan(sap.packet());
+      Throwable t = Optional.ofNullable(sap.packet()).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
+      if (t != null) {
+        return doTerminate(t, packet);
+      }
+      if (r != null && r.isRequeue()) {
+        requeue = true;
+        duration = minDuration(duration, r.getRequeueAfter());
+      }
+    }
+    return continueAfterJoin(step, packet, fiber, requeue, duration);
+  }
+
+  // The state of a sequential fork-join, which continues with the remaining steps after any step which suspends.
+  private class SequentialForkJoin {
+    private final Step step;
+    private final Packet packet;
+    private final Fiber fiber;
+    private final Iterator<Fiber.StepAndPacket> remaining;
+    private final int size;
+    private int count;
+    private boolean requeue;
+    private Duration duration;
+
+    SequentialForkJoin(Step step, Packet packet, Fiber fiber, Collection<Fiber.StepAndPacket> startDetails) {
+      this.step = step;
+      this.packet = packet;
+      this.fiber = fiber;
+      this.remaining = startDetails.iterator();
+      this.size = startDetails.size();
+    }
+
+    Result run() {
+      final Step previousFork = enterFork(fiber);
+      try {
+        while (remaining.hasNext()) {
+          Fiber.StepAndPacket sap = remaining.next();
+          if (LOGGER.isFinerEnabled() && fiber != null) {
+            fiber.addBreadcrumb("[" + ++count + "of" + size + "]");
+          }
+
+          Result r = sap.step().doStepNext(sap.packet());
+          if (r instanceof SuspendResult suspendResult) {
+            return suspendResult.andThen(resumed -> Optional.ofNullable(join(sap, resumed)).orElseGet(this::run));
+          }
+          Result terminated = join(sap, r);
+          if (terminated != null) {
+            return terminated;
+          }
+        }
+      } finally {
+        exitFork(fiber, previousFork);
       }
 
+      return continueAfterJoin(step, packet, fiber, requeue, duration);
+    }
+
+    // Records the result of a step, returning the result which terminates the fork-join if the step failed.
+    private Result join(Fiber.StepAndPacket sap, Result r) {
       Packet sapPacket = sap.packet();
-      Result r = sap.step().doStepNext(sapPacket);
+      Tracer.getInstance().endStepSpan(sapPacket);
       Throwable t = Optional.ofNullable(sapPacket).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
       if (t != null) {
         return doTerminate(t, packet);
@@ -321,8 +593,33 @@ public abstract class Step {
         requeue = true;
         duration = minDuration(duration, r.getRequeueAfter());
       }
+      return null;
+    }
+  }
+
+  private static boolean isCancelled(Fiber fiber) {
+    return fiber != null && fiber.isCancelled();
+  }
+
+  private Step enterFork(Fiber fiber) {
+    return fiber == null ? null : fiber.enterFork(this);
+  }
+
+  private static void exitFork(Fiber fiber, Step previousFork) {
+    if (fiber != null) {
+      fiber.exitFork(previousFork);
+    }
+  }
+
+  private static Result runForked(Fiber fiber, Fiber.StepAndPacket sap, Semaphore permits) {
+    try {
+      return Fiber.callOnBehalfOf(fiber, () -> sap.step().doStepNext(sap.packet()));
+    } finally {
+      permits.release();
     }
+  }
 
+  private Result continueAfterJoin(Step step, Packet packet, Fiber fiber, boolean requeue, Duration duration) {
     if (requeue) {
       if (LOGGER.isFinerEnabled() && fiber != null) {
         fiber.addBreadcrumb("[forkJoin-requeue: " + duration + "]");
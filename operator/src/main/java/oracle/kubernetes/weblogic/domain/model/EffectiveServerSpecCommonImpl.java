@@ -1,8 +1,9 @@
-// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.weblogic.domain.model;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -59,36 +60,45 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
     return server != null ? server.getConfiguration() : new Server();
   }
 
+  // The effective spec may be shared by many callers, none of which may change it.
+  private static <T> List<T> readOnly(List<T> list) {
+    return Optional.ofNullable(list).map(Collections::unmodifiableList).orElse(null);
+  }
+
+  private static <K, V> Map<K, V> readOnly(Map<K, V> map) {
+    return Optional.ofNullable(map).map(Collections::unmodifiableMap).orElse(null);
+  }
+
   @Override
   public List<V1EnvVar> getEnvironmentVariables() {
-    return server.getEnv();
+    return readOnly(server.getEnv());
   }
 
   @Override
   public List<V1EnvFromSource> getEnvFrom() {
-    return server.getEnvFrom();
+    return readOnly(server.getEnvFrom());
   }
 
   @Override
   public List<V1Volume> getAdditionalVolumes() {
-    return server.getAdditionalVolumes();
+    return readOnly(server.getAdditionalVolumes());
   }
 
   @Override
   public List<V1VolumeMount> getAdditionalVolumeMounts() {
-    return server.getAdditionalVolumeMounts();
+    return readOnly(server.getAdditionalVolumeMounts());
   }
 
   @Override
   @Nonnull
   public Map<String, String> getPodLabels() {
-    return server.getPodLabels();
+    return readOnly(server.getPodLabels());
   }
 
   @Override
   @Nonnull
   public Map<String, String> getPodAnnotations() {
-    return server.getPodAnnotations();
+    return readOnly(server.getPodAnnotations());
   }
 
   public Boolean isPrecreateServerService() {
@@ -98,25 +108,25 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
   @Override
   @Nonnull
   public Map<String, String> getServiceLabels() {
-    return server.getServiceLabels();
+    return readOnly(server.getServiceLabels());
   }
 
   @Override
   @Nonnull
   public Map<String, String> getServiceAnnotations() {
-    return server.getServiceAnnotations();
+    return readOnly(server.getServiceAnnotations());
   }
 
   @Override
   @Nonnull
   public List<V1Container> getContainers() {
-    return server.getContainers();
+    return readOnly(server.getContainers());
   }
 
   @Override
   @Nonnull
   public List<V1Container> getInitContainers() {
-    return server.getInitContainers();
+    return readOnly(server.getInitContainers());
   }
 
   @Override
@@ -177,7 +187,7 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
   @Nonnull
   @Override
   public Map<String, String> getNodeSelectors() {
-    return server.getNodeSelector();
+    return readOnly(server.getNodeSelector());
   }
 
   @Override
@@ -187,7 +197,7 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
 
   @Override
   public List<V1TopologySpreadConstraint> getTopologySpreadConstraints() {
-    return server.getTopologySpreadConstraints();
+    return readOnly(server.getTopologySpreadConstraints());
   }
 
   @Override
@@ -197,7 +207,7 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
 
   @Override
   public List<V1PodReadinessGate> getReadinessGates() {
-    return server.getReadinessGates();
+    return readOnly(server.getReadinessGates());
   }
 
   @Override
@@ -232,12 +242,12 @@ public abstract class EffectiveServerSpecCommonImpl extends EffectiveServerSpecB
 
   @Override
   public List<V1Toleration> getTolerations() {
-    return server.getTolerations();
+    return readOnly(server.getTolerations());
   }
 
   @Override
   public List<V1HostAlias> getHostAliases() {
-    return server.getHostAliases();
+    return readOnly(server.getHostAliases());
   }
 
   @Override
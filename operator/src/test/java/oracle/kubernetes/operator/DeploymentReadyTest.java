@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -79,6 +79,17 @@ class DeploymentReadyTest {
     assertThat(logRecords, not(containsFine("Readiness file created")));
   }
 
+  @Test
+  void whenNoLongerReady_fileRemoved() throws IOException {
+    File readyFile = new File(coreDelegate.probesHome, ".ready");
+    assertTrue(readyFile.createNewFile());
+
+    new DeploymentReady(coreDelegate).update(false);
+
+    assertThat(readyFile, not(anExistingFile()));
+    assertThat(logRecords, containsFine("Readiness file removed"));
+  }
+
   @Test
   void whenCantCreateReadyFile_throw() {
     assertTrue(coreDelegate.probesHome.setWritable(false, false));
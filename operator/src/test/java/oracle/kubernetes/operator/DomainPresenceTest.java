@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -62,9 +62,12 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.CLUSTER_D
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CHANGED;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CREATED;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CALL_LIMIT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.OPERATOR_STANDBY_ENABLED;
 import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
@@ -125,6 +128,24 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(dp.getDomainPresenceInfos(), is(anEmptyMap()));
   }
 
+  @Test
+  void whenActive_readExistingResourcesCreatesScriptConfigMap() {
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(testSupport.getResources(CONFIG_MAP), not(empty()));
+  }
+
+  @Test
+  void whenStandby_readExistingResourcesWithoutCreatingScriptConfigMap() {
+    TuningParametersStub.setParameter(OPERATOR_STANDBY_ENABLED, "true");
+
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(testSupport.getResources(CONFIG_MAP), empty());
+  }
+
   @Test
   void whenPreexistingDomainExistsWithoutPodsOrServices_addToPresenceMap() {
     DomainResource domainResource = createDomain(UID1, NS);
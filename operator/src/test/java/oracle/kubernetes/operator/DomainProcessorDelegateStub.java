@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -27,6 +27,7 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
 
   private final FiberTestSupport testSupport;
   private boolean namespaceRunning = true;
+  private boolean standby;
   private boolean waitedForIntrospection;
   private final DomainNamespaces domainNamespaces;
 
@@ -60,6 +61,15 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return namespaceRunning;
   }
 
+  public void setStandby(boolean standby) {
+    this.standby = standby;
+  }
+
+  @Override
+  public boolean isStandby() {
+    return standby;
+  }
+
   @Override
   public DomainNamespaces getDomainNamespaces() {
     return domainNamespaces;
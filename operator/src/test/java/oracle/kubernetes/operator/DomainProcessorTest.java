@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -26,6 +26,7 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.custom.IntOrString;
 import io.kubernetes.client.openapi.ApiException;
@@ -70,10 +71,14 @@ import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.UnitTestHash;
 import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
 import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.http.rest.ScanCacheStub;
 import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.tracing.InMemorySpanExporter;
+import oracle.kubernetes.operator.tracing.Span;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
@@ -132,6 +137,7 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.INTROSPE
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_BAD_REQUEST;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTER_OBSERVED_GENERATION_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
@@ -187,6 +193,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -341,6 +348,20 @@ class DomainProcessorTest {
     assertThat(testSupport, not(hasEvent(DOMAIN_CREATED.getReason())));
   }
 
+  @Test
+  void whenTracingEnabled_makeRightRecordsTraceOfDomain() throws NoSuchFieldException {
+    final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    mementos.add(StaticStubSupport.install(Tracer.class, "instance", new Tracer(exporter)));
+
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    final List<Span> spans = exporter.getSpans();
+    final Span root = spans.get(spans.size() - 1);
+    assertThat(root.getName(), equalTo("make-right domain"));
+    assertThat(root.getAttribute(Span.DOMAIN_UID), equalTo(UID));
+    assertThat(spans.size(), greaterThan(1));
+  }
+
   @Test
   void whenDomainSpecNotChanged_dontRunMakeRight() {
     processor.registerDomainPresenceInfo(newInfo);
@@ -893,6 +914,53 @@ class DomainProcessorTest {
     assertThat(getRunningPods().size(), equalTo(MIN_REPLICAS + NUM_ADMIN_SERVERS + NUM_JOB_PODS));
   }
 
+  @Test
+  void whenStandby_makeRightRecordsDomainWithoutCallingServer() {
+    processorDelegate.setStandby(true);
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(MIN_REPLICAS);
+    testSupport.clearNumCalls();
+
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(processor.getExistingDomainPresenceInfo(NS, UID), sameInstance(newInfo));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  void whenStandbyAndDomainDeleted_forgetDomain() {
+    processorDelegate.setStandby(true);
+    processor.registerDomainPresenceInfo(originalInfo);
+
+    processor.createMakeRightOperation(new DomainPresenceInfo(domain)).forDeletion().execute();
+
+    assertThat(processor.getExistingDomainPresenceInfo(NS, UID), nullValue());
+  }
+
+  @Test
+  void whenStandbyTakesOver_makeRightRecordedDomains() {
+    processorDelegate.setStandby(true);
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(MIN_REPLICAS);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    processorDelegate.setStandby(false);
+    processor.takeOverDomains();
+
+    assertThat((int) getServerServices().count(), equalTo(MIN_REPLICAS + NUM_ADMIN_SERVERS));
+    assertThat(getRunningPods().size(), equalTo(MIN_REPLICAS + NUM_ADMIN_SERVERS + NUM_JOB_PODS));
+  }
+
+  @Test
+  void whenStandbyTakesOver_createScriptConfigMapOfDomainNamespaces() {
+    processorDelegate.setStandby(true);
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    processorDelegate.setStandby(false);
+    processor.takeOverDomains();
+
+    assertThat(testSupport.getResourceWithName(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME), notNullValue());
+  }
+
   @Test
   void whenDomainScaledDownAndServerStateUnknown_removeExcessPods() {
     newInfo.updateLastKnownServerStatus("cluster-managed-server3", UNKNOWN_STATE);
@@ -989,6 +1057,63 @@ class DomainProcessorTest {
     assertThat(isHeadlessService(SERVER3), is(true));
   }
 
+  @Test
+  void whenOnlyReplicasChangedSinceLastMakeRight_runIncrementalPlan() {
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(3);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+    processor.createMakeRightOperation(newInfo).execute();
+    final double incrementalPlans = getNumPlansRun("incremental");
+
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(2);
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(getNumPlansRun("incremental"), equalTo(incrementalPlans + 1));
+    assertThat(getRunningPods().size(), equalTo(2 + NUM_ADMIN_SERVERS + NUM_JOB_PODS));
+  }
+
+  @Test
+  void whenOtherSpecFieldsChangedSinceLastMakeRight_runFullPlan() {
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(3);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+    processor.createMakeRightOperation(newInfo).execute();
+    final double fullPlans = getNumPlansRun("full");
+
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(2).withPrecreateServerService(true);
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(getNumPlansRun("full"), equalTo(fullPlans + 1));
+  }
+
+  @Test
+  void whenSpecsUnchangedSinceLastMakeRight_runFullPlan() {
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(3);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+    processor.createMakeRightOperation(newInfo).execute();
+    final double fullPlans = getNumPlansRun("full");
+
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(getNumPlansRun("full"), equalTo(fullPlans + 1));
+  }
+
+  @Test
+  void whenReplicasChangedAfterIncompleteMakeRight_runFullPlan() {
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(3);
+    newInfo.getReferencedClusters().forEach(testSupport::defineResources);
+    processor.createMakeRightOperation(newInfo).execute();
+    newInfo.setAppliedSpec(null);
+    final double fullPlans = getNumPlansRun("full");
+
+    domainConfigurator.configureCluster(newInfo, CLUSTER).withReplicas(2);
+    processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
+
+    assertThat(getNumPlansRun("full"), equalTo(fullPlans + 1));
+  }
+
+  private double getNumPlansRun(String plan) {
+    return OperatorMetrics.MAKE_RIGHT_PLANS.labels(plan).get();
+  }
+
   @Test
   void whenStrandedResourcesExist_removeThem() {
     V1Service service1 = createServerService("admin");
@@ -0,0 +1,190 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.Stub;
+import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
+import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import oracle.kubernetes.operator.helpers.HelmAccessStub;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.watcher.WatchGaps;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SELF_SUBJECT_RULES_REVIEW;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_NAMESPACE_RELIST_INTERVAL_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_RULES_REVIEW_CACHE_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.OPERATOR_STANDBY_ENABLED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class DomainRecheckTest {
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+  private final DomainProcessor processor = Stub.createNiceStub(DomainPresenceTest.DomainProcessorStub.class);
+  private final TerminalStep resourceListStep = new TerminalStep();
+  private final V1SubjectRulesReviewStatus reviewStatus = new V1SubjectRulesReviewStatus();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(NoopWatcherStarter.install());
+    mementos.add(HelmAccessStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(testSupport.install());
+
+    testSupport.doOnCreate(SELF_SUBJECT_RULES_REVIEW, r -> ((V1SelfSubjectRulesReview) r).status(reviewStatus));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void reviewOperatorNamespace() {
+    testSupport.runSteps(new DomainRecheck(processor, domainNamespaces).createOperatorNamespaceReview());
+  }
+
+  // Each review of the operator namespace makes at most the one call, for its rules review.
+  private int getNumRulesReviews() {
+    return testSupport.getNumCalls();
+  }
+
+  @Test
+  void whenRulesReviewCached_dontRequestItAgain() {
+    reviewOperatorNamespace();
+    reviewOperatorNamespace();
+
+    assertThat(getNumRulesReviews(), equalTo(1));
+  }
+
+  @Test
+  void whenRulesReviewExpired_requestItAgain() {
+    reviewOperatorNamespace();
+    SystemClockTestSupport.increment(DEFAULT_RULES_REVIEW_CACHE_SECONDS);
+    reviewOperatorNamespace();
+
+    assertThat(getNumRulesReviews(), equalTo(2));
+  }
+
+  @Test
+  void whenWatcherRefusedAccess_requestRulesReviewAgain() {
+    reviewOperatorNamespace();
+    WatchGaps.getInstance().reportAccessDenied(getOperatorNamespace());
+    reviewOperatorNamespace();
+
+    assertThat(getNumRulesReviews(), equalTo(2));
+  }
+
+  private void startNamespace(boolean fullRecheck) {
+    testSupport.runSteps(
+        Step.chain(new DomainRecheck(processor, domainNamespaces, fullRecheck).createStartNamespaceBeforeStep(NS),
+            resourceListStep));
+  }
+
+  @Test
+  void whenNamespaceNotStarted_listItsResources() {
+    startNamespace(false);
+
+    assertThat(resourceListStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenNamespaceNotStarted_createWatchingStartedEvents() {
+    startNamespace(false);
+
+    assertThat(testSupport.getResources(EVENT), not(empty()));
+  }
+
+  @Test
+  void whenStandby_startNamespaceWithoutCreatingEvents() {
+    TuningParametersStub.setParameter(OPERATOR_STANDBY_ENABLED, "true");
+
+    startNamespace(false);
+
+    assertThat(resourceListStep.wasRun(), is(true));
+    assertThat(testSupport.getResources(EVENT), empty());
+  }
+
+  @Test
+  void onFullRecheck_whenStartedNamespaceHasNoWatchGaps_dontListItsResources() {
+    startNamespace(false);
+    startNamespace(true);
+
+    assertThat(resourceListStep.getExecutionCount(), equalTo(1));
+  }
+
+  @Test
+  void onFullRecheck_whenWatcherReportedGap_listNamespaceResources() {
+    startNamespace(false);
+    WatchGaps.getInstance().reportGap(NS);
+    startNamespace(true);
+
+    assertThat(resourceListStep.getExecutionCount(), equalTo(2));
+  }
+
+  @Test
+  void onFullRecheck_afterGapHandled_dontListNamespaceResourcesAgain() {
+    startNamespace(false);
+    WatchGaps.getInstance().reportGap(NS);
+    startNamespace(true);
+    startNamespace(true);
+
+    assertThat(resourceListStep.getExecutionCount(), equalTo(2));
+  }
+
+  @Test
+  void onFullRecheck_whenRelistIntervalHasPassed_listNamespaceResources() {
+    startNamespace(false);
+    SystemClockTestSupport.increment(DEFAULT_NAMESPACE_RELIST_INTERVAL_SECONDS);
+    startNamespace(true);
+
+    assertThat(resourceListStep.getExecutionCount(), equalTo(2));
+  }
+
+  @Test
+  void onNamespaceRecheck_dontListResourcesOfStartedNamespace() {
+    startNamespace(false);
+    WatchGaps.getInstance().reportGap(NS);
+    startNamespace(false);
+
+    assertThat(resourceListStep.getExecutionCount(), equalTo(1));
+  }
+
+  @Test
+  void afterRecheck_reportApiCallsMade() {
+    final DomainRecheck recheck = new DomainRecheck(processor, domainNamespaces, true);
+    final double callsBefore = getRecheckApiCalls();
+
+    testSupport.runSteps(Step.chain(
+        recheck.createRecheckStartStep(), recheck.createOperatorNamespaceReview(), recheck.createRecheckEndStep()));
+
+    assertThat(getRecheckApiCalls() - callsBefore, equalTo(1.0));
+  }
+
+  private double getRecheckApiCalls() {
+    return OperatorMetrics.DOMAIN_RECHECK_API_CALLS.labels("full").get().sum;
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2021, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -896,9 +896,15 @@ abstract class DomainStatusUpdateTestBase {
     assertThat(getRecordedDomain(), not(hasCondition(COMPLETED).withStatus(TRUE)));
   }
 
+  // changes the domain as though the domain resource had been replaced
+  private void setMaxReadyWaitTimeSeconds(long seconds) {
+    domain.getSpec().setMaxReadyWaitTimeSeconds(seconds);
+    info.setDomain(domain);
+  }
+
   @Test
   void whenAtLeastOnePodNotReadyInTime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     SystemClockTestSupport.increment();
@@ -909,7 +915,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -921,7 +927,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     markPodRunningPhaseFalse("server2");
 
     SystemClockTestSupport.increment();
@@ -932,7 +938,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     markPodRunningPhaseFalse("server2");
@@ -944,7 +950,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -953,7 +959,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    setMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -963,7 +969,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -974,7 +980,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -987,7 +993,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_serverStatusPodReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -999,7 +1005,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    setMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -0,0 +1,126 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.MakeRightDebouncer.Source;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_DEBOUNCE_MAX_DELAY_MILLIS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_DEBOUNCE_MILLIS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class MakeRightDebouncerTest {
+
+  private static final int WINDOW = 500;
+  private static final int MAX_DELAY = 2000;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainProcessorDelegateStub delegate = DomainProcessorDelegateStub.createDelegate(testSupport);
+  private final MakeRightDebouncer debouncer = new MakeRightDebouncer();
+  private final List<String> started = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(MAKE_RIGHT_DEBOUNCE_MILLIS, Integer.toString(WINDOW));
+    TuningParametersStub.setParameter(MAKE_RIGHT_DEBOUNCE_MAX_DELAY_MILLIS, Integer.toString(MAX_DELAY));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void trigger(String domainUid, String label) {
+    debouncer.trigger(delegate, "ns1", domainUid, Source.POD, () -> started.add(label));
+  }
+
+  // The test clock only moves when a scheduled item runs, so move it explicitly for triggers between those times.
+  private void setTime(long millis) {
+    testSupport.setTime(millis, MILLISECONDS);
+    SystemClockTestSupport.setCurrentTime(SystemClockTestSupport.getTestStartTime().plus(Duration.ofMillis(millis)));
+  }
+
+  @Test
+  void whenTriggered_dontStartMakeRightUntilWindowPasses() {
+    trigger("d1", "first");
+
+    assertThat(started, empty());
+
+    setTime(WINDOW);
+
+    assertThat(started, contains("first"));
+  }
+
+  @Test
+  void whenTriggeredRepeatedlyWithinWindow_startOnlyLatestMakeRight() {
+    trigger("d1", "first");
+    setTime(300);
+    trigger("d1", "second");
+    setTime(600);
+    trigger("d1", "third");
+    setTime(1100);
+
+    assertThat(started, contains("third"));
+  }
+
+  @Test
+  void whenBurstContinues_startMakeRightAtMaximumDelay() {
+    trigger("d1", "t0");
+    for (int time = 400; time < MAX_DELAY; time += 400) {
+      setTime(time);
+      trigger("d1", "t" + time);
+    }
+    setTime(MAX_DELAY);
+
+    assertThat(started, contains("t1600"));
+  }
+
+  @Test
+  void whenDifferentDomainsTriggered_startMakeRightForEach() {
+    trigger("d1", "d1");
+    trigger("d2", "d2");
+    setTime(WINDOW);
+
+    assertThat(started, contains("d1", "d2"));
+  }
+
+  @Test
+  void afterMakeRightStarted_nextTriggerStartsNewWindow() {
+    trigger("d1", "first");
+    setTime(WINDOW);
+    trigger("d1", "second");
+    setTime(2 * WINDOW);
+
+    assertThat(started, contains("first", "second"));
+    assertThat(debouncer.getNumPending(), equalTo(0));
+  }
+
+  @Test
+  void whenDebounceDisabled_startMakeRightAtOnce() {
+    TuningParametersStub.setParameter(MAKE_RIGHT_DEBOUNCE_MILLIS, "0");
+
+    trigger("d1", "first");
+    trigger("d1", "second");
+
+    assertThat(started, contains("first", "second"));
+  }
+}
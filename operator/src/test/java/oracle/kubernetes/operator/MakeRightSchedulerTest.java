@@ -0,0 +1,308 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.MakeRightScheduler.FiberStarter;
+import oracle.kubernetes.operator.MakeRightScheduler.FiberState;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static oracle.kubernetes.operator.MakeRightScheduler.Priority.BACKGROUND;
+import static oracle.kubernetes.operator.MakeRightScheduler.Priority.USER_CHANGE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_CONCURRENT_MAKE_RIGHTS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_MAKE_RIGHT_HOLD_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class MakeRightSchedulerTest {
+
+  private static final int MAX_HOLD_SECONDS = 60;
+
+  private final MakeRightScheduler scheduler = new MakeRightScheduler();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainProcessorDelegateStub delegate = DomainProcessorDelegateStub.createDelegate(testSupport);
+  private final List<String> started = new ArrayList<>();
+  private final Map<String, Runnable> completions = new HashMap<>();
+  private final Set<String> requeued = new HashSet<>();
+  private boolean fibersRunning = true;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+    setLimit(2);
+    TuningParametersStub.setParameter(MAX_MAKE_RIGHT_HOLD_SECONDS, Integer.toString(MAX_HOLD_SECONDS));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void setLimit(int limit) {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_MAKE_RIGHTS, Integer.toString(limit));
+  }
+
+  private void submit(String namespace, String name, MakeRightScheduler.Priority priority) {
+    submit(namespace, name, priority, name);
+  }
+
+  private void submit(String namespace, String name, MakeRightScheduler.Priority priority, String label) {
+    scheduler.submit(delegate, namespace, name, priority, new TestFiberState(name), recordStart(label));
+  }
+
+  private class TestFiberState implements FiberState {
+    private final String name;
+
+    TestFiberState(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean isRunning() {
+      return fibersRunning;
+    }
+
+    @Override
+    public boolean isRequeued() {
+      return requeued.contains(name);
+    }
+  }
+
+  // Sets the scheduler's clock before running the checks scheduled up to the specified time.
+  private void setTime(long millis) {
+    SystemClockTestSupport.setCurrentTime(SystemClockTestSupport.getTestStartTime().plus(Duration.ofMillis(millis)));
+    testSupport.setTime(millis, MILLISECONDS);
+  }
+
+  private FiberStarter recordStart(String label) {
+    return onCompletion -> {
+      started.add(label);
+      completions.put(label, onCompletion);
+    };
+  }
+
+  private void complete(String label) {
+    completions.remove(label).run();
+  }
+
+  @Test
+  void whenBelowLimit_startOperationsAtOnce() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+
+    assertThat(started, contains("d1", "d2"));
+  }
+
+  @Test
+  void whenAtLimit_queueOperations() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns1", "d3", BACKGROUND);
+
+    assertThat(started, contains("d1", "d2"));
+    assertThat(scheduler.getNumQueued(BACKGROUND), equalTo(1));
+  }
+
+  @Test
+  void whenRunningOperationCompletes_startQueuedOperation() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns1", "d3", BACKGROUND);
+
+    complete("d1");
+
+    assertThat(started, contains("d1", "d2", "d3"));
+    assertThat(scheduler.getNumRunning(), equalTo(2));
+  }
+
+  @Test
+  void whenLimitIsZero_startAllOperations() {
+    setLimit(0);
+
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns1", "d3", BACKGROUND);
+
+    assertThat(started, contains("d1", "d2", "d3"));
+  }
+
+  @Test
+  void startUserChangesBeforeBackgroundOperations() {
+    setLimit(1);
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns1", "d3", USER_CHANGE);
+
+    complete("d1");
+
+    assertThat(started, contains("d1", "d3"));
+  }
+
+  @Test
+  void takeQueuedOperationsFromNamespacesInTurn() {
+    setLimit(1);
+    submit("ns1", "d0", BACKGROUND);
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns1", "d3", BACKGROUND);
+    submit("ns2", "e1", BACKGROUND);
+
+    complete("d0");
+    complete("d1");
+    complete("e1");
+    complete("d2");
+
+    assertThat(started, contains("d0", "d1", "e1", "d2", "d3"));
+  }
+
+  @Test
+  void whenOperationQueuedAgain_runOnlyLatest() {
+    setLimit(1);
+    submit("ns1", "d0", BACKGROUND);
+    submit("ns1", "d1", BACKGROUND, "first");
+    submit("ns1", "d1", BACKGROUND, "second");
+
+    complete("d0");
+
+    assertThat(started, contains("d0", "second"));
+    assertThat(scheduler.getNumQueued(BACKGROUND), equalTo(0));
+  }
+
+  @Test
+  void whenQueuedOperationReplacedByUserChange_raiseItsPriority() {
+    setLimit(1);
+    submit("ns1", "d0", BACKGROUND);
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns1", "d2", USER_CHANGE, "d2-changed");
+
+    complete("d0");
+
+    assertThat(started, contains("d0", "d2-changed"));
+  }
+
+  @Test
+  void whenOperationAlreadyRunningForResource_startReplacementWithoutUsingAnotherPlace() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns1", "d1", USER_CHANGE, "d1-changed");
+
+    assertThat(started, contains("d1", "d2", "d1-changed"));
+    assertThat(scheduler.getNumRunning(), equalTo(2));
+  }
+
+  @Test
+  void whenReplacedFiberCompletes_dontReleaseItsPlace() {
+    setLimit(1);
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d1", BACKGROUND, "d1-again");
+    submit("ns1", "d2", BACKGROUND);
+
+    complete("d1");
+
+    assertThat(started, contains("d1", "d1-again"));
+  }
+
+  @Test
+  void whenAtLimitAndAdmittedFiberNoLongerRunning_reclaimItsPlace() {
+    setLimit(1);
+    submit("ns1", "d1", BACKGROUND);
+
+    fibersRunning = false;
+    submit("ns1", "d2", BACKGROUND);
+
+    assertThat(started, contains("d1", "d2"));
+  }
+
+  @Test
+  void whenAdmittedFiberRequeued_startQueuedOperation() {
+    setLimit(1);
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+
+    requeued.add("d1");
+    setTime(1000);
+
+    assertThat(started, contains("d1", "d2"));
+  }
+
+  @Test
+  void whenRequeuedFiberResumes_countItAgain() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    requeued.add("d1");
+    submit("ns1", "d3", BACKGROUND);
+
+    requeued.remove("d1");
+    submit("ns1", "d4", BACKGROUND);
+    setTime(1000);
+
+    assertThat(started, contains("d1", "d2", "d3"));
+  }
+
+  @Test
+  void whileLongRunningOperationsHoldPlacesForLessThanMaximum_keepOthersWaiting() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns2", "e1", USER_CHANGE);
+
+    setTime((MAX_HOLD_SECONDS - 1) * 1000L);
+
+    assertThat(started, contains("d1", "d2"));
+  }
+
+  @Test
+  void whenLongRunningOperationsHoldPlacesForMoreThanMaximum_startOthers() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns2", "e1", USER_CHANGE);
+    submit("ns2", "e2", USER_CHANGE);
+
+    setTime((MAX_HOLD_SECONDS + 1) * 1000L);
+
+    assertThat(started, contains("d1", "d2", "e1", "e2"));
+    assertThat(scheduler.getNumQueued(USER_CHANGE), equalTo(0));
+  }
+
+  @Test
+  void whenLongRunningOperationHeldLongerThanMaximum_stillReleaseItsPlaceOnCompletion() {
+    submit("ns1", "d1", BACKGROUND);
+    submit("ns1", "d2", BACKGROUND);
+    submit("ns2", "e1", USER_CHANGE);
+    setTime((MAX_HOLD_SECONDS + 1) * 1000L);
+
+    complete("d1");
+    complete("d2");
+
+    assertThat(scheduler.getNumRunning(), equalTo(1));
+  }
+
+  @Test
+  void whenNothingQueued_queueIsEmpty() {
+    submit("ns1", "d1", BACKGROUND);
+    complete("d1");
+
+    assertThat(completions.keySet(), empty());
+    assertThat(scheduler.getNumRunning(), equalTo(0));
+  }
+}
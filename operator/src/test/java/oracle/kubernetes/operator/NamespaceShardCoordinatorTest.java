@@ -0,0 +1,439 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.Stub;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.HelmAccessStub;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.Namespaces.SELECTION_STRATEGY_KEY;
+import static oracle.kubernetes.operator.helpers.HelmAccess.OPERATOR_DOMAIN_NAMESPACES;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_SHARDING_ENABLED;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_SHARD_LEASE_DURATION_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.OPERATOR_STANDBY_ENABLED;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class NamespaceShardCoordinatorTest {
+
+  private static final int LEASE_DURATION = 15;
+  private static final List<String> NAMESPACES
+      = IntStream.range(0, 30).mapToObj(i -> "domain-ns-" + i).toList();
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private NamespaceShardCoordinator replica1;
+  private NamespaceShardCoordinator replica2;
+  private NamespaceShardCoordinator replica3;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(StubWatchFactory.install());
+    mementos.add(NoopWatcherStarter.install());
+    mementos.add(HelmAccessStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(testSupport.install());
+
+    replica1 = new NamespaceShardCoordinator("operator-1");
+    replica2 = new NamespaceShardCoordinator("operator-2");
+    replica3 = new NamespaceShardCoordinator("operator-3");
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "true");
+    TuningParametersStub.setParameter(NAMESPACE_SHARD_LEASE_DURATION_SECONDS, Integer.toString(LEASE_DURATION));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenShardingDisabled_replicaOwnsAllNamespaces() {
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "false");
+
+    assertThat(getOwnedNamespaces(replica1), equalTo(new HashSet<>(NAMESPACES)));
+  }
+
+  @Test
+  void whenShardingDisabled_renewDoesNotCreateLease() {
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "false");
+
+    replica1.renew();
+
+    assertThat(testSupport.getResources(LEASE), empty());
+  }
+
+  @Test
+  void whenStandbyModeAlsoEnabled_replicaOwnsAllNamespaces() {
+    TuningParametersStub.setParameter(OPERATOR_STANDBY_ENABLED, "true");
+
+    assertThat(getOwnedNamespaces(replica1), equalTo(new HashSet<>(NAMESPACES)));
+  }
+
+  @Test
+  void whenStandbyModeAlsoEnabled_renewDoesNotCreateLease() {
+    TuningParametersStub.setParameter(OPERATOR_STANDBY_ENABLED, "true");
+
+    replica1.renew();
+
+    assertThat(testSupport.getResources(LEASE), empty());
+  }
+
+  @Test
+  void beforeFirstRenewal_replicaOwnsNoNamespaces() {
+    assertThat(getOwnedNamespaces(replica1), empty());
+  }
+
+  @Test
+  void afterRenewal_leaseIsDefinedInOperatorNamespace() {
+    replica1.renew();
+
+    V1Lease lease = testSupport.getResourceWithName(LEASE, NamespaceShardCoordinator.getLeaseName("operator-1"));
+    assertThat(lease, notNullValue());
+    assertThat(lease.getMetadata().getNamespace(), equalTo(getOperatorNamespace()));
+    assertThat(lease.getSpec().getHolderIdentity(), equalTo("operator-1"));
+    assertThat(lease.getSpec().getLeaseDurationSeconds(), equalTo(LEASE_DURATION));
+  }
+
+  @Test
+  void whenOnlyReplica_ownsAllNamespaces() {
+    replica1.renew();
+
+    assertThat(replica1.getMembers(), contains("operator-1"));
+    assertThat(getOwnedNamespaces(replica1), equalTo(new HashSet<>(NAMESPACES)));
+  }
+
+  @Test
+  void withThreeReplicas_eachNamespaceIsOwnedByExactlyOneReplica() {
+    renewAll(replica1, replica2, replica3);
+
+    for (String ns : NAMESPACES) {
+      assertThat(ns, getOwnerCount(ns, replica1, replica2, replica3), equalTo(1));
+    }
+  }
+
+  @Test
+  void withThreeReplicas_eachReplicaOwnsSomeNamespaces() {
+    renewAll(replica1, replica2, replica3);
+
+    assertThat(getOwnedNamespaces(replica1).size(), greaterThan(0));
+    assertThat(getOwnedNamespaces(replica2).size(), greaterThan(0));
+    assertThat(getOwnedNamespaces(replica3).size(), greaterThan(0));
+  }
+
+  @Test
+  void whenReplicaJoins_allReplicasSeeNewMembership() {
+    renewAll(replica1, replica2);
+    renewAll(replica3, replica1, replica2);
+
+    assertThat(replica1.getMembers(), contains("operator-1", "operator-2", "operator-3"));
+    assertThat(replica2.getMembers(), contains("operator-1", "operator-2", "operator-3"));
+  }
+
+  @Test
+  void whenMembershipChanges_invokeListener() {
+    AtomicInteger changes = new AtomicInteger();
+    replica1.setMembershipListener(changes::incrementAndGet);
+
+    replica1.renew();
+    replica2.renew();
+    replica1.renew();
+    replica1.renew();
+
+    assertThat(changes.get(), equalTo(2));
+  }
+
+  @Test
+  void whenReplicaLeaseExpires_othersTakeOverItsNamespaces() {
+    renewAll(replica1, replica2, replica3);
+
+    SystemClockTestSupport.increment(LEASE_DURATION + NamespaceShardCoordinator.getClockSkewMarginSeconds() + 1);
+    renewAll(replica1, replica2);
+
+    assertThat(getOwnedNamespaces(replica3), empty());
+    for (String ns : NAMESPACES) {
+      assertThat(ns, getOwnerCount(ns, replica1, replica2), equalTo(1));
+    }
+  }
+
+  @Test
+  void whenReplicaLeaves_remainingReplicasKeepTheirNamespaces() {
+    renewAll(replica1, replica2, replica3);
+    Set<String> ownedBy1 = getOwnedNamespaces(replica1);
+    Set<String> ownedBy2 = getOwnedNamespaces(replica2);
+
+    replica3.release();
+    renewAll(replica1, replica2);
+
+    assertThat(ownedBy1, everyItem(in(getOwnedNamespaces(replica1))));
+    assertThat(ownedBy2, everyItem(in(getOwnedNamespaces(replica2))));
+  }
+
+  @Test
+  void whenReplicaReleases_deleteItsLease() {
+    renewAll(replica1, replica2);
+
+    replica2.release();
+
+    assertThat(getLeaseHolders(), contains("operator-1"));
+  }
+
+  @Test
+  void whenReplicaCannotRenewLease_itGivesUpItsNamespaces() {
+    replica1.renew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+
+    assertThat(getOwnedNamespaces(replica1), empty());
+  }
+
+  @Test
+  void whenReplicaCannotRenewLease_itGivesUpItsNamespacesBeforeOthersTakeThemOver() {
+    renewAll(replica1, replica2);
+
+    SystemClockTestSupport.increment(LEASE_DURATION - NamespaceShardCoordinator.getClockSkewMarginSeconds());
+    replica2.renew();
+
+    assertThat(getOwnedNamespaces(replica1), empty());
+    assertThat(replica2.getMembers(), contains("operator-1", "operator-2"));
+  }
+
+  @Test
+  void whenRenewalFails_giveUpNamespacesAtOnce() {
+    replica1.renew();
+
+    failLeaseRenewal("operator-1");
+    replica1.renew();
+
+    assertThat(getOwnedNamespaces(replica1), empty());
+  }
+
+  @Test
+  void whenRenewalFails_invokeLeaseLossListenerOnce() {
+    AtomicInteger losses = new AtomicInteger();
+    replica1.setLeaseLossListener(losses::incrementAndGet);
+    replica1.renew();
+
+    failLeaseRenewal("operator-1");
+    replica1.renew();
+    replica1.renew();
+
+    assertThat(losses.get(), equalTo(1));
+  }
+
+  @Test
+  void whenLeaseLapsesBetweenRenewals_invokeLeaseLossListener() {
+    AtomicInteger losses = new AtomicInteger();
+    replica1.setLeaseLossListener(losses::incrementAndGet);
+    replica1.renew();
+    SystemClockTestSupport.increment(LEASE_DURATION);
+    failLeaseRenewal("operator-1");
+
+    replica1.renew();
+
+    assertThat(losses.get(), equalTo(1));
+  }
+
+  @Test
+  void whenRenewalSucceeds_doNotInvokeLeaseLossListener() {
+    AtomicInteger losses = new AtomicInteger();
+    replica1.setLeaseLossListener(losses::incrementAndGet);
+    replica1.renew();
+    SystemClockTestSupport.increment(NamespaceShardCoordinator.getRenewalIntervalSeconds());
+
+    replica1.renew();
+
+    assertThat(losses.get(), equalTo(0));
+  }
+
+  @Test
+  void whileHoldingLease_replicaIsServing() {
+    replica1.renew();
+
+    assertThat(replica1.isServing(), is(true));
+  }
+
+  @Test
+  void beforeFirstRenewal_replicaIsNotServing() {
+    assertThat(replica1.isServing(), is(false));
+  }
+
+  @Test
+  void afterRenewalFails_replicaIsNotServing() {
+    replica1.renew();
+
+    failLeaseRenewal("operator-1");
+    replica1.renew();
+
+    assertThat(replica1.isServing(), is(false));
+  }
+
+  @Test
+  void whenShardingDisabled_replicaIsServing() {
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "false");
+
+    assertThat(replica1.isServing(), is(true));
+  }
+
+  @Test
+  void whenLeaseLongExpired_deleteIt() {
+    renewAll(replica1, replica2);
+
+    SystemClockTestSupport.increment(10L * LEASE_DURATION);
+    replica1.renew();
+
+    assertThat(getLeaseHolders(), contains("operator-1"));
+  }
+
+  @Test
+  void operatorsSharingNamespaces_eachStartOnlyTheirOwn() {
+    defineDomainNamespaces();
+    DomainNamespaces operator1 = new DomainNamespaces(null, replica1);
+    DomainNamespaces operator2 = new DomainNamespaces(null, replica2);
+    renewAll(replica1, replica2);
+
+    processNamespaces(operator1);
+    processNamespaces(operator2);
+
+    assertThat(operator1.getNamespaces(), equalTo(getOwnedNamespaces(replica1)));
+    assertThat(operator2.getNamespaces(), equalTo(getOwnedNamespaces(replica2)));
+    assertThat(union(operator1.getNamespaces(), operator2.getNamespaces()), containsInAnyOrder(NAMESPACES.toArray()));
+  }
+
+  @Test
+  void whenOperatorLeaves_remainingOperatorStartsAllNamespaces() {
+    defineDomainNamespaces();
+    DomainNamespaces operator1 = new DomainNamespaces(null, replica1);
+    DomainNamespaces operator2 = new DomainNamespaces(null, replica2);
+    renewAll(replica1, replica2);
+    processNamespaces(operator1);
+    processNamespaces(operator2);
+
+    replica2.release();
+    replica1.renew();
+    processNamespaces(operator1);
+
+    assertThat(operator1.getNamespaces(), containsInAnyOrder(NAMESPACES.toArray()));
+  }
+
+  @Test
+  void whenOperatorJoins_existingOperatorStopsNamespacesItNoLongerOwns() {
+    defineDomainNamespaces();
+    DomainNamespaces operator1 = new DomainNamespaces(null, replica1);
+    replica1.renew();
+    processNamespaces(operator1);
+
+    renewAll(replica2, replica1);
+    processNamespaces(operator1);
+
+    assertThat(operator1.getNamespaces(), equalTo(getOwnedNamespaces(replica1)));
+    assertThat(operator1.getNamespaces().size(), is(NAMESPACES.size() - getOwnedNamespaces(replica2).size()));
+  }
+
+  @Test
+  void whenOperatorJoins_stopUnownedNamespacesWithoutRecheck() {
+    defineDomainNamespaces();
+    DomainNamespaces operator1 = new DomainNamespaces(null, replica1);
+    replica1.renew();
+    processNamespaces(operator1);
+
+    renewAll(replica2, replica1);
+    operator1.stopUnownedNamespaces();
+
+    assertThat(operator1.getNamespaces(), equalTo(getOwnedNamespaces(replica1)));
+  }
+
+  @Test
+  void whenLeaseLost_stopAllNamespaces() {
+    defineDomainNamespaces();
+    DomainNamespaces operator1 = new DomainNamespaces(null, replica1);
+    replica1.setLeaseLossListener(operator1::stopUnownedNamespaces);
+    replica1.renew();
+    processNamespaces(operator1);
+
+    failLeaseRenewal("operator-1");
+    replica1.renew();
+
+    assertThat(operator1.getNamespaces(), empty());
+  }
+
+  private void defineDomainNamespaces() {
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+    HelmAccessStub.defineVariable(OPERATOR_DOMAIN_NAMESPACES, String.join(",", NAMESPACES));
+    NAMESPACES.forEach(ns -> testSupport.defineResources(new V1Namespace().metadata(new V1ObjectMeta().name(ns))));
+  }
+
+  private void processNamespaces(DomainNamespaces domainNamespaces) {
+    testSupport.withClearPacket().runSteps(
+        new DomainRecheck(Stub.createNiceStub(NamespaceTest.DomainProcessorStub.class), domainNamespaces)
+            .readExistingNamespaces());
+  }
+
+  private void renewAll(NamespaceShardCoordinator... replicas) {
+    for (NamespaceShardCoordinator replica : replicas) {
+      replica.renew();
+    }
+    for (NamespaceShardCoordinator replica : replicas) {
+      replica.renew();
+    }
+  }
+
+  private Set<String> getOwnedNamespaces(NamespaceShardCoordinator replica) {
+    return NAMESPACES.stream().filter(replica::isOwner).collect(Collectors.toSet());
+  }
+
+  private int getOwnerCount(String ns, NamespaceShardCoordinator... replicas) {
+    return (int) Arrays.stream(replicas).filter(r -> r.isOwner(ns)).count();
+  }
+
+  private void failLeaseRenewal(String identity) {
+    testSupport.failOnReplace(LEASE, NamespaceShardCoordinator.getLeaseName(identity), getOperatorNamespace(),
+        HttpURLConnection.HTTP_UNAVAILABLE);
+  }
+
+  private List<String> getLeaseHolders() {
+    return testSupport.<V1Lease>getResources(LEASE).stream().map(l -> l.getSpec().getHolderIdentity()).toList();
+  }
+
+  private Set<String> union(Collection<String> first, Collection<String> second) {
+    Set<String> result = new HashSet<>(first);
+    result.addAll(second);
+    return result;
+  }
+}
@@ -0,0 +1,161 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class NamespacedResourcesTest {
+
+  private static final String PODS = "pods";
+  private static final String SERVICES = "services";
+  private static final String DOMAINS = "domains";
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final NamespacedResources resources = new NamespacedResources(NS, null, null);
+  private final List<String> processedLists = new CopyOnWriteArrayList<>();
+  private final List<String> listsProcessedBeforeCompletion = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    // the lists must be read on real threads, as they are in the operator, rather than inline as the test support does
+    mementos.add(StaticStubSupport.install(
+          Step.class, "forkJoinExecutor", Executors.newVirtualThreadPerTaskExecutor()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    // the executor must be reverted before the test support, which stubbed the same field first
+    mementos.reversed().forEach(Memento::revert);
+  }
+
+  @Test
+  void processPagesOfEachListBeforeOtherListsComplete() {
+    final CountDownLatch podsProcessed = new CountDownLatch(1);
+    final AtomicBoolean podsProcessedBeforeDomainListReturned = new AtomicBoolean();
+    resources.addProcessing(new RecordingProcessors(podsProcessed::countDown));
+    testSupport.doAfterCall(DOMAIN, "list",
+        () -> podsProcessedBeforeDomainListReturned.set(awaitQuietly(podsProcessed)));
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(podsProcessedBeforeDomainListReturned.get(), is(true));
+  }
+
+  private boolean awaitQuietly(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  @Test
+  void completeProcessingAfterAllListsProcessed() {
+    resources.addProcessing(new RecordingProcessors(() -> { }));
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(listsProcessedBeforeCompletion, containsInAnyOrder(PODS, SERVICES, DOMAINS));
+  }
+
+  @Test
+  void neverProcessPagesConcurrently() {
+    final AtomicInteger processing = new AtomicInteger();
+    final AtomicInteger maxProcessing = new AtomicInteger();
+    resources.addProcessing(new RecordingProcessors(() -> { }) {
+      @Override
+      void record(String listName) {
+        maxProcessing.accumulateAndGet(processing.incrementAndGet(), Math::max);
+        pause();
+        super.record(listName);
+        processing.decrementAndGet();
+      }
+    });
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(maxProcessing.get(), equalTo(1));
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private class RecordingProcessors implements Processors {
+    private final Runnable podListAction;
+
+    RecordingProcessors(Runnable podListAction) {
+      this.podListAction = podListAction;
+    }
+
+    void record(String listName) {
+      processedLists.add(listName);
+    }
+
+    private <L> Consumer<L> recording(String listName) {
+      return l -> record(listName);
+    }
+
+    @Override
+    public Consumer<V1PodList> getPodListProcessing() {
+      return l -> {
+        record(PODS);
+        podListAction.run();
+      };
+    }
+
+    @Override
+    public Consumer<V1ServiceList> getServiceListProcessing() {
+      return recording(SERVICES);
+    }
+
+    @Override
+    public Consumer<DomainList> getDomainListProcessing() {
+      return recording(DOMAINS);
+    }
+
+    @Override
+    public void completeProcessing(Packet packet) {
+      listsProcessedBeforeCompletion.addAll(processedLists);
+    }
+  }
+}
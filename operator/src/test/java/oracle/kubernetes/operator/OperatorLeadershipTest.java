@@ -0,0 +1,244 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Lease;
+import oracle.kubernetes.operator.helpers.HelmAccessStub;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.OPERATOR_LEADER_LEASE_DURATION_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.OPERATOR_STANDBY_ENABLED;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class OperatorLeadershipTest {
+
+  private static final int LEASE_DURATION = 10;
+  private static final int MAX_SIMULATED_SECONDS = 600;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private OperatorLeadership replica1;
+  private OperatorLeadership replica2;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(HelmAccessStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(testSupport.install());
+
+    replica1 = new OperatorLeadership("operator-1");
+    replica2 = new OperatorLeadership("operator-2");
+    TuningParametersStub.setParameter(OPERATOR_STANDBY_ENABLED, "true");
+    TuningParametersStub.setParameter(OPERATOR_LEADER_LEASE_DURATION_SECONDS, Integer.toString(LEASE_DURATION));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenStandbyDisabled_replicaIsNotStandby() {
+    TuningParametersStub.setParameter(OPERATOR_STANDBY_ENABLED, "false");
+
+    assertThat(replica1.isStandby(), is(false));
+  }
+
+  @Test
+  void whenStandbyDisabled_renewDoesNotCreateLease() {
+    TuningParametersStub.setParameter(OPERATOR_STANDBY_ENABLED, "false");
+
+    replica1.renew();
+
+    assertThat(testSupport.getResources(LEASE), empty());
+  }
+
+  @Test
+  void beforeFirstRenewal_replicaIsStandby() {
+    assertThat(replica1.isStandby(), is(true));
+  }
+
+  @Test
+  void firstReplicaToRenew_becomesLeader() {
+    replica1.renew();
+    replica2.renew();
+
+    assertThat(replica1.isStandby(), is(false));
+    assertThat(replica2.isStandby(), is(true));
+    assertThat(getLease().getSpec().getHolderIdentity(), equalTo("operator-1"));
+  }
+
+  @Test
+  void whenLeaderRenews_keepsLeadership() {
+    replica1.renew();
+    replica2.renew();
+
+    for (int i = 0; i < 10; i++) {
+      SystemClockTestSupport.increment(OperatorLeadership.getRenewalIntervalSeconds());
+      replica1.renew();
+      replica2.renew();
+    }
+
+    assertThat(replica1.isStandby(), is(false));
+    assertThat(replica2.isStandby(), is(true));
+  }
+
+  @Test
+  void whenBecomingLeader_invokeTakeoverListenerOnce() {
+    AtomicInteger takeovers = new AtomicInteger();
+    replica1.setTakeoverListener(takeovers::incrementAndGet);
+
+    replica1.renew();
+    replica1.renew();
+
+    assertThat(takeovers.get(), equalTo(1));
+  }
+
+  @Test
+  void whenLeaderCannotRenew_itBecomesStandby() {
+    replica1.renew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+
+    assertThat(replica1.isStandby(), is(true));
+  }
+
+  @Test
+  void whenLeaderCannotRenew_itStopsActingClockSkewMarginBeforeLeaseExpires() {
+    replica1.renew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION - OperatorLeadership.getClockSkewMarginSeconds());
+
+    assertThat(replica1.isStandby(), is(true));
+  }
+
+  @Test
+  void whenLeaseJustExpired_standbyWaitsForClockSkewMarginBeforeTakingOver() {
+    replica1.renew();
+    SystemClockTestSupport.increment(LEASE_DURATION + 1);
+
+    replica2.renew();
+
+    assertThat(replica2.isStandby(), is(true));
+  }
+
+  @Test
+  void whenLeaseExpiredBeyondClockSkewMargin_standbyTakesOver() {
+    replica1.renew();
+    SystemClockTestSupport.increment(LEASE_DURATION + OperatorLeadership.getClockSkewMarginSeconds() + 1);
+
+    replica2.renew();
+
+    assertThat(replica2.isStandby(), is(false));
+  }
+
+  @Test
+  void whenLeaderLosesLease_invokeDemotionListenerOnce() {
+    AtomicInteger demotions = new AtomicInteger();
+    replica1.setDemotionListener(demotions::incrementAndGet);
+    replica1.renew();
+    SystemClockTestSupport.increment(LEASE_DURATION + OperatorLeadership.getClockSkewMarginSeconds() + 1);
+    replica2.renew();
+
+    replica1.renew();
+    replica1.renew();
+
+    assertThat(demotions.get(), equalTo(1));
+  }
+
+  @Test
+  void whenLeaderRenews_doNotInvokeDemotionListener() {
+    AtomicInteger demotions = new AtomicInteger();
+    replica1.setDemotionListener(demotions::incrementAndGet);
+    replica1.renew();
+    SystemClockTestSupport.increment(OperatorLeadership.getRenewalIntervalSeconds());
+
+    replica1.renew();
+
+    assertThat(demotions.get(), equalTo(0));
+  }
+
+  @Test
+  void whenLeaderReleases_standbyTakesOverOnNextRenewal() {
+    AtomicInteger takeovers = new AtomicInteger();
+    replica2.setTakeoverListener(takeovers::incrementAndGet);
+    replica1.renew();
+    replica2.renew();
+
+    replica1.release();
+    replica2.renew();
+
+    assertThat(replica1.isStandby(), is(true));
+    assertThat(replica2.isStandby(), is(false));
+    assertThat(takeovers.get(), equalTo(1));
+  }
+
+  @Test
+  void whenStandbyTakesOver_countLeaseTransition() {
+    replica1.renew();
+    replica1.release();
+    replica2.renew();
+
+    assertThat(getLease().getSpec().getLeaseTransitions(), equalTo(1));
+  }
+
+  @Test
+  void whenLeaderReleases_takeoverTimeIsWithinOneRenewalInterval() {
+    int takeoverSeconds = measureTakeoverSeconds(() -> replica1.release());
+
+    assertThat(takeoverSeconds, lessThanOrEqualTo(OperatorLeadership.getRenewalIntervalSeconds()));
+  }
+
+  @Test
+  void whenLeaderFails_takeoverTimeIsWithinLeaseDurationPlusMarginPlusOneRenewalInterval() {
+    final int margin = OperatorLeadership.getClockSkewMarginSeconds();
+    int takeoverSeconds = measureTakeoverSeconds(() -> { });
+
+    assertThat(takeoverSeconds,
+        lessThanOrEqualTo(LEASE_DURATION + margin + OperatorLeadership.getRenewalIntervalSeconds()));
+  }
+
+  // Runs both replicas on their renewal schedule, stops the leader with the specified action, and returns the
+  // simulated time until the standby becomes the leader.
+  private int measureTakeoverSeconds(Runnable stopLeader) {
+    final int interval = OperatorLeadership.getRenewalIntervalSeconds();
+    replica1.renew();
+    replica2.renew();
+    SystemClockTestSupport.increment(interval / 2 + 1);
+    replica2.renew();
+
+    stopLeader.run();
+    int elapsed = 0;
+    while (replica2.isStandby() && elapsed < MAX_SIMULATED_SECONDS) {
+      SystemClockTestSupport.increment(1);
+      elapsed++;
+      if (elapsed % interval == 0) {
+        replica2.renew();
+      }
+    }
+    return elapsed;
+  }
+
+  private V1Lease getLease() {
+    return testSupport.getResourceWithName(LEASE, OperatorLeadership.LEASE_NAME);
+  }
+}
@@ -0,0 +1,417 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.gson.Gson;
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1CustomResourceConversion;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionSpec;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.HelmAccess;
+import oracle.kubernetes.operator.helpers.HelmAccessStub;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.http.rest.Scan;
+import oracle.kubernetes.operator.http.rest.ScanCache;
+import oracle.kubernetes.operator.http.rest.ScanCacheStub;
+import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
+import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_NAMESPACE_ENV;
+import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_POD_NAME_ENV;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.helpers.SecretHelper.PASSWORD_KEY;
+import static oracle.kubernetes.operator.helpers.SecretHelper.USERNAME_KEY;
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.OK_RESPONSE;
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.createExpectedRequest;
+
+/**
+ * Simulates the reconciliation of many domains by the operator. The simulation boots the domain recheck of
+ * {@link OperatorMain}, with a real domain processor, against the in-memory Kubernetes API of a test support.
+ * That API may delay each call and fail a fraction of them, chosen at random. Each server pod which the operator
+ * creates starts some time later, on the simulated clock, and its readiness is then reported to the operator
+ * as a watch event.
+ *
+ * <p>The simulation advances its clock a second at a time until every domain has all of its server pods ready,
+ * or the time allowed has passed, and reports the time taken to converge, with the peak heap, the peak thread
+ * count and the calls made per domain. The {@link Results} may be written as JSON, so that they can be tracked
+ * between versions.
+ */
+public class ReconciliationSimulation {
+
+  static final String OPERATOR_NAMESPACE = "simulated-operator";
+  static final String ADMIN_SERVER = "admin-server";
+  static final String CLUSTER = "cluster-1";
+  static final int ADMIN_PORT = 7001;
+  static final int MANAGED_SERVER_PORT = 8001;
+
+  private final Settings settings;
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
+  private final KubernetesExecFactoryFake execFactoryFake = new KubernetesExecFactoryFake();
+  private final DomainProcessorTestSupport domainProcessorTestSupport = new DomainProcessorTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Set<V1Pod> startedPods = Collections.newSetFromMap(new IdentityHashMap<>());
+  private DomainProcessorImpl processor;
+  private long peakHeapBytes;
+
+  public ReconciliationSimulation(Settings settings) {
+    this.settings = settings;
+  }
+
+  /**
+   * Runs the simulation.
+   * @return the results of the run
+   * @throws Exception if the simulated operator cannot be set up, or fails unexpectedly
+   */
+  public Results run() throws Exception {
+    try {
+      setUp();
+      final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+      threads.resetPeakThreadCount();
+      final long startNanos = System.nanoTime();
+
+      final OperatorMain operatorMain = new OperatorMain(createStrictStub(SimulationDelegate.class, this));
+      testSupport.runSteps(operatorMain.createDomainRecheckSteps());
+      int seconds = 0;
+      while (!isConverged() && seconds < settings.maxSimulatedSeconds()) {
+        sampleHeap();
+        testSupport.setTime(++seconds, TimeUnit.SECONDS);
+      }
+      sampleHeap();
+
+      final boolean converged = isConverged();
+      testSupport.throwOnCompletionFailure();
+      return new Results(settings, getNumDomains(), converged, converged ? seconds : null,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), peakHeapBytes,
+          threads.getPeakThreadCount(), testSupport.getNumCalls(), testSupport.getNumInjectedFailures());
+    } finally {
+      mementos.forEach(Memento::revert);
+    }
+  }
+
+  private void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(httpSupport.install());
+    mementos.add(execFactoryFake.install());
+    mementos.add(domainProcessorTestSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(HelmAccessStub.install());
+    mementos.add(InMemoryCertificates.install());
+    mementos.add(UnitTestHash.install());
+    mementos.add(ScanCacheStub.install());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(NoopWatcherStarter.install());
+
+    HelmAccessStub.defineVariable(OPERATOR_NAMESPACE_ENV, OPERATOR_NAMESPACE);
+    HelmAccessStub.defineVariable(OPERATOR_POD_NAME_ENV, "simulated-operator-pod");
+    HelmAccessStub.defineVariable(HelmAccess.OPERATOR_DOMAIN_NAMESPACES, String.join(",", getNamespaces()));
+    TuningParametersStub.setParameter(Namespaces.SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
+
+    processor = new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(testSupport));
+    testSupport.defineResources(new V1CustomResourceDefinition()
+        .metadata(new V1ObjectMeta().name(KubernetesConstants.DOMAIN_CRD_NAME))
+        .spec(new V1CustomResourceDefinitionSpec().conversion(new V1CustomResourceConversion().strategy("Webhook"))));
+    for (String namespace : getNamespaces()) {
+      defineNamespace(namespace);
+    }
+
+    testSupport.doOnCreate(JOB, job -> ((V1Job) job).setStatus(IntrospectionTestUtils.createCompletedStatus()));
+    testSupport.doOnCreate(POD, pod -> startPod((V1Pod) pod));
+    testSupport.doOnDelete(POD, this::deletePod);
+    testSupport.setCallLatency(settings.callLatencyMillis());
+    if (settings.failureRate() > 0) {
+      testSupport.failRandomly(settings.failureRate(), HTTP_UNAVAILABLE,
+          new Random(settings.randomSeed()));
+    }
+  }
+
+  private List<String> getNamespaces() {
+    return IntStream.rangeClosed(1, settings.numNamespaces()).mapToObj(n -> "simulated-ns" + n).toList();
+  }
+
+  private List<String> getDomainUids() {
+    return IntStream.rangeClosed(1, settings.domainsPerNamespace()).mapToObj(n -> "domain" + n).toList();
+  }
+
+  private int getNumDomains() {
+    return settings.numNamespaces() * settings.domainsPerNamespace();
+  }
+
+  private void defineNamespace(String namespace) throws Exception {
+    testSupport.defineResources(new V1Namespace().metadata(new V1ObjectMeta().name(namespace)),
+        new V1Secret().metadata(new V1ObjectMeta().name(SECRET_NAME).namespace(namespace))
+            .data(Map.of(USERNAME_KEY, "user".getBytes(),
+                PASSWORD_KEY, "password".getBytes())));
+    for (String uid : getDomainUids()) {
+      defineDomain(namespace, uid);
+    }
+  }
+
+  private void defineDomain(String namespace, String uid) throws Exception {
+    final ClusterResource cluster = DomainProcessorTestSetup.createTestCluster(uid + "-" + CLUSTER, namespace);
+    cluster.getSpec().withClusterName(CLUSTER).withReplicas(settings.serversPerDomain());
+
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain(uid);
+    domain.getMetadata().namespace(namespace);
+    domain.getSpec().getClusters().add(new V1LocalObjectReference().name(cluster.getMetadata().getName()));
+
+    testSupport.defineResources(domain, cluster);
+    final WlsDomainConfig domainConfig = createDomainConfig(uid);
+    IntrospectionTestUtils.defineIntrospectionResult(testSupport, namespace, uid, domainConfig);
+    ScanCache.INSTANCE.registerScan(namespace, uid, new Scan(domainConfig, SystemClock.now()));
+    defineHealthResponse(namespace, uid, ADMIN_SERVER, ADMIN_PORT);
+    getManagedServerNames().forEach(name -> defineHealthResponse(namespace, uid, name, MANAGED_SERVER_PORT));
+  }
+
+  private List<String> getManagedServerNames() {
+    return IntStream.rangeClosed(1, settings.serversPerDomain()).mapToObj(n -> "managed-server" + n).toList();
+  }
+
+  private WlsDomainConfig createDomainConfig(String uid) {
+    final WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER);
+    getManagedServerNames().forEach(name ->
+        clusterConfig.addServerConfig(new WlsServerConfig(name, uid + "-" + name, MANAGED_SERVER_PORT)));
+    return new WlsDomainConfig(uid).withAdminServer(ADMIN_SERVER, uid + "-" + ADMIN_SERVER, ADMIN_PORT)
+        .withCluster(clusterConfig);
+  }
+
+  // Each server reports itself healthy when its pod is ready.
+  @SuppressWarnings("HttpUrlsUsage")
+  private void defineHealthResponse(String namespace, String uid, String serverName, int port) {
+    final String url = "http://" + uid + "-" + serverName + "." + namespace + ".svc:" + port;
+    httpSupport.defineResponse(createExpectedRequest(url), createStub(HttpResponseStub.class, HTTP_OK, OK_RESPONSE));
+  }
+
+  // A server pod is created pending, and becomes ready after the configured time.
+  private void startPod(V1Pod pod) {
+    if (isServerPod(pod)) {
+      pod.status(new V1PodStatus().phase("Pending"));
+      startedPods.add(pod);
+      testSupport.schedule(() -> markReady(pod), settings.podStartSeconds(), TimeUnit.SECONDS);
+    }
+  }
+
+  private boolean isServerPod(V1Pod pod) {
+    return pod.getMetadata() != null && pod.getMetadata().getLabels() != null
+        && pod.getMetadata().getLabels().containsKey(SERVERNAME_LABEL);
+  }
+
+  private void markReady(V1Pod pod) {
+    if (startedPods.contains(pod)) {
+      pod.status(new V1PodStatus().phase("Running")
+          .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+      processor.dispatchPodWatch(new Watch.Response<>("MODIFIED", pod));
+    }
+  }
+
+  private void deletePod(KubernetesTestSupport.DeletionContext context) {
+    testSupport.<V1Pod>getResources(POD).stream()
+        .filter(pod -> context.name().equals(pod.getMetadata().getName()))
+        .filter(pod -> Objects.equals(context.namespace(), pod.getMetadata().getNamespace()))
+        .findFirst()
+        .ifPresent(pod -> {
+          startedPods.remove(pod);
+          testSupport.deleteResources(pod);
+        });
+  }
+
+  private boolean isConverged() {
+    final Map<String, Long> readyServers = testSupport.<V1Pod>getResources(POD).stream()
+        .filter(this::isServerPod)
+        .filter(PodHelper::isReady)
+        .collect(Collectors.groupingBy(this::getDomainKey, Collectors.counting()));
+    return readyServers.size() == getNumDomains()
+        && readyServers.values().stream().allMatch(count -> count == 1 + settings.serversPerDomain());
+  }
+
+  private String getDomainKey(V1Pod pod) {
+    return pod.getMetadata().getNamespace() + "/" + pod.getMetadata().getLabels().get(DOMAINUID_LABEL);
+  }
+
+  private void sampleHeap() {
+    peakHeapBytes = Math.max(peakHeapBytes, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+  }
+
+  /**
+   * The size and conditions of a simulation.
+   * @param numNamespaces the number of domain namespaces
+   * @param domainsPerNamespace the number of domains in each namespace
+   * @param serversPerDomain the number of managed servers in the single cluster of each domain
+   * @param callLatencyMillis the real time by which each call to the API is delayed
+   * @param failureRate the fraction of calls which fail with status 503, chosen at random
+   * @param podStartSeconds the simulated time each server pod takes to become ready
+   * @param maxSimulatedSeconds the simulated time allowed for the domains to converge
+   * @param randomSeed the seed of the random failures
+   */
+  public record Settings(int numNamespaces, int domainsPerNamespace, int serversPerDomain, long callLatencyMillis,
+                         double failureRate, int podStartSeconds, int maxSimulatedSeconds, long randomSeed) {
+
+    static final String PREFIX = "simulation.";
+
+    /**
+     * Creates settings from system properties with the prefix "simulation.", such as "simulation.numNamespaces",
+     * using the specified settings for any which are not defined.
+     * @param defaults the settings to use when a property is not defined
+     * @return the settings
+     */
+    public static Settings fromSystemProperties(Settings defaults) {
+      return new Settings(
+          Integer.getInteger(PREFIX + "numNamespaces", defaults.numNamespaces()),
+          Integer.getInteger(PREFIX + "domainsPerNamespace", defaults.domainsPerNamespace()),
+          Integer.getInteger(PREFIX + "serversPerDomain", defaults.serversPerDomain()),
+          Long.getLong(PREFIX + "callLatencyMillis", defaults.callLatencyMillis()),
+          Double.parseDouble(System.getProperty(PREFIX + "failureRate", String.valueOf(defaults.failureRate()))),
+          Integer.getInteger(PREFIX + "podStartSeconds", defaults.podStartSeconds()),
+          Integer.getInteger(PREFIX + "maxSimulatedSeconds", defaults.maxSimulatedSeconds()),
+          Long.getLong(PREFIX + "randomSeed", defaults.randomSeed()));
+    }
+  }
+
+  /**
+   * The results of a simulation.
+   * @param settings the settings of the simulation
+   * @param numDomains the number of domains simulated
+   * @param converged true if all domains had all of their server pods ready in the time allowed
+   * @param simulatedSecondsToConverge the simulated time taken to converge, or null if the domains did not converge
+   * @param wallMillis the real time taken by the run
+   * @param peakHeapBytes the largest heap in use, sampled once per simulated second
+   * @param peakThreadCount the largest number of live threads in the JVM during the run
+   * @param numCalls the number of calls to the API which were not failed by the simulation
+   * @param numInjectedFailures the number of calls failed by the simulation
+   */
+  public record Results(Settings settings, int numDomains, boolean converged, Integer simulatedSecondsToConverge,
+                        long wallMillis, long peakHeapBytes, int peakThreadCount, int numCalls,
+                        int numInjectedFailures) {
+
+    public double getCallsPerDomain() {
+      return numDomains == 0 ? 0 : (double) numCalls / numDomains;
+    }
+
+    /**
+     * Returns these results as a single line of JSON, including the calls per domain.
+     */
+    public String toJson() {
+      final Gson gson = new Gson();
+      final var json = gson.toJsonTree(this).getAsJsonObject();
+      json.addProperty("callsPerDomain", getCallsPerDomain());
+      return gson.toJson(json);
+    }
+  }
+
+  abstract static class SimulationDelegate implements MainDelegate {
+    private final ReconciliationSimulation simulation;
+    private final DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+    private final AtomicReference<V1CustomResourceDefinition> crdReference = new AtomicReference<>();
+
+    SimulationDelegate(ReconciliationSimulation simulation) {
+      this.simulation = simulation;
+    }
+
+    @Override
+    public void runSteps(Packet packet, Step firstStep, Runnable completionAction) {
+      simulation.testSupport.withPacket(packet).withCompletionAction(completionAction).runSteps(firstStep);
+    }
+
+    @Override
+    public Cancellable scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+      final ScheduledFuture<?> future
+          = simulation.testSupport.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+      return () -> future.cancel(true);
+    }
+
+    @Override
+    public DomainProcessor getDomainProcessor() {
+      return simulation.processor;
+    }
+
+    @Override
+    public DomainNamespaces getDomainNamespaces() {
+      return domainNamespaces;
+    }
+
+    @Override
+    public KubernetesVersion getKubernetesVersion() {
+      return DomainProcessorDelegateStub.TEST_VERSION;
+    }
+
+    @Override
+    public SemanticVersion getProductVersion() {
+      return SemanticVersion.TEST_VERSION;
+    }
+
+    @Override
+    public AtomicReference<V1CustomResourceDefinition> getCrdReference() {
+      return crdReference;
+    }
+
+    @Override
+    public File getDeploymentHome() {
+      return new File("/deployment");
+    }
+
+    @Override
+    public File getProbesHome() {
+      return new File("/probes");
+    }
+
+    @Override
+    public String getPrincipal() {
+      return null;
+    }
+  }
+}
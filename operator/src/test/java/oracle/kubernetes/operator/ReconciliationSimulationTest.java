@@ -0,0 +1,86 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import oracle.kubernetes.operator.ReconciliationSimulation.Results;
+import oracle.kubernetes.operator.ReconciliationSimulation.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+class ReconciliationSimulationTest {
+
+  private static final Settings SMALL_RUN = new Settings(2, 2, 2, 0, 0.0, 10, 600, 42L);
+
+  @Test
+  void domainsConvergeAfterPodsStart() throws Exception {
+    final Results results = new ReconciliationSimulation(SMALL_RUN).run();
+
+    assertThat(results.converged(), equalTo(true));
+    assertThat(results.numDomains(), equalTo(4));
+    assertThat(results.simulatedSecondsToConverge(), greaterThanOrEqualTo(SMALL_RUN.podStartSeconds()));
+    assertThat(results.simulatedSecondsToConverge(), lessThan(SMALL_RUN.maxSimulatedSeconds()));
+  }
+
+  @Test
+  void reportCallsPerDomainAndResourceUse() throws Exception {
+    final Results results = new ReconciliationSimulation(SMALL_RUN).run();
+
+    assertThat(results.getCallsPerDomain(), greaterThan(0.0));
+    assertThat(results.peakHeapBytes(), greaterThan(0L));
+    assertThat(results.peakThreadCount(), greaterThan(0));
+  }
+
+  @Test
+  void whenCallsFailAtRandom_domainsStillConverge() throws Exception {
+    final Settings settings = new Settings(1, 2, 2, 0, 0.05, 10, 1800, 42L);
+
+    final Results results = new ReconciliationSimulation(settings).run();
+
+    assertThat(results.numInjectedFailures(), greaterThan(0));
+    assertThat(results.converged(), equalTo(true));
+  }
+
+  @Test
+  void whenMaxTimeTooShort_reportNotConverged() throws Exception {
+    final Settings settings = new Settings(1, 1, 1, 0, 0.0, 10, 5, 42L);
+
+    final Results results = new ReconciliationSimulation(settings).run();
+
+    assertThat(results.converged(), equalTo(false));
+    assertThat(results.simulatedSecondsToConverge(), equalTo(null));
+  }
+
+  @Test
+  void resultsMayBeReadAsJson() throws Exception {
+    final Results results = new ReconciliationSimulation(new Settings(1, 1, 1, 0, 0.0, 10, 600, 42L)).run();
+
+    final JsonObject json = JsonParser.parseString(results.toJson()).getAsJsonObject();
+    assertThat(json.get("converged").getAsBoolean(), equalTo(true));
+    assertThat(json.get("callsPerDomain").getAsDouble(), equalTo(results.getCallsPerDomain()));
+    assertThat(json.getAsJsonObject("settings").get("serversPerDomain").getAsInt(), equalTo(1));
+  }
+
+  // Runs a simulation sized by "simulation." system properties, such as -Dsimulation.numNamespaces=20, and writes
+  // its results to the file named by -Dsimulation.resultsFile, if any.
+  @Test
+  void runConfiguredSimulation() throws Exception {
+    final Results results = new ReconciliationSimulation(Settings.fromSystemProperties(SMALL_RUN)).run();
+
+    final String resultsFile = System.getProperty(Settings.PREFIX + "resultsFile");
+    if (resultsFile != null) {
+      Files.writeString(Path.of(resultsFile), results.toJson() + System.lineSeparator());
+    }
+    assertThat(results.converged(), equalTo(true));
+  }
+}
@@ -0,0 +1,180 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class StartupPermitsTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UID1 = "uid1";
+  private static final String UID2 = "uid2";
+  private static final String CLUSTER1 = "cluster1";
+  private static final String CLUSTER2 = "cluster2";
+
+  private final StartupPermits permits = new StartupPermits();
+
+  @Test
+  void whileClusterLimitNotReached_grantPermits() {
+    assertThat(permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 2), is(true));
+    assertThat(permits.tryAcquire(NS1, UID1, CLUSTER1, "ms2", 2), is(true));
+  }
+
+  @Test
+  void whenClusterLimitReached_denyPermitToOtherServers() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+
+    assertThat(permits.tryAcquire(NS1, UID1, CLUSTER1, "ms2", 1), is(false));
+  }
+
+  @Test
+  void whenClusterLimitReached_serverHoldingPermitKeepsIt() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+
+    assertThat(permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1), is(true));
+  }
+
+  @Test
+  void whenPermitDenied_doNotRecordCluster() {
+    assertThat(permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 0), is(false));
+
+    assertThat(permits.getNumClusters(), equalTo(0));
+  }
+
+  @Test
+  void whenLastPermitReleased_forgetCluster() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+
+    permits.release(NS1, UID1, CLUSTER1, "ms1");
+
+    assertThat(permits.getNumClusters(), equalTo(0));
+  }
+
+  @Test
+  void whenServerPodDeleted_releaseItsPermit() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+
+    permits.podDeleted(createPod(NS1, UID1, CLUSTER1, "ms1"));
+
+    assertThat(permits.tryAcquire(NS1, UID1, CLUSTER1, "ms2", 1), is(true));
+  }
+
+  @Test
+  void whenServersRetained_releasePermitsOfOthers() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 2);
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms2", 2);
+
+    permits.retainServers(NS1, UID1, CLUSTER1, List.of("ms2", "ms3"));
+
+    assertThat(permits.getNumHeld(NS1, UID1, CLUSTER1), equalTo(1));
+  }
+
+  @Test
+  void whenClustersRetained_forgetOtherClustersOfDomainOnly() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+    permits.tryAcquire(NS1, UID1, CLUSTER2, "ms3", 1);
+    permits.tryAcquire(NS1, UID2, CLUSTER2, "ms3", 1);
+
+    permits.retainClusters(NS1, UID1, List.of(CLUSTER1));
+
+    assertThat(permits.getNumHeld(NS1, UID1, CLUSTER2), equalTo(0));
+    assertThat(permits.getNumClusters(), equalTo(2));
+  }
+
+  @Test
+  void whenDomainRemoved_forgetItsClustersOnly() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+    permits.tryAcquire(NS1, UID1, CLUSTER2, "ms3", 1);
+    permits.tryAcquire(NS1, UID2, CLUSTER1, "ms1", 1);
+
+    permits.removeDomain(NS1, UID1);
+
+    assertThat(permits.getNumHeld(NS1, UID2, CLUSTER1), equalTo(1));
+    assertThat(permits.getNumClusters(), equalTo(1));
+  }
+
+  @Test
+  void whenNamespaceRemoved_forgetClustersOfItsDomainsOnly() {
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+    permits.tryAcquire(NS1, UID2, CLUSTER1, "ms1", 1);
+    permits.tryAcquire(NS2, UID1, CLUSTER1, "ms1", 1);
+
+    permits.removeNamespace(NS1);
+
+    assertThat(permits.getNumHeld(NS2, UID1, CLUSTER1), equalTo(1));
+    assertThat(permits.getNumClusters(), equalTo(1));
+  }
+
+  @Test
+  void whenPermitAvailable_runActionAtOnce() {
+    final AtomicInteger numRuns = new AtomicInteger();
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 2);
+
+    permits.onPermitAvailable(NS1, UID1, CLUSTER1, 2, numRuns::incrementAndGet);
+
+    assertThat(numRuns.get(), equalTo(1));
+  }
+
+  @Test
+  void whenClusterLimitReached_runActionOnlyOncePermitReturned() {
+    final AtomicInteger numRuns = new AtomicInteger();
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+
+    permits.onPermitAvailable(NS1, UID1, CLUSTER1, 1, numRuns::incrementAndGet);
+
+    assertThat(numRuns.get(), equalTo(0));
+  }
+
+  @Test
+  void whenServerPodBecomesReady_runActionsAwaitingItsClusterPermitsOnce() {
+    final AtomicInteger numRuns = new AtomicInteger();
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+    permits.onPermitAvailable(NS1, UID1, CLUSTER1, 1, numRuns::incrementAndGet);
+
+    permits.podDeleted(createPod(NS1, UID1, CLUSTER1, "ms1"));
+    permits.release(NS1, UID1, CLUSTER1, "ms1");
+
+    assertThat(numRuns.get(), equalTo(1));
+  }
+
+  @Test
+  void whenOtherClusterPermitReturned_doNotRunAction() {
+    final AtomicInteger numRuns = new AtomicInteger();
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+    permits.tryAcquire(NS1, UID1, CLUSTER2, "ms3", 1);
+    permits.onPermitAvailable(NS1, UID1, CLUSTER1, 1, numRuns::incrementAndGet);
+
+    permits.release(NS1, UID1, CLUSTER2, "ms3");
+
+    assertThat(numRuns.get(), equalTo(0));
+  }
+
+  @Test
+  void whenDomainRemoved_runActionsAwaitingItsPermits() {
+    final AtomicInteger numRuns = new AtomicInteger();
+    permits.tryAcquire(NS1, UID1, CLUSTER1, "ms1", 1);
+    permits.onPermitAvailable(NS1, UID1, CLUSTER1, 1, numRuns::incrementAndGet);
+
+    permits.removeDomain(NS1, UID1);
+
+    assertThat(numRuns.get(), equalTo(1));
+  }
+
+  private V1Pod createPod(String namespace, String domainUid, String clusterName, String serverName) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(namespace)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUid)
+          .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, clusterName)
+          .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName));
+  }
+}
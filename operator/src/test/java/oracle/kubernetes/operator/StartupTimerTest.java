@@ -0,0 +1,195 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import com.meterware.simplestub.Stub;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.HelmAccessStub;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.common.logging.MessageKeys.OPERATOR_STARTUP_TIMES;
+import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.operator.StartupTimer.Phase.CRD_CHECK;
+import static oracle.kubernetes.operator.StartupTimer.Phase.FIRST_MAKE_RIGHT;
+import static oracle.kubernetes.operator.StartupTimer.Phase.NAMESPACE_DISCOVERY;
+import static oracle.kubernetes.operator.StartupTimer.Phase.NAMESPACE_LISTS;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class StartupTimerTest {
+
+  private static final String NS1 = "domain-ns-1";
+  private static final String NS2 = "domain-ns-2";
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final StartupTimer timer = new StartupTimer();
+  private TestUtils.ConsoleHandlerMemento consoleHandlerMemento;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(consoleHandlerMemento = TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(NoopWatcherStarter.install());
+    mementos.add(HelmAccessStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(StartupTimer.class, "instance", timer));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenPhaseEnds_recordItsDuration() {
+    timer.start(CRD_CHECK);
+    SystemClockTestSupport.increment(3);
+    timer.end(CRD_CHECK);
+
+    assertThat(timer.getDuration(CRD_CHECK), equalTo(Duration.ofSeconds(3)));
+  }
+
+  @Test
+  void whenPhaseEnds_publishDurationAsMetric() {
+    timer.start(NAMESPACE_DISCOVERY);
+    SystemClockTestSupport.increment(2);
+    timer.end(NAMESPACE_DISCOVERY);
+
+    assertThat(OperatorMetrics.STARTUP_PHASE_DURATION.labels("namespaceDiscovery").get(), equalTo(2.0));
+  }
+
+  @Test
+  void whenPhaseRunsAgain_keepFirstDuration() {
+    timer.start(CRD_CHECK);
+    SystemClockTestSupport.increment(1);
+    timer.end(CRD_CHECK);
+
+    timer.start(CRD_CHECK);
+    SystemClockTestSupport.increment(5);
+    timer.end(CRD_CHECK);
+
+    assertThat(timer.getDuration(CRD_CHECK), equalTo(Duration.ofSeconds(1)));
+  }
+
+  @Test
+  void whenPhaseEndsWithoutStarting_recordNoTime() {
+    timer.end(NAMESPACE_LISTS);
+
+    assertThat(timer.getDuration(NAMESPACE_LISTS), equalTo(Duration.ZERO));
+  }
+
+  @Test
+  void whenNamespaceListsCompleteWithoutMakeRight_logSummary() {
+    collectSummaryLogMessages();
+
+    runStartupPhases();
+
+    assertThat(logRecords, containsInfo(OPERATOR_STARTUP_TIMES)
+        .withParams(6000L, "crdCheck=1000ms, namespaceDiscovery=2000ms, namespaceLists=3000ms"));
+  }
+
+  @Test
+  void whenMakeRightStartedDuringLists_waitForItBeforeLoggingSummary() {
+    collectSummaryLogMessages();
+    timer.start(NAMESPACE_LISTS);
+    timer.makeRightStarted();
+    SystemClockTestSupport.increment(2);
+    timer.end(NAMESPACE_LISTS);
+
+    assertThat(logRecords, empty());
+  }
+
+  @Test
+  void whenFirstMakeRightCompletes_logSummary() {
+    collectSummaryLogMessages();
+    timer.start(NAMESPACE_LISTS);
+    timer.makeRightStarted();
+    SystemClockTestSupport.increment(2);
+    timer.end(NAMESPACE_LISTS);
+    SystemClockTestSupport.increment(4);
+    timer.makeRightCompleted();
+
+    assertThat(logRecords, containsInfo(OPERATOR_STARTUP_TIMES)
+        .withParams(6000L, "namespaceLists=2000ms, firstMakeRight=6000ms"));
+  }
+
+  @Test
+  void whenLaterMakeRightsComplete_logSummaryOnlyOnce() {
+    collectSummaryLogMessages();
+    timer.makeRightStarted();
+    timer.makeRightCompleted();
+    runStartupPhases();
+
+    timer.makeRightStarted();
+    timer.makeRightCompleted();
+
+    assertThat(logRecords, containsInfo(OPERATOR_STARTUP_TIMES));
+    assertThat(logRecords, empty());
+  }
+
+  @Test
+  void whenMakeRightCompletesWithoutStarting_ignoreIt() {
+    timer.makeRightCompleted();
+
+    assertThat(timer.getDuration(FIRST_MAKE_RIGHT), nullValue());
+  }
+
+  @Test
+  void whenDomainNamespacesStarted_recordNamespaceListsPhase() {
+    defineNamespaces(NS1, NS2);
+    final DomainRecheck recheck = new DomainRecheck(
+        Stub.createNiceStub(NamespaceTest.DomainProcessorStub.class), new DomainNamespaces(null));
+
+    testSupport.runSteps(recheck.createStartNamespacesStep(List.of(NS1, NS2)));
+
+    assertThat(timer.getDuration(NAMESPACE_LISTS), notNullValue());
+  }
+
+  private void collectSummaryLogMessages() {
+    consoleHandlerMemento.collectLogMessages(logRecords, OPERATOR_STARTUP_TIMES).withLogLevel(Level.INFO);
+  }
+
+  private void runStartupPhases() {
+    timer.start(CRD_CHECK);
+    SystemClockTestSupport.increment(1);
+    timer.end(CRD_CHECK);
+    timer.start(NAMESPACE_DISCOVERY);
+    SystemClockTestSupport.increment(2);
+    timer.end(NAMESPACE_DISCOVERY);
+    timer.start(NAMESPACE_LISTS);
+    SystemClockTestSupport.increment(3);
+    timer.end(NAMESPACE_LISTS);
+  }
+
+  private void defineNamespaces(String... names) {
+    for (String name : names) {
+      testSupport.defineResources(new V1Namespace().metadata(new V1ObjectMeta().name(name)));
+    }
+  }
+}
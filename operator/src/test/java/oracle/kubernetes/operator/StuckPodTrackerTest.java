@@ -0,0 +1,213 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class StuckPodTrackerTest {
+
+  private static final long DELETION_GRACE_PERIOD_SECONDS = 5L;
+  private static final String SERVER_NAME = "ms1";
+  private static final String POD_NAME = UID + "-" + SERVER_NAME;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainProcessorDelegateStub delegate = DomainProcessorDelegateStub.createDelegate(testSupport);
+  private final DomainResource domain = createTestDomain();
+  private DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final StuckPodTracker tracker = new StuckPodTracker();
+  private final V1Pod pod = definePod("uid-1");
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+
+    testSupport.defineResources(domain, pod);
+    info.setServerPod(SERVER_NAME, pod);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    testSupport.throwOnCompletionFailure();
+
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod definePod(String kubernetesUid) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(POD_NAME).namespace(NS).uid(kubernetesUid)
+        .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+        .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+        .putLabelsItem(LabelConstants.SERVERNAME_LABEL, SERVER_NAME));
+  }
+
+  private void markAsDeleting(V1Pod pod) {
+    Objects.requireNonNull(pod.getMetadata())
+          .deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS)
+          .deletionTimestamp(SystemClock.now());
+  }
+
+  private DomainPresenceInfo getInfo(String namespace, String domainUid) {
+    return NS.equals(namespace) && UID.equals(domainUid) ? info : null;
+  }
+
+  private V1Pod getPod() {
+    return testSupport.getResourceWithName(POD, POD_NAME);
+  }
+
+  @Test
+  void whenPodNotDeleting_dontTrackIt() {
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+
+    assertThat(tracker.getNumTracked(), equalTo(0));
+  }
+
+  @Test
+  void whenPodStillPresentAfterGracePeriod_deleteIt() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), nullValue());
+  }
+
+  @Test
+  void whenStandbyReplicaAfterGracePeriod_dontDeletePod() {
+    delegate.setStandby(true);
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+  }
+
+  @Test
+  void whenReplicaBecomesStandbyBeforeGracePeriodEnds_dontDeletePod() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    delegate.setStandby(true);
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+  }
+
+  @Test
+  void beforeGracePeriodEnds_dontDeletePod() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS - 1, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+  }
+
+  @Test
+  void whenRepeatedEventsReportDeletingPod_trackItOnce() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+
+    assertThat(tracker.getNumTracked(), equalTo(1));
+  }
+
+  @Test
+  void whenPodDeletedEventReceived_dontDeletePod() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    tracker.podDeleted(pod);
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+    assertThat(tracker.getNumTracked(), equalTo(0));
+  }
+
+  @Test
+  void whenPodReplacedBeforeGracePeriodEnds_dontDeleteReplacement() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    info.setServerPod(SERVER_NAME, definePod("uid-2"));
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+  }
+
+  @Test
+  void whenNamespaceRemoved_dontDeletePod() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    tracker.removeNamespace(NS);
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+    assertThat(tracker.getNumTracked(), equalTo(0));
+  }
+
+  @Test
+  void whenOtherNamespaceRemoved_deletePod() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    tracker.removeNamespace("other");
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), nullValue());
+  }
+
+  @Test
+  void whenDomainPresenceInfoRemovedBeforeGracePeriodEnds_dontDeletePod() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    info = null;
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+  }
+
+  @Test
+  void whenDomainPresenceInfoReplacedBeforeGracePeriodEnds_checkReplacement() {
+    markAsDeleting(pod);
+    tracker.podChanged(delegate, this::getInfo, SERVER_NAME, pod);
+    info = new DomainPresenceInfo(domain);
+    info.setServerPod(SERVER_NAME, definePod("uid-2"));
+
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, SECONDS);
+
+    assertThat(getPod(), notNullValue());
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -56,6 +56,7 @@ import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.utils.InMemoryFileSystem;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionResourceCache;
 import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Packet;
@@ -207,6 +208,7 @@ public class WebhookMainTest extends CrdHelperTestBase {
     mementos.add(inMemoryFileSystem.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
+    mementos.add(StaticStubSupport.install(AdmissionResourceCache.class, "instance", new AdmissionResourceCache()));
 
     HelmAccessStub.defineVariable(WEBHOOK_NAMESPACE_ENV, WEBHOOK_NAMESPACE);
     HelmAccessStub.defineVariable(WEBHOOK_POD_NAME_ENV, WEBHOOK_POD_NAME);
@@ -221,9 +223,11 @@ public class WebhookMainTest extends CrdHelperTestBase {
 
   @AfterEach
   void tearDown() throws Exception {
-    testSupport.throwOnCompletionFailure();
-
+    // reverts the logger control last, since its revert throws if unexpected messages were logged
+    Collections.reverse(mementos);
     mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
   }
 
   @Test
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.builders;
@@ -162,6 +162,9 @@ public class StubWatchFactory implements WatchApiFactory {
       if (cont != null) {
         recordedParams.put("cont", cont);
       }
+      if (Boolean.TRUE.equals(listOptions.isPartialObjectMetadataListRequest())) {
+        recordedParams.put("metadataOnly", "true");
+      }
     }
     return recordedParams;
   }
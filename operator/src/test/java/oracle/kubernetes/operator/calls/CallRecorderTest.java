@@ -0,0 +1,289 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonObject;
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.calls.CallRecorder.Record;
+import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.CALL_RECORDING_FILE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+class CallRecorderTest {
+
+  private static final String NS = "namespace";
+  private static final String PASSWORD = "top-secret";
+  private static final String UID = "domain1";
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    file = Files.createTempDirectory("callRecorderTest").resolve("calls.json");
+    TuningParametersStub.setParameter(CALL_RECORDING_FILE, file.toString());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private List<Record> getRecords() throws Exception {
+    return Files.readAllLines(file).stream().map(line -> CallRecorder.getGson().fromJson(line, Record.class)).toList();
+  }
+
+  private V1Pod createPod(String name) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name));
+  }
+
+  private V1Secret createSecret(String name) {
+    return new V1Secret().metadata(new V1ObjectMeta().namespace(NS).name(name))
+        .data(Map.of("password", PASSWORD.getBytes(StandardCharsets.UTF_8)))
+        .stringData(Map.of("username", "admin"));
+  }
+
+  @Test
+  void whenRecordingFileNotConfigured_recordNothing() {
+    TuningParametersStub.setParameter(CALL_RECORDING_FILE, null);
+
+    testSupport.runSteps(RequestBuilder.POD.create(createPod("pod1"), new DefaultResponseStep<>(null)));
+
+    assertThat(Files.exists(file), equalTo(false));
+  }
+
+  @Test
+  void recordCallWithItsRequestAndResponse() throws Exception {
+    testSupport.runSteps(RequestBuilder.POD.create(createPod("pod1"), new DefaultResponseStep<>(null)));
+
+    final Record callRecord = getRecords().get(0);
+    assertThat(callRecord.isCall(), equalTo(true));
+    assertThat(callRecord.resource, equalTo("pods"));
+    assertThat(callRecord.operation, equalTo("create"));
+    assertThat(callRecord.namespace, equalTo(NS));
+    assertThat(callRecord.name, equalTo("pod1"));
+    assertThat(callRecord.requestType, equalTo(V1Pod.class.getName()));
+    assertThat(callRecord.statusCode / 100, equalTo(2));
+    assertThat(callRecord.objectType, equalTo(V1Pod.class.getName()));
+    assertThat(getName(callRecord.object.getAsJsonObject()), equalTo("pod1"));
+  }
+
+  private String getName(JsonObject object) {
+    return object.getAsJsonObject("metadata").get("name").getAsString();
+  }
+
+  @Test
+  void whenCallFails_recordStatus() throws Exception {
+    testSupport.runSteps(RequestBuilder.POD.get(NS, "pod1", new DefaultResponseStep<>(null)));
+
+    final Record callRecord = getRecords().get(0);
+    assertThat(callRecord.namespace, equalTo(NS));
+    assertThat(callRecord.statusCode, equalTo(404));
+    assertThat(callRecord.objectType, equalTo(V1Status.class.getName()));
+  }
+
+  @Test
+  void recordTimeOfEachCallRelativeToFirst() throws Exception {
+    testSupport.defineResources(createPod("pod1"));
+
+    testSupport.runSteps(RequestBuilder.POD.get(NS, "pod1", new DefaultResponseStep<>(null)));
+    SystemClockTestSupport.increment(3);
+    testSupport.runSteps(RequestBuilder.POD.list(NS, new DefaultResponseStep<>(null)));
+
+    assertThat(getRecords().stream().map(r -> r.offsetMillis).toList(), equalTo(List.of(0L, 3000L)));
+  }
+
+  @Test
+  void recordPatchAsItsValue() throws Exception {
+    testSupport.defineResources(createPod("pod1"));
+    final String patch = "[{\"op\":\"add\",\"path\":\"/metadata/labels\",\"value\":{}}]";
+
+    testSupport.runSteps(RequestBuilder.POD.patch(NS, "pod1", V1Patch.PATCH_FORMAT_JSON_PATCH,
+        new V1Patch(patch), new DefaultResponseStep<>(null)));
+
+    assertThat(getRecords().get(0).request.getAsString(), equalTo(patch));
+  }
+
+  @Test
+  void whenSecretRead_redactItsData() throws Exception {
+    testSupport.defineResources(createSecret("secret1"));
+
+    testSupport.runSteps(RequestBuilder.SECRET.get(NS, "secret1", new DefaultResponseStep<>(null)));
+
+    final JsonObject secret = getRecords().get(0).object.getAsJsonObject();
+    assertThat(secret.getAsJsonObject("data").get("password").getAsString(), equalTo(CallRecorder.REDACTED));
+    assertThat(secret.getAsJsonObject("stringData").get("username").getAsString(), equalTo(CallRecorder.REDACTED));
+    assertThat(Files.readString(file), not(containsString("admin")));
+  }
+
+  @Test
+  void whenSecretsListed_redactDataOfEach() throws Exception {
+    testSupport.defineResources(createSecret("secret1"), createSecret("secret2"));
+
+    testSupport.runSteps(RequestBuilder.SECRET.list(NS, new DefaultResponseStep<>(null)));
+
+    final JsonObject list = getRecords().get(0).object.getAsJsonObject();
+    list.getAsJsonArray("items").forEach(item ->
+        assertThat(item.getAsJsonObject().getAsJsonObject("data").get("password").getAsString(),
+            equalTo(CallRecorder.REDACTED)));
+  }
+
+  @Test
+  void whenSecretCreated_redactRequestAndResponse() throws Exception {
+    testSupport.runSteps(RequestBuilder.SECRET.create(createSecret("secret1"), new DefaultResponseStep<>(null)));
+
+    final Record callRecord = getRecords().get(0);
+    assertThat(callRecord.request.getAsJsonObject().getAsJsonObject("stringData").get("username").getAsString(),
+        equalTo(CallRecorder.REDACTED));
+    assertThat(Files.readString(file), not(containsString("admin")));
+  }
+
+  @Test
+  void redactedSecretMayStillBeReadAsSecret() throws Exception {
+    testSupport.defineResources(createSecret("secret1"));
+
+    testSupport.runSteps(RequestBuilder.SECRET.get(NS, "secret1", new DefaultResponseStep<>(null)));
+
+    final V1Secret secret = CallRecorder.getGson().fromJson(getRecords().get(0).object, V1Secret.class);
+    assertThat(new String(secret.getData().get("password"), StandardCharsets.UTF_8), equalTo("redacted"));
+  }
+
+  @Test
+  void whenSecretPatched_redactPatch() throws Exception {
+    testSupport.defineResources(createSecret("secret1"));
+
+    testSupport.runSteps(RequestBuilder.SECRET.patch(NS, "secret1", V1Patch.PATCH_FORMAT_JSON_PATCH,
+        new V1Patch("[{\"op\":\"replace\",\"path\":\"/data/password\",\"value\":\"bmV3\"}]"),
+        new DefaultResponseStep<>(null)));
+
+    assertThat(getRecords().get(0).request.getAsString(), equalTo(CallRecorder.REDACTED));
+  }
+
+  @Test
+  void recordWatchEvent() throws Exception {
+    CallRecorder.getInstance().recordWatchEvent(NS, new Watch.Response<>("MODIFIED", createPod("pod1")));
+
+    final Record watchRecord = getRecords().get(0);
+    assertThat(watchRecord.isWatch(), equalTo(true));
+    assertThat(watchRecord.operation, equalTo("MODIFIED"));
+    assertThat(watchRecord.namespace, equalTo(NS));
+    assertThat(watchRecord.objectType, equalTo(V1Pod.class.getName()));
+    assertThat(watchRecord.statusCode, nullValue());
+    assertThat(getName(watchRecord.object.getAsJsonObject()), equalTo("pod1"));
+  }
+
+  @Test
+  void writeOneLinePerRecord() throws Exception {
+    testSupport.defineResources(createPod("pod1"));
+
+    testSupport.runSteps(RequestBuilder.POD.get(NS, "pod1", new DefaultResponseStep<>(null)));
+    CallRecorder.getInstance().recordWatchEvent(NS, new Watch.Response<>("DELETED", createPod("pod1")));
+
+    assertThat(Files.readAllLines(file), hasSize(2));
+  }
+
+  private V1ConfigMap createIntrospectorConfigMap() {
+    return new V1ConfigMap()
+        .metadata(new V1ObjectMeta().namespace(NS).name(ConfigMapHelper.getIntrospectorConfigMapName(UID)))
+        .data(Map.of("domainzip.secure", PASSWORD,
+            "primordial_domainzip.secure", PASSWORD,
+            "domainzip.secure.range", "0-10",
+            "topology.yaml", "domainValid: true"));
+  }
+
+  @Test
+  void whenIntrospectorConfigMapRead_redactItsSecureEntries() throws Exception {
+    testSupport.defineResources(createIntrospectorConfigMap());
+
+    testSupport.runSteps(RequestBuilder.CM.get(NS, ConfigMapHelper.getIntrospectorConfigMapName(UID),
+        new DefaultResponseStep<>(null)));
+
+    final JsonObject data = getRecords().get(0).object.getAsJsonObject().getAsJsonObject("data");
+    assertThat(data.get("domainzip.secure").getAsString(), equalTo(CallRecorder.REDACTED));
+    assertThat(data.get("primordial_domainzip.secure").getAsString(), equalTo(CallRecorder.REDACTED));
+    assertThat(data.get("domainzip.secure.range").getAsString(), equalTo(CallRecorder.REDACTED));
+    assertThat(data.get("topology.yaml").getAsString(), equalTo("domainValid: true"));
+  }
+
+  @Test
+  void whenIntrospectorConfigMapCreated_redactRequestAndResponse() throws Exception {
+    testSupport.runSteps(RequestBuilder.CM.create(createIntrospectorConfigMap(), new DefaultResponseStep<>(null)));
+
+    assertThat(Files.readString(file), not(containsString(PASSWORD)));
+  }
+
+  @Test
+  void whenConfigMapsListed_redactSecureEntriesOfEach() throws Exception {
+    testSupport.defineResources(createIntrospectorConfigMap());
+
+    testSupport.runSteps(RequestBuilder.CM.list(NS, new DefaultResponseStep<>(null)));
+
+    assertThat(Files.readString(file), not(containsString(PASSWORD)));
+  }
+
+  @Test
+  void whenIntrospectorConfigMapWatched_redactItsSecureEntries() throws Exception {
+    CallRecorder.getInstance().recordWatchEvent(NS, new Watch.Response<>("MODIFIED", createIntrospectorConfigMap()));
+
+    assertThat(Files.readString(file), not(containsString(PASSWORD)));
+  }
+
+  @Test
+  void whenConfigMapPatchSetsSecureEntry_redactPatch() throws Exception {
+    testSupport.defineResources(createIntrospectorConfigMap());
+
+    testSupport.runSteps(RequestBuilder.CM.patch(NS, ConfigMapHelper.getIntrospectorConfigMapName(UID),
+        V1Patch.PATCH_FORMAT_JSON_PATCH,
+        new V1Patch("[{\"op\":\"replace\",\"path\":\"/data/domainzip.secure\",\"value\":\"bmV3\"}]"),
+        new DefaultResponseStep<>(null)));
+
+    assertThat(getRecords().get(0).request.getAsString(), equalTo(CallRecorder.REDACTED));
+  }
+
+  @Test
+  void whenPodLogRead_redactItsText() throws Exception {
+    testSupport.definePodLog("introspector", NS, PASSWORD);
+
+    testSupport.runSteps(RequestBuilder.POD.logs(NS, "introspector", "container", new DefaultResponseStep<>(null)));
+
+    assertThat(getRecords().get(0).objectType, equalTo(RequestBuilder.StringObject.class.getName()));
+    assertThat(Files.readString(file), not(containsString(PASSWORD)));
+  }
+}
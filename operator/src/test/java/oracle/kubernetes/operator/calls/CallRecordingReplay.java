@@ -0,0 +1,261 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.DomainProcessor;
+import oracle.kubernetes.operator.calls.CallRecorder.Record;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tracing.InMemorySpanExporter;
+import oracle.kubernetes.operator.tracing.Span;
+import oracle.kubernetes.operator.tracing.Tracer;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * Replays a file written by the {@link CallRecorder} against the simulated Kubernetes of a test support. The
+ * resources which the recording shows the operator reading, but neither creating nor being told of by a watch,
+ * are first defined in the test support. Each recorded watch event is then applied to the test support and
+ * dispatched to a domain processor, which runs the make-rights that the event causes, making its calls against
+ * the test support.
+ *
+ * <p>The simulated clock of the test support, which should start at zero, follows the recorded times of the events.
+ * A positive speed also paces the replay in real time, at that multiple of the recorded speed; the default of zero
+ * replays the events without waiting.
+ */
+public class CallRecordingReplay {
+
+  private static final Set<String> READ_OPERATIONS = Set.of("get", "list");
+
+  @SuppressWarnings("unchecked")
+  private static final Map<Class<?>, BiConsumer<DomainProcessor, Watch.Response<?>>> DISPATCHERS = Map.of(
+        DomainResource.class, (p, r) -> p.dispatchDomainWatch((Watch.Response<DomainResource>) r),
+        ClusterResource.class, (p, r) -> p.dispatchClusterWatch((Watch.Response<ClusterResource>) r),
+        V1Pod.class, (p, r) -> p.dispatchPodWatch((Watch.Response<V1Pod>) r),
+        V1Service.class, (p, r) -> p.dispatchServiceWatch((Watch.Response<V1Service>) r),
+        V1Job.class, (p, r) -> p.dispatchJobWatch((Watch.Response<V1Job>) r),
+        V1PodDisruptionBudget.class,
+            (p, r) -> p.dispatchPodDisruptionBudgetWatch((Watch.Response<V1PodDisruptionBudget>) r),
+        V1ConfigMap.class, (p, r) -> p.dispatchConfigMapWatch((Watch.Response<V1ConfigMap>) r),
+        CoreV1Event.class, (p, r) -> p.dispatchEventWatch((Watch.Response<CoreV1Event>) r));
+
+  private final KubernetesTestSupport testSupport;
+  private final List<Record> records;
+  private double speed;
+
+  /**
+   * Creates a replay of a recording.
+   * @param testSupport the test support against which the recording is to be replayed
+   * @param recording the file written by the call recorder
+   * @throws IOException if the recording cannot be read
+   */
+  public CallRecordingReplay(KubernetesTestSupport testSupport, Path recording) throws IOException {
+    this.testSupport = testSupport;
+    this.records = Files.readAllLines(recording).stream()
+          .filter(line -> !line.isBlank())
+          .map(line -> CallRecorder.getGson().fromJson(line, Record.class))
+          .toList();
+  }
+
+  /**
+   * Paces the replay in real time.
+   * @param speed the multiple of the recorded speed at which to replay, or zero to replay without waiting
+   * @return this replay
+   */
+  public CallRecordingReplay withSpeed(double speed) {
+    this.speed = speed;
+    return this;
+  }
+
+  /**
+   * Replays the recording.
+   * @param processor the domain processor to which the watch events are dispatched
+   * @return a report of the make-rights run and the calls made during the replay
+   * @throws Exception if the replay is interrupted, or the tracer cannot be replaced
+   */
+  public Report replay(DomainProcessor processor) throws Exception {
+    final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    final Memento tracer = StaticStubSupport.install(Tracer.class, "instance", new Tracer(exporter));
+    final int numCallsBefore = testSupport.getNumCalls();
+    try {
+      defineRecordedResources();
+
+      long lastOffset = 0;
+      int numEvents = 0;
+      for (Record watchEvent : records.stream().filter(Record::isWatch).toList()) {
+        pace(watchEvent.offsetMillis - lastOffset);
+        lastOffset = watchEvent.offsetMillis;
+        testSupport.setTime(lastOffset, TimeUnit.MILLISECONDS);
+        replayEvent(processor, watchEvent);
+        numEvents++;
+      }
+      testSupport.setTime(Math.max(lastOffset, getFinalOffset()), TimeUnit.MILLISECONDS);
+
+      return new Report(numEvents, exporter.getSpans(), getRecordedCallCounts(),
+          testSupport.getNumCalls() - numCallsBefore);
+    } finally {
+      tracer.revert();
+    }
+  }
+
+  private long getFinalOffset() {
+    return records.isEmpty() ? 0 : records.get(records.size() - 1).offsetMillis;
+  }
+
+  private void pace(long recordedMillis) throws InterruptedException {
+    if (speed > 0 && recordedMillis > 0) {
+      Thread.sleep((long) (recordedMillis / speed));
+    }
+  }
+
+  // Defines the resources first seen in the response to a read, as they were when first read.
+  private void defineRecordedResources() {
+    final Set<String> seen = new HashSet<>();
+    for (Record callOrEvent : records) {
+      for (KubernetesObject resource : getResources(callOrEvent)) {
+        if (seen.add(getKey(resource)) && isSuccessfulRead(callOrEvent)
+            && testSupport.isSupported(resource.getClass())) {
+          testSupport.defineResources(resource);
+        }
+      }
+    }
+  }
+
+  private boolean isSuccessfulRead(Record callOrEvent) {
+    return callOrEvent.isCall() && READ_OPERATIONS.contains(callOrEvent.operation)
+        && callOrEvent.statusCode != null && callOrEvent.statusCode / 100 == 2;
+  }
+
+  private String getKey(KubernetesObject resource) {
+    return resource.getClass().getName() + "/" + resource.getMetadata().getNamespace()
+        + "/" + resource.getMetadata().getName();
+  }
+
+  private List<? extends KubernetesObject> getResources(Record callOrEvent) {
+    final Object object = getObject(callOrEvent);
+    if (object instanceof KubernetesListObject list) {
+      return Optional.ofNullable(list.getItems()).orElse(Collections.emptyList());
+    } else if (object instanceof KubernetesObject resource && resource.getMetadata() != null) {
+      return List.of(resource);
+    } else {
+      return Collections.emptyList();
+    }
+  }
+
+  private Object getObject(Record callOrEvent) {
+    if (callOrEvent.objectType == null || callOrEvent.object == null) {
+      return null;
+    }
+    try {
+      return CallRecorder.getGson().fromJson(callOrEvent.object, Class.forName(callOrEvent.objectType));
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
+  private void replayEvent(DomainProcessor processor, Record watchEvent) {
+    final Object object = getObject(watchEvent);
+    if (object instanceof KubernetesObject resource) {
+      applyToTestSupport(watchEvent.operation, resource);
+      Optional.ofNullable(DISPATCHERS.get(resource.getClass()))
+          .ifPresent(dispatcher -> dispatcher.accept(processor, new Watch.Response<>(watchEvent.operation, resource)));
+    }
+  }
+
+  private void applyToTestSupport(String eventType, KubernetesObject resource) {
+    if (testSupport.isSupported(resource.getClass())) {
+      deleteIfPresent(resource);
+      if (!"DELETED".equals(eventType)) {
+        testSupport.defineResources(resource);
+      }
+    }
+  }
+
+  private void deleteIfPresent(KubernetesObject resource) {
+    try {
+      testSupport.deleteResources(resource);
+    } catch (KubernetesTestSupport.NotFoundException e) {
+      // the resource was not defined
+    }
+  }
+
+  private Map<String, Integer> getRecordedCallCounts() {
+    final Map<String, Integer> counts = new TreeMap<>();
+    records.stream().filter(Record::isCall).forEach(c -> counts.merge(c.operation + " " + c.resource, 1, Integer::sum));
+    return counts;
+  }
+
+  /**
+   * The results of a replay.
+   * @param numEvents the number of watch events replayed
+   * @param makeRightLatencies the times taken by the make-rights which completed during the replay
+   * @param callCounts the number of calls of each operation made by the make-rights, such as "get pods"
+   * @param recordedCallCounts the number of calls of each operation in the recording
+   * @param numCalls the total number of calls made to the test support during the replay
+   */
+  public record Report(int numEvents, List<Duration> makeRightLatencies, Map<String, Integer> callCounts,
+                       Map<String, Integer> recordedCallCounts, int numCalls) {
+
+    Report(int numEvents, List<Span> spans, Map<String, Integer> recordedCallCounts, int numCalls) {
+      this(numEvents, getMakeRightLatencies(spans), getCallCounts(spans), recordedCallCounts, numCalls);
+    }
+
+    private static List<Duration> getMakeRightLatencies(List<Span> spans) {
+      return spans.stream()
+          .filter(span -> span.getParent() == null)
+          .map(span -> Duration.ofNanos(span.getEndTimeNanos() - span.getStartTimeNanos()))
+          .toList();
+    }
+
+    private static Map<String, Integer> getCallCounts(List<Span> spans) {
+      final Map<String, Integer> counts = new TreeMap<>();
+      spans.stream()
+          .filter(span -> span.getKind() == Span.Kind.CLIENT)
+          .forEach(span -> counts.merge(span.getName(), 1, Integer::sum));
+      return counts;
+    }
+
+    public int getNumMakeRights() {
+      return makeRightLatencies.size();
+    }
+
+    /**
+     * Returns the longest time taken by a make-right, or zero if none completed.
+     */
+    public Duration getMaxMakeRightLatency() {
+      return makeRightLatencies.stream().max(Duration::compareTo).orElse(Duration.ZERO);
+    }
+
+    @Override
+    public String toString() {
+      return "events=" + numEvents + ", makeRights=" + getNumMakeRights()
+          + ", maxMakeRightLatency=" + getMaxMakeRightLatency() + ", calls=" + numCalls
+          + ", callCounts=" + callCounts + ", recordedCallCounts=" + recordedCallCounts;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.DomainProcessorDelegateStub;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CALL_RECORDING_FILE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasKey;
+
+class CallRecordingReplayTest {
+
+  private final KubernetesTestSupport recordingSupport = new KubernetesTestSupport();
+  private final KubernetesTestSupport replaySupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+
+    file = Files.createTempDirectory("callRecordingReplayTest").resolve("calls.json");
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    replaySupport.throwOnCompletionFailure();
+  }
+
+  // Records the deletion of a domain which has two server pods.
+  private void recordDomainDeletion() throws Exception {
+    final Memento recording = recordingSupport.install();
+    try {
+      TuningParametersStub.setParameter(CALL_RECORDING_FILE, file.toString());
+      recordingSupport.defineResources(domain, createServerPod("admin-server"), createServerPod("managed-server1"));
+      final Watch.Response<DomainResource> event = new Watch.Response<>("DELETED", domain);
+
+      CallRecorder.getInstance().recordWatchEvent(NS, event);
+      new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(recordingSupport)).dispatchDomainWatch(event);
+    } finally {
+      TuningParametersStub.setParameter(CALL_RECORDING_FILE, null);
+      recording.revert();
+    }
+  }
+
+  private V1Pod createServerPod(String serverName) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(UID + "-" + serverName)
+        .putLabelsItem(DOMAINUID_LABEL, UID).putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"));
+  }
+
+  private CallRecordingReplay.Report replay() throws Exception {
+    mementos.add(replaySupport.install());
+    return new CallRecordingReplay(replaySupport, file)
+        .replay(new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(replaySupport)));
+  }
+
+  @Test
+  void replayDefinesResourcesReadButNotCreated() throws Exception {
+    recordDomainDeletion();
+
+    final CallRecordingReplay replay = new CallRecordingReplay(replaySupport, file);
+    mementos.add(replaySupport.install());
+    replay.replay(new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(replaySupport)) {
+      @Override
+      public void dispatchDomainWatch(Watch.Response<DomainResource> item) {
+        assertThat(replaySupport.getResources(POD).size(), equalTo(2));
+      }
+    });
+  }
+
+  @Test
+  void replayReportsWatchEventsAndMakeRights() throws Exception {
+    recordDomainDeletion();
+
+    final CallRecordingReplay.Report report = replay();
+
+    assertThat(report.numEvents(), equalTo(1));
+    assertThat(report.getNumMakeRights(), equalTo(1));
+  }
+
+  @Test
+  void replayedMakeRightMakesRecordedCalls() throws Exception {
+    recordDomainDeletion();
+
+    final CallRecordingReplay.Report report = replay();
+
+    assertThat(report.recordedCallCounts(), hasKey("deleteCollection pods"));
+    assertThat(report.callCounts(), equalTo(report.recordedCallCounts()));
+    assertThat(report.numCalls(), greaterThan(0));
+  }
+
+  @Test
+  void replayAppliesEffectsOfMakeRightToTestSupport() throws Exception {
+    recordDomainDeletion();
+
+    replay();
+
+    assertThat(replaySupport.getResources(POD), empty());
+  }
+
+  @Test
+  void whenSpeedSet_paceReplayInRealTime() throws Exception {
+    recordDomainDeletion();
+    mementos.add(replaySupport.install());
+
+    final CallRecordingReplay.Report report = new CallRecordingReplay(replaySupport, file).withSpeed(10.0)
+        .replay(new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(replaySupport)));
+
+    assertThat(report.getNumMakeRights(), equalTo(1));
+  }
+}
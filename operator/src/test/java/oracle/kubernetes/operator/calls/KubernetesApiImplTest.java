@@ -0,0 +1,224 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.meterware.simplestub.Memento;
+import com.sun.management.ThreadMXBean;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import oracle.kubernetes.operator.calls.KubernetesApiFactory.KubernetesApiImpl;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.STREAMING_LIST_DECODING_ENABLED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+class KubernetesApiImplTest {
+
+  private static final String NS = "namespace";
+  private static final int NUM_BENCHMARK_PODS = 5000;
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Request> requests = new ArrayList<>();
+  private final ApiClient apiClient = new ApiClient();
+  private final KubernetesApiImpl<V1Pod, V1PodList> podApi
+      = new KubernetesApiImpl<>(V1Pod.class, V1PodList.class, "", "v1", "pods", apiClient);
+  private int responseCode = 200;
+  private byte[] responseBody = "{}".getBytes(StandardCharsets.UTF_8);
+
+  private Response respond(Request request) {
+    requests.add(request);
+    return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1)
+        .code(responseCode).message("")
+        .body(ResponseBody.create(responseBody, JSON))
+        .build();
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+
+    apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> respond(chain.request())).build());
+    apiClient.setBasePath("http://localhost");
+    TuningParametersStub.setParameter(STREAMING_LIST_DECODING_ENABLED, "true");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void defineListResponse(Object list) {
+    responseBody = apiClient.getJSON().serialize(list).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private Request getLastRequest() {
+    return requests.get(requests.size() - 1);
+  }
+
+  @Test
+  void whenStreamingEnabled_namespacedListRequestsCoreApiPath() {
+    podApi.list(NS, new ListOptions());
+
+    assertThat(getLastRequest().url().encodedPath(), equalTo("/api/v1/namespaces/namespace/pods"));
+  }
+
+  @Test
+  void whenStreamingEnabled_clusterListRequestsPathWithoutNamespace() {
+    podApi.list(new ListOptions());
+
+    assertThat(getLastRequest().url().encodedPath(), equalTo("/api/v1/pods"));
+  }
+
+  @Test
+  void whenStreamingEnabled_customResourceListRequestsGroupPath() {
+    new KubernetesApiImpl<>(DomainResource.class, DomainList.class, "weblogic.oracle", "v9", "domains", apiClient)
+        .list(NS, new ListOptions());
+
+    assertThat(getLastRequest().url().encodedPath(),
+        equalTo("/apis/weblogic.oracle/v9/namespaces/namespace/domains"));
+  }
+
+  @Test
+  void whenStreamingEnabled_listRequestIncludesListOptions() {
+    ListOptions options = new ListOptions();
+    options.setLabelSelector("weblogic.domainUID=uid1");
+    options.setFieldSelector("status.phase=Running");
+    options.setLimit(500);
+    options.setContinue("token");
+
+    podApi.list(NS, options);
+
+    assertThat(getLastRequest().url().queryParameter("labelSelector"), equalTo("weblogic.domainUID=uid1"));
+    assertThat(getLastRequest().url().queryParameter("fieldSelector"), equalTo("status.phase=Running"));
+    assertThat(getLastRequest().url().queryParameter("limit"), equalTo("500"));
+    assertThat(getLastRequest().url().queryParameter("continue"), equalTo("token"));
+    assertThat(getLastRequest().url().queryParameter("resourceVersion"), nullValue());
+  }
+
+  @Test
+  void whenStreamingEnabled_listRequestAcceptsJson() {
+    podApi.list(NS, new ListOptions());
+
+    assertThat(getLastRequest().header("Accept"), equalTo("application/json"));
+  }
+
+  @Test
+  void whenStreamingEnabledForPartialMetadataList_requestAcceptsPartialObjectMetadataList() {
+    ListOptions options = new ListOptions();
+    options.setPartialObjectMetadataListRequest(true);
+
+    podApi.list(NS, options);
+
+    assertThat(getLastRequest().header("Accept"),
+        equalTo("application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json"));
+  }
+
+  @Test
+  void whenStreamingEnabled_decodeListFromResponse() {
+    V1PodList podList = createPodList(3);
+    defineListResponse(podList);
+
+    assertThat(podApi.list(NS, new ListOptions()).getObject(), equalTo(podList));
+  }
+
+  @Test
+  void whenStreamingEnabledAndRequestFails_returnStatusFromResponse() {
+    responseCode = 403;
+    defineListResponse(new V1Status().code(403).reason("Forbidden").message("pods is forbidden"));
+
+    KubernetesApiResponse<V1PodList> response = podApi.list(NS, new ListOptions());
+
+    assertThat(response.getHttpStatusCode(), equalTo(403));
+    assertThat(response.getStatus().getMessage(), equalTo("pods is forbidden"));
+  }
+
+  @Test
+  void streamingAndTreeDecodingProduceSameList() {
+    V1PodList podList = createPodList(NUM_BENCHMARK_PODS);
+    defineListResponse(podList);
+
+    assertThat(listWithStreaming(true), equalTo(podList));
+    assertThat(listWithStreaming(false), equalTo(podList));
+  }
+
+  @Test
+  void streamingDecodingOfLargePodListAllocatesLessThanTreeDecoding() {
+    defineListResponse(createPodList(NUM_BENCHMARK_PODS));
+    listWithStreaming(true);
+    listWithStreaming(false);
+
+    long streamingBytes = getBytesAllocatedBy(() -> listWithStreaming(true));
+    long treeBytes = getBytesAllocatedBy(() -> listWithStreaming(false));
+
+    assertThat(streamingBytes, lessThan(treeBytes));
+  }
+
+  private V1PodList listWithStreaming(boolean enabled) {
+    TuningParametersStub.setParameter(STREAMING_LIST_DECODING_ENABLED, Boolean.toString(enabled));
+    return podApi.list(NS, new ListOptions()).getObject();
+  }
+
+  // Measures allocation rather than time, so that the comparison does not depend on the speed of the build machine.
+  private long getBytesAllocatedBy(Supplier<V1PodList> listCall) {
+    ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().threadId();
+    long before = threadBean.getThreadAllocatedBytes(threadId);
+    listCall.get();
+    return threadBean.getThreadAllocatedBytes(threadId) - before;
+  }
+
+  private V1PodList createPodList(int numPods) {
+    V1PodList list = new V1PodList().apiVersion("v1").kind("PodList")
+        .metadata(new V1ListMeta().resourceVersion("1234"));
+    for (int i = 0; i < numPods; i++) {
+      list.addItemsItem(createPod("server" + i));
+    }
+    return list;
+  }
+
+  private V1Pod createPod(String name) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name(name).namespace(NS).resourceVersion("1234")
+            .putLabelsItem("weblogic.domainUID", "uid1")
+            .putLabelsItem("weblogic.serverName", name)
+            .putAnnotationsItem("weblogic.sha256", "0123456789abcdef0123456789abcdef"))
+        .spec(new V1PodSpec().nodeName("node1")
+            .addContainersItem(new V1Container().name("weblogic-server").image("container-registry/weblogic:14.1")))
+        .status(new V1PodStatus().phase("Running").podIP("10.0.0.1")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))
+            .addContainerStatusesItem(new V1ContainerStatus().name("weblogic-server").ready(true).restartCount(0)));
+  }
+}
@@ -0,0 +1,279 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.meterware.simplestub.Memento;
+import com.sun.management.ThreadMXBean;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import oracle.kubernetes.operator.calls.KubernetesApiFactory.KubernetesApiImpl;
+import oracle.kubernetes.operator.calls.WatchApiFactory.WatchApiImpl;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.STREAMING_LIST_DECODING_ENABLED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Verifies the requests made for metadata-only lists and watches, and compares their cost with that of
+ * complete lists in a large namespace.
+ */
+class MetadataOnlyRequestsTest {
+
+  private static final String NS = "namespace";
+  private static final int NUM_PODS_IN_LARGE_NAMESPACE = 5000;
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Request> requests = new ArrayList<>();
+  private final List<V1Pod> pods = new ArrayList<>();
+  private final ApiClient apiClient = new ApiClient();
+  private final KubernetesApiImpl<V1Pod, V1PodList> podApi
+      = new KubernetesApiImpl<>(V1Pod.class, V1PodList.class, "", "v1", "pods", apiClient);
+  private final WatchApiImpl<V1Pod, V1PodList> podWatchApi
+      = new WatchApiImpl<>(V1Pod.class, V1PodList.class, "", "v1", "pods", apiClient);
+  private long bytesSent;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+
+    apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> respond(chain.request())).build());
+    apiClient.setBasePath("http://localhost");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  // Simulates the API server, which returns only the metadata of each object when asked for partial object metadata.
+  private Response respond(Request request) {
+    requests.add(request);
+    final byte[] body = createResponseBody(request).getBytes(StandardCharsets.UTF_8);
+    bytesSent += body.length;
+    return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("")
+        .body(ResponseBody.create(body, JSON))
+        .build();
+  }
+
+  private String createResponseBody(Request request) {
+    final boolean metadataOnly = String.valueOf(request.header("Accept")).contains("as=PartialObjectMetadata");
+    if ("true".equals(request.url().queryParameter("watch"))) {
+      return createWatchEvents(metadataOnly);
+    } else {
+      return toJson(createList(metadataOnly));
+    }
+  }
+
+  private String createWatchEvents(boolean metadataOnly) {
+    final StringBuilder events = new StringBuilder();
+    for (V1Pod pod : pods) {
+      final JsonObject event = new JsonObject();
+      event.addProperty("type", "ADDED");
+      event.add("object", metadataOnly ? toPartialObjectMetadata(pod) : toJsonTree(pod));
+      events.append(toJson(event)).append('\n');
+    }
+    return events.toString();
+  }
+
+  private JsonElement createList(boolean metadataOnly) {
+    if (!metadataOnly) {
+      return toJsonTree(new V1PodList().apiVersion("v1").kind("PodList")
+          .metadata(new V1ListMeta().resourceVersion("1234")).items(pods));
+    }
+
+    final JsonArray items = new JsonArray();
+    pods.forEach(pod -> items.add(toPartialObjectMetadata(pod)));
+    final JsonObject list = new JsonObject();
+    list.addProperty("apiVersion", "meta.k8s.io/v1");
+    list.addProperty("kind", "PartialObjectMetadataList");
+    list.add("metadata", toJsonTree(new V1ListMeta().resourceVersion("1234")));
+    list.add("items", items);
+    return list;
+  }
+
+  private JsonObject toPartialObjectMetadata(V1Pod pod) {
+    final JsonObject object = new JsonObject();
+    object.addProperty("apiVersion", "meta.k8s.io/v1");
+    object.addProperty("kind", "PartialObjectMetadata");
+    object.add("metadata", toJsonTree(pod.getMetadata()));
+    return object;
+  }
+
+  private JsonElement toJsonTree(Object object) {
+    return apiClient.getJSON().getGson().toJsonTree(object);
+  }
+
+  private String toJson(JsonElement element) {
+    return apiClient.getJSON().getGson().toJson(element);
+  }
+
+  private Request getLastRequest() {
+    return requests.get(requests.size() - 1);
+  }
+
+  private ListOptions metadataOnly() {
+    return new ListOptions().isPartialObjectMetadataListRequest(true);
+  }
+
+  @Test
+  void metadataOnlyList_requestsPartialObjectMetadataList() {
+    podApi.list(NS, metadataOnly());
+
+    assertThat(getLastRequest().header("Accept"), containsString("as=PartialObjectMetadataList"));
+  }
+
+  @Test
+  void whenStreamingEnabled_metadataOnlyList_requestsPartialObjectMetadataList() {
+    TuningParametersStub.setParameter(STREAMING_LIST_DECODING_ENABLED, "true");
+
+    podApi.list(NS, metadataOnly());
+
+    assertThat(getLastRequest().header("Accept"), containsString("as=PartialObjectMetadataList"));
+  }
+
+  @Test
+  void metadataOnlyList_returnsItemsWithOnlyMetadata() {
+    definePods(2);
+
+    final V1PodList list = podApi.list(NS, metadataOnly()).getObject();
+
+    assertThat(list.getItems().get(1).getMetadata(), equalTo(pods.get(1).getMetadata()));
+    assertThat(list.getItems().get(1).getSpec(), nullValue());
+    assertThat(list.getItems().get(1).getStatus(), nullValue());
+  }
+
+  @Test
+  @SuppressWarnings("try")
+  void metadataOnlyWatch_requestsPartialObjectMetadata() throws Exception {
+    try (Watchable<V1Pod> ignored = podWatchApi.watch(NS, metadataOnly().labelSelector("weblogic.domainUID"))) {
+      assertThat(getLastRequest().url().encodedPath(), equalTo("/api/v1/namespaces/namespace/pods"));
+      assertThat(getLastRequest().url().queryParameter("watch"), equalTo("true"));
+      assertThat(getLastRequest().url().queryParameter("labelSelector"), equalTo("weblogic.domainUID"));
+      assertThat(getLastRequest().header("Accept"),
+          equalTo("application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json"));
+    }
+  }
+
+  @Test
+  @SuppressWarnings("try")
+  void watch_doesNotRequestPartialObjectMetadata() throws Exception {
+    try (Watchable<V1Pod> ignored = podWatchApi.watch(NS, new ListOptions())) {
+      assertThat(String.valueOf(getLastRequest().header("Accept")), not(containsString("PartialObjectMetadata")));
+    }
+  }
+
+  @Test
+  void metadataOnlyWatch_returnsObjectsWithOnlyMetadata() throws Exception {
+    definePods(2);
+
+    final List<Watch.Response<V1Pod>> events = new ArrayList<>();
+    try (Watchable<V1Pod> watch = podWatchApi.watch(NS, metadataOnly())) {
+      watch.forEach(events::add);
+    }
+
+    assertThat(events.get(1).type, equalTo("ADDED"));
+    assertThat(events.get(1).object.getMetadata(), equalTo(pods.get(1).getMetadata()));
+    assertThat(events.get(1).object.getSpec(), nullValue());
+  }
+
+  @Test
+  void inLargeNamespace_metadataOnlyListTransfersLessThanHalfOfCompleteList() {
+    definePods(NUM_PODS_IN_LARGE_NAMESPACE);
+
+    final long completeListBytes = getBytesSentFor(() -> podApi.list(NS, new ListOptions()).getObject());
+    final long metadataListBytes = getBytesSentFor(() -> podApi.list(NS, metadataOnly()).getObject());
+
+    assertThat(metadataListBytes * 2, lessThan(completeListBytes));
+  }
+
+  @Test
+  void inLargeNamespace_metadataOnlyListAllocatesLessThanHalfOfCompleteList() {
+    definePods(NUM_PODS_IN_LARGE_NAMESPACE);
+    podApi.list(NS, new ListOptions());
+    podApi.list(NS, metadataOnly());
+
+    final long completeListBytes = getBytesAllocatedBy(() -> podApi.list(NS, new ListOptions()).getObject());
+    final long metadataListBytes = getBytesAllocatedBy(() -> podApi.list(NS, metadataOnly()).getObject());
+
+    assertThat(metadataListBytes * 2, lessThan(completeListBytes));
+  }
+
+  private long getBytesSentFor(Supplier<V1PodList> listCall) {
+    final long before = bytesSent;
+    listCall.get();
+    return bytesSent - before;
+  }
+
+  // The allocation includes that of the simulated server, which makes the comparison conservative, since the
+  // server's work grows with the number of objects listed, not with their size.
+  private long getBytesAllocatedBy(Supplier<V1PodList> listCall) {
+    final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long threadId = Thread.currentThread().threadId();
+    final long before = threadBean.getThreadAllocatedBytes(threadId);
+    listCall.get();
+    return threadBean.getThreadAllocatedBytes(threadId) - before;
+  }
+
+  private void definePods(int numPods) {
+    for (int i = 0; i < numPods; i++) {
+      pods.add(createPod("server" + i));
+    }
+  }
+
+  private V1Pod createPod(String name) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name(name).namespace(NS).resourceVersion("1234")
+            .putLabelsItem("weblogic.domainUID", "uid1")
+            .putLabelsItem("weblogic.serverName", name)
+            .putLabelsItem("weblogic.createdByOperator", "true")
+            .putAnnotationsItem("weblogic.sha256", "0123456789abcdef0123456789abcdef"))
+        .spec(new V1PodSpec().nodeName("node1")
+            .addContainersItem(new V1Container().name("weblogic-server").image("container-registry/weblogic:14.1")
+                .addCommandItem("/weblogic-operator/scripts/startServer.sh")
+                .addEnvItem(new V1EnvVar().name("DOMAIN_NAME").value("domain1"))
+                .addEnvItem(new V1EnvVar().name("DOMAIN_HOME").value("/u01/oracle/user_projects/domains/domain1"))
+                .addEnvItem(new V1EnvVar().name("SERVER_NAME").value(name))
+                .addEnvItem(new V1EnvVar().name("SERVICE_NAME").value("domain1-" + name))
+                .addEnvItem(new V1EnvVar().name("JAVA_OPTIONS").value("-Dweblogic.StdoutDebugEnabled=false"))))
+        .status(new V1PodStatus().phase("Running").podIP("10.0.0.1")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))
+            .addContainerStatusesItem(new V1ContainerStatus().name("weblogic-server").ready(true).restartCount(0)));
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -10,6 +10,7 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionVersion;
 import oracle.kubernetes.operator.KubernetesConstants;
@@ -51,6 +52,7 @@ class ClusterCrdTest {
             .withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(fileSystem.install());
+    mementos.add(StaticStubSupport.install(CrdHelper.class, "schemaFiles", null));
     mementos.add(TuningParametersStub.install());
   }
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -13,8 +13,11 @@ import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.WatchGaps;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
@@ -32,7 +35,9 @@ import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_N
 import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -136,6 +141,78 @@ class ConfigMapHelperTest {
     assertThat(logRecords, containsInfo(CM_REPLACED));
   }
 
+  @Test
+  void whenScriptsLoadedTwice_returnEqualButSeparateMaps() {
+    Map<String, String> first = ConfigMapHelper.loadScriptsFromClasspath(DOMAIN_NS);
+    Map<String, String> second = ConfigMapHelper.loadScriptsFromClasspath(DOMAIN_NS);
+
+    assertThat(second, equalTo(first));
+    assertThat(second, not(sameInstance(first)));
+  }
+
+  @Test
+  void whenWatchedConfigMapIsCurrent_dontReadIt() {
+    testSupport.defineResources(defaultConfigMap);
+    receivedWatchEvent("ADDED", defaultConfigMap);
+    testSupport.failOnRead(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME, DOMAIN_NS, 500);
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsFine(CM_EXISTS));
+    assertThat(packet, hasEntry(SCRIPT_CONFIG_MAP, defaultConfigMap));
+  }
+
+  @Test
+  void whenReadSkipped_incrementSkippedReadCounter() {
+    final double initialCount = getSkippedScriptReads();
+    testSupport.defineResources(defaultConfigMap);
+    receivedWatchEvent("ADDED", defaultConfigMap);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsFine(CM_EXISTS));
+    assertThat(getSkippedScriptReads(), equalTo(initialCount + 1));
+  }
+
+  @Test
+  void whenWatchedConfigMapHasOldVersion_replaceIt() {
+    final V1ConfigMap oldConfigMap = defineConfigMap(PRODUCT_VERSION_OLD);
+    testSupport.defineResources(oldConfigMap);
+    receivedWatchEvent("ADDED", oldConfigMap);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsInfo(CM_REPLACED));
+  }
+
+  @Test
+  void whenWatchedConfigMapDeleted_createIt() {
+    receivedWatchEvent("ADDED", defaultConfigMap);
+    receivedWatchEvent("DELETED", defaultConfigMap);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsInfo(CM_CREATED));
+  }
+
+  @Test
+  void whenWatchedConfigMapDeletedDuringWatchGap_createIt() {
+    receivedWatchEvent("ADDED", defaultConfigMap);
+    WatchGaps.getInstance().reportGap(DOMAIN_NS);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsInfo(CM_CREATED));
+  }
+
+  private void receivedWatchEvent(String type, V1ConfigMap configMap) {
+    OperatorConfigMapCache.getInstance().receivedResponse(new Watch.Response<>(type, configMap));
+  }
+
+  private double getSkippedScriptReads() {
+    return OperatorMetrics.CONFIG_MAP_READS_SKIPPED.labels(OperatorConfigMapCache.SCRIPTS).get();
+  }
+
   @Test
   void whenExistingConfigMapHasFutureVersion_dontReplaceIt() {
     assertDoesNotThrow(() -> {
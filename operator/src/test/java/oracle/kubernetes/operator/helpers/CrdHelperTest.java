@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -14,6 +14,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1CustomResourceConversion;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionVersion;
@@ -78,6 +79,7 @@ class CrdHelperTest extends CrdHelperTestBase {
             .withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(fileSystem.install());
+    mementos.add(StaticStubSupport.install(CrdHelper.class, "schemaFiles", null));
     mementos.add(InMemoryCertificates.install(fileSystem));
     mementos.add(TuningParametersStub.install());
     mementos.add(UnitTestHash.install());
@@ -539,6 +541,26 @@ class CrdHelperTest extends CrdHelperTestBase {
     assertThat(getPropertiesType(crd, "status", "maximumReplicas"), equalTo("integer"));
   }
 
+  @Test
+  void whenDomainCrdModelCreatedTwice_generatedSchemasAreEqual() {
+    V1CustomResourceDefinition first = defineDomainCrd();
+    V1CustomResourceDefinition second = defineDomainCrd();
+
+    assertThat(getOpenApiV3Schema(second), equalTo(getOpenApiV3Schema(first)));
+    assertThat(AnnotationHelper.getHash(second), equalTo(AnnotationHelper.getHash(first)));
+  }
+
+  @Test
+  void whenDomainCrdModelSchemaChanged_laterModelsAreUnaffected() {
+    getOpenApiV3Schema(defineDomainCrd()).description("changed");
+
+    assertThat(getOpenApiV3Schema(defineDomainCrd()).getDescription(), not(equalTo("changed")));
+  }
+
+  private V1JSONSchemaProps getOpenApiV3Schema(V1CustomResourceDefinition crd) {
+    return crd.getSpec().getVersions().get(0).getSchema().getOpenAPIV3Schema();
+  }
+
   private V1CustomResourceDefinition defineDomainCrd() {
     return new CrdHelper.DomainCrdContext().createModel(PRODUCT_VERSION, getCertificates());
   }
@@ -0,0 +1,100 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_CRD_NAME;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class CrdVersionCacheTest {
+
+  private final CrdVersionCache cache = new CrdVersionCache();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(NoopWatcherStarter.install());
+    mementos.add(TuningParametersStub.install());
+    cache.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    cache.stop();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void beforeCrdVerified_itIsNotUnchanged() {
+    assertThat(cache.isUnchanged(DOMAIN_CRD_NAME), is(false));
+  }
+
+  @Test
+  void afterCrdVerified_itIsUnchanged() {
+    cache.recordVerified(createCrd("12"));
+
+    assertThat(cache.isUnchanged(DOMAIN_CRD_NAME), is(true));
+    assertThat(cache.getResourceVersion(DOMAIN_CRD_NAME), equalTo("12"));
+  }
+
+  @Test
+  void whenCacheNotStarted_verifiedCrdIsNotTracked() {
+    cache.stop();
+
+    cache.recordVerified(createCrd("12"));
+
+    assertThat(cache.isUnchanged(DOMAIN_CRD_NAME), is(false));
+    assertThat(cache.getResourceVersion(DOMAIN_CRD_NAME), nullValue());
+  }
+
+  @Test
+  void whenWatchReportsNewVersion_crdIsChanged() {
+    cache.recordVerified(createCrd("12"));
+
+    cache.receivedResponse(new Watch.Response<>("MODIFIED", createCrd("13")));
+
+    assertThat(cache.isUnchanged(DOMAIN_CRD_NAME), is(false));
+    assertThat(cache.getResourceVersion(DOMAIN_CRD_NAME), equalTo("13"));
+  }
+
+  @Test
+  void whenChangedCrdVerifiedAgain_itIsUnchanged() {
+    cache.recordVerified(createCrd("12"));
+    cache.receivedResponse(new Watch.Response<>("MODIFIED", createCrd("13")));
+
+    cache.recordVerified(createCrd("13"));
+
+    assertThat(cache.isUnchanged(DOMAIN_CRD_NAME), is(true));
+  }
+
+  @Test
+  void whenCrdDeleted_itIsNotUnchanged() {
+    cache.recordVerified(createCrd("12"));
+
+    cache.receivedResponse(new Watch.Response<>("DELETED", createCrd("12")));
+
+    assertThat(cache.isUnchanged(DOMAIN_CRD_NAME), is(false));
+    assertThat(cache.getResourceVersion(DOMAIN_CRD_NAME), nullValue());
+  }
+
+  private V1CustomResourceDefinition createCrd(String resourceVersion) {
+    return new V1CustomResourceDefinition()
+        .metadata(new V1ObjectMeta().name(DOMAIN_CRD_NAME).resourceVersion(resourceVersion));
+  }
+}
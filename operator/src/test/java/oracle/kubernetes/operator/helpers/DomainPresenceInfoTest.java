@@ -1,14 +1,22 @@
-// Copyright (c) 2019, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import com.meterware.simplestub.Stub;
+import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
@@ -29,6 +37,7 @@ import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_IMAGE;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -38,7 +47,10 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DomainPresenceInfoTest {
 
@@ -104,6 +116,28 @@ class DomainPresenceInfoTest {
     assertThat(info.getServerService("admin"), nullValue());
   }
 
+  @Test
+  void whenServerPodSet_runRegisteredActionOnce() {
+    final AtomicInteger numRuns = new AtomicInteger();
+    info.onServerPodChange(info.getServerPodChangeCount(), numRuns::incrementAndGet);
+
+    info.setServerPod("ms1", new V1Pod());
+    info.setServerPod("ms2", new V1Pod());
+
+    assertThat(numRuns.get(), equalTo(1));
+  }
+
+  @Test
+  void whenServerPodSetBeforeActionRegistered_runActionAtOnce() {
+    final AtomicInteger numRuns = new AtomicInteger();
+    final long changeCount = info.getServerPodChangeCount();
+    info.setServerPod("ms1", new V1Pod());
+
+    info.onServerPodChange(changeCount, numRuns::incrementAndGet);
+
+    assertThat(numRuns.get(), equalTo(1));
+  }
+
   @Test
   void whenNoServersDefined_getServerStartupInfoReturnsNull() {
     assertThat(info.getServerStartupInfo(), nullValue());
@@ -202,8 +236,8 @@ class DomainPresenceInfoTest {
     setReady(info.getServerPod(serverName));
   }
 
-  private void setReady(V1Pod pod) {
-    pod.status(new V1PodStatus()
+  private V1Pod setReady(V1Pod pod) {
+    return pod.status(new V1PodStatus()
           .phase("Running")
           .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
 
@@ -228,8 +262,97 @@ class DomainPresenceInfoTest {
     setScheduled(info.getServerPod(serverName));
   }
 
-  private void setScheduled(V1Pod pod) {
-    pod.spec(new V1PodSpec().nodeName("aNode"));
+  private V1Pod setScheduled(V1Pod pod) {
+    return pod.spec(new V1PodSpec().nodeName("aNode"));
+  }
+
+  @Test
+  void countActiveServers() {
+    addServer("MS1", "cluster1");
+    addReadyServer("MS2", "cluster1");
+    addServer("MS3", "cluster2");
+    addServer("MS4", null);
+
+    assertThat(info.getNumActiveServers("cluster1"), equalTo(3L));
+    assertThat(info.getNumActiveServers("cluster2"), equalTo(2L));
+    assertThat(info.getNumActiveServers(null), equalTo(1L));
+    assertThat(info.getNumActiveServers(), equalTo(4L));
+  }
+
+  @Test
+  void countManagedServersExcludingAdminServer() {
+    info.setServerPod("admin", setReady(setScheduled(createServerPod("admin", null, "1"))));
+    addReadyServer("MS1", "cluster1");
+    addScheduledServer("MS2", "cluster1");
+
+    assertThat(info.getNumReadyManagedServers("cluster1", "admin"), equalTo(1L));
+    assertThat(info.getNumScheduledManagedServers("cluster1", "admin"), equalTo(1L));
+  }
+
+  @Test
+  void afterCountedPodChangedInPlaceAndSetAgain_countsIncludeChange() {
+    addServer("MS1", "cluster1");
+    info.getNumReadyServers("cluster1");
+
+    info.setServerPod("MS1", setReady(info.getServerPod("MS1")));
+
+    assertThat(info.getNumReadyServers("cluster1"), equalTo(1L));
+  }
+
+  @Test
+  void afterPodsReplacedByEventsAndDeleted_countsMatchServerPods() {
+    addServer("MS1", "cluster1");
+    addServer("MS2", "cluster1");
+    addServer("MS3", "cluster2");
+    addServer("MS4", null);
+
+    info.setServerPodFromEvent("MS1", setReady(setScheduled(createServerPod("MS1", "cluster1", "2"))));
+    info.setServerPodFromEvent("MS2", setScheduled(createServerPod("MS2", "cluster1", "2")), p -> true);
+    info.setServerPodFromEvent("MS3", setReady(setScheduled(createServerPod("MS3", "cluster2", "2"))));
+    info.setServerPodFromEvent("MS3", createServerPod("MS3", "cluster2", "1"));
+    info.setServerPodFromEvent("MS4", setReady(createServerPod("MS4", null, "2")));
+    info.deleteServerPodFromEvent("MS2", createServerPod("MS2", "cluster1", "3"));
+    final V1Pod deletingPod = setReady(setScheduled(createServerPod("MS5", "cluster2", "1")));
+    deletingPod.getMetadata().deletionTimestamp(OffsetDateTime.now());
+    info.setServerPod("MS5", deletingPod);
+    info.setServerPod("MS1", null);
+
+    assertCountsMatchServerPods("cluster1", "cluster2", null);
+  }
+
+  private V1Pod createServerPod(String serverName, String clusterName, String resourceVersion) {
+    final V1Pod pod = createServerInCluster(serverName, clusterName);
+    pod.getMetadata().resourceVersion(resourceVersion).putLabelsItem(SERVERNAME_LABEL, serverName);
+    return pod;
+  }
+
+  private void assertCountsMatchServerPods(String... clusterNames) {
+    for (String clusterName : clusterNames) {
+      assertThat(info.getNumActiveServers(clusterName), equalTo(countPods(clusterName, p -> true)));
+      assertThat(info.getNumScheduledServers(clusterName), equalTo(countPods(clusterName, this::isScheduledPod)));
+      assertThat(info.getNumReadyServers(clusterName), equalTo(countPods(clusterName, this::isReadyPod)));
+    }
+    assertThat(info.getNumActiveServers(), equalTo(info.getServerPods().count()));
+  }
+
+  private long countPods(String clusterName, Predicate<V1Pod> criteria) {
+    return info.getServerPods()
+          .filter(p -> isInClusterOrNone(p, clusterName))
+          .filter(criteria)
+          .count();
+  }
+
+  private boolean isInClusterOrNone(V1Pod pod, String clusterName) {
+    final String podClusterName = PodHelper.getPodClusterName(pod);
+    return podClusterName == null || podClusterName.equals(clusterName);
+  }
+
+  private boolean isScheduledPod(V1Pod pod) {
+    return !PodHelper.isDeleting(pod) && PodHelper.isScheduled(pod);
+  }
+
+  private boolean isReadyPod(V1Pod pod) {
+    return !PodHelper.isDeleting(pod) && PodHelper.hasReadyServer(pod);
   }
 
   @Test
@@ -358,4 +481,101 @@ class DomainPresenceInfoTest {
     assertThat(labels.get(labelKey), equalTo(labelValue));
   }
 
+  @Test
+  void whenServerSpecRequestedAgain_returnSameSpec() {
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(domainPresenceInfo, CLUSTER_1);
+
+    assertThat(domainPresenceInfo.getServer("ms1", CLUSTER_1),
+        sameInstance(domainPresenceInfo.getServer("ms1", CLUSTER_1)));
+  }
+
+  @Test
+  void whenClusterSpecRequestedAgain_returnSameSpec() {
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(domainPresenceInfo, CLUSTER_1);
+
+    assertThat(domainPresenceInfo.getCluster(CLUSTER_1), sameInstance(domainPresenceInfo.getCluster(CLUSTER_1)));
+  }
+
+  @Test
+  void forDomainWithManyServers_computeEachServerSpecOnce() {
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(domainPresenceInfo, CLUSTER_1);
+    final Set<EffectiveServerSpec> specs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    for (int i = 0; i < 10; i++) {
+      IntStream.rangeClosed(1, 200).forEach(n -> specs.add(domainPresenceInfo.getServer("ms" + n, CLUSTER_1)));
+    }
+
+    assertThat(specs, hasSize(200));
+  }
+
+  @Test
+  void afterDomainReplaced_computeNewServerSpec() {
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    final EffectiveServerSpec spec = domainPresenceInfo.getServer("ms1", null);
+
+    domainPresenceInfo.setDomain(createDomain(NAMESPACE, DOMAIN_UID));
+
+    assertThat(domainPresenceInfo.getServer("ms1", null), not(sameInstance(spec)));
+  }
+
+  @Test
+  void afterDomainGenerationChanged_computeNewServerSpec() {
+    final DomainResource domain = createDomain(NAMESPACE, DOMAIN_UID);
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(domain);
+    final EffectiveServerSpec spec = domainPresenceInfo.getServer("ms1", null);
+
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(domainPresenceInfo.getServer("ms1", null), not(sameInstance(spec)));
+  }
+
+  @Test
+  void afterDomainResourceVersionChanged_computeNewServerSpec() {
+    final DomainResource domain = createDomain(NAMESPACE, DOMAIN_UID);
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(domain);
+    final EffectiveServerSpec spec = domainPresenceInfo.getServer("ms1", null);
+
+    domain.getMetadata().setResourceVersion("2");
+
+    assertThat(domainPresenceInfo.getServer("ms1", null), not(sameInstance(spec)));
+  }
+
+  @Test
+  void afterClusterResourceReplaced_computeNewServerAndClusterSpecs() {
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(domainPresenceInfo, CLUSTER_1);
+    final EffectiveServerSpec serverSpec = domainPresenceInfo.getServer("ms1", CLUSTER_1);
+    final EffectiveClusterSpec clusterSpec = domainPresenceInfo.getCluster(CLUSTER_1);
+
+    createAndAddClusterResourceToDomainPresenceInfo(domainPresenceInfo, CLUSTER_1);
+
+    assertThat(domainPresenceInfo.getServer("ms1", CLUSTER_1), not(sameInstance(serverSpec)));
+    assertThat(domainPresenceInfo.getCluster(CLUSTER_1), not(sameInstance(clusterSpec)));
+  }
+
+  @Test
+  void afterClusterGenerationChanged_serverSpecUsesNewReplicaCount() {
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    createAndAddClusterResourceToDomainPresenceInfo(domainPresenceInfo, CLUSTER_1);
+    domainPresenceInfo.getClusterResource(CLUSTER_1).getSpec().setReplicas(1);
+    domainPresenceInfo.getServer("ms2", CLUSTER_1);
+
+    domainPresenceInfo.getClusterResource(CLUSTER_1).getSpec().setReplicas(2);
+    domainPresenceInfo.getClusterResource(CLUSTER_1).getMetadata().setGeneration(2L);
+
+    assertThat(domainPresenceInfo.getServer("ms2", CLUSTER_1).shouldStart(1), Is.is(true));
+  }
+
+  @Test
+  void effectiveServerSpecCollectionsMayNotBeChanged() {
+    final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+    final EffectiveServerSpec spec = domainPresenceInfo.getServer("ms1", null);
+
+    assertThrows(UnsupportedOperationException.class, () -> spec.getPodLabels().put("name", "value"));
+    assertThrows(UnsupportedOperationException.class, () -> spec.getEnvironmentVariables().add(new V1EnvVar()));
+  }
+
 }
@@ -0,0 +1,111 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.helpers.DomainSpecSnapshot.Change.NONE;
+import static oracle.kubernetes.operator.helpers.DomainSpecSnapshot.Change.OTHER;
+import static oracle.kubernetes.operator.helpers.DomainSpecSnapshot.Change.REPLICAS_ONLY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class DomainSpecSnapshotTest {
+
+  private static final String CLUSTER = "cluster-1";
+  private static final String CLUSTER2 = "cluster-2";
+
+  private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final ClusterResource cluster = new ClusterResource()
+      .withMetadata(new V1ObjectMeta().namespace(NS).name(CLUSTER))
+      .spec(new ClusterSpec().withClusterName(CLUSTER).withReplicas(2));
+
+  @BeforeEach
+  void setUp() {
+    domain.getSpec().getClusters().add(new V1LocalObjectReference().name(CLUSTER));
+    info.addClusterResource(cluster);
+  }
+
+  @Test
+  void whenSpecsUnchanged_reportNoChange() {
+    final DomainSpecSnapshot previous = DomainSpecSnapshot.create(info);
+
+    assertThat(DomainSpecSnapshot.create(info).getChangeFrom(previous), equalTo(NONE));
+  }
+
+  @Test
+  void whenClusterReplicasChanged_reportReplicasOnly() {
+    final DomainSpecSnapshot previous = DomainSpecSnapshot.create(info);
+
+    cluster.getSpec().setReplicas(4);
+
+    assertThat(DomainSpecSnapshot.create(info).getChangeFrom(previous), equalTo(REPLICAS_ONLY));
+  }
+
+  @Test
+  void whenDomainReplicasChanged_reportReplicasOnly() {
+    final DomainSpecSnapshot previous = DomainSpecSnapshot.create(info);
+
+    domain.getSpec().setReplicas(3);
+
+    assertThat(DomainSpecSnapshot.create(info).getChangeFrom(previous), equalTo(REPLICAS_ONLY));
+  }
+
+  @Test
+  void whenClusterReplicasChanged_reportOnlyThatCluster() {
+    final DomainSpecSnapshot previous = DomainSpecSnapshot.create(info);
+
+    cluster.getSpec().setReplicas(4);
+
+    assertThat(DomainSpecSnapshot.create(info).getClustersWithChangedReplicas(previous, List.of(CLUSTER, CLUSTER2)),
+        contains(CLUSTER));
+  }
+
+  @Test
+  void whenDomainReplicasChanged_reportClustersWithoutTheirOwnReplicas() {
+    final DomainSpecSnapshot previous = DomainSpecSnapshot.create(info);
+
+    domain.getSpec().setReplicas(3);
+
+    assertThat(DomainSpecSnapshot.create(info).getClustersWithChangedReplicas(previous, List.of(CLUSTER, CLUSTER2)),
+        contains(CLUSTER2));
+  }
+
+  @Test
+  void whenReplicasAndOtherFieldsChanged_reportOther() {
+    final DomainSpecSnapshot previous = DomainSpecSnapshot.create(info);
+
+    cluster.getSpec().setReplicas(4);
+    domain.getSpec().setRestartVersion("2");
+
+    assertThat(DomainSpecSnapshot.create(info).getChangeFrom(previous), equalTo(OTHER));
+  }
+
+  @Test
+  void whenClusterNoLongerReferenced_reportOther() {
+    final DomainSpecSnapshot previous = DomainSpecSnapshot.create(info);
+
+    domain.getSpec().getClusters().clear();
+
+    assertThat(DomainSpecSnapshot.create(info).getChangeFrom(previous), equalTo(OTHER));
+  }
+
+  @Test
+  void whenInfoHasNoDomain_dontCreateSnapshot() {
+    assertThat(DomainSpecSnapshot.create(new DomainPresenceInfo(NS, "no-domain")), nullValue());
+  }
+}
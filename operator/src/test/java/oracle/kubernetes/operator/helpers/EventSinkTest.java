@@ -0,0 +1,200 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.DomainNamespaces;
+import oracle.kubernetes.operator.DomainProcessorDelegateStub;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.EventHelper.EventData;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static oracle.kubernetes.common.logging.MessageKeys.EVENTS_DROPPED;
+import static oracle.kubernetes.common.utils.LogMatcher.containsWarning;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.EventConstants.DOMAIN_CHANGED_EVENT;
+import static oracle.kubernetes.operator.EventConstants.DOMAIN_ROLL_STARTING_EVENT;
+import static oracle.kubernetes.operator.EventConstants.NAMESPACE_WATCHING_STARTED_EVENT;
+import static oracle.kubernetes.operator.EventTestUtils.containsOneEventWithCount;
+import static oracle.kubernetes.operator.EventTestUtils.getEvents;
+import static oracle.kubernetes.operator.EventTestUtils.getNumberOfEvents;
+import static oracle.kubernetes.operator.NamespaceTest.createDomainNamespaces;
+import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CHANGED;
+import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_ROLL_STARTING;
+import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE_WATCHING_STARTED;
+import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENTS_PER_REASON_PER_MINUTE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_AGGREGATION_INTERVAL_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class EventSinkTest {
+
+  private static final int INTERVAL = 2;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainNamespaces domainNamespaces = createDomainNamespaces();
+  private final DomainProcessorDelegateStub delegate =
+      DomainProcessorDelegateStub.createDelegate(testSupport, domainNamespaces);
+  private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final Map<String, Map<String, KubernetesEventObjects>> domainEventObjects = new ConcurrentHashMap<>();
+  private final Map<String, KubernetesEventObjects> nsEventObjects = new ConcurrentHashMap<>();
+  private final Collection<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento loggerControl;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(loggerControl = TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domainEventK8SObjects", domainEventObjects));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", nsEventObjects));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(HelmAccessStub.install());
+
+    TuningParametersStub.setParameter(EVENT_AGGREGATION_INTERVAL_SECONDS, Integer.toString(INTERVAL));
+    testSupport.addDomainPresenceInfo(info);
+    testSupport.defineResources(domain);
+    EventSink.getInstance().start(delegate);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    EventSink.getInstance().stop();
+    mementos.forEach(Memento::revert);
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  void whenEventReported_dontCreateItUntilFlushed() {
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    assertThat(getNumberOfEvents(getEvents(testSupport), DOMAIN_CHANGED_EVENT), equalTo(0));
+
+    testSupport.setTime(INTERVAL, SECONDS);
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport), DOMAIN_CHANGED_EVENT, 1), is(true));
+  }
+
+  @Test
+  void whenEventRepeatedWithinInterval_createItOnceWithCombinedCount() {
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    testSupport.setTime(INTERVAL, SECONDS);
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport), DOMAIN_CHANGED_EVENT, 3), is(true));
+  }
+
+  @Test
+  void whenCreatedEventRepeatedInLaterIntervals_replaceItWithCombinedCount() {
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    testSupport.setTime(INTERVAL, SECONDS);
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    testSupport.setTime(2 * INTERVAL, SECONDS);
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport), DOMAIN_CHANGED_EVENT, 3), is(true));
+  }
+
+  @Test
+  void whenNamespaceWatchingStartedEventReported_createItImmediately() {
+    testSupport.runSteps(createEventStep(domainNamespaces,
+        new EventData(NAMESPACE_WATCHING_STARTED).namespace(NS).resourceName(NS), null));
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport), NAMESPACE_WATCHING_STARTED_EVENT, 1), is(true));
+  }
+
+  @Test
+  void whenNewEventsExceedRateLimitForReason_dropExcessEvents() {
+    defineRateLimit(2);
+
+    reportRollStartingEvents("a", "b", "c");
+    testSupport.setTime(INTERVAL, SECONDS);
+
+    assertThat(getNumberOfEvents(getEvents(testSupport), DOMAIN_ROLL_STARTING_EVENT), equalTo(2));
+  }
+
+  @Test
+  void whenNewEventsDropped_logWarning() {
+    loggerControl.collectLogMessages(logRecords, EVENTS_DROPPED);
+    defineRateLimit(2);
+
+    reportRollStartingEvents("a", "b", "c");
+    testSupport.setTime(INTERVAL, SECONDS);
+
+    assertThat(logRecords, containsWarning(EVENTS_DROPPED).withParams(1, DOMAIN_ROLL_STARTING_EVENT));
+  }
+
+  @Test
+  void whenRateLimitExceeded_stillCountRepeatsOfPendingEvents() {
+    defineRateLimit(1);
+
+    reportRollStartingEvents("a", "a", "b");
+    testSupport.setTime(INTERVAL, SECONDS);
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport), DOMAIN_ROLL_STARTING_EVENT, 2), is(true));
+  }
+
+  @Test
+  void afterRateLimitRefills_createNewEvents() {
+    defineRateLimit(1);
+    reportRollStartingEvents("a", "b");
+    testSupport.setTime(60, SECONDS);
+
+    reportRollStartingEvents("c");
+    testSupport.setTime(60 + INTERVAL, SECONDS);
+
+    assertThat(getNumberOfEvents(getEvents(testSupport), DOMAIN_ROLL_STARTING_EVENT), equalTo(2));
+  }
+
+  @Test
+  void whenSinkStopped_writePendingEvents() {
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    EventSink.getInstance().stop();
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport), DOMAIN_CHANGED_EVENT, 1), is(true));
+  }
+
+  @Test
+  void afterSinkStopped_createEventsImmediately() {
+    EventSink.getInstance().stop();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    assertThat(containsOneEventWithCount(getEvents(testSupport), DOMAIN_CHANGED_EVENT, 1), is(true));
+  }
+
+  private void defineRateLimit(int eventsPerMinute) {
+    TuningParametersStub.setParameter(EVENTS_PER_REASON_PER_MINUTE, Integer.toString(eventsPerMinute));
+  }
+
+  private void reportRollStartingEvents(String... reasons) {
+    for (String reason : reasons) {
+      testSupport.runSteps(createEventStep(new EventData(DOMAIN_ROLL_STARTING).message(reason)));
+    }
+  }
+}
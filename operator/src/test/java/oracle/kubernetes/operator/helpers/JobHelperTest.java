@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -46,11 +46,13 @@ import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Toleration;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.common.utils.CommonUtils;
 import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.ServerStartPolicy;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
@@ -115,6 +117,7 @@ import static oracle.kubernetes.operator.helpers.PodHelperTestBase.createSecurit
 import static oracle.kubernetes.operator.helpers.PodHelperTestBase.createToleration;
 import static oracle.kubernetes.operator.helpers.PodSecurityHelper.getDefaultContainerSecurityContext;
 import static oracle.kubernetes.operator.helpers.PodSecurityHelper.getDefaultPodSecurityContext;
+import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIGMAP_NAME_SUFFIX;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIGMAP_VOLUME;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIGMAP_NAME_SUFFIX;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIGMAP_VOLUME;
@@ -592,6 +595,42 @@ class JobHelperTest extends DomainValidationTestBase {
     assertThat(logRecords, containsInfo(FLUENTD_CONFIGMAP_REPLACED));
   }
 
+  @Test
+  void whenWatchedFluentdConfigmapIsCurrent_dontReadIt() {
+    configureDomain().withFluentdConfiguration(false, "dummy-cred",
+          "<match>me</match>", null, null);
+    V1ConfigMap configMap = FluentdHelper.getFluentdConfigMap(domainPresenceInfo);
+    testSupport.defineResources(configMap);
+    OperatorConfigMapCache.getInstance().receivedResponse(new Watch.Response<>("ADDED", configMap));
+    testSupport.failOnRead(CONFIG_MAP, UID + FLUENTD_CONFIGMAP_NAME_SUFFIX, domainPresenceInfo.getNamespace(), 500);
+
+    final double initialCount = getSkippedReads(OperatorConfigMapCache.FLUENTD);
+
+    testSupport.runSteps(ConfigMapHelper.createOrReplaceFluentdConfigMapStep());
+
+    assertThat(getSkippedReads(OperatorConfigMapCache.FLUENTD), equalTo(initialCount + 1));
+  }
+
+  @Test
+  void whenWatchedFluentbitConfigmapIsCurrent_dontReadIt() {
+    configureDomain().withFluentbitConfiguration(false, "dummy-cred",
+          "[OUTPUT]", "[PARSER]", null, null);
+    V1ConfigMap configMap = FluentbitHelper.getFluentbitConfigMap(domainPresenceInfo);
+    testSupport.defineResources(configMap);
+    OperatorConfigMapCache.getInstance().receivedResponse(new Watch.Response<>("ADDED", configMap));
+    testSupport.failOnRead(CONFIG_MAP, UID + FLUENTBIT_CONFIGMAP_NAME_SUFFIX, domainPresenceInfo.getNamespace(), 500);
+
+    final double initialCount = getSkippedReads(OperatorConfigMapCache.FLUENTBIT);
+
+    testSupport.runSteps(ConfigMapHelper.createOrReplaceFluentbitConfigMapStep());
+
+    assertThat(getSkippedReads(OperatorConfigMapCache.FLUENTBIT), equalTo(initialCount + 1));
+  }
+
+  private double getSkippedReads(String configMap) {
+    return OperatorMetrics.CONFIG_MAP_READS_SKIPPED.labels(configMap).get();
+  }
+
   private static final String EMPTY_DATA_HOME = "";
 
   @Test
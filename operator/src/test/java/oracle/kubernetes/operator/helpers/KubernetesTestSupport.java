@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -16,7 +16,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -41,6 +43,8 @@ import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
@@ -77,12 +81,17 @@ import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonStructure;
+import oracle.kubernetes.operator.MakeRightDebouncer;
+import oracle.kubernetes.operator.MakeRightScheduler;
+import oracle.kubernetes.operator.StartupPermits;
+import oracle.kubernetes.operator.StuckPodTracker;
 import oracle.kubernetes.operator.calls.KubernetesApi;
 import oracle.kubernetes.operator.calls.KubernetesApiFactory;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.calls.RetryStrategy;
 import oracle.kubernetes.operator.calls.RetryStrategyFactory;
+import oracle.kubernetes.operator.watcher.WatchGaps;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
@@ -103,6 +112,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -128,6 +138,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private final Map<String, DataRepository<? extends KubernetesType>> repositories = new HashMap<>();
   private final Map<Class<?>, String> dataTypes = new HashMap<>();
   private Failure failure;
+  private RandomFailures randomFailures;
+  private int numInjectedFailures;
+  private long callLatencyMillis;
   private AfterCallAction afterCallAction;
   private long resourceVersion;
   private int numCalls;
@@ -157,6 +170,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, DomainResource.class, this::createDomainList).withStatusSubresource();
     supportNamespaced(EVENT, CoreV1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class, this::createLeaseList);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, RequestBuilder.StringObject.class);
     supportNamespaced(PODDISRUPTIONBUDGET, V1PodDisruptionBudget.class, this::createPodDisruptionBudgetList);
@@ -173,6 +187,16 @@ public class KubernetesTestSupport extends FiberTestSupport {
                 RequestBuilder.class, "kubernetesApiFactory", new KubernetesApiFactoryImpl()));
         mementos.add(StaticStubSupport.install(
                 ResponseStep.class, "retryStrategyFactory", new RetryStrategyFactoryImpl()));
+        mementos.add(StaticStubSupport.install(Step.class, "forkJoinExecutor", (Executor) Runnable::run));
+        mementos.add(StaticStubSupport.install(
+                OperatorConfigMapCache.class, "instance", new OperatorConfigMapCache()));
+        mementos.add(StaticStubSupport.install(CrdVersionCache.class, "instance", new CrdVersionCache()));
+        mementos.add(StaticStubSupport.install(EventSink.class, "instance", new EventSink()));
+        mementos.add(StaticStubSupport.install(MakeRightScheduler.class, "instance", new MakeRightScheduler()));
+        mementos.add(StaticStubSupport.install(MakeRightDebouncer.class, "instance", new MakeRightDebouncer()));
+        mementos.add(StaticStubSupport.install(StartupPermits.class, "instance", new StartupPermits()));
+        mementos.add(StaticStubSupport.install(StuckPodTracker.class, "instance", new StuckPodTracker()));
+        mementos.add(StaticStubSupport.install(WatchGaps.class, "instance", new WatchGaps()));
       }
 
       @Override
@@ -252,6 +276,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new V1ServiceList().metadata(createListMeta()).items(items);
   }
 
+  private V1LeaseList createLeaseList(List<V1Lease> items) {
+    return new V1LeaseList().metadata(createListMeta()).items(items);
+  }
+
   private V1PodDisruptionBudgetList createPodDisruptionBudgetList(List<V1PodDisruptionBudget> items) {
     return new V1PodDisruptionBudgetList().metadata(createListMeta()).items(items);
   }
@@ -373,6 +401,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  /**
+   * Returns true if resources of the specified class may be defined.
+   * @param resourceClass the class of the resources
+   */
+  public boolean isSupported(Class<?> resourceClass) {
+    return dataTypes.containsKey(resourceClass);
+  }
+
   public void definePodLog(String name, String namespace, Object contents) {
     repositories.get(PODLOG).createResourceInNamespace(name, namespace,
             new RequestBuilder.StringObject(contents.toString()));
@@ -538,6 +574,33 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = null;
   }
 
+  /**
+   * Specifies that a fraction of all calls, chosen at random, should fail with the specified HTTP status.
+   *
+   * @param probability the probability that any one call fails
+   * @param httpStatus the status with which the chosen calls fail
+   * @param random the source of the choices; seed it to make a run repeatable
+   */
+  public void failRandomly(double probability, int httpStatus, Random random) {
+    randomFailures = new RandomFailures(probability, httpStatus, random);
+  }
+
+  /**
+   * Returns the number of calls failed by {@link #failRandomly(double, int, Random)}.
+   */
+  public int getNumInjectedFailures() {
+    return numInjectedFailures;
+  }
+
+  /**
+   * Delays each call by the specified time, in real time, to simulate the latency of a remote API server.
+   *
+   * @param callLatencyMillis the delay, in milliseconds
+   */
+  public void setCallLatency(long callLatencyMillis) {
+    this.callLatencyMillis = callLatencyMillis;
+  }
+
   /**
    * Specifies that status replacement operation should respond with a null result if it matches the specified
    * conditions. Applies to domain resources.
@@ -710,6 +773,18 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  record RandomFailures(double probability, int httpStatus, Random random) {
+
+    boolean occurs() {
+      return random.nextDouble() < probability;
+    }
+
+    <D extends KubernetesType> KubernetesApiResponse<D> getResponse() {
+      return new KubernetesApiResponse<>(
+            new V1Status().code(httpStatus).message("failure injected in test"), httpStatus);
+    }
+  }
+
   static class EmptyResponse {
     private final String resourceType;
     private final String name;
@@ -785,6 +860,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
           return new CallContext<L>(
               Operation.list, getResourceName(apiTypeClass), null, null, null, null,
               listOptions.getFieldSelector(), listOptions.getLabelSelector(), null)
+              .withMetadataOnly(listOptions.isPartialObjectMetadataListRequest())
               .execute();
         }
 
@@ -793,6 +869,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
           return new CallContext<L>(
               Operation.list, getResourceName(apiTypeClass), namespace, null, null, null,
               listOptions.getFieldSelector(), listOptions.getLabelSelector(), null)
+              .withMetadataOnly(listOptions.isPartialObjectMetadataListRequest())
               .execute();
         }
 
@@ -1278,13 +1355,22 @@ public class KubernetesTestSupport extends FiberTestSupport {
       super(resourceType);
     }
 
+    private T definedResponse;
+
+    @Override
+    void createResourceInNamespace(T resource) {
+      definedResponse = resource;
+      data.put(NAME, resource);
+    }
+
     @Override
     T createResource(String namespace, T resource) {
-      T existing = data.putIfAbsent(NAME, resource);
-      if (existing != null) {
-        return existing;
+      if (definedResponse != null) {
+        return definedResponse;
       }
 
+      // every review is a separate request, so each one is answered and the latest kept
+      data.put(NAME, resource);
       onCreateActions.forEach(a -> a.accept(resource));
       return resource;
     }
@@ -1378,6 +1464,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     private Operation operation;
     private V1Patch patch;
     private String cont = null;
+    private boolean metadataOnly;
 
     CallContext(Operation operation, String resourceType, String namespace, String name) {
       this(operation, resourceType, namespace, name, null, null, null, null, null);
@@ -1409,6 +1496,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
       this.cont = cont;
     }
 
+    // Simulates a partial object metadata list request, for which the listed items hold only their metadata.
+    CallContext<D> withMetadataOnly(Boolean metadataOnly) {
+      this.metadataOnly = Boolean.TRUE.equals(metadataOnly);
+      return this;
+    }
+
     public String getContinue() {
       return cont;
     }
@@ -1431,7 +1524,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
           }
         }
 
+        if (randomFailures != null && randomFailures.occurs()) {
+          numInjectedFailures++;
+          return randomFailures.getResponse();
+        }
+
         numCalls++;
+        simulateLatency();
         return operation.execute(this, selectRepository(resourceType));
       } finally {
         if (afterCallAction != null && afterCallAction.matches(resourceType, operation.name())) {
@@ -1441,6 +1540,16 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
     }
 
+    private void simulateLatency() {
+      if (callLatencyMillis > 0) {
+        try {
+          Thread.sleep(callLatencyMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
     @SuppressWarnings("unchecked")
     <T extends KubernetesType> KubernetesApiResponse<T> createResource(DataRepository<T> dataRepository) {
       try {
@@ -1500,8 +1609,37 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
     private <T extends KubernetesType> KubernetesApiResponse<T> listResources(Integer limit, String cont,
                                                                               DataRepository<T> dataRepository) {
-      return new KubernetesApiResponse<>(
-          dataRepository.listResources(requestNamespace, limit, cont, fieldSelector, labelSelector));
+      final T list = dataRepository.listResources(requestNamespace, limit, cont, fieldSelector, labelSelector);
+      return new KubernetesApiResponse<>(metadataOnly ? withMetadataOnlyItems(list) : list);
+    }
+
+    private <T extends KubernetesType> T copyMetadata(T resource) {
+      try {
+        final T metadataOnly = createInstance(resource);
+        resource.getClass().getMethod("setMetadata", V1ObjectMeta.class)
+            .invoke(metadataOnly, ((KubernetesObject) resource).getMetadata());
+        return metadataOnly;
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T createInstance(T resource)
+        throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+      return (T) resource.getClass().getConstructor().newInstance();
+    }
+
+    private <T extends KubernetesType> T withMetadataOnlyItems(T list) {
+      final List<? extends KubernetesObject> items = ((KubernetesListObject) list).getItems().stream()
+          .map(this::copyMetadata)
+          .toList();
+      try {
+        list.getClass().getMethod("setItems", List.class).invoke(list, new ArrayList<>(items));
+        return list;
+      } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+        throw new RuntimeException(e);
+      }
     }
 
     private <T extends KubernetesType> KubernetesApiResponse<T> readResource(DataRepository<T> dataRepository) {
@@ -1512,17 +1650,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
     }
 
-    @SuppressWarnings("unchecked")
     private <T extends KubernetesType> KubernetesApiResponse<T> readMetadata(DataRepository<T> dataRepository) {
-      final T resource = dataRepository.readResource(requestName, requestNamespace);
-      try {
-        final T metadataOnly = (T) resource.getClass().getConstructor().newInstance();
-        resource.getClass().getMethod("setMetadata", V1ObjectMeta.class)
-            .invoke(metadataOnly, ((KubernetesObject) resource).getMetadata());
-        return new KubernetesApiResponse<>(metadataOnly);
-      } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-        throw new RuntimeException(e);
-      }
+      return new KubernetesApiResponse<>(copyMetadata(dataRepository.readResource(requestName, requestNamespace)));
     }
 
     public <T extends KubernetesType> KubernetesApiResponse<T> deleteCollection(DataRepository<T> dataRepository) {
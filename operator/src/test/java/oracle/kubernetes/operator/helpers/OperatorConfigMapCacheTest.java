@@ -0,0 +1,214 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.watcher.WatchGaps;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
+import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTD_CONFIGMAP_NAME_SUFFIX;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class OperatorConfigMapCacheTest {
+
+  private static final String NS = "namespace";
+  private static final String FLUENTD_MAP_NAME = "domain1" + FLUENTD_CONFIGMAP_NAME_SUFFIX;
+
+  private final OperatorConfigMapCache cache = new OperatorConfigMapCache();
+  private final WatchGaps watchGaps = new WatchGaps();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(WatchGaps.class, "instance", watchGaps));
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenOperatorMapListed_cacheIt() {
+    final V1ConfigMap scripts = createOperatorMap(SCRIPT_CONFIG_MAP_NAME);
+
+    cache.receivedListPage(NS, createList(null, scripts));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), notNullValue());
+  }
+
+  @Test
+  void whenMapCached_recordItsContentHashAndLabels() {
+    final V1ConfigMap scripts = createOperatorMap(SCRIPT_CONFIG_MAP_NAME, "hash1");
+
+    cache.receivedListPage(NS, createList(null, scripts));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME).contentHash(), equalTo("hash1"));
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME).labels(),
+        hasEntry(LabelConstants.CREATEDBYOPERATOR_LABEL, "true"));
+  }
+
+  @Test
+  void whenMapCached_recognizeItsDataByHash() {
+    final V1ConfigMap fluentd = createOperatorMap(FLUENTD_MAP_NAME).putDataItem("fluentd.conf", "<match>me</match>");
+
+    cache.receivedResponse(new Watch.Response<>("ADDED", fluentd));
+
+    assertThat(cache.get(NS, FLUENTD_MAP_NAME).hasData("fluentd.conf", "<match>me</match>"), is(true));
+    assertThat(cache.get(NS, FLUENTD_MAP_NAME).hasData("fluentd.conf", "<match>you</match>"), is(false));
+  }
+
+  @Test
+  void whenMapCached_dontRetainItsData() {
+    final V1ConfigMap fluentd = createOperatorMap(FLUENTD_MAP_NAME).putDataItem("fluentd.conf", "<match>me</match>");
+
+    cache.receivedResponse(new Watch.Response<>("ADDED", fluentd));
+
+    assertThat(cache.get(NS, FLUENTD_MAP_NAME).dataHashes().get("fluentd.conf"), not(equalTo("<match>me</match>")));
+  }
+
+  @Test
+  void whenMapNotCreatedByOperator_dontCacheIt() {
+    cache.receivedListPage(NS, createList(null, createMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), nullValue());
+  }
+
+  @Test
+  void whenMapIsNotMaintainedByOperatorSteps_dontCacheIt() {
+    cache.receivedListPage(NS, createList(null, createOperatorMap("domain1-weblogic-domain-introspect-cm")));
+
+    assertThat(cache.get(NS, "domain1-weblogic-domain-introspect-cm"), nullValue());
+  }
+
+  @Test
+  void whilePagedListIncomplete_keepPreviouslyCachedMaps() {
+    cache.receivedResponse(new Watch.Response<>("ADDED", createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    cache.receivedListPage(NS, createList("more", createOperatorMap(FLUENTD_MAP_NAME)));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), notNullValue());
+    assertThat(cache.get(NS, FLUENTD_MAP_NAME), nullValue());
+  }
+
+  @Test
+  void whenPagedListComplete_replaceCachedMaps() {
+    cache.receivedResponse(new Watch.Response<>("ADDED", createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    cache.receivedListPage(NS, createList("more", createOperatorMap(FLUENTD_MAP_NAME)));
+    cache.receivedListPage(NS, createList(null));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), nullValue());
+    assertThat(cache.get(NS, FLUENTD_MAP_NAME), notNullValue());
+  }
+
+  @Test
+  void whenMapModifiedWhilePagedListIncomplete_keepModifiedMap() {
+    final V1ConfigMap modified = createOperatorMap(SCRIPT_CONFIG_MAP_NAME, "modified");
+
+    cache.receivedListPage(NS, createList("more"));
+    cache.receivedResponse(new Watch.Response<>("MODIFIED", modified));
+    cache.receivedListPage(NS, createList(null, createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME).contentHash(), equalTo("modified"));
+  }
+
+  @Test
+  void whenMapDeletedWhilePagedListIncomplete_dontRestoreListedMap() {
+    final V1ConfigMap scripts = createOperatorMap(SCRIPT_CONFIG_MAP_NAME);
+
+    cache.receivedListPage(NS, createList("more", scripts));
+    cache.receivedResponse(new Watch.Response<>("DELETED", scripts));
+    cache.receivedListPage(NS, createList(null));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), nullValue());
+  }
+
+  @Test
+  void whenWatchGapReportedAfterMapRecorded_dontReturnIt() {
+    cache.receivedResponse(new Watch.Response<>("ADDED", createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    SystemClockTestSupport.increment();
+    watchGaps.reportGap(NS);
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), nullValue());
+  }
+
+  @Test
+  void whenMapRecordedAfterWatchGap_returnIt() {
+    watchGaps.reportGap(NS);
+
+    SystemClockTestSupport.increment();
+    cache.receivedListPage(NS, createList(null, createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), notNullValue());
+  }
+
+  @Test
+  void whenWatchGapReportedInOtherNamespace_returnMap() {
+    cache.receivedResponse(new Watch.Response<>("ADDED", createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    SystemClockTestSupport.increment();
+    watchGaps.reportGap("other");
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), notNullValue());
+  }
+
+  @Test
+  void whenOperatorLabelRemoved_dropMap() {
+    cache.receivedResponse(new Watch.Response<>("ADDED", createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    cache.receivedResponse(new Watch.Response<>("MODIFIED", createMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), nullValue());
+  }
+
+  @Test
+  void whenNamespaceRemoved_dropItsMaps() {
+    cache.receivedResponse(new Watch.Response<>("ADDED", createOperatorMap(SCRIPT_CONFIG_MAP_NAME)));
+
+    cache.removeNamespace(NS);
+
+    assertThat(cache.get(NS, SCRIPT_CONFIG_MAP_NAME), nullValue());
+  }
+
+  private V1ConfigMapList createList(String continueToken, V1ConfigMap... maps) {
+    return new V1ConfigMapList().metadata(new V1ListMeta()._continue(continueToken)).items(List.of(maps));
+  }
+
+  private V1ConfigMap createOperatorMap(String name, String contentHash) {
+    return AnnotationHelper.withSha256HashValue(createOperatorMap(name), contentHash);
+  }
+
+  private V1ConfigMap createOperatorMap(String name) {
+    final V1ConfigMap map = createMap(name);
+    map.getMetadata().putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
+    return map;
+  }
+
+  private V1ConfigMap createMap(String name) {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().namespace(NS).name(name));
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -2053,7 +2053,10 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
   }
 
   private V1Pod createPodModel() {
-    return createPod(testSupport.getPacket());
+    final V1Pod pod = createPod(testSupport.getPacket());
+    // tests change the domain after defining the existing pod, as though the domain resource had been replaced
+    domainPresenceInfo.setDomain(domain);
+    return pod;
   }
 
   @Test
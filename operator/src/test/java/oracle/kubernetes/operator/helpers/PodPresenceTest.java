@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableMap;
@@ -40,6 +41,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.KubernetesConstants.EVICTED_REASON;
@@ -52,6 +54,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SUSPENDING_STATE;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_MAKE_RIGHT_DEBOUNCE_MILLIS;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.equalTo;
@@ -68,6 +71,7 @@ class PodPresenceTest {
   private static final String POD_NAME = SERVER;
   private static final String RESOURCE_VERSION = "1233489";
   private static final String ADMIN_SERVER_NAME = "admin";
+  private static final long DELETION_GRACE_PERIOD_SECONDS = 5L;
   private final DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
   private final List<Memento> mementos = new ArrayList<>();
   private final Map<String, Map<String, DomainPresenceInfo>> domains = new HashMap<>();
@@ -433,6 +437,7 @@ class PodPresenceTest {
     Watch.Response<V1Pod> event = WatchEvent.createDeletedEvent(newerPod).toWatchResponse();
 
     processor.dispatchPodWatch(event);
+    testSupport.setTime(DEFAULT_MAKE_RIGHT_DEBOUNCE_MILLIS, MILLISECONDS);
 
     assertThat(info.getServerPod(SERVER), notNullValue());
   }
@@ -455,6 +460,42 @@ class PodPresenceTest {
     assertThat(createdPodNames, not(hasItem(SERVER)));
   }
 
+  @Test
+  void onModifyEventWithDeletingServerPod_whenPodRemainsAfterGracePeriod_forceDeleteIt() {
+    V1Pod deletingPod = withDeletionTimestamp(createServerPod());
+    testSupport.defineResources(deletingPod);
+    Watch.Response<V1Pod> event = WatchEvent.createModifiedEvent(deletingPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(testSupport.getResourceWithName(POD, getPodName(deletingPod)), nullValue());
+  }
+
+  @Test
+  void onDeleteEventAfterModifyEventWithDeletingServerPod_dontForceDeleteIt() {
+    V1Pod deletingPod = withDeletionTimestamp(createServerPod());
+    testSupport.defineResources(deletingPod);
+
+    processor.dispatchPodWatch(WatchEvent.createModifiedEvent(deletingPod).toWatchResponse());
+    testSupport.deleteResources(deletingPod);
+    processor.dispatchPodWatch(WatchEvent.createDeletedEvent(deletingPod).toWatchResponse());
+    testSupport.doOnDelete(POD, this::recordPodDeletion);
+    testSupport.setTime(DELETION_GRACE_PERIOD_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(numPodsDeleted, is(0));
+  }
+
+  private String getPodName(V1Pod pod) {
+    return pod.getMetadata().getName();
+  }
+
+  @SuppressWarnings("ConstantConditions")
+  private V1Pod withDeletionTimestamp(V1Pod pod) {
+    pod.getMetadata().deletionTimestamp(SystemClock.now()).deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS);
+    return pod;
+  }
+
   private void recordPodCreation(V1Pod pod, List<String> createdPodNames) {
     Optional.of(pod)
         .map(V1Pod::getMetadata)
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -10,13 +10,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -39,12 +44,16 @@ import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_ROLL_START;
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_POD_REPLACED;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInOrder;
@@ -58,8 +67,17 @@ import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_ROLL_START_EVENT_GENERATED;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_TO_ROLL;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.tuning.TuningParameters.ROLLING_SURGE_SERVERS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.WATCH_BACKSTOP_RECHECK_DELAY_SECONDS;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.ROLLING;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 
@@ -74,11 +92,20 @@ class RollingHelperTest {
   private static final String SERVER10_NAME = "ess_server10";
   private static final List<String> CLUSTERED_SERVER_NAMES = Arrays.asList(SERVER10_NAME, SERVER1_NAME, SERVER2_NAME);
   private static final String NONCLUSTERED_SERVER = "non_clustered";
+  private static final String OTHER_CLUSTER_NAME = "other-cluster";
+  private static final String OTHER_SERVER1_NAME = "other_server1";
+  private static final List<String> OTHER_CLUSTER_SERVER_NAMES
+      = Arrays.asList(OTHER_SERVER1_NAME, "other_server2", "other_server3");
+  private static final long READINESS_DELAY_MILLIS = 20;
+  private static final int RECHECK_SECONDS = 5;
+  private static final int MAX_ROLL_PASSES = 10;
 
   private final DomainResource domain = createTestDomain();
   private final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(domain);
   private final TerminalStep terminalStep = new TerminalStep();
   private final Map<String, StepAndPacket> rolling = new HashMap<>();
+  private final Set<String> serversAwaitingRoll = ConcurrentHashMap.newKeySet();
+  private final List<Boolean> readinessWhenPodsCreated = new CopyOnWriteArrayList<>();
 
   protected final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   protected final List<Memento> mementos = new ArrayList<>();
@@ -96,6 +123,7 @@ class RollingHelperTest {
             .withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, Integer.toString(RECHECK_SECONDS));
     mementos.add(UnitTestHash.install());
 
     WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(UID);
@@ -103,6 +131,8 @@ class RollingHelperTest {
     configSupport.setAdminServerName(ADMIN_SERVER);
     CLUSTERED_SERVER_NAMES.forEach(s -> configSupport.addWlsServer(s, LISTEN_PORT));
     configSupport.addWlsCluster(CLUSTER_NAME, SERVER10_NAME, SERVER1_NAME, SERVER2_NAME);
+    OTHER_CLUSTER_SERVER_NAMES.forEach(s -> configSupport.addWlsServer(s, LISTEN_PORT));
+    configSupport.addWlsCluster(OTHER_CLUSTER_NAME, OTHER_CLUSTER_SERVER_NAMES.toArray(new String[0]));
 
     testSupport.defineResources(domain);
     domainTopology = configSupport.createDomainConfig();
@@ -158,8 +188,8 @@ class RollingHelperTest {
   private StepAndPacket createRollingStepAndPacket(V1Pod serverPod, String serverName) {
     Packet packet = testSupport.getPacket().copy();
     Optional.ofNullable(serverName)
-          .filter(this::isClustered)
-          .ifPresent(s -> packet.put(ProcessingConstants.CLUSTER_NAME, CLUSTER_NAME));
+          .map(this::getClusterName)
+          .ifPresent(c -> packet.put(ProcessingConstants.CLUSTER_NAME, c));
     testSupport.addToPacket(ProcessingConstants.CLUSTER_NAME, CLUSTER_NAME);
     packet.put(ProcessingConstants.SERVER_NAME, serverName);
 
@@ -167,8 +197,14 @@ class RollingHelperTest {
     return new StepAndPacket(createCyclePodStep(serverPod, packet), packet);
   }
 
-  boolean isClustered(String serverName) {
-    return CLUSTERED_SERVER_NAMES.contains(serverName);
+  private String getClusterName(String serverName) {
+    if (CLUSTERED_SERVER_NAMES.contains(serverName)) {
+      return CLUSTER_NAME;
+    } else if (OTHER_CLUSTER_SERVER_NAMES.contains(serverName)) {
+      return OTHER_CLUSTER_NAME;
+    } else {
+      return null;
+    }
   }
 
   private Step createCyclePodStep(V1Pod serverPod, Packet packet) {
@@ -276,6 +312,202 @@ class RollingHelperTest {
           .addConditionsItem(new V1PodCondition().type("Ready").status("False")));
   }
 
+  @Test
+  void whenClusterHasNoReadyServerToSpare_waitForServerToBecomeReadyBeforeReplacingPods() {
+    consoleHandlerMemento.ignoreMessage(MANAGED_POD_REPLACED);
+    initializeExistingPods();
+    final V1Pod notReadyPod = domainPresenceInfo.getServerPod(SERVER10_NAME);
+    setPodNotReady(notReadyPod);
+    List.of(SERVER1_NAME, SERVER2_NAME).forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+    configureDomain().configureCluster(domainPresenceInfo, CLUSTER_NAME).withReplicas(3);
+    testSupport.doOnCreate(KubernetesTestSupport.POD, p -> recordReadinessOf(SERVER10_NAME, (V1Pod) p));
+    testSupport.schedule(() -> markReady(SERVER10_NAME, notReadyPod), READINESS_DELAY_MILLIS, MILLISECONDS);
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+    testSupport.setTime(READINESS_DELAY_MILLIS, MILLISECONDS);
+
+    assertThat(readinessWhenPodsCreated, contains(true, true));
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenClusterHasNoReadyServerToSpare_suspendRollUntilServerPodChanges() {
+    consoleHandlerMemento.ignoreMessage(MANAGED_POD_REPLACED);
+    initializeExistingPods();
+    final V1Pod notReadyPod = domainPresenceInfo.getServerPod(SERVER10_NAME);
+    setPodNotReady(notReadyPod);
+    List.of(SERVER1_NAME, SERVER2_NAME).forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+    configureDomain().configureCluster(domainPresenceInfo, CLUSTER_NAME).withReplicas(3);
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(getPods(), hasSize(3));
+    assertThat(terminalStep.wasRun(), is(false));
+    assertThat(testSupport.hasItemScheduledAt(RECHECK_SECONDS, SECONDS), is(true));
+  }
+
+  @Test
+  void whenClusterWaitsForReadyServerLongerThanBackstopDelay_requeueMakeRight() {
+    consoleHandlerMemento.ignoreMessage(MANAGED_POD_REPLACED);
+    initializeExistingPods();
+    setPodNotReady(domainPresenceInfo.getServerPod(SERVER10_NAME));
+    List.of(SERVER1_NAME, SERVER2_NAME).forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+    configureDomain().configureCluster(domainPresenceInfo, CLUSTER_NAME).withReplicas(3);
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+    testSupport.setTime(RECHECK_SECONDS, SECONDS);
+
+    assertThat(terminalStep.wasRun(), is(false));
+    assertThat(testSupport.hasItemScheduledAt(2 * RECHECK_SECONDS, SECONDS), is(true));
+  }
+
+  private void recordReadinessOf(String serverName, V1Pod createdPod) {
+    readinessWhenPodsCreated.add(PodHelper.isReady(domainPresenceInfo.getServerPod(serverName)));
+    setPodReady(createdPod);
+  }
+
+  @Test
+  void whenOneClusterWaitsForReadyServers_rollOtherClusterMeanwhile() throws Exception {
+    consoleHandlerMemento.trackMessage(MANAGED_POD_REPLACED);
+    initializeExistingPods();
+    OTHER_CLUSTER_SERVER_NAMES.forEach(this::initializeExistingPod);
+    final V1Pod notReadyPod = domainPresenceInfo.getServerPod(SERVER10_NAME);
+    setPodNotReady(notReadyPod);
+    List.of(SERVER1_NAME, SERVER2_NAME, OTHER_SERVER1_NAME).forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+    configureDomain().configureCluster(domainPresenceInfo, CLUSTER_NAME).withReplicas(3);
+    configureDomain().configureCluster(domainPresenceInfo, OTHER_CLUSTER_NAME).withReplicas(3);
+    testSupport.doOnCreate(KubernetesTestSupport.POD, p -> readyWaitingServerAfterOtherCluster((V1Pod) p, notReadyPod));
+    runForkedStepsConcurrently();
+    final CountDownLatch rollComplete = new CountDownLatch(1);
+    testSupport.withCompletionAction(rollComplete::countDown);
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(rollComplete.await(5, SECONDS), is(true));
+
+    assertThat(logRecords, containsInOrder(
+        containsInfo(MANAGED_POD_REPLACED).withParams(OTHER_SERVER1_NAME),
+        containsInfo(MANAGED_POD_REPLACED).withParams(SERVER1_NAME)
+    ));
+    logRecords.clear();
+  }
+
+  // replaces the inline executor installed by the test support, so must be reverted first
+  private void runForkedStepsConcurrently() throws NoSuchFieldException {
+    mementos.add(0,
+        StaticStubSupport.install(Step.class, "forkJoinExecutor", Executors.newVirtualThreadPerTaskExecutor()));
+  }
+
+  // The cluster waiting for a ready server can only proceed once the other cluster has replaced a pod.
+  private void readyWaitingServerAfterOtherCluster(V1Pod createdPod, V1Pod notReadyPod) {
+    setPodReady(createdPod);
+    if (OTHER_SERVER1_NAME.equals(PodHelper.getPodServerName(createdPod))) {
+      markReady(SERVER10_NAME, notReadyPod);
+    }
+  }
+
+  @Test
+  void whenRestartedServersAreSlowToBecomeReady_completeRollOfBothClusters() {
+    startRollOfBothClusters();
+
+    runRequeuedPasses();
+
+    assertThat(serversAwaitingRoll, empty());
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  // Each replacement requeues the make-right until its pod is ready; a pass which finds no server to spare is
+  // suspended until a replacement becomes ready.
+  private void runRequeuedPasses() {
+    for (int i = 1; i <= MAX_ROLL_PASSES && !terminalStep.wasRun(); i++) {
+      testSupport.setTime((long) i * RECHECK_SECONDS, SECONDS);
+    }
+  }
+
+  @Test
+  void whenRollingWithSurge_recordSurgeForEachRollingCluster() {
+    TuningParametersStub.setParameter(ROLLING_SURGE_SERVERS, "2");
+    startRollOfBothClusters();
+
+    assertThat(domainPresenceInfo.getRollingSurge(CLUSTER_NAME), equalTo(2));
+    assertThat(domainPresenceInfo.getRollingSurge(OTHER_CLUSTER_NAME), equalTo(2));
+  }
+
+  @Test
+  void whenRollingWithSurge_requeueToStartSurgeServersBeforeRolling() {
+    TuningParametersStub.setParameter(ROLLING_SURGE_SERVERS, "2");
+    startRollOfBothClusters();
+
+    assertThat(serversAwaitingRoll, hasSize(CLUSTERED_SERVER_NAMES.size() + OTHER_CLUSTER_SERVER_NAMES.size()));
+    assertThat(testSupport.hasItemScheduledAt(RECHECK_SECONDS, SECONDS), is(true));
+  }
+
+  @Test
+  void afterSurgeRecorded_completeRoll() {
+    TuningParametersStub.setParameter(ROLLING_SURGE_SERVERS, "2");
+    startRollOfBothClusters();
+
+    runRequeuedPasses();
+
+    assertThat(serversAwaitingRoll, empty());
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whileRolling_reportRemainingServersInDomainStatus() {
+    startRollOfBothClusters();
+
+    testSupport.setTime(RECHECK_SECONDS, SECONDS);
+
+    assertThat(getRollingConditionMessage(), containsString("4"));
+  }
+
+  // Starts a roll of three servers in each of two clusters. Replacement pods only become ready some time after
+  // they are created, and each pass of the roll, like each make-right, selects the servers not yet replaced.
+  private void startRollOfBothClusters() {
+    consoleHandlerMemento.ignoreMessage(MANAGED_POD_REPLACED);
+    initializeExistingPods();
+    OTHER_CLUSTER_SERVER_NAMES.forEach(this::initializeExistingPod);
+    configureDomain().configureCluster(domainPresenceInfo, CLUSTER_NAME).withReplicas(3);
+    configureDomain().configureCluster(domainPresenceInfo, OTHER_CLUSTER_NAME).withReplicas(3);
+    serversAwaitingRoll.addAll(CLUSTERED_SERVER_NAMES);
+    serversAwaitingRoll.addAll(OTHER_CLUSTER_SERVER_NAMES);
+    testSupport.doOnCreate(KubernetesTestSupport.POD, p -> becomeReadyLater((V1Pod) p));
+
+    testSupport.runSteps(new RollPassStep());
+  }
+
+  private void becomeReadyLater(V1Pod pod) {
+    final String serverName = PodHelper.getPodServerName(pod);
+    serversAwaitingRoll.remove(serverName);
+    setPodNotReady(pod);
+    testSupport.schedule(() -> markReady(serverName, pod), READINESS_DELAY_MILLIS, MILLISECONDS);
+  }
+
+  private void markReady(String serverName, V1Pod pod) {
+    setPodStatusReady(pod);
+    domainPresenceInfo.setServerPod(serverName, pod);
+  }
+
+  private String getRollingConditionMessage() {
+    return Optional.ofNullable(testSupport.<DomainResource>getResourceWithName(DOMAIN, UID))
+          .map(DomainResource::getStatus)
+          .map(DomainStatus::getConditions).orElse(Collections.emptyList()).stream()
+          .filter(c -> c.getType() == ROLLING)
+          .map(DomainCondition::getMessage)
+          .findFirst().orElse(null);
+  }
+
+  private class RollPassStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final Map<String, StepAndPacket> toRoll = new HashMap<>();
+      serversAwaitingRoll.forEach(s -> toRoll.put(s, createRollingStepAndPacket(s)));
+      return doNext(RollingHelper.rollServers(toRoll, terminalStep), packet);
+    }
+  }
+
   @Test
   void whenRollingIsEmpty_NoManagedServerPodsAreReplaced() {
     initializeExistingPods();
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -546,6 +546,7 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
       recordStrandedService();
     }
     configurationMutator.run();
+    domainPresenceInfo.setDomain(domainPresenceInfo.getDomain());
 
     runServiceHelper();
 
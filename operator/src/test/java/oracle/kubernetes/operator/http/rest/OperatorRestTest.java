@@ -1,15 +1,18 @@
-// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
 
 import java.net.HttpURLConnection;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -22,14 +25,17 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
 import oracle.kubernetes.operator.http.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.work.Fiber;
 import org.junit.jupiter.api.Test;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.http.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.http.rest.RestTestBase.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -42,11 +48,14 @@ class OperatorRestTest extends RestTestBase {
 
   private static final String V1_SWAGGER_HREF = V1_HREF + "/swagger";
   private static final String V1_DOMAINS_HREF = V1_HREF + "/domains";
+  private static final String V1_FIBERS_HREF = V1_HREF + "/fibers";
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
+  private static final String FIBERS_HREF = LATEST_HREF + "/fibers";
+  private static final String FIBER1_HREF = FIBERS_HREF + "/fiber-1";
   private static final String ACCESS_TOKEN = "dummy token";
 
   final RestBackendStub restBackend = createStrictStub(RestBackendStub.class);
@@ -109,7 +118,7 @@ class OperatorRestTest extends RestTestBase {
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
     assertThat(result, hasJsonPath("$.lifecycle", equalTo("active")));
     assertThat(
-        result, hasJsonPath("$.links[*].href", withValues(V1_DOMAINS_HREF, V1_SWAGGER_HREF)));
+        result, hasJsonPath("$.links[*].href", withValues(V1_DOMAINS_HREF, V1_FIBERS_HREF, V1_SWAGGER_HREF)));
   }
 
   @Test
@@ -120,7 +129,7 @@ class OperatorRestTest extends RestTestBase {
     assertThat(result, hasJsonPath("$.version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
     assertThat(result, hasJsonPath("$.lifecycle", equalTo("active")));
-    assertThat(result, hasJsonPath("$.links[*].href", withValues(DOMAINS_HREF, SWAGGER_HREF)));
+    assertThat(result, hasJsonPath("$.links[*].href", withValues(DOMAINS_HREF, FIBERS_HREF, SWAGGER_HREF)));
   }
 
   @Test
@@ -272,6 +281,66 @@ class OperatorRestTest extends RestTestBase {
         sendScaleRequest("cluster1", 3).getStatus(), equalTo(HttpURLConnection.HTTP_BAD_REQUEST));
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  void fibersEndPoint_returnsProgressOfFibersAndLinks() {
+    defineFiber("makeRight/ns1", "fiber-1", "uid1");
+    defineFiber("status/ns1", "fiber-2", "uid2");
+
+    Map result = getJsonResponse(FIBERS_HREF);
+
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(FIBERS_HREF)));
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(LATEST_HREF)));
+    assertThat(result, hasJsonPath("$.items[*].fiber", withValues("fiber-1", "fiber-2")));
+    assertThat(result, hasJsonPath("$.items[?(@.fiber=='fiber-1')].gate", withValues("makeRight/ns1")));
+    assertThat(result, hasJsonPath("$.items[?(@.fiber=='fiber-1')].key", withValues("uid1")));
+    assertThat(result, hasJsonPath("$.items[?(@.fiber=='fiber-1')].currentStep", withValues("WaitForReady")));
+    assertThat(result, hasJsonPath("$.items[?(@.fiber=='fiber-1')].timeInStep", withValues("PT2M")));
+    assertThat(result, hasJsonPath("$.items[?(@.fiber=='fiber-1')].links[*].href", withValues(FIBER1_HREF)));
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  void existingFiberEndPoint_returnsFiberProgress() {
+    defineFiber("makeRight/ns1", "fiber-1", "uid1");
+
+    Map result = getJsonResponse(FIBER1_HREF);
+
+    assertThat(result, hasJsonPath("$.state", equalTo(Fiber.Snapshot.SCHEDULED)));
+    assertThat(result, hasJsonPath("$.requeueCount", equalTo(3.0)));
+    assertThat(result, hasJsonPath("$.packetKeys", contains("domainPresenceInfo", "serverName")));
+    assertThat(result, hasJsonPath("$.forkingStep", equalTo("ManagedServerUpIterator")));
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(FIBERS_HREF)));
+  }
+
+  @Test
+  void nonexistingFiberEndPoint_fails() {
+    assertThat(getResponseStatus(FIBER1_HREF), equalTo(HTTP_NOT_FOUND));
+  }
+
+  @Test
+  void deleteExistingFiber_cancelsIt() {
+    defineFiber("makeRight/ns1", "fiber-1", "uid1");
+
+    assertThat(createRequest(FIBER1_HREF).delete().getStatus(), equalTo(HTTP_NO_CONTENT));
+    assertThat(restBackend.cancelledFibers, contains("fiber-1"));
+  }
+
+  @Test
+  void whenRequestedByHeaderMissing_cancelIsRejected() {
+    excludeRequestedByHeader();
+    defineFiber("makeRight/ns1", "fiber-1", "uid1");
+
+    assertThat(createRequest(FIBER1_HREF).delete().getStatus(), equalTo(HttpURLConnection.HTTP_BAD_REQUEST));
+    assertThat(restBackend.cancelledFibers.isEmpty(), equalTo(true));
+  }
+
+  private void defineFiber(String gate, String fiberName, String key) {
+    restBackend.fibers.computeIfAbsent(gate, g -> new ArrayList<>())
+        .add(new Fiber.Snapshot(fiberName, key, Fiber.Snapshot.SCHEDULED, "WaitForReady", Duration.ofMinutes(2), 3,
+            List.of("domainPresenceInfo", "serverName"), null, "ManagedServerUpIterator"));
+  }
+
   private void excludeRequestedByHeader() {
     includeRequestedByHeader = false;
   }
@@ -322,6 +391,8 @@ class OperatorRestTest extends RestTestBase {
 
   abstract static class RestBackendStub implements RestBackend {
     private final Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private final Map<String, List<Fiber.Snapshot>> fibers = new TreeMap<>();
+    private final Set<String> cancelledFibers = new HashSet<>();
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -362,6 +433,17 @@ class OperatorRestTest extends RestTestBase {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
     }
 
+    @Override
+    public Map<String, List<Fiber.Snapshot>> getFibers() {
+      return fibers;
+    }
+
+    @Override
+    public boolean cancelFiber(String fiberName) {
+      return fibers.values().stream().flatMap(List::stream).anyMatch(s -> s.name().equals(fiberName))
+          && cancelledFibers.add(fiberName);
+    }
+
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
       return domainClusters.get(domainUid).stream().filter(cs -> cs.hasClusterName(cluster));
     }
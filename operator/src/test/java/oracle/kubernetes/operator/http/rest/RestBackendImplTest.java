@@ -1,17 +1,20 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
@@ -20,6 +23,7 @@ import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -30,6 +34,11 @@ import oracle.kubernetes.operator.http.rest.model.DomainActionType;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -46,8 +55,11 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -58,6 +70,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class RestBackendImplTest {
 
   public static final String CLUSTER_1 = "cluster1";
+  private static final String VALID_TOKEN = "valid-token";
   private static final int REPLICA_LIMIT = 4;
   private static final String NS = "namespace1";
   private static final String NS2 = "namespace2";
@@ -67,6 +80,7 @@ class RestBackendImplTest {
   private static final String DOMAIN3 = "domain3";
   private static final String DOMAIN4 = "domain4";
   public static final String INITIAL_VERSION = "1";
+  private static final String MAKE_RIGHT_GATE = "makeRight/" + NS;
   private final WlsDomainConfigSupport domain1ConfigSupport = new WlsDomainConfigSupport(DOMAIN1);
 
   private final List<Memento> mementos = new ArrayList<>();
@@ -484,6 +498,126 @@ class RestBackendImplTest {
     assertThat(authorizationProxyStub.atzCheck, is(true));
   }
 
+  // functionality needed for Fibers resource
+
+  @Test
+  void fibersAreListedByGateName() {
+    final FiberGate gate = createGateWithRequeuedFiber(DOMAIN1);
+    restBackend = createFiberRestBackend(VALID_TOKEN, gate);
+
+    assertThat(getFiberKeys(MAKE_RIGHT_GATE), contains(DOMAIN1));
+  }
+
+  private RestBackendImpl createFiberRestBackend(String accessToken, FiberGate gate) {
+    return new RestBackendImpl("", accessToken, this::getDomainNamespaces, () -> Map.of(MAKE_RIGHT_GATE, gate));
+  }
+
+  private List<String> getFiberKeys(String gateName) {
+    return restBackend.getFibers().get(gateName).stream().map(Fiber.Snapshot::key).toList();
+  }
+
+  @Test
+  void afterFiberCancelled_itIsNoLongerListed() {
+    final FiberGate gate = createGateWithRequeuedFiber(DOMAIN1);
+    restBackend = createFiberRestBackend(VALID_TOKEN, gate);
+    final String fiberName = restBackend.getFibers().get(MAKE_RIGHT_GATE).get(0).name();
+
+    assertThat(restBackend.cancelFiber(fiberName), is(true));
+    assertThat(restBackend.getFibers().get(MAKE_RIGHT_GATE), empty());
+  }
+
+  @Test
+  void whenNoFiberHasName_cancelFiberReturnsFalse() {
+    final FiberGate gate = createGateWithRequeuedFiber(DOMAIN1);
+    restBackend = createFiberRestBackend(VALID_TOKEN, gate);
+
+    assertThat(restBackend.cancelFiber("fiber-none"), is(false));
+  }
+
+  @Test
+  void whenUsingTokenReview_cancelFiberChecksAuthorization() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+    RestBackendImpl restBackendImpl = new RestBackendImpl("", "", this::getDomainNamespaces, Collections::emptyMap)
+        .withAuthorizationProxy(authorizationProxyStub);
+
+    restBackendImpl.cancelFiber("fiber-none");
+
+    assertThat(authorizationProxyStub.atzCheck, is(true));
+  }
+
+  @Test
+  void whenNotUsingTokenReview_listFibersChecksAuthorization() {
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+    RestBackendImpl restBackendImpl = new RestBackendImpl("", VALID_TOKEN, this::getDomainNamespaces,
+        Collections::emptyMap).withAuthorizationProxy(authorizationProxyStub);
+
+    restBackendImpl.getFibers();
+
+    assertThat(authorizationProxyStub.atzCheck, is(true));
+  }
+
+  @Test
+  void whenTokenNotAuthenticated_listFibersIsUnauthorized() {
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticateOnlyValidToken((V1TokenReview) r));
+    restBackend = createFiberRestBackend("unknown-token", createGateWithRequeuedFiber(DOMAIN1));
+
+    final WebApplicationException exception = assertThrows(WebApplicationException.class, restBackend::getFibers);
+
+    assertThat(exception.getResponse().getStatus(), equalTo(Response.Status.UNAUTHORIZED.getStatusCode()));
+  }
+
+  @Test
+  void whenTokenNotAuthenticated_dontCancelFiber() {
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticateOnlyValidToken((V1TokenReview) r));
+    final FiberGate gate = createGateWithRequeuedFiber(DOMAIN1);
+    final String fiberName = gate.getFiberSnapshots().get(0).name();
+    restBackend = createFiberRestBackend("unknown-token", gate);
+
+    assertThrows(WebApplicationException.class, () -> restBackend.cancelFiber(fiberName));
+
+    assertThat(gate.getFiberSnapshots(), hasSize(1));
+  }
+
+  @Test
+  void whenCallerNotAllowedToUpdateDomains_cancelFiberIsForbidden() {
+    testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> denyUpdate((V1SubjectAccessReview) s));
+    final FiberGate gate = createGateWithRequeuedFiber(DOMAIN1);
+    restBackend = createFiberRestBackend(VALID_TOKEN, gate);
+    final String fiberName = gate.getFiberSnapshots().get(0).name();
+
+    final WebApplicationException exception
+        = assertThrows(WebApplicationException.class, () -> restBackend.cancelFiber(fiberName));
+
+    assertThat(exception.getResponse().getStatus(), equalTo(Response.Status.FORBIDDEN.getStatusCode()));
+    assertThat(gate.getFiberSnapshots(), hasSize(1));
+  }
+
+  private void authenticateOnlyValidToken(V1TokenReview tokenReview) {
+    if (!VALID_TOKEN.equals(tokenReview.getSpec().getToken())) {
+      tokenReview.setStatus(new V1TokenReviewStatus().authenticated(false));
+    }
+  }
+
+  private void denyUpdate(V1SubjectAccessReview subjectAccessReview) {
+    if ("update".equals(subjectAccessReview.getSpec().getResourceAttributes().getVerb())) {
+      subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(false));
+    }
+  }
+
+  private FiberGate createGateWithRequeuedFiber(String domainUid) {
+    final FiberGate gate = new FiberTestSupport().createFiberGate();
+    gate.startFiber(domainUid, RequeueStep::new, Packet::new, null);
+    return gate;
+  }
+
+  private static class RequeueStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return new Result(true, Duration.ofMinutes(1));
+    }
+  }
+
   private DomainConfigurator configureDomain() {
     return configurator;
   }
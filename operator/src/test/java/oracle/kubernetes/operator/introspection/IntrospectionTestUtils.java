@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.introspection;
@@ -98,14 +98,35 @@ public class IntrospectionTestUtils {
                                                 Supplier<V1JobStatus> jobStatus) {
     testSupport.addToPacket(JOB_POD, new V1Pod().metadata(new V1ObjectMeta().name(INTROSPECTION_JOB)));
     testSupport.doOnCreate(KubernetesTestSupport.JOB, job -> ((V1Job) job).setStatus(jobStatus.get()));
-    testSupport.definePodLog(LegalNames.toJobIntrospectorName(UID), NS, introspectResult);
+    defineJobPod(testSupport, NS, UID, introspectResult);
+  }
+
+  /**
+   * Define the in-memory kubernetes resources read when the introspector job of the specified domain completes.
+   * Unlike {@link #defineIntrospectionTopology(KubernetesTestSupport, WlsDomainConfig)}, this does not set the
+   * status of created jobs, so it may be used to define the results of many domains.
+   *
+   * @param testSupport a kubernetes test support instance
+   * @param namespace the namespace of the domain
+   * @param uid the UID of the domain
+   * @param domainConfig the configuration from which the topology should be computed
+   * @throws JsonProcessingException if an error occurs in creating the topology
+   */
+  public static void defineIntrospectionResult(KubernetesTestSupport testSupport, String namespace, String uid,
+                                               WlsDomainConfig domainConfig) throws JsonProcessingException {
+    defineJobPod(testSupport, namespace, uid, getIntrospectResult(domainConfig));
+  }
+
+  private static void defineJobPod(KubernetesTestSupport testSupport, String namespace, String uid,
+                                   String introspectResult) {
+    testSupport.definePodLog(LegalNames.toJobIntrospectorName(uid), namespace, introspectResult);
     testSupport.defineResources(
         new V1Pod()
             .metadata(
                 new V1ObjectMeta()
-                    .putLabelsItem("job-name", LegalNames.toJobIntrospectorName(UID))
-                    .name(LegalNames.toJobIntrospectorName(UID))
-                    .namespace(NS))
+                    .putLabelsItem("job-name", LegalNames.toJobIntrospectorName(uid))
+                    .name(LegalNames.toJobIntrospectorName(uid))
+                    .namespace(namespace))
             .status(createJobPodTerminatedStatus()));
   }
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -11,6 +11,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -28,6 +31,7 @@ import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.StartupPermits;
 import oracle.kubernetes.operator.ThreadFactoryTestBase;
 import oracle.kubernetes.operator.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
@@ -55,7 +59,6 @@ import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import static java.util.Collections.emptyMap;
@@ -63,17 +66,19 @@ import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_TO_ROLL;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
-import static oracle.kubernetes.operator.steps.ManagedServerUpIteratorStep.SCHEDULING_DETECTION_DELAY;
+import static oracle.kubernetes.operator.tuning.TuningParameters.WATCH_BACKSTOP_RECHECK_DELAY_SECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
-@Disabled("Temporary, test is hanging")
 class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements WatchListener<V1Pod>,
         StubWatchFactory.AllWatchesClosedListener {
 
@@ -84,9 +89,10 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
   private static final String ADMIN = "asName";
   private static final String CLUSTER1 = "cluster1";
   private static final String CLUSTER2 = "cluster2";
-  private static final int SCHEDULING_DELAY_MSEC = SCHEDULING_DETECTION_DELAY / 2;
+  private static final int SCHEDULING_DELAY_MSEC = 200;
   private static final int POD_READY_DELAY_SEC = 9;
   private static final int READY_DETECTION_DELAY = 10;
+  private static final int BACKSTOP_DELAY_SEC = 5;
   private static final int NUM_CLUSTERS = 2;
   private static final boolean INCLUDE_SERVER_OUT_IN_POD_LOG = true;
   private static final String CREDENTIALS_SECRET_NAME = "webLogicCredentialsSecretName";
@@ -96,6 +102,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
   private static final String MS2 = MS_PREFIX + "2";
   private static final String MS3 = MS_PREFIX + "3";
   private static final String MS4 = MS_PREFIX + "4";
+  private static final String MS5 = MS_PREFIX + "5";
   private static final int MAX_SERVERS = 5;
   private static final int PORT = 8001;
   private static final String[] MANAGED_SERVER_NAMES =
@@ -118,6 +125,8 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
   private final Step nextStep = new TerminalStep();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
+  private final Set<String> unscheduledPods = ConcurrentHashMap.newKeySet();
+  private final List<String> serversCreatedBeforePreviousScheduled = new CopyOnWriteArrayList<>();
   private DomainPresenceInfo info = createDomainPresenceInfoWithAdminServer();
   private final WlsDomainConfig domainConfig = createDomainConfig();
   private final Collection<ServerStartupInfo> startupInfos = new ArrayList<>();
@@ -185,6 +194,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
     mementos.add(TestUtils.silenceOperatorLogger()
             .ignoringLoggedExceptions(ApiException.class, InterruptedException.class));
     mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, Integer.toString(BACKSTOP_DELAY_SEC));
     mementos.add(testSupport.install());
     mementos.add(StubWatchFactory.install());
     StubWatchFactory.setListener(this);
@@ -199,7 +209,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
   // Invoked when a pod is created to simulate the Kubernetes behavior in which a pod is scheduled on a node
   // very quickly, and then takes much longer actually to become ready.
   void schedulePodUpdates(V1Pod pod) {
-    testSupport.schedule(() -> setPodScheduled(pod), SCHEDULING_DELAY_MSEC, TimeUnit.MILLISECONDS);
+    setPodScheduled(pod);
     testSupport.schedule(() -> setPodReady(pod), POD_READY_DELAY_SEC, TimeUnit.SECONDS);
   }
 
@@ -208,9 +218,10 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
     Objects.requireNonNull(pod.getSpec()).setNodeName("aNode");
   }
 
-  // Marks the specified pod as having become ready.
+  // Marks the specified pod as having become ready, and reports that to the pod watcher.
   private void setPodReady(V1Pod pod) {
     pod.status(createPodReadyStatus());
+    watcher.receivedResponse(new Watch.Response<>("MODIFIED", pod));
   }
 
   private V1PodStatus createPodReadyStatus() {
@@ -233,7 +244,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
   }
 
   @Test
-  void withMultipleServersAvailableToStart_onlyOneForEachClusterInitiallyStarts() {
+  void withMultipleServersAvailableToStart_onlyClusterWithLimitHoldsServersBack() {
     configureCluster(CLUSTER1).withMaxConcurrentStartup(0);
     configureCluster(CLUSTER2).withMaxConcurrentStartup(1);
     addWlsCluster(CLUSTER1, MS1, MS2);
@@ -241,7 +252,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
 
     invokeStepWithServerStartupInfos();
 
-    assertThat(getStartedManagedServers().size(), equalTo(NUM_CLUSTERS));
+    assertThat(getStartedManagedServers().size(), equalTo(NUM_CLUSTERS + 1));
   }
 
   @Nonnull
@@ -284,12 +295,11 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
   }
 
   @Test
-  void whenConcurrencyLimitDisabled_additionalClusteredServersStartsAfterPreviousIsScheduled() {
+  void whenConcurrencyLimitDisabled_allClusteredServersStartAtOnce() {
     configureCluster(CLUSTER1).withMaxConcurrentStartup(0);
     addWlsCluster(CLUSTER1, MS1, MS2, MS3);
 
     invokeStepWithServerStartupInfos();
-    testSupport.setTime(2 * SCHEDULING_DETECTION_DELAY, TimeUnit.MILLISECONDS);
 
     assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2, MS3));
   }
@@ -300,7 +310,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
     addWlsCluster(CLUSTER1, MS1, MS2);
 
     invokeStepWithServerStartupInfos();
-    testSupport.setTime(SCHEDULING_DETECTION_DELAY, TimeUnit.MILLISECONDS);
+    testSupport.setTime(POD_READY_DELAY_SEC - 1, TimeUnit.SECONDS);
 
     assertThat(getStartedManagedServers(), hasSize(1));
   }
@@ -334,12 +344,12 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
   }
 
   @Test
-  void whenConcurrencyLimitIs2_secondClusteredServerStartsAfterFirstIsScheduledButNotThird() {
+  void whenConcurrencyLimitIs2_firstTwoClusteredServersStartButNotThird() {
     configureCluster(CLUSTER1).withMaxConcurrentStartup(2);
     addWlsCluster(CLUSTER1, MS1, MS2, MS3, MS4);
 
     invokeStepWithServerStartupInfos();
-    testSupport.setTime(2 * SCHEDULING_DETECTION_DELAY, TimeUnit.MILLISECONDS);
+    testSupport.setTime(POD_READY_DELAY_SEC - 1, TimeUnit.SECONDS);
 
     assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2));
   }
@@ -355,13 +365,131 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
     assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2, MS3, MS4));
   }
 
+  @Test
+  void whenConcurrencyLimitIs2_startNextServersWhenMakeRightRetriesAfterPodsBecomeReady() {
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(2);
+    addWlsCluster(CLUSTER1, MS1, MS2, MS3, MS4, MS5);
+
+    invokeStepWithServerStartupInfos();
+    List<Integer> startedAfterEachRetry = new ArrayList<>();
+    for (long time : new long[] {POD_READY_DELAY_SEC - 1, READY_DETECTION_DELAY, 2 * READY_DETECTION_DELAY}) {
+      testSupport.setTime(time, TimeUnit.SECONDS);
+      startedAfterEachRetry.add(getStartedManagedServers().size());
+    }
+
+    assertThat(startedAfterEachRetry, contains(2, 4, 5));
+  }
+
+  @Test
+  void whenConcurrencyLimitIs1_startSecondServerAsSoonAsFirstReturnsPermit() {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, Integer.toString(3 * BACKSTOP_DELAY_SEC));
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    addWlsCluster(CLUSTER1, MS1, MS2);
+
+    invokeStepWithServerStartupInfos();
+    testSupport.setTime(POD_READY_DELAY_SEC, TimeUnit.SECONDS);
+
+    assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2));
+  }
+
+  @Test
+  void whenPermitNotReturnedWithinBackstopDelay_requeueMakeRight() {
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    addWlsCluster(CLUSTER1, MS1, MS2);
+
+    invokeStepWithServerStartupInfos();
+    testSupport.setTime(BACKSTOP_DELAY_SEC, TimeUnit.SECONDS);
+
+    assertThat(testSupport.hasItemScheduledAt(2 * BACKSTOP_DELAY_SEC, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void whenClusterWithLimitAwaitsPermit_startServersOfOtherClusters() {
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    configureCluster(CLUSTER2).withMaxConcurrentStartup(0);
+    addWlsCluster(CLUSTER1, MS1, MS2);
+    addWlsCluster(CLUSTER2, MS3, MS4);
+
+    invokeStepWithServerStartupInfos();
+
+    assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS3, MS4));
+  }
+
+  @Test
+  void whenConcurrencyLimitIs1_startingServerWhichIsNoLongerWanted_doesNotHoldBackOtherServers() {
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    addWlsCluster(CLUSTER1, MS1, MS2);
+    invokeStepWithServerStartupInfos();
+
+    startupInfos.removeIf(ssi -> MS1.equals(ssi.getName()));
+    invokeStepWithServerStartupInfos();
+
+    assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2));
+  }
+
+  @Test
+  void whenClusterNoLongerStartsServers_releaseItsPermits() {
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    addWlsCluster(CLUSTER1, MS1, MS2);
+    invokeStepWithServerStartupInfos();
+
+    startupInfos.clear();
+    invokeStepWithServerStartupInfos();
+
+    assertThat(StartupPermits.getInstance().tryAcquire(NS, UID, CLUSTER1, MS2, 1), is(true));
+  }
+
+  @Test
+  void whenClusterStillHasRecordedStartupInfos_keepItsPermits() {
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(1);
+    addWlsCluster(CLUSTER1, MS1, MS2);
+    invokeStepWithServerStartupInfos();
+    info.setServerStartupInfo(new ArrayList<>(startupInfos));
+
+    startupInfos.clear();
+    invokeStepWithServerStartupInfos();
+
+    assertThat(StartupPermits.getInstance().tryAcquire(NS, UID, CLUSTER1, MS2, 1), is(false));
+  }
+
+  @Test
+  void whenPodOfStartedServerIsNotYetScheduled_doNotStartNextServer() {
+    testSupport.doOnCreate(POD, p -> scheduleLater((V1Pod) p));
+    configureCluster(CLUSTER1).withMaxConcurrentStartup(0);
+    addWlsCluster(CLUSTER1, MS1, MS2);
+
+    invokeStepWithServerStartupInfos();
+    testSupport.setTime(2 * SCHEDULING_DELAY_MSEC, TimeUnit.MILLISECONDS);
+
+    assertThat(serversCreatedBeforePreviousScheduled, empty());
+    assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2));
+  }
+
+  // Simulates a pod which Kubernetes schedules on a node only after a short time, recording any server whose pod
+  // is created while that of the server started before it has not yet been scheduled.
+  private void scheduleLater(V1Pod pod) {
+    if (!unscheduledPods.isEmpty()) {
+      serversCreatedBeforePreviousScheduled.add(getServerName(pod));
+    }
+    Objects.requireNonNull(pod.getSpec()).setNodeName(null);
+    unscheduledPods.add(getServerName(pod));
+    testSupport.schedule(() -> reportPodScheduled(getServerName(pod)), SCHEDULING_DELAY_MSEC, TimeUnit.MILLISECONDS);
+  }
+
+  // Marks the pod of the specified server as scheduled, as the pod watcher reports it.
+  private void reportPodScheduled(String serverName) {
+    final V1Pod pod = info.getServerPod(serverName);
+    setPodScheduled(pod);
+    unscheduledPods.remove(serverName);
+    info.setServerPod(serverName, pod);
+  }
+
   @Test
   void nonClusteredServers_ignoreConcurrencyLimit() {
     domain.getSpec().setMaxClusterConcurrentStartup(1);
     addWlsServers(MS1, MS2, MS3);
 
     invokeStepWithServerStartupInfos();
-    testSupport.setTime(2 * SCHEDULING_DETECTION_DELAY, TimeUnit.MILLISECONDS);
 
     assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2, MS3));
   }
@@ -374,7 +502,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
     addWlsCluster(CLUSTER2, MS3, MS4);
 
     invokeStepWithServerStartupInfos();
-    testSupport.setTime(SCHEDULING_DETECTION_DELAY, TimeUnit.MILLISECONDS);
+    testSupport.setTime(POD_READY_DELAY_SEC - 1, TimeUnit.SECONDS);
 
     assertThat(getStartedManagedServers(), containsInAnyOrder(MS1, MS2, MS3));
   }
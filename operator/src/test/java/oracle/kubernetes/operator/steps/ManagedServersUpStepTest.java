@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -435,6 +436,83 @@ class ManagedServersUpStepTest {
     assertThat(getServers(), containsInAnyOrder("ms1", "ms2", "ms3"));
   }
 
+  @Test
+  void whenClusterRollingWithSurge_addSurgeServersBeyondReplicaLimit() {
+    setDefaultServerStartPolicy(ServerStartPolicy.IF_NEEDED);
+    setCluster1Replicas(3);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5");
+    info.setRollingSurge("cluster1", 1);
+
+    invokeStep();
+
+    assertThat(getServers(), containsInAnyOrder("ms1", "ms2", "ms3", "ms4"));
+  }
+
+  @Test
+  void whenClusterRollingWithSurgeLargerThanIdleServers_addOnlyConfiguredServers() {
+    setDefaultServerStartPolicy(ServerStartPolicy.IF_NEEDED);
+    setCluster1Replicas(3);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5");
+    info.setRollingSurge("cluster1", 4);
+
+    invokeStep();
+
+    assertThat(getServers(), containsInAnyOrder("ms1", "ms2", "ms3", "ms4", "ms5"));
+  }
+
+  @Test
+  void whenOnlySomeClustersAffected_addOnlyTheirServers() {
+    setDefaultServerStartPolicy(ServerStartPolicy.IF_NEEDED);
+    setCluster1Replicas(2);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3");
+    addWlsCluster("cluster2", "ms4", "ms5");
+    addWlsServer("standalone");
+    testSupport.addToPacket(ProcessingConstants.AFFECTED_CLUSTERS, Set.of("cluster1"));
+
+    invokeStep();
+
+    assertThat(getServers(), containsInAnyOrder("ms1", "ms2"));
+  }
+
+  @Test
+  void whenOnlySomeClustersAffected_keepRecordedStartupInfosOfOtherServers() {
+    setDefaultServerStartPolicy(ServerStartPolicy.IF_NEEDED);
+    setCluster1Replicas(2);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3");
+    addWlsCluster("cluster2", "ms4", "ms5");
+    addWlsServer("standalone");
+    info.setServerStartupInfo(List.of(
+        new ServerStartupInfo(getWlsServer("cluster1", "ms3"), "cluster1", null),
+        new ServerStartupInfo(getWlsServer("cluster2", "ms4"), "cluster2", null),
+        new ServerStartupInfo(getWlsServer("standalone"), null, null)));
+    testSupport.addToPacket(ProcessingConstants.AFFECTED_CLUSTERS, Set.of("cluster1"));
+
+    invokeStep();
+
+    assertThat(getStartupInfoNames(), containsInAnyOrder("ms1", "ms2", "ms4", "standalone"));
+  }
+
+  private List<String> getStartupInfoNames() {
+    return info.getServerStartupInfo().stream().map(ServerStartupInfo::getName).toList();
+  }
+
+  @Test
+  void whenOnlySomeClustersAffected_dontStopServersOfOthers() {
+    setDefaultServerStartPolicy(ServerStartPolicy.IF_NEEDED);
+    setCluster1Replicas(1);
+    addWlsCluster("cluster1", "ms1", "ms2");
+    addRunningServer("obsolete");
+    testSupport.addToPacket(ProcessingConstants.AFFECTED_CLUSTERS, Set.of("cluster1"));
+
+    invokeStep();
+
+    assertThat(getShutdownInfoNames(), contains("ms2"));
+  }
+
+  private List<String> getShutdownInfoNames() {
+    return info.getServerShutdownInfo().stream().map(DomainPresenceInfo.ServerInfo::getName).toList();
+  }
+
   @Test
   void withStartAllWhenWlsClusterNotInDomainSpec_addClusteredServersToListUpWithoutLimit() {
     startAllServers();
@@ -0,0 +1,287 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.TRACING_EXPORT_FILE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class TracerTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final String ROOT_NAME = "make-right domain";
+  private static final String FIRST = "TracerTest$First";
+  private static final String SECOND = "TracerTest$Second";
+  private static final String FORKING = "TracerTest$Forking";
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final InMemorySpanExporter exporter = new InMemorySpanExporter();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(Tracer.class, "instance", new Tracer(exporter)));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private Packet createTracedPacket() {
+    return Tracer.getInstance().startTrace(new Packet(), ROOT_NAME, NS, UID);
+  }
+
+  private void runTraced(Step steps) {
+    final Packet packet = testSupport.runSteps(createTracedPacket(), steps);
+    Tracer.getInstance().endingTrace(new NullCompletionCallback()).onCompletion(packet);
+  }
+
+  private Span getSpan(String name) {
+    return exporter.getSpans().stream().filter(s -> s.getName().equals(name)).findFirst().orElseThrow();
+  }
+
+  private List<String> getSpanNames() {
+    return exporter.getSpans().stream().map(Span::getName).toList();
+  }
+
+  @Test
+  void whenPacketNotTraced_exportNoSpans() {
+    testSupport.runSteps(new Packet(), Step.chain(new FirstStep(), new SecondStep()));
+
+    assertThat(exporter.getSpans(), empty());
+  }
+
+  @Test
+  void whenTracingDisabled_dontTracePacket() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(Tracer.class, "instance", new Tracer(null)));
+
+    runTraced(Step.chain(new FirstStep(), new SecondStep()));
+
+    assertThat(exporter.getSpans(), empty());
+  }
+
+  @Test
+  void afterTracedRun_exportSpanForEachStepAndThenRootSpan() {
+    runTraced(Step.chain(new FirstStep(), new SecondStep()));
+
+    assertThat(getSpanNames(), contains(FIRST, SECOND, ROOT_NAME));
+  }
+
+  @Test
+  void stepSpansAreChildrenOfRootSpanInSameTrace() {
+    runTraced(Step.chain(new FirstStep(), new SecondStep()));
+
+    final Span root = getSpan(ROOT_NAME);
+    assertThat(getSpan(FIRST).getParent(), sameInstance(root));
+    assertThat(getSpan(SECOND).getParent(), sameInstance(root));
+    assertThat(getSpan(SECOND).getTraceId(), equalTo(root.getTraceId()));
+    assertThat(root.getParent(), nullValue());
+  }
+
+  @Test
+  void allSpansHaveDomainUidAndNamespace() {
+    runTraced(Step.chain(new FirstStep(), new SecondStep()));
+
+    assertThat(getAttributeValues(Span.DOMAIN_UID), everyItem(equalTo(UID)));
+    assertThat(getAttributeValues(Span.NAMESPACE), everyItem(equalTo(NS)));
+  }
+
+  private List<String> getAttributeValues(String key) {
+    return exporter.getSpans().stream().map(s -> s.getAttribute(key)).toList();
+  }
+
+  @Test
+  void whenTraceEndsWithThrowable_recordErrorInRootSpan() {
+    final Packet packet = testSupport.runSteps(createTracedPacket(), new FirstStep());
+    Tracer.getInstance().endingTrace(new NullCompletionCallback()).onThrowable(packet, new IOException("bad"));
+
+    assertThat(getSpan(ROOT_NAME).getErrorMessage(), equalTo("java.io.IOException: bad"));
+  }
+
+  @Test
+  void apiCallRecordsClientSpanWithStatusCode() {
+    testSupport.defineResources(new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name("pod1")));
+
+    runTraced(RequestBuilder.POD.get(NS, "pod1", new DefaultResponseStep<>(null)));
+
+    final Span clientSpan = exporter.getSpans().stream()
+        .filter(s -> s.getKind() == Span.Kind.CLIENT).findFirst().orElseThrow();
+    assertThat(clientSpan.getAttribute("k8s.resource"), equalTo("pods"));
+    assertThat(clientSpan.getAttribute("k8s.name"), equalTo("pod1"));
+    assertThat(clientSpan.getAttribute("http.response.status_code"), equalTo("200"));
+    assertThat(clientSpan.getAttribute(Span.DOMAIN_UID), equalTo(UID));
+    assertThat(clientSpan.getErrorMessage(), nullValue());
+    assertThat(clientSpan.getParent().getParent(), sameInstance(getSpan(ROOT_NAME)));
+  }
+
+  @Test
+  void failedApiCallRecordsErrorInClientSpan() {
+    runTraced(RequestBuilder.POD.get(NS, "pod1", new DefaultResponseStep<>(null)));
+
+    final Span clientSpan = exporter.getSpans().stream()
+        .filter(s -> s.getKind() == Span.Kind.CLIENT).findFirst().orElseThrow();
+    assertThat(clientSpan.getAttribute("http.response.status_code"), equalTo("404"));
+    assertThat(clientSpan.getErrorMessage(), notNullValue());
+  }
+
+  @Test
+  void spansOfForkedStepsAreChildrenOfForkingStepSpan() {
+    runTraced(Step.chain(new ForkingStep(), new SecondStep()));
+
+    final Span forkingSpan = getSpan(FORKING);
+    assertThat(exporter.getSpans().stream().filter(s -> s.getName().equals(FIRST)).toList(), hasSize(2));
+    assertThat(exporter.getSpans().stream().filter(s -> s.getName().equals(FIRST)).map(Span::getParent).toList(),
+        everyItem(sameInstance(forkingSpan)));
+    assertThat(getSpan(SECOND).getParent(), sameInstance(getSpan(ROOT_NAME)));
+  }
+
+  @Test
+  void otlpJsonContainsSpansOfResourceAndScope() {
+    runTraced(Step.chain(new FirstStep(), new SecondStep()));
+
+    final JsonObject request = JsonParser.parseString(exporter.toOtlpJson()).getAsJsonObject();
+    final JsonObject resourceSpans = request.getAsJsonArray("resourceSpans").get(0).getAsJsonObject();
+    final JsonObject scopeSpans = resourceSpans.getAsJsonArray("scopeSpans").get(0).getAsJsonObject();
+    final JsonObject firstSpan = scopeSpans.getAsJsonArray("spans").get(0).getAsJsonObject();
+
+    assertThat(scopeSpans.getAsJsonObject("scope").get("name").getAsString(), equalTo(OtlpJson.SCOPE_NAME));
+    assertThat(scopeSpans.getAsJsonArray("spans").size(), equalTo(3));
+    assertThat(firstSpan.get("name").getAsString(), equalTo(FIRST));
+    assertThat(firstSpan.get("traceId").getAsString().length(), equalTo(32));
+    assertThat(firstSpan.get("spanId").getAsString().length(), equalTo(16));
+    assertThat(firstSpan.get("parentSpanId").getAsString(), equalTo(getSpan(ROOT_NAME).getSpanId()));
+    assertThat(firstSpan.getAsJsonObject("status").get("code").getAsInt(), equalTo(1));
+  }
+
+  @Test
+  void whenExportFileConfigured_writeTraceAsOneLineWhenRootSpanEnds() throws Exception {
+    final Path file = Files.createTempDirectory("tracerTest").resolve("traces.json");
+    mementos.add(StaticStubSupport.install(Tracer.class, "instance", new Tracer(null)));
+    TuningParametersStub.setParameter(TRACING_EXPORT_FILE, file.toString());
+
+    runTraced(Step.chain(new FirstStep(), new SecondStep()));
+    runTraced(new FirstStep());
+
+    final List<String> lines = Files.readAllLines(file);
+    assertThat(lines, hasSize(2));
+    assertThat(JsonParser.parseString(lines.get(0)).getAsJsonObject().getAsJsonArray("resourceSpans").size(),
+        equalTo(1));
+  }
+
+  @Test
+  void whenExportFileExceedsMaximumSize_rotateIt() throws Exception {
+    final Path file = Files.createTempDirectory("tracerTest").resolve("traces.json");
+    final FileSpanExporter fileExporter = new FileSpanExporter(file, 1);
+    mementos.add(StaticStubSupport.install(Tracer.class, "instance", new Tracer(fileExporter)));
+
+    runTraced(Step.chain(new FirstStep(), new SecondStep()));
+    runTraced(new FirstStep());
+    runTraced(new SecondStep());
+
+    assertThat(Files.readAllLines(file), hasSize(1));
+    assertThat(Files.readAllLines(fileExporter.getRotatedFile()), hasSize(1));
+    assertThat(Files.readString(file), containsString(SECOND));
+  }
+
+  @Test
+  void whenFiberRequeued_endRootSpan() {
+    testSupport.runSteps(createTracedPacket(), new RequeueingStep());
+
+    assertThat(getSpan(ROOT_NAME).getAttribute(Span.OUTCOME), equalTo("requeued"));
+  }
+
+  @Test
+  void whenFiberCancelled_endRootSpan() {
+    final Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(), new FirstStep(), createTracedPacket(),
+        new NullCompletionCallback());
+
+    fiber.cancel();
+
+    assertThat(getSpan(ROOT_NAME).getAttribute(Span.OUTCOME), equalTo("cancelled"));
+  }
+
+  private static class FirstStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class SecondStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class RequeueingStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doRequeue();
+    }
+  }
+
+  private static class ForkingStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(getNext(), packet, List.of(
+          new Fiber.StepAndPacket(new FirstStep(), packet.copy()),
+          new Fiber.StepAndPacket(new FirstStep(), packet.copy())));
+    }
+  }
+
+  private static class NullCompletionCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
+}
@@ -0,0 +1,50 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+/** This test class verifies the behavior of the CrdWatcher. */
+class CrdWatcherTest extends WatcherTestBase implements WatchListener<V1CustomResourceDefinition> {
+
+  private static final BigInteger INITIAL_RESOURCE_VERSION = new BigInteger("456");
+  private static final String CRD_NAME = "domains.weblogic.oracle";
+
+  @Override
+  public void receivedResponse(Watch.Response<V1CustomResourceDefinition> response) {
+    recordCallBack(response);
+  }
+
+  @Test
+  void initialRequest_specifiesCrdNameAndRequestsOnlyMetadata() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(0),
+        both(hasEntry("fieldSelector", "metadata.name=" + CRD_NAME))
+            .and(hasEntry("metadataOnly", "true")));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected <T> T createObjectWithMetaData(V1ObjectMeta metaData) {
+    return (T) new V1CustomResourceDefinition().metadata(metaData);
+  }
+
+  @Override
+  protected CrdWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
+    return CrdWatcher.create(this, CRD_NAME, rv.toString(), tuning, this, stopping);
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.watcher;
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.common.utils.BaseTestUtils;
@@ -78,11 +79,17 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     mementos.add(configureOperatorLogger());
     mementos.add(StubWatchFactory.install());
     mementos.add(TuningParametersStub.install());
+    mementos.add(installAsynchronousStarter());
 
     TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_COUNT, "1");
     StubWatchFactory.setListener(this);
   }
 
+  // These tests need real watcher threads, even if an earlier test class failed to remove its no-op starter.
+  private Memento installAsynchronousStarter() throws NoSuchFieldException {
+    return StaticStubSupport.install(Watcher.class, "starter", (WatcherStarter) Watcher::startAsynchronousWatch);
+  }
+
   protected BaseTestUtils.ConsoleHandlerMemento configureOperatorLogger() {
     return TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(hasNextException);
   }
@@ -172,6 +179,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     Object object2 = createObjectWithMetaData();
     StubWatchFactory.addCallResponses(createAddResponse(object1), createModifyResponse(object2));
 
+    stopping.set(true); // paused before its thread can receive any events
     Watcher watcher = createWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
     pauseWatcher(watcher);
     assertThat(callBacks, empty());
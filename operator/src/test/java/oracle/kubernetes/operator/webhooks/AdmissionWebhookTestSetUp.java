@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks;
@@ -30,7 +30,7 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDoma
  * AdmissionWebhookTestSetup creates the necessary Domain resources that can be used in admission webhook
  * related test cases such as WebhookRestTest and admission checker tests.
  */
-class AdmissionWebhookTestSetUp {
+public class AdmissionWebhookTestSetUp {
   static final String CLUSTER_NAME_1 = "C1";
   static final String CLUSTER_NAME_2 = "C2";
   public static final String ORIGINAL_IMAGE_NAME = "abcd";
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks;
@@ -313,6 +313,31 @@ class WebhookRestTest extends RestTestBase {
     assertThat(getConvertedObject(responseReview).size(),is(0));
   }
 
+  @Test
+  void whenConversionReviewHasMultipleDomainsInNamespace_listClustersOnlyOnce() {
+    ConversionReviewModel conversionReview = readConversionReview(
+        "{\"apiVersion\":\"v1\",\"kind\":\"ConversionReview\",\"request\":{\"uid\":\"" + RESPONSE_UID
+            + "\",\"desiredAPIVersion\":\"weblogic.oracle/v8\"}}");
+    conversionReview.getRequest().getDomains().add(createV9DomainMap("domain1"));
+    conversionReview.getRequest().getDomains().add(createV9DomainMap("domain2"));
+
+    ConversionReviewModel responseReview = sendConversionWebhookRequestAsReview(conversionReview);
+
+    assertThat(getStatus(responseReview), equalTo("Success"));
+    assertThat(getConvertedObject(responseReview).size(), is(2));
+    assertThat(restBackend.listClustersCount, is(1));
+  }
+
+  private Map<String, Object> createV9DomainMap(String name) {
+    Map<String, Object> domain = new HashMap<>();
+    domain.put("apiVersion", "weblogic.oracle/v9");
+    domain.put("kind", DOMAIN);
+    domain.put("metadata", new HashMap<>(Map.of("name", name, "namespace", NS)));
+    domain.put("spec", new HashMap<>(Map.of("domainUID", name,
+        "clusters", new ArrayList<>(List.of(new HashMap<>(Map.of("name", CLUSTER_NAME_1)))))));
+    return domain;
+  }
+
   private String getConversionUid(ConversionReviewModel conversionReview) {
     return Optional.ofNullable(conversionReview)
         .map(ConversionReviewModel::getResponse).map(ConversionResponse::getUid).orElse("");
@@ -848,6 +873,8 @@ class WebhookRestTest extends RestTestBase {
   }
 
   abstract class RestBackendStub implements RestBackend {
+    private int listClustersCount;
+
     public Object createOrReplaceCluster(Map<String, Object> body) {
       ClusterResource cluster = readCluster(writeMap(body));
       testSupport.defineResources(cluster);
@@ -855,7 +882,8 @@ class WebhookRestTest extends RestTestBase {
     }
 
     public List<Map<String, Object>> listClusters(String namespace) {
-      return null;
+      listClustersCount++;
+      return Collections.emptyList();
     }
   }
 
@@ -0,0 +1,220 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.resource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.Watcher;
+import oracle.kubernetes.operator.watcher.WatcherStarter;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
+import static oracle.kubernetes.operator.tuning.TuningParameters.ADMISSION_CACHE_MAX_AGE_SECONDS;
+import static oracle.kubernetes.operator.webhooks.AdmissionWebhookTestSetUp.createCluster;
+import static oracle.kubernetes.operator.webhooks.AdmissionWebhookTestSetUp.createDomainWithClustersAndStatus;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class AdmissionResourceCacheTest {
+
+  private static final String CLUSTER_NAME_2 = "C2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AdmissionResourceCache cache = new AdmissionResourceCache();
+  private final ClusterResource cluster1 = createCluster();
+  private final ClusterResource cluster2 = createCluster(CLUSTER_NAME_2);
+  private final List<Runnable> startedWatches = new ArrayList<>();
+  private final WatcherStarter watcherStarter = (factory, watch) -> {
+    startedWatches.add(watch);
+    return null;
+  };
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(StaticStubSupport.install(Watcher.class, "starter", watcherStarter));
+    mementos.add(SystemClockTestSupport.installClock());
+
+    testSupport.defineResources(cluster1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    cache.stop();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenCacheNotStarted_eachLookupListsFromServer() throws ApiException {
+    cache.getClusters(NS);
+    cache.getClusters(NS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
+  @Test
+  void whenCacheStarted_repeatedLookupsListFromServerOnce() throws ApiException {
+    cache.start();
+
+    cache.getClusters(NS);
+    cache.getClusters(NS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  void whenMaxAgeIsZero_cacheIsBypassed() throws ApiException {
+    TuningParametersStub.setParameter(ADMISSION_CACHE_MAX_AGE_SECONDS, "0");
+    cache.start();
+
+    cache.getClusters(NS);
+    cache.getClusters(NS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
+  @Test
+  void whenCacheIsStale_relistFromServer() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+    testSupport.defineResources(cluster2);
+
+    SystemClockTestSupport.increment(60);
+
+    assertThat(getClusterNames(cache.getClusters(NS)), containsInAnyOrder(cluster1.getClusterName(),
+        cluster2.getClusterName()));
+  }
+
+  @Test
+  void whenClusterAddedByWatch_lookupReturnsItWithoutRelist() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+    testSupport.clearNumCalls();
+
+    sendWatchEvent("ADDED", cluster2);
+
+    assertThat(getClusterNames(cache.getClusters(NS)), containsInAnyOrder(cluster1.getClusterName(),
+        cluster2.getClusterName()));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  void whenClusterDeletedByWatch_lookupNoLongerReturnsIt() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+
+    sendWatchEvent("DELETED", cluster1);
+
+    assertThat(cache.getClusters(NS), empty());
+  }
+
+  @Test
+  void domainLookupsAreCachedSeparatelyFromClusters() throws ApiException {
+    final DomainResource domain = createDomainWithClustersAndStatus();
+    testSupport.defineResources(domain);
+    cache.start();
+
+    cache.getClusters(NS);
+    cache.getDomains(NS);
+    cache.getDomains(NS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+    assertThat(getDomainNames(cache.getDomains(NS)), contains(domain.getMetadata().getName()));
+  }
+
+  @Test
+  void whenClusterDeletedDuringRelist_lookupNoLongerReturnsIt() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+    testSupport.doAfterCall(CLUSTER, "list", () -> sendWatchEvent("DELETED", cluster1));
+
+    SystemClockTestSupport.increment(60);
+
+    assertThat(cache.getClusters(NS), empty());
+  }
+
+  @Test
+  void whenClusterAddedDuringRelist_lookupReturnsIt() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+    testSupport.doAfterCall(CLUSTER, "list", () -> sendWatchEvent("ADDED", cluster2));
+
+    SystemClockTestSupport.increment(60);
+
+    assertThat(getClusterNames(cache.getClusters(NS)), containsInAnyOrder(cluster1.getClusterName(),
+        cluster2.getClusterName()));
+  }
+
+  @Test
+  void whenRelistFails_continueToApplyWatchEvents() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+    testSupport.failOnList(CLUSTER, NS, HTTP_INTERNAL_ERROR);
+    SystemClockTestSupport.increment(60);
+    assertThrows(ApiException.class, () -> cache.getClusters(NS));
+
+    sendWatchEvent("ADDED", cluster2);
+
+    assertThat(getClusterNames(cache.getClusters(NS)), containsInAnyOrder(cluster1.getClusterName(),
+        cluster2.getClusterName()));
+  }
+
+  @Test
+  void whenCacheRestarted_stopPreviousWatches() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+
+    cache.stop();
+    cache.start();
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> startedWatches.get(0).run());
+  }
+
+  @Test
+  void whenCacheRestarted_startNewWatchOnLookup() throws ApiException {
+    cache.start();
+    cache.getClusters(NS);
+
+    cache.start();
+    cache.getClusters(NS);
+
+    assertThat(startedWatches.size(), equalTo(2));
+  }
+
+  private void sendWatchEvent(String type, ClusterResource cluster) {
+    cache.receivedClusterEvent(NS, new Watch.Response<>(type, cluster));
+  }
+
+  private List<String> getClusterNames(List<ClusterResource> clusters) {
+    return clusters.stream().map(ClusterResource::getClusterName).toList();
+  }
+
+  private List<String> getDomainNames(List<DomainResource> domains) {
+    return domains.stream().map(d -> d.getMetadata().getName()).toList();
+  }
+}
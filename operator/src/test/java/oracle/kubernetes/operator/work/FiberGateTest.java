@@ -1,16 +1,27 @@
-// Copyright (c) 2022, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
+import com.meterware.simplestub.Memento;
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 class FiberGateTest {
 
@@ -23,6 +34,18 @@ class FiberGateTest {
   private final Step noopStep = new NoopStep();
   private final Packet packet = new Packet();
   private final TestCompletionCallback completionCallback = new TestCompletionCallback();
+  private final List<Fiber.Snapshot> snapshots = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
 
   @Test
   void whenFiberStarted_stepsAreRun() {
@@ -54,6 +77,157 @@ class FiberGateTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  void whileFiberRuns_snapshotDescribesItsProgress() {
+    packet.put("name", "value");
+
+    fiberGate.startFiber(UID1, () -> Step.chain(new NoopStep(), new SnapshotStep()), () -> packet, completionCallback);
+
+    assertThat(snapshots.get(0).key(), equalTo(UID1));
+    assertThat(snapshots.get(0).state(), equalTo(Fiber.Snapshot.ACTIVE));
+    assertThat(snapshots.get(0).currentStep(), equalTo("FiberGateTest$Snapshot"));
+    assertThat(snapshots.get(0).requeueCount(), equalTo(0));
+    assertThat(snapshots.get(0).packetKeys(), contains("name"));
+    assertThat(snapshots.get(0).parentFiber(), nullValue());
+  }
+
+  @Test
+  void afterFiberCompletes_gateHasNoSnapshots() {
+    fiberGate.startFiber(UID1, () -> terminalStep, () -> packet, completionCallback);
+
+    assertThat(fiberGate.getFiberSnapshots(), empty());
+  }
+
+  @Test
+  void whileFiberRequeued_snapshotReportsScheduledStateAndTimeInStep() {
+    fiberGate.startFiber(UID1, RequeueOnceStep::new, () -> packet, completionCallback);
+
+    SystemClockTestSupport.increment(5);
+
+    final Fiber.Snapshot snapshot = fiberGate.getFiberSnapshots().get(0);
+    assertThat(snapshot.state(), equalTo(Fiber.Snapshot.SCHEDULED));
+    assertThat(snapshot.currentStep(), equalTo("FiberGateTest$RequeueOnce"));
+    assertThat(snapshot.timeInStep(), equalTo(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  void afterRequeuedFiberRunsAgain_snapshotReportsRequeueCount() {
+    final RequeueOnceStep step = new RequeueOnceStep();
+    fiberGate.startFiber(UID1, () -> step, () -> packet, completionCallback);
+
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(snapshots.get(0).requeueCount(), equalTo(1));
+  }
+
+  @Test
+  void whenScheduledFiberCancelled_itIsNotRunAgain() {
+    final RequeueOnceStep step = new RequeueOnceStep();
+    fiberGate.startFiber(UID1, () -> step, () -> packet, completionCallback);
+    final String fiberName = fiberGate.getFiberSnapshots().get(0).name();
+
+    assertThat(fiberGate.cancelFiber(fiberName), is(true));
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(snapshots, empty());
+    assertThat(fiberGate.getFiberSnapshots(), empty());
+    assertThat(fiberGate.isRunning(UID1), is(false));
+  }
+
+  @Test
+  void whenAllFibersCancelled_noneIsRunAgain() {
+    fiberGate.startFiber(UID1, RequeueOnceStep::new, () -> packet, completionCallback);
+    fiberGate.startFiber(UID2, RequeueOnceStep::new, () -> packet, completionCallback);
+    snapshots.clear();
+
+    fiberGate.cancelAllFibers();
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(snapshots, empty());
+    assertThat(fiberGate.getFiberSnapshots(), empty());
+  }
+
+  @Test
+  void whenNoFiberHasName_cancelReturnsFalse() {
+    fiberGate.startFiber(UID1, RequeueOnceStep::new, () -> packet, completionCallback);
+
+    assertThat(fiberGate.cancelFiber("fiber-none"), is(false));
+  }
+
+  @Test
+  void whenIndependentFiberStarted_itDoesNotReplaceFiberWhichStartedIt() {
+    fiberGate.startFiber(UID1, () -> Step.chain(new StartIndependentFiberStep(), terminalStep), () -> packet,
+        completionCallback);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whileIndependentFiberPending_snapshotsReportItsParent() {
+    fiberGate.startFiber(UID1, StartIndependentFiberStep::new, () -> packet, completionCallback);
+
+    assertThat(snapshots.get(1).parentFiber(), equalTo(snapshots.get(0).name()));
+    assertThat(snapshots.get(1).key(), equalTo(UID1));
+  }
+
+  @Test
+  void whileRunningForkedSteps_snapshotReportsForkingStep() {
+    fiberGate.startFiber(UID1, ForkingStep::new, () -> packet, completionCallback);
+
+    assertThat(snapshots.get(0).forkingStep(), equalTo("FiberGateTest$Forking"));
+    assertThat(fiberGate.getFiberSnapshots(), empty());
+  }
+
+  @Test
+  void snapshotsListFibersOfEachKey() {
+    fiberGate.startFiber(UID2, RequeueOnceStep::new, () -> packet, completionCallback);
+    fiberGate.startFiber(UID1, RequeueOnceStep::new, () -> packet, completionCallback);
+
+    assertThat(fiberGate.getFiberSnapshots().stream().map(Fiber.Snapshot::key).toList(), contains(UID1, UID2));
+  }
+
+  private class SnapshotStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      snapshots.addAll(fiberGate.getFiberSnapshots());
+      return doNext(packet);
+    }
+  }
+
+  // Requeues the first time it runs; when run again, records snapshots of the gate's fibers.
+  private class RequeueOnceStep extends Step {
+    private boolean requeued;
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (!requeued) {
+        requeued = true;
+        return new Result(true, Duration.ofSeconds(10));
+      }
+      snapshots.addAll(fiberGate.getFiberSnapshots());
+      return doNext(packet);
+    }
+  }
+
+  private class StartIndependentFiberStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      packet.getFiber().startIndependentFiber(new NoopStep(), new Packet());
+      snapshots.addAll(fiberGate.getFiberSnapshots());
+      return doNext(packet);
+    }
+  }
+
+  private class ForkingStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(null, packet, List.of(new Fiber.StepAndPacket(new SnapshotStep(), packet.copy())));
+    }
+  }
+
   private static class NoopStep extends Step {
 
     @Override
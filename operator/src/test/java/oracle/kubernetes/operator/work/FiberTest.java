@@ -1,18 +1,25 @@
-// Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -21,20 +28,29 @@ import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.common.logging.MessageKeys.DUMP_BREADCRUMBS;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class FiberTest {
 
   private static final String STEPS = "steps";
+  private static final int SUSPEND_TIMEOUT_SECONDS = 10;
 
   private final FiberTestSupport testSupport = new FiberTestSupport();
   private final Packet packet = new Packet();
   private final CompletionCallbackImpl completionCallback = new CompletionCallbackImpl();
 
-  private final List<Step> stepList = new ArrayList<>();
+  private final List<Step> stepList = Collections.synchronizedList(new ArrayList<>());
   private final List<Throwable> throwableList = new ArrayList<>();
 
   private final Step step1 = new BasicStep(1);
@@ -42,14 +58,19 @@ class FiberTest {
   private final Step step3 = new BasicStep(3);
   private final ChildFiberStep childFiberStep = new ChildFiberStep(step3, step1, step2);
   private final Step error = new ThrowableStep();
+  private final Step timeoutStep = new BasicStep(9);
+  private final List<Runnable> resumes = Collections.synchronizedList(new ArrayList<>());
   private final List<Memento> mementos = new ArrayList<>();
   private final List<LogRecord> logRecords = new ArrayList<>();
 
   @BeforeEach
-  void setUp() {
+  void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger()
           .collectLogMessages(logRecords, DUMP_BREADCRUMBS)
           .withLogLevel(Level.INFO));
+    // the concurrent fork-join tests need real threads, even if an earlier test class left an inline executor
+    mementos.add(StaticStubSupport.install(
+          Step.class, "forkJoinExecutor", Executors.newVirtualThreadPerTaskExecutor()));
 
     packet.put(STEPS, stepList);
   }
@@ -106,6 +127,177 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenConcurrentChildFibersCreated_runSynchronizationStepAfterAllChildren() {
+    runSteps(new ConcurrentChildFiberStep(step3, 2, step1, step2));
+
+    assertThat(stepList, containsInAnyOrder(step1, step2, step3));
+    assertThat(stepList.get(2), sameInstance(step3));
+  }
+
+  @Test
+  void whenConcurrentChildFibersCreated_runChildrenAtTheSameTime() {
+    final CountDownLatch latch = new CountDownLatch(3);
+    final List<Boolean> allArrived = Collections.synchronizedList(new ArrayList<>());
+
+    runSteps(new ConcurrentChildFiberStep(step3, 3,
+        new LatchStep(latch, allArrived), new LatchStep(latch, allArrived), new LatchStep(latch, allArrived)));
+
+    assertThat(allArrived, contains(true, true, true));
+    assertThat(stepList, contains(step3));
+  }
+
+  @Test
+  void whenConcurrentChildFibersCreated_runNoMoreThanMaximumAtOnce() {
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final Step[] children = new Step[8];
+    Arrays.setAll(children, i -> new CountingStep(running, maxRunning));
+
+    runSteps(new ConcurrentChildFiberStep(step3, 3, children));
+
+    assertThat(maxRunning.get(), lessThanOrEqualTo(3));
+    assertThat(stepList, contains(step3));
+  }
+
+  @Test
+  void whenConcurrentChildThrowsException_captureThrowable() {
+    runSteps(new ConcurrentChildFiberStep(step3, 2, step1, error));
+
+    assertThat(throwableList, contains(instanceOf(RuntimeException.class)));
+    assertThat(stepList, not(hasItem(step3)));
+  }
+
+  @Test
+  void whenFiberCancelledDuringConcurrentFork_startNoMoreSteps() {
+    runSteps(new ConcurrentChildFiberStep(step3, 2, new CancelFiberStep(), new WaitForCancelStep(), step2));
+
+    assertThat(stepList, not(hasItem(step2)));
+    assertThat(stepList, not(hasItem(step3)));
+  }
+
+  @Test
+  void concurrentChildFibersRecordBreadcrumbsAndProgressInParentFiber() {
+    final Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(),
+        new ConcurrentChildFiberStep(step3, 4, step1, step2, new BasicStep(4), new BasicStep(5)),
+        packet, completionCallback);
+
+    fiber.start();
+
+    assertThat(completionCallback.completed, is(true));
+    assertThat(fiber.snapshot("key").currentStep(), notNullValue());
+  }
+
+  @Test
+  void whenStepSuspendsFiber_runNoMoreStepsUntilResumed() {
+    runSteps(step1, new SuspendingStep(), step2);
+
+    assertThat(stepList, contains(step1));
+    assertThat(completionCallback.completed, is(false));
+  }
+
+  @Test
+  void whenStepSuspendsFiber_reportFiberSuspended() {
+    final Fiber fiber = new Fiber(testSupport.getScheduledExecutorService(),
+        Step.chain(step1, new SuspendingStep(), step2), packet, completionCallback);
+
+    fiber.start();
+
+    assertThat(fiber.snapshot("key").state(), equalTo(Fiber.Snapshot.SUSPENDED));
+  }
+
+  @Test
+  void afterSuspendedFiberResumed_runRemainingSteps() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(step1, new SuspendingStep(), step2);
+
+    resumes.forEach(Runnable::run);
+
+    assertThat(stepList, contains(step1, step2));
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  // replaces the executor installed for the concurrent fork-joins, so must be reverted first
+  private void runResumedStepsInline() throws NoSuchFieldException {
+    mementos.add(0, StaticStubSupport.install(Step.class, "forkJoinExecutor", (Executor) Runnable::run));
+  }
+
+  @Test
+  void whenSuspendedFiberResumedTwice_runRemainingStepsOnce() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(step1, new SuspendingStep(), step2);
+
+    resumes.forEach(Runnable::run);
+    resumes.forEach(Runnable::run);
+
+    assertThat(stepList, contains(step1, step2));
+  }
+
+  @Test
+  void whenSuspendedFiberNotResumedBeforeTimeout_runTimeoutStep() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(step1, new SuspendingStep(), step2);
+
+    testSupport.setTime(SUSPEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(stepList, contains(step1, timeoutStep));
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  @Test
+  void whenSuspendedFiberResumedBeforeTimeout_doNotRunTimeoutStep() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(step1, new SuspendingStep(), step2);
+
+    resumes.forEach(Runnable::run);
+    testSupport.setTime(SUSPEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(stepList, contains(step1, step2));
+  }
+
+  @Test
+  void whenChildSuspendsFiber_runLaterChildrenAfterResumed() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(new ChildFiberStep(step3, new SuspendingStep(), step2));
+
+    assertThat(stepList, empty());
+
+    resumes.forEach(Runnable::run);
+
+    assertThat(stepList, contains(step2, step3));
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  @Test
+  void whenConcurrentChildSuspendsFiber_runOtherChildrenMeanwhile() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(new ConcurrentChildFiberStep(step3, 2, new SuspendingStep(), step2));
+
+    assertThat(stepList, contains(step2));
+    assertThat(completionCallback.completed, is(false));
+  }
+
+  @Test
+  void whenConcurrentChildSuspendsFiber_runSynchronizationStepAfterResumed() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(new ConcurrentChildFiberStep(step3, 2, new SuspendingStep(), step2));
+
+    resumes.forEach(Runnable::run);
+
+    assertThat(stepList, contains(step2, step3));
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  @Test
+  void whenResumedStepThrowsException_captureThrowable() throws NoSuchFieldException {
+    runResumedStepsInline();
+    runSteps(step1, new SuspendingStep(), error);
+
+    resumes.forEach(Runnable::run);
+
+    assertThat(throwableList, contains(instanceOf(RuntimeException.class)));
+  }
+
   static class BasicStep extends Step {
 
     private final Integer stepNum;
@@ -177,6 +369,103 @@ class FiberTest {
     }
   }
 
+  static class ConcurrentChildFiberStep extends BasicStep {
+
+    private final Step nextStep;
+    private final int maxConcurrency;
+    private final Step[] childSteps;
+
+    ConcurrentChildFiberStep(Step nextStep, int maxConcurrency, Step... steps) {
+      this.nextStep = nextStep;
+      this.maxConcurrency = maxConcurrency;
+      childSteps = steps;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(nextStep, packet, Arrays.stream(childSteps)
+            .map(s -> new Fiber.StepAndPacket(s, packet.copy()))
+            .toList(), maxConcurrency);
+    }
+  }
+
+  // Waits until all the steps sharing the latch have arrived, which can only happen if they run concurrently.
+  static class LatchStep extends Step {
+    private final CountDownLatch latch;
+    private final List<Boolean> arrivals;
+
+    LatchStep(CountDownLatch latch, List<Boolean> arrivals) {
+      this.latch = latch;
+      this.arrivals = arrivals;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      latch.countDown();
+      try {
+        arrivals.add(latch.await(5, TimeUnit.SECONDS));
+      } catch (InterruptedException e) {
+        arrivals.add(false);
+      }
+      return doNext(packet);
+    }
+  }
+
+  // Suspends the fiber, recording the action which resumes it.
+  class SuspendingStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doSuspend(getNext(), timeoutStep, packet, Duration.ofSeconds(SUSPEND_TIMEOUT_SECONDS), resumes::add);
+    }
+  }
+
+  static class CancelFiberStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      Fiber.getCurrentIfSet().cancel();
+      return doNext(packet);
+    }
+  }
+
+  // Runs until the fiber is cancelled, so that no other step can start before the cancellation.
+  static class WaitForCancelStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final Fiber fiber = Fiber.getCurrentIfSet();
+      try {
+        while (!fiber.isCancelled()) {
+          TimeUnit.MILLISECONDS.sleep(1);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return doNext(packet);
+    }
+  }
+
+  static class CountingStep extends Step {
+    private final AtomicInteger running;
+    private final AtomicInteger maxRunning;
+
+    CountingStep(AtomicInteger running, AtomicInteger maxRunning) {
+      this.running = running;
+      this.maxRunning = maxRunning;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        TimeUnit.MILLISECONDS.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        running.decrementAndGet();
+      }
+      return doNext(packet);
+    }
+  }
+
   class CompletionCallbackImpl implements Fiber.CompletionCallback {
     boolean completed;
 
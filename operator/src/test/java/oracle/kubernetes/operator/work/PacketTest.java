@@ -0,0 +1,192 @@
+// Copyright (c) 2026, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PacketTest {
+
+  private static final int NUM_ENTRIES = 50;
+  private static final Packet.Key<Integer> COUNT = Packet.Key.of("count", Integer.class);
+
+  private final Packet packet = createPacket();
+
+  private static Packet createPacket() {
+    final Packet packet = new Packet();
+    IntStream.range(0, NUM_ENTRIES).forEach(i -> packet.put("key" + i, "value" + i));
+    return packet;
+  }
+
+  @Test
+  void copyHasEntriesOfOriginal() {
+    final Packet copy = packet.copy();
+
+    assertThat(copy, equalTo(packet));
+    assertThat(copy.get("key17"), equalTo("value17"));
+  }
+
+  @Test
+  void afterCopy_writesToCopyAreNotSeenByOriginal() {
+    final Packet copy = packet.copy();
+
+    copy.put("key3", "changed");
+    copy.put("new", "added");
+    copy.remove("key4");
+
+    assertThat(packet, hasEntry("key3", "value3"));
+    assertThat(packet.get("new"), nullValue());
+    assertThat(packet, hasEntry("key4", "value4"));
+  }
+
+  @Test
+  void afterCopy_writesToOriginalAreNotSeenByCopy() {
+    final Packet copy = packet.copy();
+
+    packet.put("key3", "changed");
+    packet.remove("key4");
+
+    assertThat(copy, hasEntry("key3", "value3"));
+    assertThat(copy, hasEntry("key4", "value4"));
+  }
+
+  @Test
+  void afterInheritedEntryRemoved_packetNoLongerHasIt() {
+    final Packet copy = packet.copy();
+
+    assertThat(copy.remove("key4"), equalTo("value4"));
+
+    assertThat(copy.containsKey("key4"), is(false));
+    assertThat(copy.size(), equalTo(NUM_ENTRIES - 1));
+    assertThat(copy.keySet(), not(hasItem("key4")));
+  }
+
+  @Test
+  void afterRemovedEntryPutAgain_packetHasIt() {
+    final Packet copy = packet.copy();
+
+    copy.remove("key4");
+    copy.put("key4", "again");
+
+    assertThat(copy, hasEntry("key4", "again"));
+  }
+
+  @Test
+  void puttingNullValue_removesEntry() {
+    final Packet copy = packet.copy();
+
+    copy.put("key5", null);
+
+    assertThat(copy.containsKey("key5"), is(false));
+  }
+
+  @Test
+  void removingEntriesThroughEntrySet_removesThemFromPacket() {
+    final Packet copy = packet.copy();
+
+    copy.keySet().removeIf(k -> !k.equals("key0"));
+
+    assertThat(copy, equalTo(Map.of("key0", "value0")));
+    assertThat(packet.size(), equalTo(NUM_ENTRIES));
+  }
+
+  @Test
+  void settingValueThroughEntrySet_updatesPacket() {
+    final Packet copy = packet.copy();
+
+    copy.entrySet().stream().filter(e -> e.getKey().equals("key6")).forEach(e -> e.setValue("changed"));
+
+    assertThat(copy, hasEntry("key6", "changed"));
+    assertThat(packet, hasEntry("key6", "value6"));
+  }
+
+  @Test
+  void afterInheritedEntryRemoved_packetNoLongerInheritsLayers() {
+    final Packet copy = packet.copy();
+    copy.put("new", "added");
+
+    copy.remove("key4");
+
+    assertThat(copy.getDepth(), equalTo(1));
+    assertThat(copy, hasEntry("new", "added"));
+    assertThat(copy, hasEntry("key5", "value5"));
+  }
+
+  @Test
+  void afterWritesAndRemovals_sizeCountsCurrentEntries() {
+    final Packet copy = packet.copy();
+
+    copy.put("key3", "changed");
+    copy.put("new", "added");
+    copy.remove("key4");
+    copy.remove("absent");
+    copy.copy().put("other", "ignored");
+
+    assertThat(copy.size(), equalTo(NUM_ENTRIES));
+    assertThat(copy.size(), equalTo(copy.keySet().stream().toList().size()));
+  }
+
+  @Test
+  void afterClear_packetIsEmpty() {
+    final Packet copy = packet.copy();
+
+    copy.clear();
+
+    assertThat(copy, anEmptyMap());
+    assertThat(packet.size(), equalTo(NUM_ENTRIES));
+  }
+
+  @Test
+  void typedKey_returnsValueOfKeyType() {
+    packet.putValue(COUNT, 3);
+
+    final int count = packet.getValue(COUNT);
+
+    assertThat(count, equalTo(3));
+    assertThat(packet.get("count"), equalTo(3));
+  }
+
+  @Test
+  void whenValueHasWrongType_typedKeyLookupFails() {
+    packet.put("count", "three");
+
+    assertThrows(ClassCastException.class, () -> packet.getValue(COUNT));
+  }
+
+  @Test
+  void copyingWithoutWrites_doesNotAddLayers() {
+    final Packet copy = packet.copy();
+    final int depth = copy.getDepth();
+
+    assertThat(copy.copy().copy().getDepth(), equalTo(depth));
+  }
+
+  @Test
+  void afterManyGenerationsOfWritesAndCopies_lookupsPassThroughBoundedNumberOfLayers() {
+    Packet current = packet;
+    for (int i = 0; i < 100; i++) {
+      current = current.copy();
+      current.put("generation" + i, i);
+      current.remove("key" + (i % NUM_ENTRIES));
+    }
+
+    assertThat(current.getDepth(), lessThanOrEqualTo(Packet.MAX_DEPTH));
+    assertThat(current.get("generation0"), equalTo(0));
+    assertThat(current.get("key49"), nullValue());
+    assertThat(current.size(), equalTo(100));
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -16,9 +16,12 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class StepChainTest {
+  private static final int NUM_PLAN_STEPS = 1000;
+
   private final FiberTestSupport testSupport = new FiberTestSupport();
 
   private final List<Memento> mementos = new ArrayList<>();
@@ -98,6 +101,46 @@ class StepChainTest {
     assertThat(stepNamesInStepChain(chain), contains("one", "two", "two", "three"));
   }
 
+  @Test
+  void doNotChainGroupThatStartsWithFirstStepOfChain() {
+    Step group1 = new NamedStep("one", new NamedStep("two"));
+
+    Step chain = Step.chain(group1, new NamedStep("three"), group1);
+
+    assertThat(stepNamesInStepChain(chain), contains("one", "two", "three"));
+  }
+
+  @Test
+  void addGroupThatContainsEqualButDistinctSteps() {
+    Step group1 = new EqualStep("one");
+    Step group2 = new EqualStep("two");
+
+    Step chain = Step.chain(group1, group2);
+
+    assertThat(stepNamesInStepChain(chain), contains("one", "two"));
+  }
+
+  @Test
+  void planWithManyGroups_runsAllStepsInOrder() {
+    final Step.ChainBuilder builder = new Step.ChainBuilder();
+    final List<String> expectedNames = new ArrayList<>();
+    for (int i = 0; i < NUM_PLAN_STEPS; i += 2) {
+      builder.add(new NamedStep("step" + i, new NamedStep("step" + (i + 1))));
+      expectedNames.add("step" + i);
+      expectedNames.add("step" + (i + 1));
+    }
+
+    Packet packet = testSupport.runSteps(builder.build());
+
+    assertThat(NamedStep.getNames(packet), equalTo(expectedNames));
+  }
+
+  @Test
+  void defaultResourceName_isClassNameWithoutStepSuffix() {
+    assertThat(new SampleStep().getResourceName(), equalTo("StepChainTest$Sample"));
+    assertThat(new SampleStep().toString(), equalTo("StepChainTest$Sample"));
+  }
+
   private static List<String> stepNamesInStepChain(Step steps) {
     return stepNamesInStepChain(steps, 10);
   }
@@ -112,6 +155,32 @@ class StepChainTest {
     return stepNames;
   }
 
+  private static class SampleStep extends Step {
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+  private static class EqualStep extends NamedStep {
+
+    EqualStep(String name) {
+      super(name);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+
   private static class NamedStep extends Step {
     private static final String NAMES = "names";
     private final String name;